@@ -27,8 +27,14 @@ public class ProjectConfigClient {
     private final RestTemplate restTemplate;
     private final InternalServiceProperties properties;
     private final AuthenticatedRequestSupport requestSupport;
+    private final UpstreamLookupCache lookupCache;
 
     public Optional<ProjectConfigSnapshot> getConfigByGroupId(Long groupId) {
+        // "No usable config" (Optional.empty) is cached as well: most groups ask again on every dashboard
+        return lookupCache.get(UpstreamLookupCache.GROUP_CONFIGS, groupId, this::fetchConfigByGroupId);
+    }
+
+    private Optional<ProjectConfigSnapshot> fetchConfigByGroupId(Long groupId) {
         String url = UriComponentsBuilder.fromHttpUrl(properties.getProjectConfigBaseUrl())
             .path("/api/project-configs/group/{groupId}")
             .buildAndExpand(groupId)
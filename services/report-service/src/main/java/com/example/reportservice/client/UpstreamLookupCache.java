@@ -0,0 +1,155 @@
+package com.example.reportservice.client;
+
+import com.example.reportservice.config.UpstreamCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache for the upstream lookups report-service repeats within and across requests
+ * (group details, user profiles, memberships, group -> project config).
+ *
+ * CRITICAL DESIGN:
+ * - Level 1 is request-scoped memoization: within one HTTP request a key is loaded at most once and
+ *   every read sees the same value, even if the shared entry expires mid-request
+ * - Level 2 is a bounded Caffeine cache with a short TTL shared by all requests of the same caller:
+ *   upstream services authorize these reads per caller (subject and roles), so entries are keyed by
+ *   caller + id and one caller's answer is never served to another
+ * - Stampede protection: the first caller of a key loads it, concurrent callers with the same key
+ *   (e.g. DashboardFanOut branches) wait for that load instead of issuing their own call
+ * - The load runs on the calling thread outside Caffeine's map lock (AsyncCache holds only the future
+ *   there), so blocking REST calls do not pin the carrier threads of virtual-thread callers
+ * - Failures are never cached: a loader exception reaches the caller unchanged and the next call retries
+ * - Hit/miss metrics: cache.gets{cache=upstream.*,result=hit|miss} (Caffeine) and
+ *   report.upstream.memo.hits{cache=...} (request level)
+ */
+@Component
+public class UpstreamLookupCache {
+
+    public static final String GROUPS = "groups";
+    public static final String USER_PROFILES = "userProfiles";
+    public static final String USER_MEMBERSHIPS = "userMemberships";
+    public static final String GROUP_CONFIGS = "groupConfigs";
+
+    private static final String MEMO_ATTRIBUTE = UpstreamLookupCache.class.getName() + ".memo";
+
+    private final boolean enabled;
+    private final Map<String, AsyncCache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Counter> memoHits = new ConcurrentHashMap<>();
+
+    public UpstreamLookupCache(UpstreamCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        for (String name : new String[] {GROUPS, USER_PROFILES, USER_MEMBERSHIPS, GROUP_CONFIGS}) {
+            AsyncCache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "upstream." + name);
+            caches.put(name, cache);
+            memoHits.put(name, Counter.builder("report.upstream.memo.hits")
+                .description("Upstream lookups answered by the request-scoped memo")
+                .tag("cache", name)
+                .register(meterRegistry));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(String cacheName, K key, Function<K, V> loader) {
+        AsyncCache<Object, Object> cache = caches.get(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("Unknown upstream cache: " + cacheName);
+        }
+        Function<K, V> shared = enabled ? k -> (V) loadShared(cache, new SharedKey(callerScope(), k), () -> loader.apply(k)) : loader;
+
+        Map<MemoKey, Object> memo = requestMemo();
+        if (memo == null) {
+            return shared.apply(key);
+        }
+        MemoKey memoKey = new MemoKey(cacheName, key);
+        Object memoized = memo.get(memoKey);
+        if (memoized != null) {
+            memoHits.get(cacheName).increment();
+            return (V) memoized;
+        }
+        V value = shared.apply(key);
+        if (value != null) {
+            memo.putIfAbsent(memoKey, value);
+        }
+        return value;
+    }
+
+    // Only the winner of the (non-blocking) map insert loads; a failed or null result removes the entry
+    private static Object loadShared(AsyncCache<Object, Object> cache, SharedKey key, Supplier<Object> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> future = cache.get(key, (ignored, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException ex) {
+                created.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Subject + roles: what the upstream authorization rules look at
+    private static String callerScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "";
+        }
+        List<String> roles = authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .sorted()
+            .toList();
+        return authentication.getName() + roles;
+    }
+
+    // Null outside an HTTP request (schedulers, async jobs): those only use the shared cache
+    @SuppressWarnings("unchecked")
+    private static Map<MemoKey, Object> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (attributes) {
+            Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (memo == null) {
+                memo = new ConcurrentHashMap<MemoKey, Object>();
+                attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+            }
+            return (Map<MemoKey, Object>) memo;
+        }
+    }
+
+    private record MemoKey(String cacheName, Object key) {
+    }
+
+    private record SharedKey(String caller, Object key) {
+    }
+}
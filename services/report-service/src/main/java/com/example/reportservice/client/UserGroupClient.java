@@ -29,6 +29,7 @@ public class UserGroupClient {
     private final RestTemplate restTemplate;
     private final InternalServiceProperties properties;
     private final AuthenticatedRequestSupport requestSupport;
+    private final UpstreamLookupCache lookupCache;
 
     /**
      * List ALL groups for overview calculations (pages through /api/groups).
@@ -98,6 +99,18 @@ public class UserGroupClient {
     }
 
     public GroupDetail getGroup(Long groupId) {
+        return lookupCache.get(UpstreamLookupCache.GROUPS, groupId, this::fetchGroup);
+    }
+
+    public UserProfile getUserProfile(Long userId) {
+        return lookupCache.get(UpstreamLookupCache.USER_PROFILES, userId, this::fetchUserProfile);
+    }
+
+    public List<UserGroupMembership> getUserGroups(Long userId) {
+        return lookupCache.get(UpstreamLookupCache.USER_MEMBERSHIPS, userId, this::fetchUserGroups);
+    }
+
+    private GroupDetail fetchGroup(Long groupId) {
         String url = UriComponentsBuilder.fromUriString(properties.getUserGroupBaseUrl())
             .path("/api/groups/{groupId}")
             .buildAndExpand(groupId)
@@ -158,7 +171,7 @@ public class UserGroupClient {
         );
     }
 
-    public UserProfile getUserProfile(Long userId) {
+    private UserProfile fetchUserProfile(Long userId) {
         String url = UriComponentsBuilder.fromUriString(properties.getUserGroupBaseUrl())
             .path("/api/users/{userId}")
             .buildAndExpand(userId)
@@ -172,7 +185,7 @@ public class UserGroupClient {
         );
     }
 
-    public List<UserGroupMembership> getUserGroups(Long userId) {
+    private List<UserGroupMembership> fetchUserGroups(Long userId) {
         String url = UriComponentsBuilder.fromUriString(properties.getUserGroupBaseUrl())
             .path("/api/users/{userId}/groups")
             .buildAndExpand(userId)
@@ -192,7 +205,7 @@ public class UserGroupClient {
                 ));
             }
         }
-        return groups;
+        return List.copyOf(groups);
     }
 
     public long countUsers() {
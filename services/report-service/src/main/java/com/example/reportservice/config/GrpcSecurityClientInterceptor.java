@@ -12,6 +12,13 @@ import org.springframework.stereotype.Component;
 @GrpcGlobalClientInterceptor
 public class GrpcSecurityClientInterceptor implements ClientInterceptor {
 
+    /**
+     * Set on the io.grpc.Context by background jobs (read model catch-up, report jobs resumed without
+     * their caller): there is no caller JWT,
+     * the call goes out as report-service itself (sync-service authenticates the channel via TLS).
+     */
+    public static final Context.Key<Boolean> SERVICE_CALL = Context.key("report-service-call");
+
     private static final Metadata.Key<String> AUTHORIZATION =
             Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
     private static final Metadata.Key<String> REQUEST_ID =
@@ -23,13 +30,14 @@ public class GrpcSecurityClientInterceptor implements ClientInterceptor {
             CallOptions callOptions,
             Channel next
     ) {
+        boolean serviceCall = Boolean.TRUE.equals(SERVICE_CALL.get());
         return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
             @Override
             public void start(Listener<RespT> responseListener, Metadata headers) {
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
                 if (authentication instanceof JwtAuthenticationToken jwtAuth) {
                     headers.put(AUTHORIZATION, "Bearer " + jwtAuth.getToken().getTokenValue());
-                } else {
+                } else if (!serviceCall) {
                     throw new IllegalStateException("Missing caller JWT for internal gRPC call");
                 }
 
@@ -0,0 +1,58 @@
+package com.example.reportservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * One connection pool per upstream class, so slow AI generations never hold the connections
+ * that dashboard metadata calls (user-group, project-config, sync-service) need.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report.http")
+@Data
+public class HttpClientProperties {
+
+    /** user-group-service, project-config-service, sync-service REST */
+    private Pool internal = new Pool(Duration.ofSeconds(2), Duration.ofSeconds(10), 100, 50);
+
+    /** analysis (AI) service; response timeout defaults to ai.service.timeout when not set */
+    private Pool ai = new Pool(Duration.ofSeconds(2), null, 20, 20);
+
+    /** Jira Cloud REST */
+    private Pool jira = new Pool(Duration.ofSeconds(3), Duration.ofSeconds(15), 20, 20);
+
+    @Data
+    public static class Pool {
+
+        private Duration connectTimeout;
+
+        /** Socket read timeout per response */
+        private Duration responseTimeout;
+
+        /** Max wait for a free pooled connection before failing fast */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        private int maxTotal;
+
+        private int maxPerRoute;
+
+        /** Max lifetime of a pooled connection (DNS changes, server-side idle limits) */
+        private Duration timeToLive = Duration.ofSeconds(60);
+
+        /** Idle connections are closed after this long */
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        public Pool() {
+        }
+
+        Pool(Duration connectTimeout, Duration responseTimeout, int maxTotal, int maxPerRoute) {
+            this.connectTimeout = connectTimeout;
+            this.responseTimeout = responseTimeout;
+            this.maxTotal = maxTotal;
+            this.maxPerRoute = maxPerRoute;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.reportservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Local read model of sync-service data (see ReadModelProjector).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report.read-model")
+@Validated
+@Data
+public class ReadModelProperties {
+
+    /** false = no catch-up at all: dashboards serve whatever the local tables hold */
+    private boolean enabled = true;
+
+    /** Delay between two background catch-up rounds */
+    @Min(1000)
+    private long pollIntervalMs = 15_000;
+
+    /** A dashboard request catches up in-line first when a config is older than this (or never synced) */
+    @NotNull
+    private Duration maxStaleness = Duration.ofMinutes(2);
+
+    /** Configs no dashboard asked for within this window are no longer polled */
+    @NotNull
+    private Duration activeWindow = Duration.ofHours(24);
+
+    /** Delta pages per stream and catch-up; the next round continues from the saved cursor */
+    @Min(1)
+    private int maxPagesPerCatchUp = 20;
+
+    /** Rows per delta page (sync-service caps it at 5000) */
+    @Min(1)
+    private int pageSize = 1000;
+}
@@ -0,0 +1,43 @@
+package com.example.reportservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Asynchronous SRS generation queue (see ReportJobRunner).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report.jobs")
+@Validated
+@Data
+public class ReportJobProperties {
+
+    /** SRS generations running at the same time on one instance (each holds AI and export memory) */
+    @Min(1)
+    private int maxConcurrent = 2;
+
+    /** Delay between two dispatch rounds (new submissions on this instance are dispatched at once) */
+    @Min(100)
+    private long pollIntervalMs = 2_000;
+
+    /**
+     * Jobs submitted on another instance are only claimed here once they waited this long: the submitting
+     * instance holds the caller's token in memory and runs them as the caller (with AI)
+     */
+    @NotNull
+    private Duration foreignClaimDelay = Duration.ofSeconds(30);
+
+    /** A RUNNING job whose heartbeat is older than this is considered orphaned and re-queued */
+    @NotNull
+    private Duration staleAfter = Duration.ofMinutes(2);
+
+    /** Claims per job before an orphaned job is marked FAILED instead of re-queued */
+    @Min(1)
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,58 @@
+package com.example.reportservice.config;
+
+import com.example.reportservice.storage.LocalContentAddressedStore;
+import com.example.reportservice.storage.ReportArtifactStore;
+import com.example.reportservice.storage.S3ReportArtifactStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Report artifact store selected by report.storage.backend (LOCAL by default).
+ */
+@Slf4j
+@Configuration
+public class ReportStorageConfig {
+
+    @Bean
+    public ReportArtifactStore reportArtifactStore(ReportStorageProperties properties) {
+        LocalContentAddressedStore local = new LocalContentAddressedStore(Path.of(properties.getLocal().getRoot()));
+        if (properties.getBackend() == ReportStorageProperties.Backend.LOCAL) {
+            log.info("✅ Report artifacts stored locally: root={}", properties.getLocal().getRoot());
+            return local;
+        }
+
+        ReportStorageProperties.S3 s3 = properties.getS3();
+        if (s3.getBucket() == null || s3.getBucket().isBlank()) {
+            throw new IllegalStateException("report.storage.s3.bucket is required for the S3 backend");
+        }
+        log.info("✅ Report artifacts stored in S3: endpoint={}, bucket={}, prefix={}",
+            s3.getEndpoint() == null || s3.getEndpoint().isBlank() ? "aws" : s3.getEndpoint(), s3.getBucket(), s3.getPrefix());
+        return new S3ReportArtifactStore(s3Client(s3), s3.getBucket(), s3.getPrefix(), local);
+    }
+
+    private S3Client s3Client(ReportStorageProperties.S3 s3) {
+        S3ClientBuilder builder = S3Client.builder()
+            .region(Region.of(s3.getRegion()))
+            .forcePathStyle(s3.isPathStyleAccess());
+        if (s3.getEndpoint() != null && !s3.getEndpoint().isBlank()) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        if (s3.getAccessKey() != null && !s3.getAccessKey().isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        return builder.build();
+    }
+}
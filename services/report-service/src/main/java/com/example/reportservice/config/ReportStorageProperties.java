@@ -0,0 +1,102 @@
+package com.example.reportservice.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Where generated report files are stored and how long they are kept (see ReportArtifactStore).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report.storage")
+@Validated
+@Data
+public class ReportStorageProperties {
+
+    @NotNull
+    private Backend backend = Backend.LOCAL;
+
+    @Valid
+    private Local local = new Local();
+
+    @Valid
+    private S3 s3 = new S3();
+
+    @Valid
+    private Retention retention = new Retention();
+
+    public enum Backend {
+        /** Filesystem under local.root (shared volume for several replicas) */
+        LOCAL,
+        /** S3-compatible bucket; local.root only holds staging files and the read cache */
+        S3
+    }
+
+    @Data
+    public static class Local {
+
+        /** Root of the content-addressed store; must survive restarts (volume), unlike java.io.tmpdir */
+        @NotBlank
+        private String root = System.getProperty("java.io.tmpdir") + "/samt-reports";
+    }
+
+    @Data
+    public static class S3 {
+
+        /** Empty = AWS default endpoint of the region; set for MinIO and other S3-compatible stores */
+        private String endpoint;
+
+        @NotBlank
+        private String region = "us-east-1";
+
+        private String bucket;
+
+        /** Key prefix inside the bucket */
+        private String prefix = "reports/";
+
+        /** Empty = AWS default credentials chain */
+        private String accessKey;
+
+        private String secretKey;
+
+        /** Path-style URLs (bucket in the path), required by MinIO */
+        private boolean pathStyleAccess = true;
+    }
+
+    @Data
+    public static class Retention {
+
+        private boolean enabled = true;
+
+        @NotBlank
+        private String cron = "0 30 3 * * *";
+
+        /** Reports older than this are deleted with their file; 0 = keep reports forever */
+        @NotNull
+        private Duration reportTtl = Duration.ofDays(180);
+
+        /**
+         * Unreferenced files younger than this are kept: covers exports of running jobs (checkpoints)
+         * and dedup hits that are not persisted yet
+         */
+        @NotNull
+        private Duration orphanGrace = Duration.ofDays(1);
+
+        /** Stored AI results not reused for this long are deleted */
+        @NotNull
+        private Duration aiResultTtl = Duration.ofDays(30);
+
+        /** Local copies of S3 artifacts not read for this long are dropped */
+        @NotNull
+        private Duration cacheTtl = Duration.ofDays(3);
+
+        /** Reports deleted per transaction */
+        private int batchSize = 200;
+    }
+}
@@ -1,27 +1,118 @@
 package com.example.reportservice.config;
 
-
-
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Pooled HTTP clients, one pool per upstream class (see HttpClientProperties).
+ *
+ * CRITICAL DESIGN:
+ * - Keep-alive connection reuse: no TCP (and TLS) handshake per call
+ * - Pools are isolated: a burst of multi-minute AI generations can exhaust the "ai" pool only,
+ *   dashboard metadata calls keep their own connections and their own short timeouts
+ * - connectionRequestTimeout fails fast when a pool is exhausted instead of queueing forever
+ * - Pool gauges per pool: httpcomponents.httpclient.pool.*{httpclient=internal|ai|jira}
+ *
+ * Beans:
+ * - restTemplate (primary): UserGroupClient, ProjectConfigClient, SyncJobClient
+ * - aiRestTemplate: AiClient
+ * - jiraRestTemplate: JiraServiceImpl
+ */
 @Configuration
 @EnableConfigurationProperties(InternalServiceProperties.class)
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager internalConnectionManager(HttpClientProperties properties) {
+        return connectionManager(properties.getInternal(), properties.getInternal().getResponseTimeout());
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiConnectionManager(HttpClientProperties properties,
+                                                                  AiServiceProperties aiProperties) {
+        HttpClientProperties.Pool pool = properties.getAi();
+        Duration responseTimeout = pool.getResponseTimeout() != null
+            ? pool.getResponseTimeout()
+            : Duration.ofMillis(aiProperties.getTimeout() > 0 ? aiProperties.getTimeout() : 5000);
+        return connectionManager(pool, responseTimeout);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager jiraConnectionManager(HttpClientProperties properties) {
+        return connectionManager(properties.getJira(), properties.getJira().getResponseTimeout());
+    }
+
     @Bean
-    public RestTemplate restTemplate(AiServiceProperties properties) {
-        int timeout = properties.getTimeout() > 0 ? properties.getTimeout() : 5000;
+    @Primary
+    public RestTemplate restTemplate(@Qualifier("internalConnectionManager") PoolingHttpClientConnectionManager cm,
+                                     HttpClientProperties properties) {
+        return restTemplate(cm, properties.getInternal());
+    }
 
-        SimpleClientHttpRequestFactory factory =
-                new SimpleClientHttpRequestFactory();
+    @Bean
+    public RestTemplate aiRestTemplate(@Qualifier("aiConnectionManager") PoolingHttpClientConnectionManager cm,
+                                       HttpClientProperties properties) {
+        return restTemplate(cm, properties.getAi());
+    }
+
+    @Bean
+    public RestTemplate jiraRestTemplate(@Qualifier("jiraConnectionManager") PoolingHttpClientConnectionManager cm,
+                                         HttpClientProperties properties) {
+        return restTemplate(cm, properties.getJira());
+    }
 
-        factory.setConnectTimeout(timeout);
-        factory.setReadTimeout(timeout);
+    @Bean
+    public MeterBinder httpClientPoolMetrics(
+            @Qualifier("internalConnectionManager") PoolingHttpClientConnectionManager internal,
+            @Qualifier("aiConnectionManager") PoolingHttpClientConnectionManager ai,
+            @Qualifier("jiraConnectionManager") PoolingHttpClientConnectionManager jira) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(internal, "internal", Tags.empty()).bindTo(registry);
+            new PoolingHttpClientConnectionManagerMetricsBinder(ai, "ai", Tags.empty()).bindTo(registry);
+            new PoolingHttpClientConnectionManagerMetricsBinder(jira, "jira", Tags.empty()).bindTo(registry);
+        };
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(HttpClientProperties.Pool pool,
+                                                                        Duration responseTimeout) {
+        PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+        cm.setMaxTotal(pool.getMaxTotal());
+        cm.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+        cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(pool.getConnectTimeout()))
+            .setSocketTimeout(Timeout.of(responseTimeout))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+            .setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+            .build());
+        return cm;
+    }
 
-        return new RestTemplate(factory);
+    private static RestTemplate restTemplate(PoolingHttpClientConnectionManager cm, HttpClientProperties.Pool pool) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(cm)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(pool.getConnectionRequestTimeout()))
+                .build())
+            .evictIdleConnections(TimeValue.of(pool.getIdleEviction()))
+            .evictExpiredConnections()
+            .build();
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
     }
 }
@@ -0,0 +1,34 @@
+package com.example.reportservice.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Reuse of generated SRS reports and AI results for unchanged input (see SrsResultCache).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report.srs-cache")
+@Validated
+@Data
+public class SrsCacheProperties {
+
+    /** false = every generation calls ai-service and exports a new file */
+    private boolean enabled = true;
+
+    /**
+     * Part of every fingerprint: bump it when the ai-service model or prompt changes,
+     * so results of the previous one are no longer reused
+     */
+    @NotBlank
+    private String promptVersion = "v1";
+
+    /** How long an identical request waits for the in-flight AI call before calling ai-service itself */
+    @NotNull
+    private Duration coalesceTimeout = Duration.ofMinutes(5);
+}
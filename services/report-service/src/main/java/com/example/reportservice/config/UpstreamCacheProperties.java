@@ -0,0 +1,27 @@
+package com.example.reportservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "report.upstream-cache")
+@Validated
+@Data
+public class UpstreamCacheProperties {
+
+    /** false = every lookup goes to the upstream service (request memoization still applies) */
+    private boolean enabled = true;
+
+    /** Short on purpose: memberships drive authorization checks */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+
+    @Min(1)
+    private long maxSize = 10_000;
+}
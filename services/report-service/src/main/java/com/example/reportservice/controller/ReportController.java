@@ -3,8 +3,10 @@ package com.example.reportservice.controller;
 import com.example.reportservice.dto.request.ReportRequest;
 import com.example.reportservice.dto.response.PageResponse;
 import com.example.reportservice.dto.response.ReportMetadataResponse;
-import com.example.reportservice.dto.response.ReportResponse;
+import com.example.reportservice.dto.response.ReportJobResponse;
 import com.example.reportservice.service.ReportingService;
+import com.example.reportservice.service.job.ReportJobService;
+import com.example.reportservice.support.ReportFileTransfer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -13,13 +15,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -34,7 +35,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -46,27 +48,48 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportingService service;
+    private final ReportJobService jobService;
+    private final ReportFileTransfer fileTransfer;
 
     @PostMapping("/srs")
     @PreAuthorize("hasAnyRole('ADMIN','LECTURER','STUDENT')")
-    @Operation(summary = "Generate SRS report")
+    @Operation(summary = "Queue SRS report generation", description = "Returns at once; poll the job (Location header / statusUrl) until COMPLETED or FAILED")
     @ApiResponses({
-        @ApiResponse(responseCode = "201", description = "Report generated", content = @Content(schema = @Schema(implementation = ReportResponse.class), examples = @ExampleObject(value = "{\"success\":true,\"status\":201,\"path\":\"/api/reports/srs\",\"data\":{\"reportId\":\"5f2c5d35-431f-4a59-8168-88ff3c42649e\",\"status\":\"COMPLETED\",\"createdAt\":\"2026-03-12T10:30:00\",\"downloadUrl\":\"/api/reports/5f2c5d35-431f-4a59-8168-88ff3c42649e/download\"},\"timestamp\":\"2026-03-12T10:30:01Z\"}"))),
+        @ApiResponse(responseCode = "202", description = "Report generation queued", content = @Content(schema = @Schema(implementation = ReportJobResponse.class), examples = @ExampleObject(value = "{\"success\":true,\"status\":202,\"path\":\"/api/reports/srs\",\"data\":{\"jobId\":\"0b6f7a8e-3c1d-4f5e-9a2b-7c8d9e0f1a2b\",\"projectConfigId\":\"4d783f6c-79ef-4db5-9b0f-df6f18fcb2e3\",\"status\":\"QUEUED\",\"queuePosition\":0,\"createdAt\":\"2026-03-12T10:30:00\",\"statusUrl\":\"/api/reports/jobs/0b6f7a8e-3c1d-4f5e-9a2b-7c8d9e0f1a2b\"},\"timestamp\":\"2026-03-12T10:30:00Z\"}"))),
         @ApiResponse(responseCode = "400", description = "Invalid request"),
-        @ApiResponse(responseCode = "403", description = "Forbidden"),
-        @ApiResponse(responseCode = "404", description = "Project configuration not found")
+        @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<ReportResponse> generateSrs(
+    public ResponseEntity<ReportJobResponse> generateSrs(
             @Valid @RequestBody ReportRequest request,
             @AuthenticationPrincipal Jwt jwt) {
 
-        ReportResponse response = service.generate(
+        ReportJobResponse job = jobService.submit(
                 request.getProjectConfigId(),
                 jwt.getSubject(),
                 request.isUseAi(),
                 request.getExportType());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create(job.getStatusUrl()))
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{jobId:[0-9a-fA-F-]{36}}")
+    @PreAuthorize("hasAnyRole('ADMIN','LECTURER','STUDENT')")
+    @Operation(summary = "Get SRS generation job status")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Job state retrieved", content = @Content(schema = @Schema(implementation = ReportJobResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ReportJobResponse getJob(@PathVariable UUID jobId, @AuthenticationPrincipal Jwt jwt) {
+        ReportJobResponse job = jobService.getJob(jobId);
+        if (isStudent(jwt)) {
+            UUID me = ReportJobService.toCreatedBy(jwt.getSubject());
+            if (job.getCreatedBy() == null || !job.getCreatedBy().equals(me)) {
+                throw new org.springframework.security.access.AccessDeniedException("Students can only access own report jobs");
+            }
+        }
+        return job;
     }
 
     @GetMapping("/{reportId:[0-9a-fA-F-]{36}}")
@@ -79,7 +102,7 @@ public class ReportController {
     public ReportMetadataResponse getReport(@PathVariable UUID reportId, @AuthenticationPrincipal Jwt jwt) {
         ReportMetadataResponse metadata = service.getReport(reportId);
         if (isStudent(jwt)) {
-            UUID me = toCreatedBy(jwt.getSubject());
+            UUID me = ReportJobService.toCreatedBy(jwt.getSubject());
             if (metadata.getCreatedBy() == null || !metadata.getCreatedBy().equals(me)) {
                 throw new org.springframework.security.access.AccessDeniedException("Students can only access own reports");
             }
@@ -107,7 +130,7 @@ public class ReportController {
         // Admin/Lecturer: keep existing filters.
         UUID effectiveCreatedBy = createdBy;
         if (isStudent(jwt)) {
-            effectiveCreatedBy = toCreatedBy(jwt.getSubject());
+            effectiveCreatedBy = ReportJobService.toCreatedBy(jwt.getSubject());
         }
         return service.listReports(projectConfigId, type, status, effectiveCreatedBy, page, size);
     }
@@ -116,21 +139,22 @@ public class ReportController {
     @PreAuthorize("hasAnyRole('ADMIN','LECTURER','STUDENT')")
     @Operation(summary = "Download generated report file")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Report file streamed", content = @Content(mediaType = "application/octet-stream")),
-        @ApiResponse(responseCode = "404", description = "Report or file not found")
+        @ApiResponse(responseCode = "200", description = "Report file streamed (ETag, Accept-Ranges: bytes)", content = @Content(mediaType = "application/octet-stream")),
+        @ApiResponse(responseCode = "206", description = "Requested byte range streamed (Content-Range)", content = @Content(mediaType = "application/octet-stream")),
+        @ApiResponse(responseCode = "304", description = "If-None-Match matches the current ETag"),
+        @ApiResponse(responseCode = "404", description = "Report or file not found"),
+        @ApiResponse(responseCode = "416", description = "Range not satisfiable")
     })
-    public ResponseEntity<Resource> downloadReport(@PathVariable UUID reportId, @AuthenticationPrincipal Jwt jwt) {
+    public void downloadReport(@PathVariable UUID reportId,
+                               @AuthenticationPrincipal Jwt jwt,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
         ReportingService.ReportDownload download = isStudent(jwt)
-            ? service.loadReportDownloadForCreatedBy(reportId, toCreatedBy(jwt.getSubject()))
+            ? service.loadReportDownloadForCreatedBy(reportId, ReportJobService.toCreatedBy(jwt.getSubject()))
             : service.loadReportDownload(reportId);
 
-        return ResponseEntity.ok()
-            .contentType(download.mediaType())
-            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
-                .filename(download.fileName(), StandardCharsets.UTF_8)
-                .build()
-                .toString())
-            .body(download.resource());
+        fileTransfer.write(request, response, download.path(), download.fileName(), download.mediaType(),
+            download.size(), download.sha256());
     }
 
     private boolean isStudent(Jwt jwt) {
@@ -147,12 +171,4 @@ public class ReportController {
         }
         return false;
     }
-
-    private UUID toCreatedBy(String subject) {
-        try {
-            return UUID.fromString(subject);
-        } catch (IllegalArgumentException ignored) {
-            return UUID.nameUUIDFromBytes(("user:" + subject).getBytes(StandardCharsets.UTF_8));
-        }
-    }
 }
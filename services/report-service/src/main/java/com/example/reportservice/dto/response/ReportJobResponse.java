@@ -0,0 +1,65 @@
+package com.example.reportservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "State of an asynchronous report generation job")
+public class ReportJobResponse {
+
+    @Schema(format = "uuid")
+    private UUID jobId;
+
+    @Schema(example = "4d783f6c-79ef-4db5-9b0f-df6f18fcb2e3")
+    private String projectConfigId;
+
+    @Schema(example = "RUNNING", allowableValues = {"QUEUED", "RUNNING", "COMPLETED", "FAILED"})
+    private String status;
+
+    @Schema(description = "AI was requested but the job ran without the caller's token (picked up by another "
+        + "instance, or the token expired while queued), so the SRS was generated without AI; resubmit to get it",
+        example = "false")
+    private boolean aiSkipped;
+
+    @Schema(description = "Pipeline step being executed", example = "AI_PROCESSING")
+    private String currentStep;
+
+    @Schema(description = "Jobs queued ahead of this one (QUEUED only)", example = "0")
+    private Long queuePosition;
+
+    @Schema(description = "Generated report (COMPLETED only)", format = "uuid")
+    private UUID reportId;
+
+    @Schema(example = "/api/reports/5f2c5d35-431f-4a59-8168-88ff3c42649e/download")
+    private String downloadUrl;
+
+    @Schema(description = "Step that failed (FAILED only)", example = "FETCH")
+    private String failedStep;
+
+    @Schema(description = "Failure reason (FAILED only)")
+    private String errorMessage;
+
+    @Schema(format = "uuid")
+    private UUID createdBy;
+
+    @Schema(format = "date-time")
+    private LocalDateTime createdAt;
+
+    @Schema(format = "date-time")
+    private LocalDateTime startedAt;
+
+    @Schema(format = "date-time")
+    private LocalDateTime finishedAt;
+
+    @Schema(example = "/api/reports/jobs/0b6f7a8e-3c1d-4f5e-9a2b-7c8d9e0f1a2b")
+    private String statusUrl;
+}
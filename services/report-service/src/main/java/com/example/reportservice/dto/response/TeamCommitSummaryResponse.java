@@ -30,8 +30,8 @@ public class TeamCommitSummaryResponse {
         private String authorName;
         private String authorLogin;
         private long commitCount;
-        private int additions;
-        private int deletions;
-        private int totalChanges;
+        private long additions;
+        private long deletions;
+        private long totalChanges;
     }
 }
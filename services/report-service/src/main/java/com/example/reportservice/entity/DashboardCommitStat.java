@@ -0,0 +1,66 @@
+package com.example.reportservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized commit totals of one project config per day of committed_date and author.
+ * Maintained by DashboardCommitStatRepository#refreshDays, never written row by row.
+ */
+@Entity
+@Table(name = "dashboard_commit_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardCommitStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false)
+    private UUID projectConfigId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /** Lower-cased, like the pull request and task keys; empty = unknown author */
+    @Column(name = "author_email", nullable = false)
+    private String authorEmail;
+
+    @Column(name = "author_name")
+    private String authorName;
+
+    @Column(name = "author_login")
+    private String authorLogin;
+
+    @Column(name = "commit_count", nullable = false)
+    private Long commitCount;
+
+    @Column(name = "additions", nullable = false)
+    private Long additions;
+
+    @Column(name = "deletions", nullable = false)
+    private Long deletions;
+
+    @Column(name = "total_changes", nullable = false)
+    private Long totalChanges;
+
+    @Column(name = "last_commit_at", nullable = false)
+    private LocalDateTime lastCommitAt;
+}
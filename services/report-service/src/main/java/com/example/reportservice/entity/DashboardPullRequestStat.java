@@ -0,0 +1,57 @@
+package com.example.reportservice.entity;
+
+import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Materialized pull request counts of one project config per day of created_at, source and author.
+ * Maintained by DashboardPullRequestStatRepository#refreshDays, never written row by row.
+ */
+@Entity
+@Table(name = "dashboard_pull_request_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardPullRequestStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false)
+    private UUID projectConfigId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private ActivitySource source;
+
+    /** Lower-cased; empty = unknown author */
+    @Column(name = "author_email", nullable = false)
+    private String authorEmail;
+
+    @Column(name = "pr_count", nullable = false)
+    private Long prCount;
+
+    @Column(name = "merged_pr_count", nullable = false)
+    private Long mergedPrCount;
+}
@@ -0,0 +1,54 @@
+package com.example.reportservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Materialized task counts of one project config per UTC day of jira_issues.updated_at, issue type,
+ * raw status and assignee. Maintained by DashboardTaskStatRepository#refreshDays, never written row by row.
+ */
+@Entity
+@Table(name = "dashboard_task_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardTaskStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false)
+    private UUID projectConfigId;
+
+    /** null = issue without updated_at */
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "issue_type", nullable = false, length = 50)
+    private String issueType;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    /** Lower-cased; empty = unassigned */
+    @Column(name = "assignee_email", nullable = false)
+    private String assigneeEmail;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+}
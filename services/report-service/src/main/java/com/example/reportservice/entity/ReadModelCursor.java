@@ -0,0 +1,72 @@
+package com.example.reportservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position of the local read model in one sync-service change stream of one project config.
+ * {@code revision} makes two concurrent catch-ups of the same stream (e.g. two replicas) conflict
+ * instead of both applying the same page.
+ */
+@Entity
+@Table(name = "read_model_cursors")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadModelCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false)
+    private UUID projectConfigId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stream", nullable = false, length = 20)
+    private Stream stream;
+
+    /** Opaque sync-service change version; empty = never synced */
+    @Column(name = "version", nullable = false, length = 64)
+    private String version;
+
+    /** Last time the stream was read up to the sync-service horizon (hasMore = false) */
+    @Column(name = "caught_up_at")
+    private LocalDateTime caughtUpAt;
+
+    @Column(name = "last_requested_at")
+    private LocalDateTime lastRequestedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Version
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Stream {
+        ISSUES,
+        COMMITS,
+        ACTIVITIES
+    }
+}
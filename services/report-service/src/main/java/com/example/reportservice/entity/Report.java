@@ -28,5 +28,16 @@ public class Report {
     private UUID createdBy;
 
     private LocalDateTime createdAt;
+
+    /** SHA-256 of the file, served as strong ETag; null until computed */
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    /** Content fingerprint for reuse by identical requests (see SrsResultCache); null = not reusable */
+    @Column(length = 64)
+    private String fingerprint;
 }
 
@@ -0,0 +1,91 @@
+package com.example.reportservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One queued SRS generation (see ReportJobRunner). State changes go through the conditional
+ * updates of ReportJobRepository, so two workers never run the same job.
+ */
+@Entity
+@Table(name = "report_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJob {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "project_config_id", nullable = false, length = 64)
+    private String projectConfigId;
+
+    @Column(name = "created_by", nullable = false)
+    private UUID createdBy;
+
+    @Column(name = "use_ai", nullable = false)
+    private boolean useAi;
+
+    /** useAi was requested but the job ran without the caller's token, so the SRS was generated without AI */
+    @Column(name = "ai_skipped", nullable = false)
+    private boolean aiSkipped;
+
+    @Column(name = "export_type", length = 20)
+    private String exportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    /** Pipeline step the worker is on (ReportingService step name) */
+    @Column(name = "current_step", length = 30)
+    private String currentStep;
+
+    /** Set once COMPLETED */
+    @Column(name = "report_id")
+    private UUID reportId;
+
+    @Column(name = "failed_step", length = 30)
+    private String failedStep;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    /** Number of times a worker claimed the job (> 1 = resumed after a crash or restart) */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /** Refreshed by the owning worker while RUNNING; an old heartbeat means the worker is gone */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
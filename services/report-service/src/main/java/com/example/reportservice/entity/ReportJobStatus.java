@@ -0,0 +1,8 @@
+package com.example.reportservice.entity;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -2,6 +2,8 @@ package com.example.reportservice.exporter;
 
 import com.example.reportservice.service.analyzer.CommitAnalyzer;
 import com.example.reportservice.service.analyzer.WorkDistributionAnalyzer;
+import com.example.reportservice.storage.ReportArtifactStore;
+import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.DataFormat;
@@ -10,66 +12,56 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.FileOutputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.List;
-import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class ExcelAnalyticsExporter {
 
+    private final ReportArtifactStore artifactStore;
+
     public String exportWorkDistribution(List<WorkDistributionAnalyzer.MemberWorkDistribution> workDistribution) {
-        return export(workDistribution, List.of(), true, false, "work_distribution");
+        return export(workDistribution, List.of(), true, false);
     }
 
     public String exportCommitAnalysis(List<CommitAnalyzer.MemberCommitAnalysis> commitAnalysis) {
-        return export(List.of(), commitAnalysis, false, true, "commit_analysis");
+        return export(List.of(), commitAnalysis, false, true);
     }
 
     private String export(List<WorkDistributionAnalyzer.MemberWorkDistribution> workDistribution,
                          List<CommitAnalyzer.MemberCommitAnalysis> commitAnalysis,
                          boolean includeWorkDistribution,
-                         boolean includeCommitAnalysis,
-                         String filePrefix) {
+                         boolean includeCommitAnalysis) {
 
-        String filePath;
         try {
-            Path reportsDir = Path.of(System.getProperty("java.io.tmpdir"), "samt-reports");
-            Files.createDirectories(reportsDir);
-            filePath = reportsDir.resolve(filePrefix + "_" + UUID.randomUUID() + ".xlsx").toString();
-        } catch (Exception e) {
-            throw new RuntimeException("Error preparing output directory", e);
-        }
-
-        try (Workbook workbook = new XSSFWorkbook();
-             FileOutputStream out = new FileOutputStream(filePath)) {
-
-            DataFormat dataFormat = workbook.createDataFormat();
-            CellStyle percentStyle = workbook.createCellStyle();
-            percentStyle.setDataFormat(dataFormat.getFormat("0.00%"));
-
-            CellStyle twoDecimalStyle = workbook.createCellStyle();
-            twoDecimalStyle.setDataFormat(dataFormat.getFormat("0.00"));
-
-            if (includeWorkDistribution) {
-                var sheet1 = workbook.createSheet("Work Distribution");
-                writeWorkDistributionSheet(sheet1, workDistribution, percentStyle, twoDecimalStyle);
-                autosize(sheet1, 6);
-            }
-
-            if (includeCommitAnalysis) {
-                var sheet2 = workbook.createSheet("Commit Analysis");
-                writeCommitAnalysisSheet(sheet2, commitAnalysis, twoDecimalStyle);
-                autosize(sheet2, 5);
-            }
-
-            workbook.write(out);
+            return artifactStore.write("xlsx", out -> {
+                try (Workbook workbook = new XSSFWorkbook()) {
+
+                    DataFormat dataFormat = workbook.createDataFormat();
+                    CellStyle percentStyle = workbook.createCellStyle();
+                    percentStyle.setDataFormat(dataFormat.getFormat("0.00%"));
+
+                    CellStyle twoDecimalStyle = workbook.createCellStyle();
+                    twoDecimalStyle.setDataFormat(dataFormat.getFormat("0.00"));
+
+                    if (includeWorkDistribution) {
+                        var sheet1 = workbook.createSheet("Work Distribution");
+                        writeWorkDistributionSheet(sheet1, workDistribution, percentStyle, twoDecimalStyle);
+                        autosize(sheet1, 6);
+                    }
+
+                    if (includeCommitAnalysis) {
+                        var sheet2 = workbook.createSheet("Commit Analysis");
+                        writeCommitAnalysisSheet(sheet2, commitAnalysis, twoDecimalStyle);
+                        autosize(sheet2, 5);
+                    }
+
+                    workbook.write(out);
+                }
+            }).key();
         } catch (Exception e) {
             throw new RuntimeException("Error exporting XLSX", e);
         }
-
-        return filePath;
     }
 
     private void writeWorkDistributionSheet(org.apache.poi.ss.usermodel.Sheet sheet,
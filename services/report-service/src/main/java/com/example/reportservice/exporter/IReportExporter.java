@@ -2,6 +2,9 @@ package com.example.reportservice.exporter;
 
 public interface IReportExporter {
 
+    /**
+     * Renders the content and stores it; returns the artifact key (see ReportArtifactStore).
+     */
     String export(String content);
 
     String getType();
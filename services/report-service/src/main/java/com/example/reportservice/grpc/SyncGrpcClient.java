@@ -2,35 +2,70 @@ package com.example.reportservice.grpc;
 
 import com.example.reportservice.grpc.*;
 import com.example.reportservice.web.UpstreamServiceException;
+import io.grpc.Context;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import jakarta.persistence.EntityNotFoundException;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
+/**
+ * Reads synced Jira/GitHub data from sync-service.
+ *
+ * Lists are fetched with the server-streaming RPCs (chunks of STREAM_CHUNK_SIZE rows), so big projects
+ * no longer hit the 4 MB message limit or the 2 s unary deadline. forEach*Chunk lets callers that only
+ * aggregate process one chunk at a time instead of materialising the whole project.
+ * Falls back to the unary RPCs while sync-service does not implement streaming (rolling deploy).
+ *
+ * The ReadOptions overloads push a field mask and author/type/date filters down to sync-service.
+ * The unary fallback ignores them, so callers must still tolerate (and filter) extra rows.
+ */
 @Service
 public class SyncGrpcClient {
 
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final long STREAM_DEADLINE_SECONDS = 30;
+    private static final long DELTA_DEADLINE_SECONDS = 5;
+
     @GrpcClient("sync-service")
     private SyncServiceGrpc.SyncServiceBlockingStub stub;
 
     public List<IssueResponse> getIssues(UUID projectConfigId) {
+        return getIssues(projectConfigId, null);
+    }
 
-        return executeWithStandardErrorHandling(() -> {
-            ProjectConfigRequest request =
-                ProjectConfigRequest.newBuilder()
-                    .setProjectConfigId(projectConfigId.toString())
-                    .build();
+    public List<IssueResponse> getIssues(UUID projectConfigId, ReadOptions options) {
+        List<IssueResponse> issues = new ArrayList<>();
+        forEachIssueChunk(projectConfigId, options, issues::addAll);
+        return issues;
+    }
 
-            IssueListResponse response = stub
-                .withDeadlineAfter(2, TimeUnit.SECONDS)
-                .getIssuesByProjectConfig(request);
-            return response.getIssuesList();
+    public void forEachIssueChunk(UUID projectConfigId, Consumer<List<IssueResponse>> chunkConsumer) {
+        forEachIssueChunk(projectConfigId, null, chunkConsumer);
+    }
+
+    public void forEachIssueChunk(UUID projectConfigId, ReadOptions options,
+                                  Consumer<List<IssueResponse>> chunkConsumer) {
+        ProjectConfigStreamRequest request = streamRequest(projectConfigId, options);
+        executeWithStandardErrorHandling(() -> {
+            streamChunks(
+                () -> stub.withDeadlineAfter(STREAM_DEADLINE_SECONDS, TimeUnit.SECONDS).streamIssuesByProjectConfig(request),
+                IssueListResponse::getIssuesList,
+                chunkConsumer,
+                () -> stub.withDeadlineAfter(2, TimeUnit.SECONDS)
+                    .getIssuesByProjectConfig(unaryRequest(projectConfigId))
+                    .getIssuesList());
+            return null;
         });
     }
 
@@ -49,35 +84,159 @@ public class SyncGrpcClient {
     }
 
     public List<GithubCommitResponse> getGithubCommits(UUID projectConfigId) {
+        return getGithubCommits(projectConfigId, null);
+    }
 
-        return executeWithStandardErrorHandling(() -> {
-            ProjectConfigRequest request =
-                ProjectConfigRequest.newBuilder()
-                    .setProjectConfigId(projectConfigId.toString())
-                    .build();
+    public List<GithubCommitResponse> getGithubCommits(UUID projectConfigId, ReadOptions options) {
+        List<GithubCommitResponse> commits = new ArrayList<>();
+        forEachGithubCommitChunk(projectConfigId, options, commits::addAll);
+        return commits;
+    }
 
-            GithubCommitListResponse response = stub
-                .withDeadlineAfter(2, TimeUnit.SECONDS)
-                .getGithubCommitsByProjectConfig(request);
-            return response.getCommitsList();
+    public void forEachGithubCommitChunk(UUID projectConfigId, Consumer<List<GithubCommitResponse>> chunkConsumer) {
+        forEachGithubCommitChunk(projectConfigId, null, chunkConsumer);
+    }
+
+    public void forEachGithubCommitChunk(UUID projectConfigId, ReadOptions options,
+                                         Consumer<List<GithubCommitResponse>> chunkConsumer) {
+        ProjectConfigStreamRequest request = streamRequest(projectConfigId, options);
+        executeWithStandardErrorHandling(() -> {
+            streamChunks(
+                () -> stub.withDeadlineAfter(STREAM_DEADLINE_SECONDS, TimeUnit.SECONDS).streamGithubCommitsByProjectConfig(request),
+                GithubCommitListResponse::getCommitsList,
+                chunkConsumer,
+                () -> stub.withDeadlineAfter(2, TimeUnit.SECONDS)
+                    .getGithubCommitsByProjectConfig(unaryRequest(projectConfigId))
+                    .getCommitsList());
+            return null;
         });
     }
 
     public List<UnifiedActivityResponse> getUnifiedActivities(UUID projectConfigId) {
+        return getUnifiedActivities(projectConfigId, null);
+    }
 
-        return executeWithStandardErrorHandling(() -> {
-            ProjectConfigRequest request =
-                ProjectConfigRequest.newBuilder()
-                    .setProjectConfigId(projectConfigId.toString())
-                    .build();
+    public List<UnifiedActivityResponse> getUnifiedActivities(UUID projectConfigId, ReadOptions options) {
+        List<UnifiedActivityResponse> activities = new ArrayList<>();
+        forEachUnifiedActivityChunk(projectConfigId, options, activities::addAll);
+        return activities;
+    }
 
-            UnifiedActivityListResponse response = stub
-                .withDeadlineAfter(2, TimeUnit.SECONDS)
-                .getUnifiedActivitiesByProjectConfig(request);
-            return response.getActivitiesList();
+    public void forEachUnifiedActivityChunk(UUID projectConfigId, Consumer<List<UnifiedActivityResponse>> chunkConsumer) {
+        forEachUnifiedActivityChunk(projectConfigId, null, chunkConsumer);
+    }
+
+    public void forEachUnifiedActivityChunk(UUID projectConfigId, ReadOptions options,
+                                            Consumer<List<UnifiedActivityResponse>> chunkConsumer) {
+        ProjectConfigStreamRequest request = streamRequest(projectConfigId, options);
+        executeWithStandardErrorHandling(() -> {
+            streamChunks(
+                () -> stub.withDeadlineAfter(STREAM_DEADLINE_SECONDS, TimeUnit.SECONDS).streamUnifiedActivitiesByProjectConfig(request),
+                UnifiedActivityListResponse::getActivitiesList,
+                chunkConsumer,
+                () -> stub.withDeadlineAfter(2, TimeUnit.SECONDS)
+                    .getUnifiedActivitiesByProjectConfig(unaryRequest(projectConfigId))
+                    .getActivitiesList());
+            return null;
         });
     }
 
+    /**
+     * Issues written after {@code sinceVersion} (empty = from the beginning), soft deletes as tombstones.
+     * Keep {@code nextVersion} for the next call; call again at once while {@code hasMore}.
+     * {@code limit} caps the rows per call (0 = server default).
+     */
+    public IssueChangesResponse getIssueChangesSince(UUID projectConfigId, String sinceVersion) {
+        return getIssueChangesSince(projectConfigId, sinceVersion, 0);
+    }
+
+    public IssueChangesResponse getIssueChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return executeWithStandardErrorHandling(() -> stub
+            .withDeadlineAfter(DELTA_DEADLINE_SECONDS, TimeUnit.SECONDS)
+            .getIssueChangesSince(changesRequest(projectConfigId, sinceVersion, limit)));
+    }
+
+    public GithubCommitChangesResponse getGithubCommitChangesSince(UUID projectConfigId, String sinceVersion) {
+        return getGithubCommitChangesSince(projectConfigId, sinceVersion, 0);
+    }
+
+    public GithubCommitChangesResponse getGithubCommitChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return executeWithStandardErrorHandling(() -> stub
+            .withDeadlineAfter(DELTA_DEADLINE_SECONDS, TimeUnit.SECONDS)
+            .getGithubCommitChangesSince(changesRequest(projectConfigId, sinceVersion, limit)));
+    }
+
+    public UnifiedActivityChangesResponse getUnifiedActivityChangesSince(UUID projectConfigId, String sinceVersion) {
+        return getUnifiedActivityChangesSince(projectConfigId, sinceVersion, 0);
+    }
+
+    public UnifiedActivityChangesResponse getUnifiedActivityChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return executeWithStandardErrorHandling(() -> stub
+            .withDeadlineAfter(DELTA_DEADLINE_SECONDS, TimeUnit.SECONDS)
+            .getUnifiedActivityChangesSince(changesRequest(projectConfigId, sinceVersion, limit)));
+    }
+
+    private ChangesSinceRequest changesRequest(UUID projectConfigId, String sinceVersion, int limit) {
+        return ChangesSinceRequest.newBuilder()
+            .setProjectConfigId(projectConfigId.toString())
+            .setSinceVersion(sinceVersion == null ? "" : sinceVersion)
+            .setLimit(Math.max(0, limit))
+            .build();
+    }
+
+    private <M, R> void streamChunks(Supplier<Iterator<M>> call,
+                                     Function<M, List<R>> rowsOf,
+                                     Consumer<List<R>> chunkConsumer,
+                                     Supplier<List<R>> unaryFallback) {
+        streamMessages(call,
+            message -> chunkConsumer.accept(rowsOf.apply(message)),
+            () -> chunkConsumer.accept(unaryFallback.get()));
+    }
+
+    /**
+     * Hands each streamed message to the consumer as it arrives; only one message is held at a time.
+     * The call runs in a cancellable context so a consumer that throws also cancels the server cursor.
+     */
+    private <M> void streamMessages(Supplier<Iterator<M>> call,
+                                    Consumer<M> messageConsumer,
+                                    Runnable unimplementedFallback) {
+        Context.CancellableContext context = Context.current().withCancellation();
+        Context previous = context.attach();
+        boolean received = false;
+        try {
+            Iterator<M> messages = call.get();
+            while (messages.hasNext()) {
+                received = true;
+                messageConsumer.accept(messages.next());
+            }
+        } catch (StatusRuntimeException ex) {
+            if (received || ex.getStatus().getCode() != Status.Code.UNIMPLEMENTED) {
+                throw ex;
+            }
+            // sync-service without this streaming RPC
+            unimplementedFallback.run();
+        } finally {
+            context.detach(previous);
+            context.cancel(null);
+        }
+    }
+
+    private ProjectConfigStreamRequest streamRequest(UUID projectConfigId, ReadOptions options) {
+        ProjectConfigStreamRequest.Builder request = ProjectConfigStreamRequest.newBuilder()
+            .setProjectConfigId(projectConfigId.toString())
+            .setChunkSize(STREAM_CHUNK_SIZE);
+        if (options != null) {
+            request.setOptions(options);
+        }
+        return request.build();
+    }
+
+    private ProjectConfigRequest unaryRequest(UUID projectConfigId) {
+        return ProjectConfigRequest.newBuilder()
+            .setProjectConfigId(projectConfigId.toString())
+            .build();
+    }
+
     private <T> T executeWithStandardErrorHandling(GrpcCall<T> call) {
         try {
             return call.execute();
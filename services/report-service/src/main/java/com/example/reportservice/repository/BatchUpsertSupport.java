@@ -0,0 +1,58 @@
+package com.example.reportservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * Multi-row INSERT ... VALUES ... ON CONFLICT for the read model writers:
+ * one round trip per {@value #BATCH_SIZE} rows instead of one per row.
+ */
+final class BatchUpsertSupport {
+
+    private static final int BATCH_SIZE = 500;
+
+    private BatchUpsertSupport() {
+    }
+
+    /**
+     * @param placeholders one per column, e.g. "?" or "CAST(? AS timestamp)" so a null still has a type
+     * @param rows         column values in {@code columns} order
+     */
+    static int upsert(EntityManager entityManager,
+                      String table,
+                      List<String> columns,
+                      List<String> placeholders,
+                      String onConflictClause,
+                      List<Object[]> rows) {
+        String rowPlaceholders = "(" + String.join(", ", placeholders) + ")";
+        int affected = 0;
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(start, Math.min(start + BATCH_SIZE, rows.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(table)
+                .append(" (")
+                .append(String.join(", ", columns))
+                .append(") VALUES\n");
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append(rowPlaceholders);
+                if (i < batch.size() - 1) {
+                    sql.append(",\n");
+                }
+            }
+            sql.append("\n").append(onConflictClause);
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int paramIndex = 1;
+            for (Object[] row : batch) {
+                for (Object value : row) {
+                    query.setParameter(paramIndex++, value);
+                }
+            }
+            affected += query.executeUpdate();
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.DashboardCommitStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DashboardCommitStatRepository extends JpaRepository<DashboardCommitStat, Long>, DashboardCommitStatRepositoryCustom {
+
+    @Query("""
+        select s.authorEmail as authorEmail,
+               max(s.authorName) as authorName,
+               max(s.authorLogin) as authorLogin,
+               sum(s.commitCount) as commitCount,
+               sum(s.additions) as additions,
+               sum(s.deletions) as deletions,
+               sum(s.totalChanges) as totalChanges
+        from DashboardCommitStat s
+        where s.projectConfigId = :projectConfigId
+          and s.statDate >= coalesce(:fromDate, s.statDate)
+          and s.statDate <= coalesce(:toDate, s.statDate)
+        group by s.authorEmail
+        """)
+    List<AuthorTotals> sumByAuthorWithinRange(@Param("projectConfigId") UUID projectConfigId,
+                                              @Param("fromDate") LocalDate fromDate,
+                                              @Param("toDate") LocalDate toDate);
+
+    @Query("""
+        select coalesce(sum(s.commitCount), 0L) as commitCount,
+               count(distinct s.statDate) as activeDays,
+               max(s.lastCommitAt) as lastCommitAt
+        from DashboardCommitStat s
+        where s.projectConfigId = :projectConfigId
+          and s.authorEmail = lower(:authorEmail)
+          and s.statDate >= coalesce(:fromDate, s.statDate)
+          and s.statDate <= coalesce(:toDate, s.statDate)
+        """)
+    ContributorTotals sumForAuthorWithinRange(@Param("projectConfigId") UUID projectConfigId,
+                                              @Param("authorEmail") String authorEmail,
+                                              @Param("fromDate") LocalDate fromDate,
+                                              @Param("toDate") LocalDate toDate);
+
+    @Query("select coalesce(sum(s.commitCount), 0L) from DashboardCommitStat s where s.projectConfigId = :projectConfigId")
+    long sumCommitCount(@Param("projectConfigId") UUID projectConfigId);
+
+    interface AuthorTotals {
+        String getAuthorEmail();
+
+        String getAuthorName();
+
+        String getAuthorLogin();
+
+        Long getCommitCount();
+
+        Long getAdditions();
+
+        Long getDeletions();
+
+        Long getTotalChanges();
+    }
+
+    interface ContributorTotals {
+        Long getCommitCount();
+
+        Long getActiveDays();
+
+        LocalDateTime getLastCommitAt();
+    }
+}
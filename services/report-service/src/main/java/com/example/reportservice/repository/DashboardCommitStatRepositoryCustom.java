@@ -0,0 +1,18 @@
+package com.example.reportservice.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Incremental refresh of dashboard_commit_stats from github_commits.
+ */
+public interface DashboardCommitStatRepositoryCustom {
+
+    /** Summary days (day of committed_date) of the stored commits; call before and after changing them. */
+    Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> commitShas);
+
+    /** Recomputes the summary rows of these days from the live (not deleted) commits. */
+    void refreshDays(UUID projectConfigId, Collection<LocalDate> days);
+}
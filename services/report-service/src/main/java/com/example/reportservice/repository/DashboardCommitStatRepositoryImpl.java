@@ -0,0 +1,50 @@
+package com.example.reportservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class DashboardCommitStatRepositoryImpl implements DashboardCommitStatRepositoryCustom {
+
+    private static final String DAY_EXPR = "CAST(committed_date AS DATE)";
+    private static final String FIND_DAYS_SQL = "SELECT DISTINCT " + DAY_EXPR
+        + " FROM github_commits WHERE project_config_id = ? AND commit_sha IN (%s)";
+    private static final String INSERT_SQL = """
+        INSERT INTO dashboard_commit_stats (project_config_id, stat_date, author_email, author_name, author_login,
+                                            commit_count, additions, deletions, total_changes, last_commit_at)
+        SELECT project_config_id,
+               CAST(committed_date AS DATE),
+               LOWER(TRIM(COALESCE(author_email, ''))),
+               MAX(author_name),
+               MAX(author_login),
+               COUNT(*),
+               SUM(COALESCE(additions, 0)),
+               SUM(COALESCE(deletions, 0)),
+               SUM(COALESCE(total_changes, 0)),
+               MAX(committed_date)
+        FROM github_commits
+        WHERE project_config_id = ? AND deleted_at IS NULL AND %s
+        GROUP BY 1, 2, 3
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> commitShas) {
+        return SummaryRefreshSupport.findDays(entityManager, FIND_DAYS_SQL, projectConfigId, commitShas);
+    }
+
+    @Override
+    @Transactional
+    public void refreshDays(UUID projectConfigId, Collection<LocalDate> days) {
+        SummaryRefreshSupport.replaceDays(entityManager, "dashboard_commit_stats", INSERT_SQL, DAY_EXPR, projectConfigId, days);
+    }
+}
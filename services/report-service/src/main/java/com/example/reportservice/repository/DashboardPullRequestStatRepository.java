@@ -0,0 +1,46 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.DashboardPullRequestStat;
+import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DashboardPullRequestStatRepository extends JpaRepository<DashboardPullRequestStat, Long>, DashboardPullRequestStatRepositoryCustom {
+
+    @Query("""
+        select coalesce(sum(s.prCount), 0L) as prCount, coalesce(sum(s.mergedPrCount), 0L) as mergedPrCount
+        from DashboardPullRequestStat s
+        where s.projectConfigId = :projectConfigId
+          and s.authorEmail = lower(:authorEmail)
+          and s.statDate >= coalesce(:fromDate, s.statDate)
+          and s.statDate <= coalesce(:toDate, s.statDate)
+        """)
+    PullRequestTotals sumForAuthorWithinRange(@Param("projectConfigId") UUID projectConfigId,
+                                              @Param("authorEmail") String authorEmail,
+                                              @Param("fromDate") LocalDate fromDate,
+                                              @Param("toDate") LocalDate toDate);
+
+    /** source null = every source */
+    @Query("""
+        select coalesce(sum(s.prCount), 0L) as prCount, coalesce(sum(s.mergedPrCount), 0L) as mergedPrCount
+        from DashboardPullRequestStat s
+        where s.projectConfigId = :projectConfigId
+          and (:source is null or s.source = :source)
+          and s.statDate >= coalesce(:fromDate, s.statDate)
+          and s.statDate <= coalesce(:toDate, s.statDate)
+        """)
+    PullRequestTotals sumWithinRange(@Param("projectConfigId") UUID projectConfigId,
+                                     @Param("source") ActivitySource source,
+                                     @Param("fromDate") LocalDate fromDate,
+                                     @Param("toDate") LocalDate toDate);
+
+    interface PullRequestTotals {
+        Long getPrCount();
+
+        Long getMergedPrCount();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.reportservice.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Incremental refresh of dashboard_pull_request_stats from unified_activities.
+ */
+public interface DashboardPullRequestStatRepositoryCustom {
+
+    /** Summary days (day of created_at) of the stored pull request activities; call before and after changing them. */
+    Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> externalIds);
+
+    /** Recomputes the summary rows of these days from the live (not deleted) pull request activities. */
+    void refreshDays(UUID projectConfigId, Collection<LocalDate> days);
+}
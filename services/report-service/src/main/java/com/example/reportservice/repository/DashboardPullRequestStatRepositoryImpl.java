@@ -0,0 +1,45 @@
+package com.example.reportservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class DashboardPullRequestStatRepositoryImpl implements DashboardPullRequestStatRepositoryCustom {
+
+    private static final String DAY_EXPR = "CAST(created_at AS DATE)";
+    private static final String FIND_DAYS_SQL = "SELECT DISTINCT " + DAY_EXPR
+        + " FROM unified_activities WHERE project_config_id = ? AND activity_type = 'PULL_REQUEST' AND external_id IN (%s)";
+    private static final String INSERT_SQL = """
+        INSERT INTO dashboard_pull_request_stats (project_config_id, stat_date, source, author_email, pr_count, merged_pr_count)
+        SELECT project_config_id,
+               CAST(created_at AS DATE),
+               source,
+               LOWER(COALESCE(author_email, '')),
+               COUNT(*),
+               COUNT(*) FILTER (WHERE LOWER(status) = 'merged')
+        FROM unified_activities
+        WHERE project_config_id = ? AND activity_type = 'PULL_REQUEST' AND deleted_at IS NULL AND %s
+        GROUP BY 1, 2, 3, 4
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> externalIds) {
+        return SummaryRefreshSupport.findDays(entityManager, FIND_DAYS_SQL, projectConfigId, externalIds);
+    }
+
+    @Override
+    @Transactional
+    public void refreshDays(UUID projectConfigId, Collection<LocalDate> days) {
+        SummaryRefreshSupport.replaceDays(entityManager, "dashboard_pull_request_stats", INSERT_SQL, DAY_EXPR, projectConfigId, days);
+    }
+}
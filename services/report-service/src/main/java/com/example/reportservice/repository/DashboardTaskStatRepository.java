@@ -0,0 +1,54 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.DashboardTaskStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DashboardTaskStatRepository extends JpaRepository<DashboardTaskStat, Long>, DashboardTaskStatRepositoryCustom {
+
+    /**
+     * Task counts per issue type and raw status, issues updated within [fromDate, toDate].
+     * Issues without updated_at only count when no range is given (same rule as the row-based filter).
+     */
+    @Query("""
+        select s.issueType as issueType, s.status as status, sum(s.taskCount) as taskCount
+        from DashboardTaskStat s
+        where s.projectConfigId = :projectConfigId
+          and ((s.statDate is null and :fromDate is null and :toDate is null)
+            or (s.statDate >= coalesce(:fromDate, s.statDate) and s.statDate <= coalesce(:toDate, s.statDate)))
+        group by s.issueType, s.status
+        order by s.issueType, s.status
+        """)
+    List<TypeStatusCount> sumByTypeAndStatusWithinRange(@Param("projectConfigId") UUID projectConfigId,
+                                                        @Param("fromDate") LocalDate fromDate,
+                                                        @Param("toDate") LocalDate toDate);
+
+    @Query("""
+        select s.status as status, sum(s.taskCount) as taskCount
+        from DashboardTaskStat s
+        where s.projectConfigId = :projectConfigId
+          and s.assigneeEmail = lower(:assigneeEmail)
+        group by s.status
+        """)
+    List<StatusCount> sumByStatusForAssignee(@Param("projectConfigId") UUID projectConfigId,
+                                             @Param("assigneeEmail") String assigneeEmail);
+
+    interface TypeStatusCount {
+        String getIssueType();
+
+        String getStatus();
+
+        Long getTaskCount();
+    }
+
+    interface StatusCount {
+        String getStatus();
+
+        Long getTaskCount();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.reportservice.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Incremental refresh of dashboard_task_stats from jira_issues.
+ */
+public interface DashboardTaskStatRepositoryCustom {
+
+    /**
+     * Summary days (UTC day of updated_at) the stored issues currently fall into; null = issue without updated_at.
+     * Call before and after changing the issues and refresh the union.
+     */
+    Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> issueKeys);
+
+    /** Recomputes the summary rows of these days (null = issues without updated_at) from jira_issues. */
+    void refreshDays(UUID projectConfigId, Collection<LocalDate> days);
+}
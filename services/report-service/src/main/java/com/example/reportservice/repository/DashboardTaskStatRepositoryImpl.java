@@ -0,0 +1,45 @@
+package com.example.reportservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class DashboardTaskStatRepositoryImpl implements DashboardTaskStatRepositoryCustom {
+
+    private static final String DAY_EXPR = "CAST(updated_at AT TIME ZONE 'UTC' AS DATE)";
+    private static final String FIND_DAYS_SQL = "SELECT DISTINCT " + DAY_EXPR
+        + " FROM jira_issues WHERE project_config_id = ? AND issue_key IN (%s)";
+    private static final String INSERT_SQL = """
+        INSERT INTO dashboard_task_stats (project_config_id, stat_date, issue_type, status, assignee_email, task_count)
+        SELECT project_config_id,
+               CAST(updated_at AT TIME ZONE 'UTC' AS DATE),
+               CASE WHEN TRIM(COALESCE(issue_type, '')) = '' THEN 'UNKNOWN' ELSE issue_type END,
+               CASE WHEN TRIM(COALESCE(status, '')) = '' THEN 'UNKNOWN' ELSE status END,
+               LOWER(COALESCE(assignee_email, '')),
+               COUNT(*)
+        FROM jira_issues
+        WHERE project_config_id = ? AND %s
+        GROUP BY 1, 2, 3, 4, 5
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<LocalDate> findStatDays(UUID projectConfigId, Collection<String> issueKeys) {
+        return SummaryRefreshSupport.findDays(entityManager, FIND_DAYS_SQL, projectConfigId, issueKeys);
+    }
+
+    @Override
+    @Transactional
+    public void refreshDays(UUID projectConfigId, Collection<LocalDate> days) {
+        SummaryRefreshSupport.replaceDays(entityManager, "dashboard_task_stats", INSERT_SQL, DAY_EXPR, projectConfigId, days);
+    }
+}
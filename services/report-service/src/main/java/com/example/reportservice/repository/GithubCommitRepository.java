@@ -2,14 +2,16 @@ package com.example.reportservice.repository;
 
 import com.example.reportservice.entity.GithubCommit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface GithubCommitRepository extends JpaRepository<GithubCommit, Long> {
+public interface GithubCommitRepository extends JpaRepository<GithubCommit, Long>, GithubCommitRepositoryCustom {
 
     long countByProjectConfigIdInAndDeletedAtIsNull(List<UUID> projectConfigIds);
 
@@ -82,4 +84,18 @@ public interface GithubCommitRepository extends JpaRepository<GithubCommit, Long
     List<GithubCommit> findByProjectConfigIdsWithinRange(@Param("projectConfigIds") List<UUID> projectConfigIds,
                                                           @Param("fromDate") LocalDateTime fromDate,
                                                           @Param("toDate") LocalDateTime toDate);
-}
\ No newline at end of file
+
+    /**
+     * Applies sync-service tombstones as soft deletes.
+     */
+    @Modifying
+    @Query("""
+        update GithubCommit g set g.deletedAt = :deletedAt
+        where g.projectConfigId = :projectConfigId
+          and g.commitSha in :commitShas
+          and g.deletedAt is null
+        """)
+    int markDeleted(@Param("projectConfigId") UUID projectConfigId,
+                    @Param("commitShas") Collection<String> commitShas,
+                    @Param("deletedAt") LocalDateTime deletedAt);
+}
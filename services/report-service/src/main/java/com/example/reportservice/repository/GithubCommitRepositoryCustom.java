@@ -0,0 +1,18 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.GithubCommit;
+
+import java.util.List;
+
+/**
+ * Bulk writes of the local read model (sync-service change feed).
+ */
+public interface GithubCommitRepositoryCustom {
+
+    /**
+     * Batch UPSERT on (project_config_id, commit_sha); an upsert also revives a soft-deleted row.
+     *
+     * @return rows inserted or updated
+     */
+    int upsertFromSync(List<GithubCommit> commits);
+}
@@ -0,0 +1,71 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.GithubCommit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Native PostgreSQL ON CONFLICT upserts for the github_commits read model.
+ */
+@Repository
+public class GithubCommitRepositoryImpl implements GithubCommitRepositoryCustom {
+
+    private static final List<String> COLUMNS = List.of(
+        "project_config_id", "commit_sha", "message", "committed_date",
+        "author_email", "author_name",
+        "additions", "deletions", "total_changes",
+        "created_at", "updated_at", "deleted_at");
+    private static final List<String> PLACEHOLDERS = List.of(
+        "?", "?", "?", "CAST(? AS timestamp)",
+        "?", "?",
+        "?", "?", "?",
+        "CAST(? AS timestamp)", "CAST(? AS timestamp)", "CAST(? AS timestamp)");
+    private static final String ON_CONFLICT_CLAUSE = """
+        ON CONFLICT (project_config_id, commit_sha)
+        DO UPDATE SET
+            message = EXCLUDED.message,
+            committed_date = EXCLUDED.committed_date,
+            author_email = EXCLUDED.author_email,
+            author_name = EXCLUDED.author_name,
+            additions = EXCLUDED.additions,
+            deletions = EXCLUDED.deletions,
+            total_changes = EXCLUDED.total_changes,
+            updated_at = EXCLUDED.updated_at,
+            deleted_at = NULL
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertFromSync(List<GithubCommit> commits) {
+        if (commits == null || commits.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = commits.stream()
+            .map(commit -> new Object[] {
+                commit.getProjectConfigId(),
+                commit.getCommitSha(),
+                commit.getMessage(),
+                Timestamp.valueOf(commit.getCommittedDate()),
+                commit.getAuthorEmail(),
+                commit.getAuthorName(),
+                commit.getAdditions() != null ? commit.getAdditions() : 0,
+                commit.getDeletions() != null ? commit.getDeletions() : 0,
+                commit.getTotalChanges() != null ? commit.getTotalChanges() : 0,
+                now,
+                now,
+                null
+            })
+            .toList();
+        return BatchUpsertSupport.upsert(entityManager, "github_commits", COLUMNS, PLACEHOLDERS, ON_CONFLICT_CLAUSE, rows);
+    }
+}
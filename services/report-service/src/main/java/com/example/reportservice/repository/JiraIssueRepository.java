@@ -4,20 +4,24 @@ import com.example.reportservice.entity.JiraIssue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface JiraIssueRepository
-        extends JpaRepository<JiraIssue, Long> {
+        extends JpaRepository<JiraIssue, Long>, JiraIssueRepositoryCustom {
 
         List<JiraIssue> findByProjectConfigId(UUID projectConfigId);
 
         List<JiraIssue> findByProjectConfigIdIn(List<UUID> projectConfigIds);
 
+        long countByProjectConfigIdIn(List<UUID> projectConfigIds);
+
         List<JiraIssue> findByProjectConfigIdInAndAssigneeEmailIgnoreCase(List<UUID> projectConfigIds, String assigneeEmail);
 
         Page<JiraIssue> findByProjectConfigIdInAndAssigneeEmailIgnoreCase(List<UUID> projectConfigIds, String assigneeEmail, Pageable pageable);
@@ -49,4 +53,16 @@ public interface JiraIssueRepository
                 """)
         Optional<JiraIssue> findTaskByProjectConfigAndTaskId(@Param("projectConfigId") UUID projectConfigId,
                                                               @Param("taskId") String taskId);
+
+        /**
+         * Applies sync-service tombstones: Jira deletes are hard deletes in the read model.
+         */
+        @Modifying
+        @Query("""
+                delete from JiraIssue j
+                where j.projectConfigId = :projectConfigId
+                  and j.issueKey in :issueKeys
+                """)
+        int deleteByIssueKeys(@Param("projectConfigId") UUID projectConfigId,
+                              @Param("issueKeys") Collection<String> issueKeys);
 }
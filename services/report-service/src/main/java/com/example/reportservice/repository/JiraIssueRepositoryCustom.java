@@ -0,0 +1,19 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.JiraIssue;
+
+import java.util.List;
+
+/**
+ * Bulk writes of the local read model (sync-service change feed).
+ */
+public interface JiraIssueRepositoryCustom {
+
+    /**
+     * Batch UPSERT on (project_config_id, issue_key). A row already updated locally after the incoming
+     * version (leader/member status or assignee change) is kept: the feed brings the Jira state back later.
+     *
+     * @return rows inserted or updated
+     */
+    int upsertFromSync(List<JiraIssue> issues);
+}
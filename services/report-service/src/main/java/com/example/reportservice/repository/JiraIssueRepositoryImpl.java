@@ -0,0 +1,81 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.JiraIssue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Native PostgreSQL ON CONFLICT upserts for the jira_issues read model.
+ */
+@Repository
+public class JiraIssueRepositoryImpl implements JiraIssueRepositoryCustom {
+
+    private static final List<String> COLUMNS = List.of(
+        "project_config_id", "issue_key", "issue_id", "summary", "description",
+        "issue_type", "status", "priority",
+        "assignee_email", "assignee_name",
+        "reporter_email", "reporter_name",
+        "created_at", "updated_at", "due_date");
+    private static final List<String> PLACEHOLDERS = List.of(
+        "?", "?", "?", "?", "?",
+        "?", "?", "?",
+        "?", "?",
+        "?", "?",
+        "CAST(? AS timestamptz)", "CAST(? AS timestamptz)", "CAST(? AS date)");
+    private static final String ON_CONFLICT_CLAUSE = """
+        ON CONFLICT (project_config_id, issue_key)
+        DO UPDATE SET
+            issue_id = EXCLUDED.issue_id,
+            summary = EXCLUDED.summary,
+            description = EXCLUDED.description,
+            issue_type = EXCLUDED.issue_type,
+            status = EXCLUDED.status,
+            priority = EXCLUDED.priority,
+            assignee_email = EXCLUDED.assignee_email,
+            assignee_name = EXCLUDED.assignee_name,
+            reporter_email = EXCLUDED.reporter_email,
+            reporter_name = EXCLUDED.reporter_name,
+            created_at = EXCLUDED.created_at,
+            updated_at = EXCLUDED.updated_at,
+            due_date = EXCLUDED.due_date
+        WHERE jira_issues.updated_at IS NULL
+            OR EXCLUDED.updated_at IS NULL
+            OR EXCLUDED.updated_at >= jira_issues.updated_at
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertFromSync(List<JiraIssue> issues) {
+        if (issues == null || issues.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = issues.stream()
+            .map(issue -> new Object[] {
+                issue.getProjectConfigId(),
+                issue.getIssueKey(),
+                issue.getIssueId(),
+                issue.getSummary(),
+                issue.getDescription(),
+                issue.getIssueType(),
+                issue.getStatus(),
+                issue.getPriority(),
+                issue.getAssigneeEmail(),
+                issue.getAssigneeName(),
+                issue.getReporterEmail(),
+                issue.getReporterName(),
+                issue.getCreatedAt() == null ? null : Timestamp.from(issue.getCreatedAt().toInstant()),
+                issue.getUpdatedAt() == null ? null : Timestamp.from(issue.getUpdatedAt().toInstant()),
+                issue.getDueDate() == null ? null : java.sql.Date.valueOf(issue.getDueDate())
+            })
+            .toList();
+        return BatchUpsertSupport.upsert(entityManager, "jira_issues", COLUMNS, PLACEHOLDERS, ON_CONFLICT_CLAUSE, rows);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.ReadModelCursor;
+import com.example.reportservice.entity.ReadModelCursor.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReadModelCursorRepository extends JpaRepository<ReadModelCursor, Long> {
+
+    Optional<ReadModelCursor> findByProjectConfigIdAndStream(UUID projectConfigId, Stream stream);
+
+    List<ReadModelCursor> findByProjectConfigIdIn(Collection<UUID> projectConfigIds);
+
+    @Query("""
+        select distinct c.projectConfigId from ReadModelCursor c
+        where c.lastRequestedAt >= :since
+        """)
+    List<UUID> findRequestedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Creates the cursor if missing (idempotent, safe under concurrent first requests) and marks it requested.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO read_model_cursors (project_config_id, stream, version, last_requested_at, revision, updated_at)
+        VALUES (:projectConfigId, :stream, '', :now, 0, :now)
+        ON CONFLICT (project_config_id, stream)
+        DO UPDATE SET last_requested_at = EXCLUDED.last_requested_at
+        """, nativeQuery = true)
+    int registerRequested(@Param("projectConfigId") UUID projectConfigId,
+                          @Param("stream") String stream,
+                          @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.ReportJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportJobCheckpointRepository extends JpaRepository<ReportJobCheckpoint, Long> {
+
+    List<ReportJobCheckpoint> findByJobId(UUID jobId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO report_job_checkpoints (job_id, step, payload_json, created_at)
+        VALUES (:jobId, :step, :payloadJson, :now)
+        ON CONFLICT (job_id, step)
+        DO UPDATE SET payload_json = EXCLUDED.payload_json, created_at = EXCLUDED.created_at
+        """, nativeQuery = true)
+    int upsert(@Param("jobId") UUID jobId,
+               @Param("step") String step,
+               @Param("payloadJson") String payloadJson,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ReportJobCheckpoint c where c.jobId = :jobId and c.step in :steps")
+    int deleteSteps(@Param("jobId") UUID jobId, @Param("steps") Collection<String> steps);
+
+    @Modifying
+    @Query("delete from ReportJobCheckpoint c where c.jobId = :jobId")
+    int deleteByJob(@Param("jobId") UUID jobId);
+}
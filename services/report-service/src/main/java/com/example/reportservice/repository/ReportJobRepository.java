@@ -0,0 +1,187 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.ReportJob;
+import com.example.reportservice.entity.ReportJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Every state change is a conditional update: the returned row count tells the caller whether it
+ * won (claim) or still owns the job (step/complete/fail), so no two workers act on one job.
+ */
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    /**
+     * Queued jobs among {@code jobIds} (the ones submitted on this instance), oldest first.
+     */
+    @Query("""
+        select j.jobId from ReportJob j
+        where j.status = :status
+          and j.jobId in :jobIds
+        order by j.createdAt asc
+        """)
+    List<UUID> findIdsByStatusAndJobIdIn(@Param("status") ReportJobStatus status,
+                                         @Param("jobIds") Collection<UUID> jobIds,
+                                         Pageable pageable);
+
+    /**
+     * Queued jobs created before {@code createdBefore}, oldest first.
+     */
+    @Query("""
+        select j.jobId from ReportJob j
+        where j.status = :status
+          and j.createdAt < :createdBefore
+        order by j.createdAt asc
+        """)
+    List<UUID> findIdsByStatusAndCreatedAtBefore(@Param("status") ReportJobStatus status,
+                                                 @Param("createdBefore") LocalDateTime createdBefore,
+                                                 Pageable pageable);
+
+    /**
+     * Jobs queued ahead of one created at {@code createdAt} (its 0-based queue position).
+     */
+    long countByStatusAndCreatedAtBefore(ReportJobStatus status, LocalDateTime createdAt);
+
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING,
+            j.workerId = :workerId,
+            j.attempts = j.attempts + 1,
+            j.startedAt = :now,
+            j.heartbeatAt = :now,
+            j.updatedAt = :now
+        where j.jobId = :jobId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.QUEUED
+        """)
+    int claim(@Param("jobId") UUID jobId, @Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJob j set j.heartbeatAt = :now
+        where j.jobId in :jobIds
+          and j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int heartbeat(@Param("jobIds") Collection<UUID> jobIds,
+                  @Param("workerId") String workerId,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJob j set j.currentStep = :step, j.heartbeatAt = :now, j.updatedAt = :now
+        where j.jobId = :jobId
+          and j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int updateStep(@Param("jobId") UUID jobId,
+                   @Param("workerId") String workerId,
+                   @Param("step") String step,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJob j set j.aiSkipped = true, j.updatedAt = :now
+        where j.jobId = :jobId
+          and j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int markAiSkipped(@Param("jobId") UUID jobId, @Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.COMPLETED,
+            j.currentStep = 'DONE',
+            j.reportId = :reportId,
+            j.finishedAt = :now,
+            j.updatedAt = :now
+        where j.jobId = :jobId
+          and j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int complete(@Param("jobId") UUID jobId,
+                 @Param("workerId") String workerId,
+                 @Param("reportId") UUID reportId,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.FAILED,
+            j.failedStep = :failedStep,
+            j.errorMessage = :errorMessage,
+            j.finishedAt = :now,
+            j.updatedAt = :now
+        where j.jobId = :jobId
+          and j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int fail(@Param("jobId") UUID jobId,
+             @Param("workerId") String workerId,
+             @Param("failedStep") String failedStep,
+             @Param("errorMessage") String errorMessage,
+             @Param("now") LocalDateTime now);
+
+    /**
+     * Hands this worker's running jobs back to the queue on a graceful shutdown; the claim is not counted.
+     */
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.QUEUED,
+            j.workerId = null,
+            j.currentStep = null,
+            j.attempts = j.attempts - 1,
+            j.updatedAt = :now
+        where j.workerId = :workerId
+          and j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+        """)
+    int release(@Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Re-queues running jobs whose worker stopped heart-beating (crash, kill, lost node).
+     */
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.QUEUED,
+            j.workerId = null,
+            j.currentStep = null,
+            j.updatedAt = :now
+        where j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+          and j.heartbeatAt < :staleBefore
+          and j.attempts < :maxAttempts
+        """)
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Gives up on stale jobs that already used all their attempts (e.g. a job that crashes the worker).
+     */
+    @Modifying
+    @Query("""
+        update ReportJob j
+        set j.status = com.example.reportservice.entity.ReportJobStatus.FAILED,
+            j.failedStep = j.currentStep,
+            j.errorMessage = :errorMessage,
+            j.finishedAt = :now,
+            j.updatedAt = :now
+        where j.status = com.example.reportservice.entity.ReportJobStatus.RUNNING
+          and j.heartbeatAt < :staleBefore
+          and j.attempts >= :maxAttempts
+        """)
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("errorMessage") String errorMessage,
+                  @Param("now") LocalDateTime now);
+}
@@ -1,9 +1,25 @@
 package com.example.reportservice.repository;
 
 import com.example.reportservice.entity.Report;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface ReportRepository extends JpaRepository<Report, UUID>, JpaSpecificationExecutor<Report> {}
+public interface ReportRepository extends JpaRepository<Report, UUID>, JpaSpecificationExecutor<Report> {
+
+    List<Report> findTop5ByFingerprintOrderByCreatedAtDesc(String fingerprint);
+
+    /**
+     * Oldest reports created before {@code createdBefore} (retention batches).
+     */
+    List<Report> findByCreatedAtBeforeOrderByCreatedAtAsc(LocalDateTime createdBefore, Pageable pageable);
+
+    /**
+     * Whether any report still references the artifact key (reused reports share one file).
+     */
+    boolean existsByFilePath(String filePath);
+}
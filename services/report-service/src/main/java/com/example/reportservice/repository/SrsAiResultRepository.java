@@ -0,0 +1,33 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.SrsAiResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SrsAiResultRepository extends JpaRepository<SrsAiResult, String> {
+
+    /**
+     * Stores a result unless one exists already (concurrent instances may produce the same fingerprint).
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO srs_ai_results (fingerprint, result_json, created_at, last_used_at)
+        VALUES (:fingerprint, :resultJson, :now, :now)
+        ON CONFLICT (fingerprint) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("fingerprint") String fingerprint,
+                       @Param("resultJson") String resultJson,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update SrsAiResult r set r.lastUsedAt = :now where r.fingerprint = :fingerprint")
+    int touch(@Param("fingerprint") String fingerprint, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from SrsAiResult r where r.lastUsedAt < :before")
+    int deleteUnusedSince(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,113 @@
+package com.example.reportservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shared SQL of the materialized dashboard summaries: find the days a set of rows falls into,
+ * then replace the summary rows of exactly those days with a fresh GROUP BY over the source table.
+ */
+final class SummaryRefreshSupport {
+
+    private static final int KEY_BATCH_SIZE = 1000;
+
+    private SummaryRefreshSupport() {
+    }
+
+    /**
+     * @param sql one "?" for the config id followed by "%s" for the key IN list; selects one DATE column
+     * @return distinct days (may contain null)
+     */
+    static Set<LocalDate> findDays(EntityManager entityManager, String sql, UUID projectConfigId, Collection<String> keys) {
+        Set<LocalDate> days = new HashSet<>();
+        List<String> distinctKeys = keys.stream().filter(Objects::nonNull).distinct().toList();
+        for (int start = 0; start < distinctKeys.size(); start += KEY_BATCH_SIZE) {
+            List<String> batch = distinctKeys.subList(start, Math.min(start + KEY_BATCH_SIZE, distinctKeys.size()));
+            Query query = entityManager.createNativeQuery(sql.formatted(placeholders(batch.size())));
+            List<Object> params = new ArrayList<>();
+            params.add(projectConfigId);
+            params.addAll(batch);
+            bind(query, params);
+            for (Object value : query.getResultList()) {
+                days.add(toLocalDate(value));
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Deletes the summary rows of the given days and re-inserts them from the source table, serialized per
+     * config so two writers of the same config cannot interleave their delete and insert.
+     *
+     * @param insertSql     one "?" for the config id followed by "%s" for the source-side day condition
+     * @param sourceDayExpr day expression over the source table, e.g. "CAST(committed_date AS DATE)"
+     * @param days          null = rows without a day
+     */
+    static void replaceDays(EntityManager entityManager,
+                            String summaryTable,
+                            String insertSql,
+                            String sourceDayExpr,
+                            UUID projectConfigId,
+                            Collection<LocalDate> days) {
+        List<LocalDate> dated = days.stream().filter(Objects::nonNull).distinct().toList();
+        boolean undated = days.contains(null);
+        if (dated.isEmpty() && !undated) {
+            return;
+        }
+
+        Query lock = entityManager.createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(hashtext(?))");
+        lock.setParameter(1, "dashboard-summary:" + projectConfigId);
+        lock.getSingleResult();
+
+        List<Object> params = new ArrayList<>();
+        params.add(projectConfigId);
+        params.addAll(dated);
+
+        Query delete = entityManager.createNativeQuery(
+            "DELETE FROM " + summaryTable + " WHERE project_config_id = ? AND " + dayCondition("stat_date", dated.size(), undated));
+        bind(delete, params);
+        delete.executeUpdate();
+
+        Query insert = entityManager.createNativeQuery(insertSql.formatted(dayCondition(sourceDayExpr, dated.size(), undated)));
+        bind(insert, params);
+        insert.executeUpdate();
+    }
+
+    private static String dayCondition(String dayExpr, int datedCount, boolean undated) {
+        if (datedCount == 0) {
+            return dayExpr + " IS NULL";
+        }
+        String in = dayExpr + " IN (" + placeholders(datedCount) + ")";
+        return undated ? "(" + in + " OR " + dayExpr + " IS NULL)" : in;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void bind(Query query, List<Object> params) {
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -6,13 +6,16 @@ import com.example.reportservice.entity.UnifiedActivity.ActivityType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface UnifiedActivityRepository extends JpaRepository<UnifiedActivity, Long> {
+public interface UnifiedActivityRepository extends JpaRepository<UnifiedActivity, Long>, UnifiedActivityRepositoryCustom {
 
     @Query("""
         select u from UnifiedActivity u
@@ -67,4 +70,20 @@ public interface UnifiedActivityRepository extends JpaRepository<UnifiedActivity
     List<UnifiedActivity> findRecentHighlights(@Param("projectConfigIds") List<UUID> projectConfigIds,
                                                @Param("authorEmail") String authorEmail,
                                                Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Applies sync-service tombstones as soft deletes.
+     */
+    @Modifying
+    @Query("""
+        update UnifiedActivity u set u.deletedAt = :deletedAt
+        where u.projectConfigId = :projectConfigId
+          and u.source = :source
+          and u.externalId in :externalIds
+          and u.deletedAt is null
+        """)
+    int markDeleted(@Param("projectConfigId") UUID projectConfigId,
+                    @Param("source") ActivitySource source,
+                    @Param("externalIds") Collection<String> externalIds,
+                    @Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -0,0 +1,69 @@
+package com.example.reportservice.repository;
+
+import com.example.reportservice.entity.UnifiedActivity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Native PostgreSQL ON CONFLICT upserts for the unified_activities read model.
+ */
+@Repository
+public class UnifiedActivityRepositoryImpl implements UnifiedActivityRepositoryCustom {
+
+    private static final List<String> COLUMNS = List.of(
+        "project_config_id", "source", "activity_type", "external_id",
+        "title", "description", "author_email", "author_name", "status",
+        "created_at", "updated_at", "deleted_at");
+    private static final List<String> PLACEHOLDERS = List.of(
+        "?", "?", "?", "?",
+        "?", "?", "?", "?", "?",
+        "CAST(? AS timestamp)", "CAST(? AS timestamp)", "CAST(? AS timestamp)");
+    private static final String ON_CONFLICT_CLAUSE = """
+        ON CONFLICT (project_config_id, source, external_id)
+        DO UPDATE SET
+            activity_type = EXCLUDED.activity_type,
+            title = EXCLUDED.title,
+            description = EXCLUDED.description,
+            author_email = EXCLUDED.author_email,
+            author_name = EXCLUDED.author_name,
+            status = EXCLUDED.status,
+            created_at = EXCLUDED.created_at,
+            updated_at = EXCLUDED.updated_at,
+            deleted_at = NULL
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertFromSync(List<UnifiedActivity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = activities.stream()
+            .map(activity -> new Object[] {
+                activity.getProjectConfigId(),
+                activity.getSource().name(),
+                activity.getActivityType().name(),
+                activity.getExternalId(),
+                activity.getTitle(),
+                activity.getDescription(),
+                activity.getAuthorEmail(),
+                activity.getAuthorName(),
+                activity.getStatus(),
+                activity.getCreatedAt() != null ? Timestamp.valueOf(activity.getCreatedAt()) : now,
+                activity.getUpdatedAt() != null ? Timestamp.valueOf(activity.getUpdatedAt()) : now,
+                null
+            })
+            .toList();
+        return BatchUpsertSupport.upsert(entityManager, "unified_activities", COLUMNS, PLACEHOLDERS, ON_CONFLICT_CLAUSE, rows);
+    }
+}
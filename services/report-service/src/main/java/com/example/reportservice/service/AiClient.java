@@ -11,6 +11,7 @@ import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
@@ -26,6 +27,7 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class AiClient {
 
+    @Qualifier("aiRestTemplate")
     private final RestTemplate restTemplate;
     private final AiServiceProperties properties;
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
@@ -8,11 +8,14 @@ import com.example.reportservice.entity.Report;
 import com.example.reportservice.entity.ReportType;
 import com.example.reportservice.exporter.ExcelAnalyticsExporter;
 import com.example.reportservice.grpc.SyncGrpcClient;
+import com.example.reportservice.grpc.ReadOptions;
 import com.example.reportservice.repository.GithubCommitRepository;
 import com.example.reportservice.repository.JiraIssueRepository;
 import com.example.reportservice.repository.ReportRepository;
 import com.example.reportservice.service.analyzer.CommitAnalyzer;
 import com.example.reportservice.service.analyzer.WorkDistributionAnalyzer;
+import com.example.reportservice.storage.ReportArtifactStore;
+import com.example.reportservice.storage.StoredArtifact;
 import com.example.reportservice.web.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -42,7 +43,14 @@ public class AnalyticsReportingService {
 
     private static final String REPORT_STATUS_COMPLETED = "COMPLETED";
 
+    // Fields the sync fallbacks read; identity fields (issueId/issueKey, commitSha) always come back
+    private static final List<String> SYNC_ISSUE_FIELDS = List.of(
+        "status", "assigneeEmail", "assigneeName", "reporterEmail", "reporterName", "createdAt", "updatedAt", "dueDate");
+    private static final List<String> SYNC_COMMIT_FIELDS = List.of(
+        "message", "committedDate", "authorEmail", "authorName", "additions", "deletions", "totalChanges");
+
     private final ExcelAnalyticsExporter excelExporter;
+    private final ReportArtifactStore artifactStore;
     private final ReportRepository reportRepository;
     private final JiraIssueRepository jiraIssueRepository;
     private final GithubCommitRepository githubCommitRepository;
@@ -127,16 +135,16 @@ public class AnalyticsReportingService {
             throw new BadRequestException("Unsupported analytics report type: " + type);
         }
 
-        Path reportPath = Path.of(filePath).toAbsolutePath().normalize();
-        if (!Files.exists(reportPath) || !Files.isRegularFile(reportPath)) {
-            throw new BadRequestException("Export failed: file was not created");
-        }
+        StoredArtifact artifact = artifactStore.find(filePath)
+            .orElseThrow(() -> new BadRequestException("Export failed: file was not created"));
 
         Report report = transactionTemplate.execute(status -> {
             Report entity = Report.builder()
                 .projectConfigId(request.getProjectConfigId().trim())
                 .type(type)
-                .filePath(reportPath.toString())
+                .filePath(artifact.key())
+                .contentSha256(artifact.sha256())
+                .fileSize(artifact.size())
                 .createdBy(createdBy)
                 .createdAt(java.time.LocalDateTime.now())
                 .build();
@@ -268,7 +276,8 @@ public class AnalyticsReportingService {
                                                                     LocalDate to,
                                                                     Map<String, String> memberLookup,
                                                                     String fallbackMemberId) {
-        var remoteIssues = syncGrpcClient.getIssues(projectConfigId);
+        // Range on createdAt, the same day the loop below filters on
+        var remoteIssues = syncGrpcClient.getIssues(projectConfigId, syncReadOptions(SYNC_ISSUE_FIELDS, from, to));
         if (remoteIssues == null || remoteIssues.isEmpty()) {
             return List.of();
         }
@@ -367,7 +376,8 @@ public class AnalyticsReportingService {
                                                                        LocalDate to,
                                                                        Map<String, String> memberLookup,
                                                                        String fallbackMemberId) {
-        var remoteCommits = syncGrpcClient.getGithubCommits(projectConfigId);
+        // Range on committedDate, the same day the loop below filters on
+        var remoteCommits = syncGrpcClient.getGithubCommits(projectConfigId, syncReadOptions(SYNC_COMMIT_FIELDS, from, to));
         if (remoteCommits == null || remoteCommits.isEmpty()) {
             return List.of();
         }
@@ -404,6 +414,17 @@ public class AnalyticsReportingService {
         return mapped;
     }
 
+    static ReadOptions syncReadOptions(List<String> fields, LocalDate from, LocalDate to) {
+        ReadOptions.Builder options = ReadOptions.newBuilder().addAllFields(fields);
+        if (from != null) {
+            options.setFromDate(from.toString());
+        }
+        if (to != null) {
+            options.setToDate(to.toString());
+        }
+        return options.build();
+    }
+
     private String normalizeIssueStatus(String rawStatus) {
         String normalized = rawStatus == null ? "" : rawStatus.trim().toUpperCase(Locale.ROOT);
         if (normalized.contains("DONE") || normalized.contains("CLOSED") || normalized.contains("RESOLVED") || normalized.contains("APPROVED")) {
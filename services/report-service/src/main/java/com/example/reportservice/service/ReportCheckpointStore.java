@@ -0,0 +1,125 @@
+package com.example.reportservice.service;
+
+import com.example.reportservice.dto.ai.AiStructuredResponse;
+import com.example.reportservice.entity.ReportJobCheckpoint;
+import com.example.reportservice.repository.ReportJobCheckpointRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Durable step outputs of a report job, so a retried or resumed job continues after its last expensive step.
+ *
+ * CRITICAL DESIGN:
+ * - Only what is expensive to redo is stored: evidence blocks (sync-service fetch), the AI response (ai-service)
+ *   and the exported file path; the fetch itself is stored as a digest only (counts + hash), for diagnosis
+ * - Best effort: a checkpoint that cannot be written or read only means the step runs again
+ * - A checkpoint is deleted as soon as the pipeline discards the step result (retry fixes rewind it),
+ *   and all of them once the job ends
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportCheckpointStore {
+
+    private final ReportJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Saved payloads of the job by step name; empty if none or unreadable.
+     */
+    public Map<String, String> load(UUID jobId) {
+        try {
+            return checkpointRepository.findByJobId(jobId).stream()
+                .collect(Collectors.toMap(ReportJobCheckpoint::getStep, ReportJobCheckpoint::getPayloadJson, (a, b) -> b));
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not load checkpoints of report job {}: {}", jobId, ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    public <T> T read(Map<String, String> saved, String step, Class<T> type) {
+        String json = saved.get(step);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            log.warn("⚠️ Unreadable {} checkpoint ignored: {}", step, ex.getOriginalMessage());
+            return null;
+        }
+    }
+
+    public void save(UUID jobId, String step, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            transactionTemplate.execute(status -> checkpointRepository.upsert(jobId, step, json, LocalDateTime.now()));
+        } catch (JsonProcessingException | DataAccessException ex) {
+            log.warn("⚠️ Could not checkpoint step {} of report job {}: {}", step, jobId, ex.getMessage());
+        }
+    }
+
+    public void delete(UUID jobId, Collection<String> steps) {
+        if (steps.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.execute(status -> checkpointRepository.deleteSteps(jobId, steps));
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not delete checkpoints {} of report job {}: {}", steps, jobId, ex.getMessage());
+        }
+    }
+
+    public void deleteAll(UUID jobId) {
+        try {
+            transactionTemplate.execute(status -> checkpointRepository.deleteByJob(jobId));
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not delete checkpoints of report job {}: {}", jobId, ex.getMessage());
+        }
+    }
+
+    /**
+     * SHA-256 over the parts, in order.
+     */
+    public String digest(List<String> parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record FetchDigest(int issues, int commits, int activities, String digest) {
+    }
+
+    public record EvidenceCheckpoint(List<EvidenceBlock> evidenceBlocks) {
+    }
+
+    public record AiCheckpoint(boolean aiStrict, AiStructuredResponse structured, String srsContent, int requirementsCount) {
+    }
+
+    public record ExportCheckpoint(String exportType, String filePath) {
+    }
+}
@@ -16,11 +16,15 @@ import com.example.reportservice.web.BadRequestException;
 import com.example.reportservice.web.ReportGenerationFailedException;
 import com.example.reportservice.repository.ReportRepository;
 import com.example.reportservice.repository.SyncJobRepository;
+import com.example.reportservice.storage.ArtifactKeys;
+import com.example.reportservice.storage.ReportArtifactStore;
+import com.example.reportservice.storage.StoredArtifact;
+import com.example.reportservice.support.ReportFileTransfer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -29,7 +33,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,12 +44,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 @Service
@@ -73,12 +79,30 @@ public class ReportingService {
     private final ReportRepository reportRepository;
         private final SyncJobRepository syncJobRepository;
         private final TransactionTemplate transactionTemplate;
+        private final SrsResultCache srsResultCache;
+        private final ReportCheckpointStore checkpointStore;
+        private final ReportArtifactStore artifactStore;
+        private final MeterRegistry meterRegistry;
 
     public ReportResponse generate(
             String projectConfigId,
             String subject,
             boolean useAi,
             String exportType) {
+        return generate(projectConfigId, subject, useAi, exportType, null, step -> { });
+    }
+
+    /**
+     * Same pipeline for a report job: step outputs are checkpointed under {@code jobId} (null = none) and restored
+     * when the job runs again; {@code stepListener} receives each step name before it runs (job progress).
+     */
+    public ReportResponse generate(
+            String projectConfigId,
+            String subject,
+            boolean useAi,
+            String exportType,
+            UUID jobId,
+            Consumer<String> stepListener) {
 
         List<String> logs = new ArrayList<>();
 
@@ -98,13 +122,24 @@ public class ReportingService {
                 createdBy,
                 useAi,
                 exportType,
-                logs
+                logs,
+                jobId
         );
+        restoreCheckpoints(ctx);
 
         Step current = Step.INPUT;
         while (current != Step.DONE) {
             try {
+                if (current == Step.AI_PROCESSING && reuseExistingReport(ctx)) {
+                    current = Step.PERSIST;
+                }
+                if (ctx.restored.contains(current)) {
+                    current = current.next();
+                    continue;
+                }
+                stepListener.accept(current.name());
                 runStep(current, ctx);
+                saveCheckpoint(current, ctx);
                 current = current.next();
             } catch (StepFailedException failure) {
                 if (failure.attempt >= MAX_STEP_RETRIES) {
@@ -120,6 +155,8 @@ public class ReportingService {
             }
         }
 
+        String fingerprint = reusableFingerprint(ctx);
+        StoredArtifact artifact = artifactStore.find(ctx.filePath).orElse(null);
         Report report = transactionTemplate.execute(status -> {
             LocalDateTime createdAt = LocalDateTime.now();
             Report entity = Report.builder()
@@ -128,6 +165,9 @@ public class ReportingService {
                     .filePath(ctx.filePath)
                     .createdBy(createdBy)
                     .createdAt(createdAt)
+                    .fingerprint(fingerprint)
+                    .contentSha256(artifact == null ? null : artifact.sha256())
+                    .fileSize(artifact == null ? null : artifact.size())
                     .build();
             reportRepository.save(entity);
             return entity;
@@ -136,8 +176,155 @@ public class ReportingService {
         return toGenerationResponse(report);
     }
 
+        /**
+         * Skips AI, validation and export when an identical request already produced a file (see SrsResultCache).
+         */
+        private boolean reuseExistingReport(ReportRunContext ctx) {
+                RawBuildResult raw = ctx.tryGet(RawBuildResult.class, Step.RAW_BUILD);
+                if (raw == null) {
+                        return false;
+                }
+                String fingerprint = srsResultCache.reportFingerprint(ctx.projectConfigId, ctx.useAi, ctx.exportType, raw.aiFingerprint());
+                String filePath = srsResultCache.findReportFile(fingerprint).orElse(null);
+                if (filePath == null) {
+                        return false;
+                }
+                discardFrom(ctx, Step.AI_PROCESSING);
+                ctx.results.put(Step.EXPORT, new ExportResult(ctx.exportType, filePath));
+                ctx.filePath = filePath;
+                ctx.reused = true;
+                reportLog(ctx, Step.EXPORT, "SUCCESS", "Reused report generated from identical input", Map.of(
+                        "filePath", filePath
+                ));
+                return true;
+        }
+
+        // Fingerprint only output that matches the request: not the non-AI fallback of an AI request
+        private String reusableFingerprint(ReportRunContext ctx) {
+                RawBuildResult raw = ctx.tryGet(RawBuildResult.class, Step.RAW_BUILD);
+                if (raw == null) {
+                        return null;
+                }
+                if (ctx.useAi && !ctx.reused) {
+                        ValidationResult validation = ctx.tryGet(ValidationResult.class, Step.VALIDATION);
+                        if (validation == null || validation.structured() == null) {
+                                return null;
+                        }
+                }
+                return srsResultCache.reportFingerprint(ctx.projectConfigId, ctx.useAi, ctx.exportType, raw.aiFingerprint());
+        }
+
+        /**
+         * Resumes a job after its last expensive completed step: evidence (skips FETCH and EVIDENCE_BUILD),
+         * AI response (skips AI_PROCESSING) and exported file (skips EXPORT). Cheap steps run again.
+         */
+        private void restoreCheckpoints(ReportRunContext ctx) {
+                if (ctx.jobId == null) {
+                        return;
+                }
+                Map<String, String> saved = checkpointStore.load(ctx.jobId);
+                ReportCheckpointStore.EvidenceCheckpoint evidence =
+                        checkpointStore.read(saved, Step.EVIDENCE_BUILD.name(), ReportCheckpointStore.EvidenceCheckpoint.class);
+                if (evidence == null || evidence.evidenceBlocks() == null || evidence.evidenceBlocks().isEmpty()) {
+                        return;
+                }
+                ctx.results.put(Step.EVIDENCE_BUILD, new EvidenceBuildResult(List.copyOf(evidence.evidenceBlocks())));
+                markRestored(ctx, Step.FETCH);
+                markRestored(ctx, Step.EVIDENCE_BUILD);
+                ReportCheckpointStore.FetchDigest fetch =
+                        checkpointStore.read(saved, Step.FETCH.name(), ReportCheckpointStore.FetchDigest.class);
+                reportLog(ctx, Step.EVIDENCE_BUILD, "RESTORED", "Resumed with checkpointed evidence", Map.of(
+                        "evidenceBlocks", evidence.evidenceBlocks().size(),
+                        "fetchDigest", fetch == null || fetch.digest() == null ? "" : fetch.digest()
+                ));
+
+                ReportCheckpointStore.AiCheckpoint ai =
+                        checkpointStore.read(saved, Step.AI_PROCESSING.name(), ReportCheckpointStore.AiCheckpoint.class);
+                if (ai == null || ai.srsContent() == null || ai.srsContent().isBlank()) {
+                        return;
+                }
+                ctx.results.put(Step.AI_PROCESSING, new AiProcessingResult(ai.aiStrict(), ai.structured(), ai.srsContent(), ai.requirementsCount()));
+                markRestored(ctx, Step.AI_PROCESSING);
+                reportLog(ctx, Step.AI_PROCESSING, "RESTORED", "Resumed with checkpointed SRS content", Map.of(
+                        "requirements", ai.requirementsCount()
+                ));
+
+                ReportCheckpointStore.ExportCheckpoint export =
+                        checkpointStore.read(saved, Step.EXPORT.name(), ReportCheckpointStore.ExportCheckpoint.class);
+                if (export == null || export.filePath() == null || artifactStore.find(export.filePath()).isEmpty()) {
+                        return;
+                }
+                ctx.exportType = export.exportType();
+                ctx.filePath = export.filePath();
+                ctx.results.put(Step.EXPORT, new ExportResult(export.exportType(), export.filePath()));
+                markRestored(ctx, Step.EXPORT);
+                reportLog(ctx, Step.EXPORT, "RESTORED", "Resumed with checkpointed file", Map.of(
+                        "filePath", export.filePath()
+                ));
+        }
+
+        private void markRestored(ReportRunContext ctx, Step step) {
+                ctx.restored.add(step);
+                meterRegistry.counter("report.generation.checkpoint.restored", "step", step.name()).increment();
+        }
+
+        private void saveCheckpoint(Step step, ReportRunContext ctx) {
+                if (ctx.jobId == null) {
+                        return;
+                }
+                Object payload = switch (step) {
+                        case FETCH -> fetchDigest(ctx.get(FetchResult.class, Step.FETCH));
+                        case EVIDENCE_BUILD -> new ReportCheckpointStore.EvidenceCheckpoint(
+                                ctx.get(EvidenceBuildResult.class, Step.EVIDENCE_BUILD).evidenceBlocks());
+                        case AI_PROCESSING -> {
+                                AiProcessingResult ai = ctx.get(AiProcessingResult.class, Step.AI_PROCESSING);
+                                yield new ReportCheckpointStore.AiCheckpoint(ai.aiStrict(), ai.structured(), ai.srsContent(), ai.requirementsCount());
+                        }
+                        case EXPORT -> {
+                                ExportResult export = ctx.get(ExportResult.class, Step.EXPORT);
+                                yield new ReportCheckpointStore.ExportCheckpoint(export.exportType(), export.filePath());
+                        }
+                        default -> null;
+                };
+                if (payload != null) {
+                        checkpointStore.save(ctx.jobId, step.name(), payload);
+                }
+        }
+
+        // Drops the results from this step on, in memory and checkpointed, so a resume cannot restore them
+        private void discardFrom(ReportRunContext ctx, Step step) {
+                ctx.clearFrom(step);
+                if (ctx.jobId == null) {
+                        return;
+                }
+                List<String> steps = new ArrayList<>();
+                for (Step cursor = step; cursor != Step.DONE; cursor = cursor.next()) {
+                        steps.add(cursor.name());
+                }
+                checkpointStore.delete(ctx.jobId, steps);
+        }
+
+        private ReportCheckpointStore.FetchDigest fetchDigest(FetchResult fetch) {
+                List<String> parts = new ArrayList<>();
+                fetch.issues().forEach(issue -> parts.add("I|" + issue.getIssueKey() + "|" + issue.getUpdatedAt()));
+                fetch.commits().forEach(commit -> parts.add("C|" + commit.getCommitSha()));
+                fetch.activities().forEach(activity -> parts.add("A|" + activity.getExternalId() + "|" + activity.getUpdatedAt()));
+                Collections.sort(parts);
+                return new ReportCheckpointStore.FetchDigest(
+                        fetch.issues().size(),
+                        fetch.commits().size(),
+                        fetch.activities().size(),
+                        checkpointStore.digest(parts)
+                );
+        }
+
+        private Timer stepTimer(Step step, String result) {
+                return meterRegistry.timer("report.generation.step", "step", step.name(), "result", result);
+        }
+
         private void runStep(Step step, ReportRunContext ctx) {
                 reportLog(ctx, step, "START", "Starting step", stepContext(ctx, step));
+                Timer.Sample sample = Timer.start(meterRegistry);
                 try {
                         switch (step) {
                                 case INPUT -> ctx.results.put(Step.INPUT, inputStep(ctx));
@@ -167,8 +354,10 @@ public class ReportingService {
                                 default -> {
                                 }
                         }
+                        sample.stop(stepTimer(step, "success"));
                         reportLog(ctx, step, "SUCCESS", "Completed step", stepContext(ctx, step));
                 } catch (RuntimeException ex) {
+                        sample.stop(stepTimer(step, "failure"));
                         String reason = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
                         int attempt = ctx.stepAttempts.merge(step, 1, Integer::sum);
                         reportLog(ctx, step, "FAIL", reason, stepContext(ctx, step));
@@ -185,11 +374,11 @@ public class ReportingService {
                 switch (step) {
                         case FETCH -> {
                                 // Clear cached results and refetch
-                                ctx.clearFrom(Step.FETCH);
+                                discardFrom(ctx, Step.FETCH);
                         }
                         case EVIDENCE_BUILD -> {
                                 // Filter invalid entries (will be applied inside step); just clear cached result
-                                ctx.clearFrom(Step.EVIDENCE_BUILD);
+                                discardFrom(ctx, Step.EVIDENCE_BUILD);
                         }
                         case RAW_BUILD -> {
                                 // Prune unusable evidence then rebuild JSON
@@ -199,13 +388,14 @@ public class ReportingService {
                                                 .filter(this::isEvidenceUsable)
                                                 .toList();
                                         ctx.results.put(Step.EVIDENCE_BUILD, new EvidenceBuildResult(pruned));
+                                        saveCheckpoint(Step.EVIDENCE_BUILD, ctx);
                                 }
-                                ctx.clearFrom(Step.RAW_BUILD);
+                                discardFrom(ctx, Step.RAW_BUILD);
                         }
                         case AI_PROCESSING -> {
                                 // Regenerate with strict deterministic mode
                                 ctx.aiStrict = true;
-                                ctx.clearFrom(Step.AI_PROCESSING);
+                                discardFrom(ctx, Step.AI_PROCESSING);
                         }
                         case VALIDATION -> {
                                 // Remove invalid requirements + sort/dedup; next retry forces strict AI regenerate
@@ -214,13 +404,13 @@ public class ReportingService {
                                         ai.structured().setRequirements(filterAndSortRequirements(ai.structured().getRequirements()));
                                 }
                                 ctx.aiStrict = true;
-                                ctx.clearFrom(Step.AI_PROCESSING);
+                                discardFrom(ctx, Step.AI_PROCESSING);
                                 return Step.AI_PROCESSING;
                         }
                         case EXPORT -> {
                                 // Export failures: fallback to DOCX
                                 ctx.exportType = "DOCX";
-                                ctx.clearFrom(Step.EXPORT);
+                                discardFrom(ctx, Step.EXPORT);
                         }
                         case PERSIST -> {
                                 // Persistence failures: nothing deterministic to fix; retry transaction only
@@ -304,7 +494,7 @@ public class ReportingService {
                         throw new BadRequestException("Raw evidence serialization returned empty output");
                 }
                 int bytes = rawJson.getBytes(StandardCharsets.UTF_8).length;
-                return new RawBuildResult(rawJson, bytes);
+                return new RawBuildResult(rawJson, bytes, srsResultCache.aiFingerprint(rawJson));
         }
 
         private AiProcessingResult aiProcessingStep(ReportRunContext ctx, InputResult input, EvidenceBuildResult evidence, RawBuildResult raw) {
@@ -332,7 +522,8 @@ public class ReportingService {
                 AiStructuredResponse structured;
                 String srs;
                 try {
-                        structured = aiClient.generateSrsStructured(raw.rawEvidenceJson(), ctx.aiStrict);
+                        structured = srsResultCache.aiResult(raw.aiFingerprint(), ctx.aiStrict,
+                                () -> aiClient.generateSrsStructured(raw.rawEvidenceJson(), ctx.aiStrict));
                         srs = structured == null ? null : structured.getSrsContent();
                 } catch (Exception ex) {
                         // AI is a best-effort enhancement. When it is unavailable (503/401/schema errors),
@@ -407,6 +598,10 @@ public class ReportingService {
                 reportLog(ctx, Step.VALIDATION, "SUCCESS", "Validation passed", Map.of(
                         "requirements", requirements.size()
                 ));
+                RawBuildResult raw = ctx.tryGet(RawBuildResult.class, Step.RAW_BUILD);
+                if (raw != null) {
+                        srsResultCache.storeAiResult(raw.aiFingerprint(), ai.structured());
+                }
                 return new ValidationResult(ai.aiStrict(), ai.structured(), ai.srsContent(), requirements.size());
         }
 
@@ -457,17 +652,14 @@ public class ReportingService {
                 }
 
                 IReportExporter exporter = reportFactory.get(ctx.exportType);
-                String filePath = exporter.export(validated.srsContent());
-                if (filePath == null || filePath.isBlank()) {
+                String finalPath = exporter.export(validated.srsContent());
+                if (finalPath == null || finalPath.isBlank()) {
                         throw new BadRequestException("Exporter returned empty file path");
                 }
-
-                Path reportPath = Path.of(filePath).toAbsolutePath().normalize();
-                if (!Files.exists(reportPath) || !Files.isRegularFile(reportPath)) {
+                if (artifactStore.find(finalPath).isEmpty()) {
                         throw new BadRequestException("Export failed: file was not created");
                 }
 
-                String finalPath = reportPath.toString();
                 reportLog(ctx, Step.EXPORT, "SUCCESS", "Exported report", Map.of(
                         "exportType", ctx.exportType,
                         "filePath", finalPath
@@ -480,7 +672,7 @@ public class ReportingService {
                 if (export.filePath() == null || export.filePath().isBlank()) {
                         throw new BadRequestException("Missing exported filePath before persistence");
                 }
-                if (!Files.exists(Path.of(export.filePath())) || !Files.isRegularFile(Path.of(export.filePath()))) {
+                if (artifactStore.find(export.filePath()).isEmpty()) {
                         throw new BadRequestException("Export file missing before persistence");
                 }
                 return new PersistGuardResult(export.filePath());
@@ -743,22 +935,27 @@ public class ReportingService {
                 private String exportType;
                 private boolean aiStrict;
                 private String filePath;
+                private boolean reused;
+                private final UUID jobId;
+                private final Set<Step> restored = EnumSet.noneOf(Step.class);
 
                 private final Map<Step, Integer> stepAttempts = new java.util.EnumMap<>(Step.class);
                 private final Map<Step, Object> results = new EnumMap<>(Step.class);
 
-                ReportRunContext(String projectConfigId, UUID createdBy, boolean useAi, String exportType, List<String> logs) {
+                ReportRunContext(String projectConfigId, UUID createdBy, boolean useAi, String exportType, List<String> logs, UUID jobId) {
                         this.projectConfigId = projectConfigId;
                         this.createdBy = createdBy;
                         this.useAi = useAi;
                         this.exportType = exportType;
                         this.logs = logs;
+                        this.jobId = jobId;
                 }
 
                 void clearFrom(Step step) {
                         Step cursor = step;
                         while (cursor != Step.DONE) {
                                 results.remove(cursor);
+                                restored.remove(cursor);
                                 cursor = cursor.next();
                         }
                 }
@@ -836,7 +1033,8 @@ public class ReportingService {
 
         private record RawBuildResult(
                 String rawEvidenceJson,
-                int rawEvidenceBytes
+                int rawEvidenceBytes,
+                String aiFingerprint
         ) {}
 
         private record AiProcessingResult(
@@ -909,22 +1107,45 @@ public class ReportingService {
                         .build();
         }
 
+        /**
+         * Rows written before content hashes existed (or whose file was replaced) get their hash and size once,
+         * on the first download; afterwards a download or a 304 costs no file read.
+         */
         public ReportDownload loadReportDownload(UUID reportId) {
                 Report report = findReport(reportId);
-                Path reportPath = Path.of(report.getFilePath()).toAbsolutePath().normalize();
-                if (!Files.exists(reportPath) || !Files.isRegularFile(reportPath)) {
-                        throw new EntityNotFoundException("Report file not found");
+                Path reportPath = artifactStore.localFile(report.getFilePath())
+                        .orElseThrow(() -> new EntityNotFoundException("Report file not found"));
+
+                long size = fileSize(reportPath);
+                String sha256 = report.getContentSha256();
+                if (sha256 == null || report.getFileSize() == null || report.getFileSize() != size) {
+                        String keyHash = ArtifactKeys.sha256(report.getFilePath());
+                        String computed = keyHash != null ? keyHash : ReportFileTransfer.sha256(reportPath);
+                        transactionTemplate.executeWithoutResult(status -> reportRepository.findById(reportId).ifPresent(entity -> {
+                                entity.setContentSha256(computed);
+                                entity.setFileSize(size);
+                        }));
+                        sha256 = computed;
+                }
+
+                String fileName = downloadFileName(report);
+                return new ReportDownload(reportPath, fileName, resolveMediaType(fileName), size, sha256);
+        }
+
+        // Content-addressed keys are hashes; the user gets <type>_<reportId>.<ext> instead
+        private String downloadFileName(Report report) {
+                String stored = Path.of(report.getFilePath()).getFileName().toString();
+                if (!ArtifactKeys.isContentAddressed(report.getFilePath())) {
+                        return stored;
                 }
+                return report.getType().name().toLowerCase(Locale.ROOT) + "_" + report.getReportId()
+                        + stored.substring(stored.lastIndexOf('.'));
+        }
 
+        private long fileSize(Path file) {
                 try {
-                        Resource resource = new UrlResource(reportPath.toUri());
-                        if (!resource.exists() || !resource.isReadable()) {
-                                throw new EntityNotFoundException("Report file not found");
-                        }
-
-                        String fileName = reportPath.getFileName().toString();
-                        return new ReportDownload(resource, fileName, resolveMediaType(fileName));
-                } catch (MalformedURLException ex) {
+                        return Files.size(file);
+                } catch (IOException ex) {
                         throw new EntityNotFoundException("Report file not found");
                 }
         }
@@ -959,7 +1180,7 @@ public class ReportingService {
                         .createdBy(report.getCreatedBy())
                         .createdAt(report.getCreatedAt())
                         .status(REPORT_STATUS_COMPLETED)
-                        .fileName(Path.of(report.getFilePath()).getFileName().toString())
+                        .fileName(downloadFileName(report))
                         .downloadUrl(buildDownloadUrl(report.getReportId()))
                         .build();
         }
@@ -1128,5 +1349,5 @@ public class ReportingService {
                 return MediaType.APPLICATION_OCTET_STREAM;
         }
 
-        public record ReportDownload(Resource resource, String fileName, MediaType mediaType) {}
+        public record ReportDownload(Path path, String fileName, MediaType mediaType, long size, String sha256) {}
 }
\ No newline at end of file
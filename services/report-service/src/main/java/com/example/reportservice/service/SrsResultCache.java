@@ -0,0 +1,202 @@
+package com.example.reportservice.service;
+
+import com.example.reportservice.config.SrsCacheProperties;
+import com.example.reportservice.dto.ai.AiStructuredResponse;
+import com.example.reportservice.entity.Report;
+import com.example.reportservice.repository.ReportRepository;
+import com.example.reportservice.repository.SrsAiResultRepository;
+import com.example.reportservice.storage.ReportArtifactStore;
+import com.example.reportservice.web.UpstreamServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed reuse of SRS generation results, so unchanged input never reaches ai-service twice.
+ *
+ * CRITICAL DESIGN:
+ * - Two fingerprints (SHA-256, always including the prompt version):
+ *   AI = raw evidence JSON (the exact AI input, sorted and capped by the evidence step);
+ *   report = project config + useAi + export type + AI fingerprint
+ * - Report hit: the existing file is reused for a new reports row of the caller; AI, validation and export are skipped.
+ *   Only reports whose content matches the request are fingerprinted (never an AI-requested report that fell back
+ *   to the non-AI SRS), and a hit whose file is gone is ignored
+ * - AI hit: a validated AI result stored for the fingerprint replaces the ai-service call (any export type)
+ * - Concurrent identical AI calls on one instance are coalesced: the first one calls ai-service, the others wait for
+ *   its outcome (up to coalesceTimeout, then call it themselves); a failure is shared too, so all of them fall back
+ * - Strict retries (after a validation failure) bypass the stored results but are still coalesced
+ * - Every caller gets its own copy of an AI result: the pipeline mutates it during validation
+ *
+ * Metrics: report.srs-cache{kind=report|ai,result=hit|miss|coalesced}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SrsResultCache {
+
+    private final SrsCacheProperties properties;
+    private final ReportRepository reportRepository;
+    private final SrsAiResultRepository aiResultRepository;
+    private final ReportArtifactStore artifactStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<AiStructuredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public String aiFingerprint(String rawEvidenceJson) {
+        return sha256("AI", properties.getPromptVersion(), rawEvidenceJson);
+    }
+
+    public String reportFingerprint(String projectConfigId, boolean useAi, String exportType, String aiFingerprint) {
+        return sha256("REPORT", properties.getPromptVersion(), projectConfigId, String.valueOf(useAi),
+            exportType == null ? "" : exportType.trim().toUpperCase(Locale.ROOT), aiFingerprint);
+    }
+
+    /**
+     * Artifact key of the latest report generated for this fingerprint, if the artifact still exists.
+     */
+    public Optional<String> findReportFile(String reportFingerprint) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<String> filePath;
+        try {
+            filePath = reportRepository.findTop5ByFingerprintOrderByCreatedAtDesc(reportFingerprint).stream()
+                .map(Report::getFilePath)
+                .filter(path -> path != null && artifactStore.find(path).isPresent())
+                .findFirst();
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ SRS report cache lookup failed: {}", ex.getMessage());
+            filePath = Optional.empty();
+        }
+        count("report", filePath.isPresent() ? "hit" : "miss");
+        return filePath;
+    }
+
+    /**
+     * Stored result for the fingerprint, otherwise the result of {@code aiCall}, shared with identical calls in flight.
+     */
+    public AiStructuredResponse aiResult(String aiFingerprint, boolean strict, Supplier<AiStructuredResponse> aiCall) {
+        if (!properties.isEnabled()) {
+            return aiCall.get();
+        }
+        if (!strict) {
+            Optional<AiStructuredResponse> stored = findAiResult(aiFingerprint);
+            if (stored.isPresent()) {
+                count("ai", "hit");
+                return stored.get();
+            }
+        }
+
+        String key = aiFingerprint + (strict ? ":strict" : "");
+        CompletableFuture<AiStructuredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<AiStructuredResponse> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            count("ai", "coalesced");
+            return awaitLeader(leader, aiCall);
+        }
+
+        count("ai", "miss");
+        try {
+            AiStructuredResponse result = aiCall.get();
+            mine.complete(result);
+            return copy(result);
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Keeps a validated AI result for later identical input; failures only cost a future cache miss.
+     */
+    public void storeAiResult(String aiFingerprint, AiStructuredResponse result) {
+        if (!properties.isEnabled() || aiFingerprint == null || result == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(result);
+            transactionTemplate.execute(status -> aiResultRepository.insertIfAbsent(aiFingerprint, json, LocalDateTime.now()));
+        } catch (JsonProcessingException | DataAccessException ex) {
+            log.warn("⚠️ Could not store SRS AI result {}: {}", aiFingerprint, ex.getMessage());
+        }
+    }
+
+    private Optional<AiStructuredResponse> findAiResult(String aiFingerprint) {
+        try {
+            return aiResultRepository.findById(aiFingerprint).map(stored -> {
+                transactionTemplate.execute(status -> aiResultRepository.touch(aiFingerprint, LocalDateTime.now()));
+                try {
+                    return objectMapper.readValue(stored.getResultJson(), AiStructuredResponse.class);
+                } catch (JsonProcessingException ex) {
+                    log.warn("⚠️ Unreadable SRS AI result {}; calling ai-service", aiFingerprint);
+                    return null;
+                }
+            });
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ SRS AI result lookup failed: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private AiStructuredResponse awaitLeader(CompletableFuture<AiStructuredResponse> leader,
+                                             Supplier<AiStructuredResponse> aiCall) {
+        try {
+            return copy(leader.get(properties.getCoalesceTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new UpstreamServiceException("AI generation failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            log.warn("⚠️ Identical AI generation still running after {}; calling ai-service", properties.getCoalesceTimeout());
+            return aiCall.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamServiceException("Interrupted while waiting for AI generation", ex);
+        }
+    }
+
+    private AiStructuredResponse copy(AiStructuredResponse result) {
+        return result == null ? null : objectMapper.convertValue(result, AiStructuredResponse.class);
+    }
+
+    private String sha256(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private void count(String kind, String result) {
+        meterRegistry.counter("report.srs-cache", "kind", kind, "result", result).increment();
+    }
+}
@@ -18,19 +18,21 @@ import com.example.reportservice.dto.response.RecentActivityResponse;
 import com.example.reportservice.dto.response.StudentTaskResponse;
 import com.example.reportservice.dto.response.TeamCommitSummaryResponse;
 import com.example.reportservice.dto.response.TeamMemberTaskStatsResponse;
-import com.example.reportservice.entity.GithubCommit;
 import com.example.reportservice.entity.JiraIssue;
 import com.example.reportservice.entity.UnifiedActivity;
 import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
 import com.example.reportservice.entity.UnifiedActivity.ActivityType;
-import com.example.reportservice.grpc.GithubCommitResponse;
-import com.example.reportservice.grpc.IssueResponse;
-import com.example.reportservice.grpc.SyncGrpcClient;
-import com.example.reportservice.grpc.UnifiedActivityResponse;
+import com.example.reportservice.repository.DashboardCommitStatRepository;
+import com.example.reportservice.repository.DashboardPullRequestStatRepository;
+import com.example.reportservice.repository.DashboardTaskStatRepository;
+import com.example.reportservice.repository.DashboardTaskStatRepository.StatusCount;
+import com.example.reportservice.repository.DashboardTaskStatRepository.TypeStatusCount;
 import com.example.reportservice.repository.GithubCommitRepository;
 import com.example.reportservice.repository.JiraIssueRepository;
 import com.example.reportservice.repository.UnifiedActivityRepository;
 import com.example.reportservice.service.JiraService;
+import com.example.reportservice.service.readmodel.ReadModelProjector;
+import com.example.reportservice.support.DashboardFanOut;
 import com.example.reportservice.web.UpstreamServiceException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -44,14 +46,14 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -64,36 +66,53 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
     private static final String HEALTH_ISSUE = "ISSUE";
     private static final String SERVER_ONLINE = "ONLINE";
     private static final String VERIFIED_STATE = "VERIFIED";
+    // Team-wide pull requests for leaders: newest GitHub activities of the group's project
+    private static final int TEAM_ACTIVITY_LIMIT = 5000;
 
     private final UserGroupClient userGroupClient;
     private final ProjectConfigClient projectConfigClient;
     private final JiraIssueRepository jiraIssueRepository;
     private final UnifiedActivityRepository unifiedActivityRepository;
     private final GithubCommitRepository githubCommitRepository;
+    private final DashboardTaskStatRepository taskStatRepository;
+    private final DashboardCommitStatRepository commitStatRepository;
+    private final DashboardPullRequestStatRepository pullRequestStatRepository;
     private final SyncJobClient syncJobClient;
-    private final SyncGrpcClient syncGrpcClient;
+    private final ReadModelProjector readModelProjector;
     private final JiraService jiraService;
+    private final DashboardFanOut dashboardFanOut;
 
     @Override
     public AdminOverviewResponse getAdminOverview(Long semesterId) {
-        long totalGroups = userGroupClient.countGroups(null, semesterId);
-        List<GroupSummary> groups = userGroupClient.listGroups(null, semesterId);
-        long totalUsers = userGroupClient.countUsers();
-
-        Map<Long, ProjectConfigSnapshot> configsByGroupId = resolveConfigsByGroupId(
-            groups.stream().map(GroupSummary::groupId).toList()
-        );
-        List<ProjectConfigSnapshot> configs = new ArrayList<>(configsByGroupId.values());
-
-        long activeProjects = configs.stream()
-            .filter(config -> VERIFIED_STATE.equalsIgnoreCase(config.state()))
-            .count();
-
-        // Sync jobs are owned by sync-service. Query it directly for RUNNING jobs count.
-        long pendingSyncJobs = syncJobClient.countJobsByStatus("RUNNING");
+        long totalGroups;
+        long totalUsers;
+        long activeProjects;
+        long pendingSyncJobs;
+        String jiraApiHealth;
+        String githubApiHealth;
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            var totalGroupsCall = scope.fork("countGroups", () -> userGroupClient.countGroups(null, semesterId));
+            var groupsCall = scope.fork("listGroups", () -> userGroupClient.listGroups(null, semesterId));
+            var totalUsersCall = scope.fork("countUsers", userGroupClient::countUsers);
+            // Sync jobs are owned by sync-service. Query it directly for RUNNING jobs count.
+            var pendingSyncJobsCall = scope.fork("countRunningSyncJobs", () -> syncJobClient.countJobsByStatus("RUNNING"), 0L);
+            var jiraApiHealthCall = scope.fork("jiraSyncHealth", () -> resolveSyncHealth("JIRA_ISSUES"), HEALTH_NO_DATA);
+            var githubApiHealthCall = scope.fork("githubSyncHealth", () -> resolveSyncHealth("GITHUB_COMMITS"), HEALTH_NO_DATA);
+
+            Map<Long, ProjectConfigSnapshot> configsByGroupId = resolveConfigsByGroupId(
+                scope,
+                groupsCall.join().stream().map(GroupSummary::groupId).toList()
+            );
+            activeProjects = configsByGroupId.values().stream()
+                .filter(config -> VERIFIED_STATE.equalsIgnoreCase(config.state()))
+                .count();
 
-        String jiraApiHealth = resolveSyncHealth("JIRA_ISSUES");
-        String githubApiHealth = resolveSyncHealth("GITHUB_COMMITS");
+            totalGroups = totalGroupsCall.join();
+            totalUsers = totalUsersCall.join();
+            pendingSyncJobs = pendingSyncJobsCall.join();
+            jiraApiHealth = jiraApiHealthCall.join();
+            githubApiHealth = githubApiHealthCall.join();
+        }
 
         return AdminOverviewResponse.builder()
             .semesterId(semesterId)
@@ -114,41 +133,18 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         List<GroupSummary> groups = userGroupClient.listGroups(isAdmin ? null : actorId, semesterId);
         List<UUID> configIds = resolveConfigIds(groups.stream().map(GroupSummary::groupId).toList());
 
+        // Local read model only: four indexed counts, no rows leave the database
+        readModelProjector.ensureFresh(configIds);
         long taskCount = 0;
         long completedTaskCount = 0;
         long githubCommitCount = 0;
         long githubPrCount = 0;
-
-        for (UUID configId : configIds) {
-            List<JiraIssue> mergedIssues = mergeIssues(
-                jiraIssueRepository.findByProjectConfigId(configId),
-                toJiraIssues(syncGrpcClient.getIssues(configId), configId)
-            );
-            taskCount += mergedIssues.size();
-            completedTaskCount += mergedIssues.stream()
-                .filter(issue -> "DONE".equals(normalizeTaskStatus(issue.getStatus())))
-                .count();
-
-            List<GithubCommit> mergedCommits = mergeGithubCommits(
-                githubCommitRepository.findByProjectConfigIdsWithinRange(List.of(configId), null, null),
-                toGithubCommits(syncGrpcClient.getGithubCommits(configId), configId)
-            );
-            githubCommitCount += mergedCommits.size();
-
-            List<UnifiedActivity> localGithubActivities = unifiedActivityRepository
-                .findRecentActivities(configId, ActivitySource.GITHUB, PageRequest.of(0, 5000))
-                .getContent();
-            List<UnifiedActivity> remoteGithubActivities = toUnifiedActivities(
-                syncGrpcClient.getUnifiedActivities(configId),
-                configId
-            ).stream()
-                .filter(item -> item.getSource() == ActivitySource.GITHUB)
-                .toList();
-
-            List<UnifiedActivity> mergedGithubActivities = mergeActivities(localGithubActivities, remoteGithubActivities);
-            githubPrCount += mergedGithubActivities.stream()
-                .filter(activity -> activity.getActivityType() == ActivityType.PULL_REQUEST)
-                .count();
+        if (!configIds.isEmpty()) {
+            taskCount = jiraIssueRepository.countByProjectConfigIdIn(configIds);
+            completedTaskCount = jiraIssueRepository.countCompletedIssues(configIds, COMPLETED_STATUSES);
+            githubCommitCount = githubCommitRepository.countByProjectConfigIdInAndDeletedAtIsNull(configIds);
+            githubPrCount = unifiedActivityRepository.countByProjectConfigIdInAndSourceAndActivityTypeAndDeletedAtIsNull(
+                configIds, ActivitySource.GITHUB, ActivityType.PULL_REQUEST);
         }
 
         return LecturerOverviewResponse.builder()
@@ -160,57 +156,28 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             .completedTaskCount(completedTaskCount)
             .githubCommitCount(githubCommitCount)
             .githubPrCount(githubPrCount)
-            // Last sync timestamp is owned by sync-service; keep null if not available.
-            .lastSyncAt(null)
+            // Oldest read model catch-up among the groups; null if not synced yet.
+            .lastSyncAt(readModelProjector.oldestCaughtUpAt(configIds))
             .build();
     }
 
     @Override
     public GroupProgressResponse getGroupProgress(Long actorId, List<String> roles, Long groupId, LocalDate from, LocalDate to) {
-        GroupDetail group = userGroupClient.getGroup(groupId);
-        authorizeLecturerScope(actorId, roles, group);
-
-        Optional<ProjectConfigSnapshot> configOpt = projectConfigClient.getConfigByGroupId(groupId);
-        if (configOpt.isEmpty()) {
-            return emptyProgress(group.groupId(), group.groupName());
-        }
-
-        UUID configId = configOpt.get().configId();
-        List<JiraIssue> localIssues = jiraIssueRepository.findByProjectConfigId(configId);
-        List<JiraIssue> remoteIssues = toJiraIssues(syncGrpcClient.getIssues(configId), configId);
-        List<JiraIssue> issues = filterByDate(mergeIssues(localIssues, remoteIssues), from, to);
-        if (issues.isEmpty()) {
-            return emptyProgress(group.groupId(), group.groupName());
-        }
-
-        Map<String, Long> taskByType = new LinkedHashMap<>();
-        Map<String, Long> taskByStatus = new LinkedHashMap<>();
-        long todo = 0;
-        long inProgress = 0;
-        long done = 0;
-
-        for (JiraIssue issue : issues) {
-            taskByType.merge(defaultLabel(issue.getIssueType()), 1L, Long::sum);
-            taskByStatus.merge(defaultLabel(issue.getStatus()), 1L, Long::sum);
-
-            switch (normalizeTaskStatus(issue.getStatus())) {
-                case "DONE" -> done++;
-                case "IN_PROGRESS" -> inProgress++;
-                default -> todo++;
+        GroupDetail group;
+        List<TypeStatusCount> counts;
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            var groupCall = scope.fork("getGroup", () -> userGroupClient.getGroup(groupId));
+            var configCall = scope.fork("getConfigByGroupId", () -> projectConfigClient.getConfigByGroupId(groupId));
+            group = groupCall.join();
+            authorizeLecturerScope(actorId, roles, group);
+
+            Optional<ProjectConfigSnapshot> configOpt = configCall.join();
+            if (configOpt.isEmpty()) {
+                return emptyProgress(group.groupId(), group.groupName());
             }
+            counts = loadTaskCounts(configOpt.get().configId(), from, to);
         }
-
-        double completionRate = issues.isEmpty() ? 0.0 : ((double) done * 100.0) / issues.size();
-        return GroupProgressResponse.builder()
-            .groupId(group.groupId())
-            .groupName(group.groupName())
-            .completionRate(Math.round(completionRate * 100.0) / 100.0)
-            .todoCount(todo)
-            .inProgressCount(inProgress)
-            .doneCount(done)
-            .taskByType(taskByType)
-            .taskByStatus(taskByStatus)
-            .build();
+        return buildProgress(group, counts);
     }
 
     @Override
@@ -231,30 +198,10 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
 
         ActivitySource sourceFilter = parseSource(source);
         UUID configId = configOpt.get().configId();
+        readModelProjector.ensureFresh(List.of(configId));
 
         var activityPage = unifiedActivityRepository.findRecentActivities(configId, sourceFilter, PageRequest.of(page, size));
-        if (activityPage.getTotalElements() > 0) {
-            List<RecentActivityResponse> content = activityPage.getContent().stream()
-                .map(activity -> mapRecentActivity(activity, configOpt.get()))
-                .toList();
-
-            return PageResponse.<RecentActivityResponse>builder()
-                .content(content)
-                .page(page)
-                .size(size)
-                .totalElements(activityPage.getTotalElements())
-                .totalPages(activityPage.getTotalPages())
-                .build();
-        }
-
-        List<UnifiedActivity> remoteActivities = toUnifiedActivities(syncGrpcClient.getUnifiedActivities(configId), configId).stream()
-            .filter(activity -> sourceFilter == null || activity.getSource() == sourceFilter)
-            .sorted(Comparator.comparing(UnifiedActivity::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
-            .toList();
-
-        int fromIndex = Math.min(page * size, remoteActivities.size());
-        int toIndex = Math.min(fromIndex + size, remoteActivities.size());
-        List<RecentActivityResponse> content = remoteActivities.subList(fromIndex, toIndex).stream()
+        List<RecentActivityResponse> content = activityPage.getContent().stream()
             .map(activity -> mapRecentActivity(activity, configOpt.get()))
             .toList();
 
@@ -262,8 +209,8 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             .content(content)
             .page(page)
             .size(size)
-            .totalElements(remoteActivities.size())
-            .totalPages(remoteActivities.isEmpty() ? 0 : (int) Math.ceil((double) remoteActivities.size() / size))
+            .totalElements(activityPage.getTotalElements())
+            .totalPages(activityPage.getTotalPages())
             .build();
     }
 
@@ -289,21 +236,13 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         if (configIds.isEmpty()) {
             return emptyPage(page, size);
         }
+        readModelProjector.ensureFresh(configIds);
 
         List<JiraIssue> filtered = jiraIssueRepository.findByProjectConfigIdInAndAssigneeEmailIgnoreCase(configIds, profile.email()).stream()
             .filter(issue -> status == null || normalizeTaskStatus(issue.getStatus()).equals(status))
             .sorted(Comparator.comparing(JiraIssue::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
             .toList();
 
-        if (filtered.isEmpty()) {
-            filtered = configIds.stream()
-                .flatMap(configId -> toJiraIssues(syncGrpcClient.getIssues(configId), configId).stream())
-                .filter(issue -> equalsIgnoreCase(issue.getAssigneeEmail(), profile.email()))
-                .filter(issue -> status == null || normalizeTaskStatus(issue.getStatus()).equals(status))
-                .sorted(Comparator.comparing(JiraIssue::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                .toList();
-        }
-
         if (filtered.isEmpty()) {
             List<UUID> leaderConfigIds = memberships.stream()
                 .filter(item -> "LEADER".equalsIgnoreCase(item.role()))
@@ -318,14 +257,6 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
                     .filter(issue -> status == null || normalizeTaskStatus(issue.getStatus()).equals(status))
                     .sorted(Comparator.comparing(JiraIssue::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
                     .toList();
-
-                if (filtered.isEmpty()) {
-                    filtered = leaderConfigIds.stream()
-                        .flatMap(configId -> toJiraIssues(syncGrpcClient.getIssues(configId), configId).stream())
-                        .filter(issue -> status == null || normalizeTaskStatus(issue.getStatus()).equals(status))
-                        .sorted(Comparator.comparing(JiraIssue::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                        .toList();
-                }
             }
         }
 
@@ -354,96 +285,30 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             return GithubStatsResponse.builder().reviewCount(0).build();
         }
 
-        List<UUID> configIds = List.of(configOpt.get().configId());
-        LocalDateTime fromDate = toFromDateTime(from);
-        LocalDateTime toDate = toToDateTime(to);
-
-        long commitCount = githubCommitRepository.countByAuthorAndProjectConfigWithinRange(
-            configIds,
-            profile.email(),
-            fromDate,
-            toDate
-        );
-
-        List<UnifiedActivity> pullRequests = unifiedActivityRepository
-            .findByProjectConfigIdInAndActivityTypeAndAuthorEmailIgnoreCaseAndDeletedAtIsNull(configIds, ActivityType.PULL_REQUEST, profile.email()).stream()
-            .filter(activity -> activity.getActivityType() == ActivityType.PULL_REQUEST)
-            .filter(activity -> withinRange(activity.getCreatedAt(), from, to))
-            .toList();
+        UUID configId = configOpt.get().configId();
+        readModelProjector.ensureFresh(List.of(configId));
 
-        LocalDateTime lastCommitAt = githubCommitRepository.findLastCommitAtWithinRange(
-            configIds,
-            profile.email(),
-            fromDate,
-            toDate
-        );
-        long activeDays = githubCommitRepository.countActiveCommitDaysWithinRange(
-            configIds,
-            profile.email(),
-            fromDate,
-            toDate
-        );
+        // Summary tables: one aggregate over a few rows per active day, whatever the history size
+        var commits = commitStatRepository.sumForAuthorWithinRange(configId, profile.email(), from, to);
+        var pullRequests = pullRequestStatRepository.sumForAuthorWithinRange(configId, profile.email(), from, to);
+        long commitCount = commits.getCommitCount();
+        long prCount = pullRequests.getPrCount();
+        long mergedPrCount = pullRequests.getMergedPrCount();
 
         boolean leaderInGroup = isLeaderInGroup(studentId, groupId);
 
-        if (commitCount == 0 && pullRequests.isEmpty()) {
-            List<GithubCommitResponse> remoteCommits = syncGrpcClient.getGithubCommits(configOpt.get().configId());
-            List<UnifiedActivityResponse> remoteActivities = syncGrpcClient.getUnifiedActivities(configOpt.get().configId());
-
-            List<GithubCommitResponse> filteredCommits = remoteCommits.stream()
-                .filter(commit -> equalsIgnoreCase(commit.getAuthorEmail(), profile.email()))
-                .filter(commit -> withinRange(parseDateTime(commit.getCommittedDate()), from, to))
-                .toList();
-
-            List<UnifiedActivityResponse> filteredPullRequests = remoteActivities.stream()
-                .filter(activity -> "PULL_REQUEST".equalsIgnoreCase(activity.getActivityType()))
-                .filter(activity -> profile.email().equalsIgnoreCase(defaultLabel(activity.getAuthorEmail())))
-                .filter(activity -> withinRange(parseDateTime(activity.getCreatedAt()), from, to))
-                .toList();
-
-            commitCount = filteredCommits.size();
-            pullRequests = filteredPullRequests.stream().map(this::toUnifiedActivity).toList();
-            lastCommitAt = filteredCommits.stream()
-                .map(commit -> parseDateTime(commit.getCommittedDate()))
-                .filter(value -> value != null)
-                .max(LocalDateTime::compareTo)
-                .orElse(null);
-            activeDays = filteredCommits.stream()
-                .map(commit -> parseDateTime(commit.getCommittedDate()))
-                .filter(value -> value != null)
-                .map(LocalDateTime::toLocalDate)
-                .collect(Collectors.toSet())
-                .size();
-        }
-
-        if (leaderInGroup && commitCount == 0 && pullRequests.isEmpty()) {
-            commitCount = githubCommitRepository.countByProjectConfigIdInAndDeletedAtIsNull(configIds);
-            pullRequests = unifiedActivityRepository
-                .findByProjectConfigIdInAndActivityTypeAndAuthorEmailIgnoreCaseAndDeletedAtIsNull(configIds, ActivityType.PULL_REQUEST, profile.email()).stream()
-                .filter(activity -> withinRange(activity.getCreatedAt(), from, to))
-                .toList();
-
-            if (commitCount == 0 && pullRequests.isEmpty()) {
-                List<GithubCommitResponse> remoteCommits = syncGrpcClient.getGithubCommits(configOpt.get().configId());
-                List<UnifiedActivityResponse> remoteActivities = syncGrpcClient.getUnifiedActivities(configOpt.get().configId());
-                commitCount = remoteCommits.stream()
-                    .filter(commit -> withinRange(parseDateTime(commit.getCommittedDate()), from, to))
-                    .count();
-                pullRequests = remoteActivities.stream()
-                    .filter(activity -> "PULL_REQUEST".equalsIgnoreCase(activity.getActivityType()))
-                    .filter(activity -> withinRange(parseDateTime(activity.getCreatedAt()), from, to))
-                    .map(this::toUnifiedActivity)
-                    .toList();
-            }
+        if (leaderInGroup && commitCount == 0 && prCount == 0) {
+            // Leader without own commits: show the team's commit count; PRs stay the leader's own
+            commitCount = commitStatRepository.sumCommitCount(configId);
         }
 
         return GithubStatsResponse.builder()
             .commitCount(commitCount)
-            .prCount(pullRequests.size())
-            .mergedPrCount(pullRequests.stream().filter(activity -> "merged".equalsIgnoreCase(activity.getStatus())).count())
+            .prCount(prCount)
+            .mergedPrCount(mergedPrCount)
             .reviewCount(0)
-            .activeDays(activeDays)
-            .lastCommitAt(lastCommitAt)
+            .activeDays(commits.getActiveDays())
+            .lastCommitAt(commits.getLastCommitAt())
             .build();
     }
 
@@ -462,21 +327,12 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         }
 
         List<UUID> configIds = List.of(configOpt.get().configId());
+        readModelProjector.ensureFresh(configIds);
         List<JiraIssue> tasks = filterByDate(
             jiraIssueRepository.findByProjectConfigIdInAndAssigneeEmailIgnoreCase(configIds, profile.email()),
             from,
             to
         );
-
-        if (tasks.isEmpty()) {
-            tasks = filterByDate(
-                toJiraIssues(syncGrpcClient.getIssues(configOpt.get().configId()), configOpt.get().configId()).stream()
-                    .filter(issue -> equalsIgnoreCase(issue.getAssigneeEmail(), profile.email()))
-                    .toList(),
-                from,
-                to
-            );
-        }
         long completedTaskCount = tasks.stream().filter(issue -> "DONE".equals(normalizeTaskStatus(issue.getStatus()))).count();
 
         long githubCommitCount = githubCommitRepository.countByAuthorAndProjectConfigWithinRange(
@@ -498,45 +354,10 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
 
         boolean leaderInGroup = isLeaderInGroup(studentId, groupId);
 
-        if (githubCommitCount == 0 && pullRequests.isEmpty() && highlights.isEmpty()) {
-            List<GithubCommitResponse> remoteCommits = syncGrpcClient.getGithubCommits(configOpt.get().configId());
-            List<UnifiedActivityResponse> remoteActivities = syncGrpcClient.getUnifiedActivities(configOpt.get().configId());
-
-            githubCommitCount = remoteCommits.stream()
-                .filter(commit -> equalsIgnoreCase(commit.getAuthorEmail(), profile.email()))
-                .filter(commit -> withinRange(parseDateTime(commit.getCommittedDate()), from, to))
-                .count();
-
-            pullRequests = remoteActivities.stream()
-                .filter(activity -> "PULL_REQUEST".equalsIgnoreCase(activity.getActivityType()))
-                .filter(activity -> profile.email().equalsIgnoreCase(defaultLabel(activity.getAuthorEmail())))
-                .filter(activity -> withinRange(parseDateTime(activity.getCreatedAt()), from, to))
-                .map(this::toUnifiedActivity)
-                .toList();
-
-            highlights = remoteActivities.stream()
-                .filter(activity -> profile.email().equalsIgnoreCase(defaultLabel(activity.getAuthorEmail())))
-                .filter(activity -> withinRange(parseDateTime(activity.getUpdatedAt()), from, to))
-                .map(UnifiedActivityResponse::getTitle)
-                .filter(title -> title != null && !title.isBlank())
-                .limit(3)
-                .toList();
-        }
-
         if (leaderInGroup && githubCommitCount == 0 && pullRequests.isEmpty()) {
+            // Leader without own activity: show the team's numbers
             githubCommitCount = githubCommitRepository.countByProjectConfigIdInAndDeletedAtIsNull(configIds);
-            if (githubCommitCount == 0) {
-                githubCommitCount = syncGrpcClient.getGithubCommits(configOpt.get().configId()).stream()
-                    .filter(commit -> withinRange(parseDateTime(commit.getCommittedDate()), from, to))
-                    .count();
-            }
-            if (pullRequests.isEmpty()) {
-                pullRequests = syncGrpcClient.getUnifiedActivities(configOpt.get().configId()).stream()
-                    .filter(activity -> "PULL_REQUEST".equalsIgnoreCase(activity.getActivityType()))
-                    .filter(activity -> withinRange(parseDateTime(activity.getCreatedAt()), from, to))
-                    .map(this::toUnifiedActivity)
-                    .toList();
-            }
+            pullRequests = findTeamPullRequests(configOpt.get().configId(), from, to);
         }
 
         long contributionScore = completedTaskCount * 5 + githubCommitCount * 2 + pullRequests.size() * 4;
@@ -559,17 +380,21 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             throw new AccessDeniedException("Leader can only access own group tasks");
         }
 
-        GroupDetail group = userGroupClient.getGroup(groupId);
-        Optional<ProjectConfigSnapshot> configOpt = projectConfigClient.getConfigByGroupId(groupId);
-        if (configOpt.isEmpty()) {
-            return emptyPage(page, size);
+        GroupDetail group;
+        Optional<ProjectConfigSnapshot> configOpt;
+        List<JiraIssue> issues;
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            var groupCall = scope.fork("getGroup", () -> userGroupClient.getGroup(groupId));
+            var configCall = scope.fork("getConfigByGroupId", () -> projectConfigClient.getConfigByGroupId(groupId));
+            group = groupCall.join();
+            configOpt = configCall.join();
+            if (configOpt.isEmpty()) {
+                return emptyPage(page, size);
+            }
+            issues = loadIssues(configOpt.get().configId());
         }
 
         String normalizedStatus = (status == null || status.isBlank()) ? null : status.trim().toUpperCase();
-        UUID configId = configOpt.get().configId();
-        List<JiraIssue> localIssues = jiraIssueRepository.findByProjectConfigId(configId);
-        List<JiraIssue> remoteIssues = toJiraIssues(syncGrpcClient.getIssues(configId), configId);
-        List<JiraIssue> issues = mergeIssues(localIssues, remoteIssues);
 
         List<JiraIssue> filtered = issues.stream()
             .filter(issue -> normalizedStatus == null || normalizeTaskStatus(issue.getStatus()).equalsIgnoreCase(normalizedStatus))
@@ -647,10 +472,11 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             assigneeName = "User #" + assigneeUserId;
         }
 
+        OffsetDateTime previousUpdatedAt = issue.getUpdatedAt();
         issue.setAssigneeEmail(assignee.email());
         issue.setAssigneeName(assigneeName);
         issue.setUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC));
-        JiraIssue saved = jiraIssueRepository.save(issue);
+        JiraIssue saved = saveIssue(issue, previousUpdatedAt);
 
         return StudentTaskResponse.builder()
             .taskId(saved.getIssueId())
@@ -679,9 +505,10 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
 
         JiraIssue issue = findTaskByGroupConfig(config.configId(), taskId);
         String updatedJiraStatus = jiraService.transitionIssueToStatus(requireIssueKey(issue), status);
+        OffsetDateTime previousUpdatedAt = issue.getUpdatedAt();
         issue.setStatus(updatedJiraStatus);
         issue.setUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC));
-        JiraIssue saved = jiraIssueRepository.save(issue);
+        JiraIssue saved = saveIssue(issue, previousUpdatedAt);
 
         return StudentTaskResponse.builder()
             .taskId(saved.getIssueId())
@@ -700,24 +527,31 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
 
     @Override
     public PageResponse<StudentTaskResponse> getMemberTasks(Long actorId, Long groupId, String status, int page, int size) {
-        assertStudentInGroup(actorId, groupId);
-        UserProfile profile = userGroupClient.getUserProfile(actorId);
-        GroupDetail group = userGroupClient.getGroup(groupId);
-
-        Optional<ProjectConfigSnapshot> configOpt = projectConfigClient.getConfigByGroupId(groupId);
-        if (configOpt.isEmpty()) {
-            return emptyPage(page, size);
+        UserProfile profile;
+        GroupDetail group;
+        Optional<ProjectConfigSnapshot> configOpt;
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            var membershipCheck = scope.fork("assertStudentInGroup", () -> {
+                assertStudentInGroup(actorId, groupId);
+                return Boolean.TRUE;
+            });
+            var profileCall = scope.fork("getUserProfile", () -> userGroupClient.getUserProfile(actorId));
+            var groupCall = scope.fork("getGroup", () -> userGroupClient.getGroup(groupId));
+            var configCall = scope.fork("getConfigByGroupId", () -> projectConfigClient.getConfigByGroupId(groupId));
+            membershipCheck.join();
+            profile = profileCall.join();
+            group = groupCall.join();
+            configOpt = configCall.join();
+            if (configOpt.isEmpty()) {
+                return emptyPage(page, size);
+            }
         }
+        List<UUID> configIds = List.of(configOpt.get().configId());
+        readModelProjector.ensureFresh(configIds);
+        List<JiraIssue> tasks = jiraIssueRepository.findByProjectConfigIdInAndAssigneeEmailIgnoreCase(configIds, profile.email());
 
-        UUID configId = configOpt.get().configId();
         String normalizedStatus = (status == null || status.isBlank()) ? null : status.trim().toUpperCase();
 
-        List<JiraIssue> localTasks = jiraIssueRepository.findByProjectConfigIdInAndAssigneeEmailIgnoreCase(List.of(configId), profile.email());
-        List<JiraIssue> remoteTasks = toJiraIssues(syncGrpcClient.getIssues(configId), configId).stream()
-            .filter(item -> equalsIgnoreCase(item.getAssigneeEmail(), profile.email()))
-            .toList();
-        List<JiraIssue> tasks = mergeIssues(localTasks, remoteTasks);
-
         List<JiraIssue> filtered = tasks.stream()
             .filter(issue -> normalizedStatus == null || normalizeTaskStatus(issue.getStatus()).equalsIgnoreCase(normalizedStatus))
             .sorted(Comparator.comparing(JiraIssue::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
@@ -769,9 +603,10 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         }
 
         String updatedJiraStatus = jiraService.transitionIssueToStatus(requireIssueKey(issue), status);
+        OffsetDateTime previousUpdatedAt = issue.getUpdatedAt();
         issue.setStatus(updatedJiraStatus);
         issue.setUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC));
-        JiraIssue saved = jiraIssueRepository.save(issue);
+        JiraIssue saved = saveIssue(issue, previousUpdatedAt);
 
         return StudentTaskResponse.builder()
             .taskId(saved.getIssueId())
@@ -794,48 +629,20 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             throw new AccessDeniedException("Leader can only access own group progress");
         }
 
-        GroupDetail group = userGroupClient.getGroup(groupId);
-        Optional<ProjectConfigSnapshot> configOpt = projectConfigClient.getConfigByGroupId(groupId);
-        if (configOpt.isEmpty()) {
-            return emptyProgress(group.groupId(), group.groupName());
-        }
-
-        UUID configId = configOpt.get().configId();
-        List<JiraIssue> localIssues = jiraIssueRepository.findByProjectConfigId(configId);
-        List<JiraIssue> remoteIssues = toJiraIssues(syncGrpcClient.getIssues(configId), configId);
-        List<JiraIssue> issues = filterByDate(mergeIssues(localIssues, remoteIssues), from, to);
-        if (issues.isEmpty()) {
-            return emptyProgress(group.groupId(), group.groupName());
-        }
+        GroupDetail group;
+        List<TypeStatusCount> counts;
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            var groupCall = scope.fork("getGroup", () -> userGroupClient.getGroup(groupId));
+            var configCall = scope.fork("getConfigByGroupId", () -> projectConfigClient.getConfigByGroupId(groupId));
+            group = groupCall.join();
 
-        Map<String, Long> taskByType = new LinkedHashMap<>();
-        Map<String, Long> taskByStatus = new LinkedHashMap<>();
-        long todo = 0;
-        long inProgress = 0;
-        long done = 0;
-
-        for (JiraIssue issue : issues) {
-            taskByType.merge(defaultLabel(issue.getIssueType()), 1L, Long::sum);
-            taskByStatus.merge(defaultLabel(issue.getStatus()), 1L, Long::sum);
-
-            switch (normalizeTaskStatus(issue.getStatus())) {
-                case "DONE" -> done++;
-                case "IN_PROGRESS" -> inProgress++;
-                default -> todo++;
+            Optional<ProjectConfigSnapshot> configOpt = configCall.join();
+            if (configOpt.isEmpty()) {
+                return emptyProgress(group.groupId(), group.groupName());
             }
+            counts = loadTaskCounts(configOpt.get().configId(), from, to);
         }
-
-        double completionRate = issues.isEmpty() ? 0.0 : ((double) done * 100.0) / issues.size();
-        return GroupProgressResponse.builder()
-            .groupId(group.groupId())
-            .groupName(group.groupName())
-            .completionRate(Math.round(completionRate * 100.0) / 100.0)
-            .todoCount(todo)
-            .inProgressCount(inProgress)
-            .doneCount(done)
-            .taskByType(taskByType)
-            .taskByStatus(taskByStatus)
-            .build();
+        return buildProgress(group, counts);
     }
 
     @Override
@@ -847,71 +654,20 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         ProjectConfigSnapshot config = projectConfigClient.getConfigByGroupId(groupId)
             .orElseThrow(() -> new EntityNotFoundException("Project configuration not found for group"));
 
-        LocalDateTime fromDate = toFromDateTime(from);
-        LocalDateTime toDate = toToDateTime(to);
-        List<GithubCommit> commits = githubCommitRepository.findByProjectConfigIdsWithinRange(List.of(config.configId()), fromDate, toDate);
-
-        List<UnifiedActivityResponse> activities = syncGrpcClient.getUnifiedActivities(config.configId());
-        long totalPullRequests = activities.stream()
-            .filter(activity -> "PULL_REQUEST".equalsIgnoreCase(activity.getActivityType()))
-            .filter(activity -> withinRange(parseDateTime(activity.getCreatedAt()), from, to))
-            .count();
-
-        if (commits.isEmpty()) {
-            var remoteCommits = syncGrpcClient.getGithubCommits(config.configId()).stream()
-                .filter(commit -> withinRange(parseDateTime(commit.getCommittedDate()), from, to))
-                .toList();
-
-            Map<String, TeamCommitSummaryResponse.MemberCommitSummary> members = new HashMap<>();
-            for (var commit : remoteCommits) {
-                String email = defaultLabel(commit.getAuthorEmail());
-                TeamCommitSummaryResponse.MemberCommitSummary current = members.getOrDefault(
-                    email,
-                    TeamCommitSummaryResponse.MemberCommitSummary.builder()
-                        .authorEmail(commit.getAuthorEmail())
-                        .authorName(commit.getAuthorName())
-                        .authorLogin(null)
-                        .commitCount(0)
-                        .additions(0)
-                        .deletions(0)
-                        .totalChanges(0)
-                        .build()
-                );
-                current.setCommitCount(current.getCommitCount() + 1);
-                members.put(email, current);
-            }
-
-            return TeamCommitSummaryResponse.builder()
-                .groupId(groupId)
-                .from(from)
-                .to(to)
-                .totalCommits(remoteCommits.size())
-                .totalPullRequests(totalPullRequests)
-                .activeContributors(members.size())
-                .members(members.values().stream().sorted(Comparator.comparing(TeamCommitSummaryResponse.MemberCommitSummary::getCommitCount).reversed()).toList())
-                .build();
-        }
-
-        Map<String, List<GithubCommit>> byAuthor = commits.stream()
-            .collect(Collectors.groupingBy(commit -> defaultLabel(commit.getAuthorEmail())));
-
-        List<TeamCommitSummaryResponse.MemberCommitSummary> members = byAuthor.entrySet().stream()
-            .map(entry -> {
-                List<GithubCommit> authorCommits = entry.getValue();
-                GithubCommit first = authorCommits.get(0);
-                int additions = authorCommits.stream().map(item -> item.getAdditions() == null ? 0 : item.getAdditions()).reduce(0, Integer::sum);
-                int deletions = authorCommits.stream().map(item -> item.getDeletions() == null ? 0 : item.getDeletions()).reduce(0, Integer::sum);
-                int totalChanges = authorCommits.stream().map(item -> item.getTotalChanges() == null ? 0 : item.getTotalChanges()).reduce(0, Integer::sum);
-                return TeamCommitSummaryResponse.MemberCommitSummary.builder()
-                    .authorEmail(first.getAuthorEmail())
-                    .authorName(first.getAuthorName())
-                    .authorLogin(first.getAuthorLogin())
-                    .commitCount(authorCommits.size())
-                    .additions(additions)
-                    .deletions(deletions)
-                    .totalChanges(totalChanges)
-                    .build();
-            })
+        UUID configId = config.configId();
+        readModelProjector.ensureFresh(List.of(configId));
+        long totalPullRequests = pullRequestStatRepository.sumWithinRange(configId, null, from, to).getPrCount();
+
+        List<TeamCommitSummaryResponse.MemberCommitSummary> members = commitStatRepository.sumByAuthorWithinRange(configId, from, to).stream()
+            .map(author -> TeamCommitSummaryResponse.MemberCommitSummary.builder()
+                .authorEmail(author.getAuthorEmail().isEmpty() ? null : author.getAuthorEmail())
+                .authorName(author.getAuthorName())
+                .authorLogin(author.getAuthorLogin())
+                .commitCount(author.getCommitCount())
+                .additions(author.getAdditions())
+                .deletions(author.getDeletions())
+                .totalChanges(author.getTotalChanges())
+                .build())
             .sorted(Comparator.comparing(TeamCommitSummaryResponse.MemberCommitSummary::getCommitCount).reversed())
             .toList();
 
@@ -919,7 +675,7 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
             .groupId(groupId)
             .from(from)
             .to(to)
-            .totalCommits(commits.size())
+            .totalCommits(members.stream().mapToLong(TeamCommitSummaryResponse.MemberCommitSummary::getCommitCount).sum())
             .totalPullRequests(totalPullRequests)
             .activeContributors(members.size())
             .members(members)
@@ -945,21 +701,28 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         }
 
         UUID configId = configOpt.get().configId();
-        List<JiraIssue> localTasks = jiraIssueRepository.findByProjectConfigIdInAndAssigneeEmailIgnoreCase(List.of(configId), profile.email());
-        List<JiraIssue> remoteTasks = toJiraIssues(syncGrpcClient.getIssues(configId), configId).stream()
-            .filter(item -> equalsIgnoreCase(item.getAssigneeEmail(), profile.email()))
-            .toList();
-        List<JiraIssue> tasks = mergeIssues(localTasks, remoteTasks);
+        readModelProjector.ensureFresh(List.of(configId));
+        List<StatusCount> counts = profile.email() == null || profile.email().isBlank()
+            ? List.of()
+            : taskStatRepository.sumByStatusForAssignee(configId, profile.email());
 
-        long completed = tasks.stream().filter(item -> "DONE".equals(normalizeTaskStatus(item.getStatus()))).count();
-        long inProgress = tasks.stream().filter(item -> "IN_PROGRESS".equals(normalizeTaskStatus(item.getStatus()))).count();
-        long todo = tasks.stream().filter(item -> "TODO".equals(normalizeTaskStatus(item.getStatus()))).count();
-        double completionRate = tasks.isEmpty() ? 0.0 : Math.round(((double) completed * 10000.0) / tasks.size()) / 100.0;
+        long completed = 0;
+        long inProgress = 0;
+        long todo = 0;
+        for (StatusCount count : counts) {
+            switch (normalizeTaskStatus(count.getStatus())) {
+                case "DONE" -> completed += count.getTaskCount();
+                case "IN_PROGRESS" -> inProgress += count.getTaskCount();
+                default -> todo += count.getTaskCount();
+            }
+        }
+        long totalAssigned = completed + inProgress + todo;
+        double completionRate = totalAssigned == 0 ? 0.0 : Math.round(((double) completed * 10000.0) / totalAssigned) / 100.0;
 
         return TeamMemberTaskStatsResponse.builder()
             .groupId(groupId)
             .memberId(actorId)
-            .totalAssigned(tasks.size())
+            .totalAssigned(totalAssigned)
             .completed(completed)
             .inProgress(inProgress)
             .todo(todo)
@@ -968,83 +731,11 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
     }
 
     private JiraIssue findTaskByGroupConfig(UUID configId, String taskId) {
-        Optional<JiraIssue> local = jiraIssueRepository.findTaskByProjectConfigAndTaskId(configId, taskId);
-        if (local.isPresent()) {
-            return local.get();
-        }
-
-        return toJiraIssues(syncGrpcClient.getIssues(configId), configId).stream()
-            .filter(item -> taskId.equalsIgnoreCase(defaultLabel(item.getIssueId()))
-                || taskId.equalsIgnoreCase(defaultLabel(item.getIssueKey())))
-            .findFirst()
+        readModelProjector.ensureFresh(List.of(configId));
+        return jiraIssueRepository.findTaskByProjectConfigAndTaskId(configId, taskId)
             .orElseThrow(() -> new EntityNotFoundException("Task not found in group project configuration"));
     }
 
-    private List<JiraIssue> mergeIssues(List<JiraIssue> localIssues, List<JiraIssue> remoteIssues) {
-        Map<String, JiraIssue> merged = new LinkedHashMap<>();
-        for (JiraIssue issue : remoteIssues) {
-            merged.put(issueIdentity(issue), issue);
-        }
-        for (JiraIssue issue : localIssues) {
-            merged.put(issueIdentity(issue), issue);
-        }
-        return new ArrayList<>(merged.values());
-    }
-
-    private List<UnifiedActivity> mergeActivities(List<UnifiedActivity> localActivities, List<UnifiedActivity> remoteActivities) {
-        Map<String, UnifiedActivity> merged = new LinkedHashMap<>();
-        for (UnifiedActivity activity : remoteActivities) {
-            merged.put(activityIdentity(activity), activity);
-        }
-        for (UnifiedActivity activity : localActivities) {
-            merged.put(activityIdentity(activity), activity);
-        }
-        return new ArrayList<>(merged.values());
-    }
-
-    private String activityIdentity(UnifiedActivity activity) {
-        if (activity.getExternalId() != null && !activity.getExternalId().isBlank()) {
-            return defaultLabel(activity.getSource() == null ? null : activity.getSource().name())
-                + "|"
-                + defaultLabel(activity.getActivityType() == null ? null : activity.getActivityType().name())
-                + "|"
-                + activity.getExternalId();
-        }
-        return defaultLabel(activity.getTitle()) + "|" + String.valueOf(activity.getCreatedAt());
-    }
-
-    private List<GithubCommit> mergeGithubCommits(List<GithubCommit> localCommits, List<GithubCommit> remoteCommits) {
-        Map<String, GithubCommit> merged = new LinkedHashMap<>();
-        for (GithubCommit commit : remoteCommits) {
-            merged.put(commitIdentity(commit), commit);
-        }
-        for (GithubCommit commit : localCommits) {
-            merged.put(commitIdentity(commit), commit);
-        }
-        return new ArrayList<>(merged.values());
-    }
-
-    private String commitIdentity(GithubCommit commit) {
-        if (commit.getCommitSha() != null && !commit.getCommitSha().isBlank()) {
-            return "SHA:" + commit.getCommitSha();
-        }
-        return defaultLabel(commit.getAuthorEmail())
-            + "|"
-            + defaultLabel(commit.getMessage())
-            + "|"
-            + String.valueOf(commit.getCommittedDate());
-    }
-
-    private String issueIdentity(JiraIssue issue) {
-        if (issue.getIssueId() != null && !issue.getIssueId().isBlank()) {
-            return "ID:" + issue.getIssueId();
-        }
-        if (issue.getIssueKey() != null && !issue.getIssueKey().isBlank()) {
-            return "KEY:" + issue.getIssueKey();
-        }
-        return "FALLBACK:" + String.valueOf(issue.getId());
-    }
-
     private void authorizeLecturerScope(Long actorId, List<String> roles, GroupDetail group) {
         if (roles.contains("ADMIN")) {
             return;
@@ -1067,13 +758,88 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
     }
 
     private Map<Long, ProjectConfigSnapshot> resolveConfigsByGroupId(List<Long> groupIds) {
-        Map<Long, ProjectConfigSnapshot> result = new LinkedHashMap<>();
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            return resolveConfigsByGroupId(scope, groupIds);
+        }
+    }
+
+    // One lookup per group, run in parallel; a group whose lookup misses the deadline is left out
+    private Map<Long, ProjectConfigSnapshot> resolveConfigsByGroupId(DashboardFanOut.Scope scope, List<Long> groupIds) {
+        Map<Long, DashboardFanOut.Branch<Optional<ProjectConfigSnapshot>>> lookups = new LinkedHashMap<>();
         for (Long groupId : groupIds) {
-            projectConfigClient.getConfigByGroupId(groupId).ifPresent(config -> result.put(groupId, config));
+            lookups.put(groupId, scope.fork("getConfigByGroupId:" + groupId,
+                () -> projectConfigClient.getConfigByGroupId(groupId), Optional.empty()));
         }
+        Map<Long, ProjectConfigSnapshot> result = new LinkedHashMap<>();
+        lookups.forEach((groupId, lookup) -> lookup.join().ifPresent(config -> result.put(groupId, config)));
         return result;
     }
 
+    private List<JiraIssue> loadIssues(UUID configId) {
+        readModelProjector.ensureFresh(List.of(configId));
+        return jiraIssueRepository.findByProjectConfigId(configId);
+    }
+
+    private List<TypeStatusCount> loadTaskCounts(UUID configId, LocalDate from, LocalDate to) {
+        readModelProjector.ensureFresh(List.of(configId));
+        return taskStatRepository.sumByTypeAndStatusWithinRange(configId, from, to);
+    }
+
+    private GroupProgressResponse buildProgress(GroupDetail group, List<TypeStatusCount> counts) {
+        if (counts.isEmpty()) {
+            return emptyProgress(group.groupId(), group.groupName());
+        }
+
+        Map<String, Long> taskByType = new LinkedHashMap<>();
+        Map<String, Long> taskByStatus = new LinkedHashMap<>();
+        long todo = 0;
+        long inProgress = 0;
+        long done = 0;
+
+        for (TypeStatusCount count : counts) {
+            long taskCount = count.getTaskCount();
+            taskByType.merge(count.getIssueType(), taskCount, Long::sum);
+            taskByStatus.merge(count.getStatus(), taskCount, Long::sum);
+
+            switch (normalizeTaskStatus(count.getStatus())) {
+                case "DONE" -> done += taskCount;
+                case "IN_PROGRESS" -> inProgress += taskCount;
+                default -> todo += taskCount;
+            }
+        }
+
+        long total = todo + inProgress + done;
+        double completionRate = total == 0 ? 0.0 : ((double) done * 100.0) / total;
+        return GroupProgressResponse.builder()
+            .groupId(group.groupId())
+            .groupName(group.groupName())
+            .completionRate(Math.round(completionRate * 100.0) / 100.0)
+            .todoCount(todo)
+            .inProgressCount(inProgress)
+            .doneCount(done)
+            .taskByType(taskByType)
+            .taskByStatus(taskByStatus)
+            .build();
+    }
+
+    // Local edit of a task: its old and new summary day both change
+    private JiraIssue saveIssue(JiraIssue issue, OffsetDateTime previousUpdatedAt) {
+        JiraIssue saved = jiraIssueRepository.save(issue);
+        Set<LocalDate> days = new HashSet<>();
+        days.add(previousUpdatedAt == null ? null : previousUpdatedAt.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        days.add(saved.getUpdatedAt().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        taskStatRepository.refreshDays(saved.getProjectConfigId(), days);
+        return saved;
+    }
+
+    private List<UnifiedActivity> findTeamPullRequests(UUID configId, LocalDate from, LocalDate to) {
+        return unifiedActivityRepository.findRecentActivities(configId, ActivitySource.GITHUB, PageRequest.of(0, TEAM_ACTIVITY_LIMIT))
+            .getContent().stream()
+            .filter(activity -> activity.getActivityType() == ActivityType.PULL_REQUEST)
+            .filter(activity -> withinRange(activity.getCreatedAt(), from, to))
+            .toList();
+    }
+
     private List<UUID> resolveConfigIds(List<Long> groupIds) {
         return new ArrayList<>(resolveConfigsByGroupId(groupIds).values().stream().map(ProjectConfigSnapshot::configId).toList());
     }
@@ -1271,114 +1037,4 @@ public class DashboardReportingServiceImpl implements com.example.reportservice.
         return userGroupClient.getUserGroups(studentId).stream()
             .anyMatch(item -> groupId.equals(item.groupId()) && "LEADER".equalsIgnoreCase(item.role()));
     }
-
-    private List<JiraIssue> toJiraIssues(List<IssueResponse> source, UUID configId) {
-        return source.stream()
-            .map(item -> JiraIssue.builder()
-                .projectConfigId(configId)
-                .issueId(item.getIssueId())
-                .issueKey(item.getIssueKey())
-                .summary(item.getSummary())
-                .description(item.getDescription())
-                .issueType(item.getIssueType())
-                .status(item.getStatus())
-                .priority(item.getPriority())
-                .assigneeEmail(item.getAssigneeEmail())
-                .assigneeName(item.getAssigneeName())
-                .reporterEmail(item.getReporterEmail())
-                .reporterName(item.getReporterName())
-                .createdAt(parseIssueTimestamp(item.getCreatedAt()))
-                .updatedAt(parseIssueTimestamp(item.getUpdatedAt()))
-                .dueDate(parseLocalDate(item.getDueDate()))
-                .build())
-            .toList();
-    }
-
-    private java.time.LocalDate parseLocalDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        String v = value.trim();
-        try {
-            return java.time.LocalDate.parse(v);
-        } catch (Exception ignored) {
-            return null;
-        }
-    }
-
-    private List<GithubCommit> toGithubCommits(List<GithubCommitResponse> source, UUID configId) {
-        return source.stream()
-            .map(item -> {
-                LocalDateTime committedAt = parseDateTime(item.getCommittedDate());
-                return GithubCommit.builder()
-                    .projectConfigId(configId)
-                    .commitSha(item.getCommitSha())
-                    .message(item.getMessage() == null || item.getMessage().isBlank() ? "N/A" : item.getMessage())
-                    .committedDate(committedAt == null ? LocalDateTime.MIN : committedAt)
-                    .authorEmail(item.getAuthorEmail())
-                    .authorName(item.getAuthorName())
-                    .additions(item.getAdditions())
-                    .deletions(item.getDeletions())
-                    .totalChanges(item.getTotalChanges())
-                    .build();
-            })
-            .toList();
-    }
-
-    private List<UnifiedActivity> toUnifiedActivities(List<UnifiedActivityResponse> source, UUID configId) {
-        return source.stream()
-            .map(item -> {
-                UnifiedActivity activity = toUnifiedActivity(item);
-                activity.setProjectConfigId(configId);
-                return activity;
-            })
-            .toList();
-    }
-
-    private OffsetDateTime parseIssueTimestamp(String value) {
-        LocalDateTime parsed = parseDateTime(value);
-        return parsed == null ? null : parsed.atOffset(ZoneOffset.UTC);
-    }
-
-    private UnifiedActivity toUnifiedActivity(UnifiedActivityResponse source) {
-        return UnifiedActivity.builder()
-            .source(parseActivitySource(source.getSource()))
-            .activityType(parseActivityType(source.getActivityType()))
-            .externalId(source.getExternalId())
-            .title(source.getTitle())
-            .description(source.getDescription())
-            .authorEmail(source.getAuthorEmail())
-            .authorName(source.getAuthorName())
-            .status(source.getStatus())
-            .createdAt(parseDateTime(source.getCreatedAt()))
-            .updatedAt(parseDateTime(source.getUpdatedAt()))
-            .build();
-    }
-
-    private LocalDateTime parseDateTime(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDateTime.parse(value);
-        } catch (Exception ignored) {
-            return null;
-        }
-    }
-
-    private ActivitySource parseActivitySource(String value) {
-        try {
-            return value == null || value.isBlank() ? ActivitySource.JIRA : ActivitySource.valueOf(value.toUpperCase());
-        } catch (IllegalArgumentException ex) {
-            return ActivitySource.JIRA;
-        }
-    }
-
-    private ActivityType parseActivityType(String value) {
-        try {
-            return value == null || value.isBlank() ? ActivityType.TASK : ActivityType.valueOf(value.toUpperCase());
-        } catch (IllegalArgumentException ex) {
-            return ActivityType.TASK;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.example.reportservice.web.UpstreamServiceException;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -28,6 +29,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JiraServiceImpl implements JiraService {
 
+    @Qualifier("jiraRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${jira.host:}")
@@ -0,0 +1,347 @@
+package com.example.reportservice.service.job;
+
+import com.example.reportservice.config.CorrelationIdFilter;
+import com.example.reportservice.config.GrpcSecurityClientInterceptor;
+import com.example.reportservice.config.ReportJobProperties;
+import com.example.reportservice.dto.response.ReportResponse;
+import com.example.reportservice.entity.ReportJob;
+import com.example.reportservice.entity.ReportJobStatus;
+import com.example.reportservice.repository.ReportJobRepository;
+import com.example.reportservice.service.ReportCheckpointStore;
+import com.example.reportservice.service.ReportingService;
+import com.example.reportservice.web.ReportGenerationFailedException;
+import io.grpc.Context;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs queued SRS jobs (report_jobs) through the ReportingService step pipeline in the background.
+ *
+ * CRITICAL DESIGN:
+ * - The database is the queue: a job is claimed with a conditional QUEUED -> RUNNING update, so any number
+ *   of instances can share it and each job runs exactly once at a time
+ * - At most maxConcurrent jobs per instance, each on its own virtual thread; the rest stay QUEUED
+ * - Durable progress: the step being executed is written to the job row, GET polls read it from there
+ * - Restart safety: running jobs are heart-beaten every round; a job whose worker stopped heart-beating for
+ *   staleAfter goes back to QUEUED (or FAILED after maxAttempts claims), a graceful shutdown hands its
+ *   running jobs back at once. A resumed job continues after its last checkpointed step (ReportCheckpointStore)
+ * - The caller's JWT is never persisted: it is kept in memory until the job is claimed here and the job runs
+ *   under it (gRPC and AI calls as the caller). Each instance therefore claims its own submissions first and
+ *   leaves other instances' jobs alone for foreignClaimDelay
+ * - A job resumed on another instance or after a restart, or whose token has expired, runs as a service call
+ *   (GrpcSecurityClientInterceptor.SERVICE_CALL); the AI step then falls back to the deterministic non-AI SRS.
+ *   For a useAi job this is recorded as aiSkipped on the job, so the client can resubmit
+ *
+ * Metrics: report.jobs.finished{result=completed|failed}
+ */
+@Slf4j
+@Component
+public class ReportJobRunner implements DisposableBean {
+
+    // Submissions whose job was claimed by another instance are forgotten after this long
+    private static final long CALLER_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportJobRepository jobRepository;
+    private final ReportingService reportingService;
+    private final ReportCheckpointStore checkpointStore;
+    private final ReportJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore slots;
+    private final String workerId;
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Caller> callers = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public ReportJobRunner(ReportJobRepository jobRepository,
+                           ReportingService reportingService,
+                           ReportCheckpointStore checkpointStore,
+                           ReportJobProperties properties,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.reportingService = reportingService;
+        this.checkpointStore = checkpointStore;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.slots = new Semaphore(properties.getMaxConcurrent());
+        this.workerId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Called after a job was saved as QUEUED: remembers the caller and starts it at once if a slot is free.
+     */
+    public void submitted(UUID jobId, Authentication caller) {
+        if (caller != null) {
+            callers.put(jobId, new Caller(caller, System.nanoTime()));
+        }
+        try {
+            dispatch();
+        } catch (DataAccessException ex) {
+            // The job is stored; the next round picks it up
+            log.warn("⚠️ Could not dispatch report job {} immediately: {}", jobId, ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.jobs.poll-interval-ms:2000}",
+               initialDelayString = "${report.jobs.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            heartbeat();
+            recoverStale();
+            dispatch();
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Report job round failed: {}", ex.getMessage());
+        }
+        long now = System.nanoTime();
+        callers.entrySet().removeIf(entry -> now - entry.getValue().submittedNanos() > CALLER_TTL_NANOS);
+    }
+
+    private void dispatch() {
+        while (!stopping && slots.tryAcquire()) {
+            UUID jobId;
+            try {
+                jobId = claimNext();
+            } catch (RuntimeException ex) {
+                slots.release();
+                throw ex;
+            }
+            if (jobId == null) {
+                slots.release();
+                return;
+            }
+            running.add(jobId);
+            try {
+                executor.execute(() -> run(jobId));
+            } catch (RejectedExecutionException ex) {
+                // Shutting down: the claim goes stale and is re-queued
+                running.remove(jobId);
+                slots.release();
+                return;
+            }
+        }
+    }
+
+    // Own submissions first (this instance holds their caller token), then jobs nobody picked up in time
+    private UUID claimNext() {
+        PageRequest page = PageRequest.of(0, properties.getMaxConcurrent());
+        if (!callers.isEmpty()) {
+            UUID own = claimFirst(jobRepository.findIdsByStatusAndJobIdIn(ReportJobStatus.QUEUED, Set.copyOf(callers.keySet()), page));
+            if (own != null) {
+                return own;
+            }
+        }
+        LocalDateTime createdBefore = LocalDateTime.now().minus(properties.getForeignClaimDelay());
+        return claimFirst(jobRepository.findIdsByStatusAndCreatedAtBefore(ReportJobStatus.QUEUED, createdBefore, page));
+    }
+
+    private UUID claimFirst(List<UUID> candidates) {
+        for (UUID candidate : candidates) {
+            Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(candidate, workerId, LocalDateTime.now()));
+            if (claimed != null && claimed == 1) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void run(UUID jobId) {
+        Caller caller = callers.remove(jobId);
+        AtomicReference<String> currentStep = new AtomicReference<>();
+        MDC.put(CorrelationIdFilter.MDC_KEY, "report-job-" + jobId);
+        try {
+            ReportJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            Authentication authentication = caller == null ? null : usable(caller.authentication());
+            log.info("▶️ Report job started: jobId={}, projectConfigId={}, attempt={}, asCaller={}",
+                jobId, job.getProjectConfigId(), job.getAttempts(), authentication != null);
+            if (job.isUseAi() && authentication == null) {
+                markAiSkipped(jobId);
+            }
+
+            ReportResponse report = runAs(authentication, () -> reportingService.generate(
+                job.getProjectConfigId(),
+                job.getCreatedBy().toString(),
+                job.isUseAi(),
+                job.getExportType(),
+                jobId,
+                step -> {
+                    currentStep.set(step);
+                    recordStep(jobId, step);
+                }));
+
+            finish(jobId, "completed", () -> jobRepository.complete(jobId, workerId, report.getReportId(), LocalDateTime.now()));
+            log.info("✅ Report job completed: jobId={}, reportId={}", jobId, report.getReportId());
+        } catch (ReportGenerationFailedException ex) {
+            finish(jobId, "failed", () -> jobRepository.fail(jobId, workerId, ex.getStep(), truncate(ex.getReason()), LocalDateTime.now()));
+            log.warn("❌ Report job failed: jobId={}, step={}, reason={}", jobId, ex.getStep(), ex.getReason());
+        } catch (RuntimeException ex) {
+            String reason = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+            finish(jobId, "failed", () -> jobRepository.fail(jobId, workerId, currentStep.get(), truncate(reason), LocalDateTime.now()));
+            log.error("❌ Report job failed unexpectedly: jobId={}, step={}", jobId, currentStep.get(), ex);
+        } finally {
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+            running.remove(jobId);
+            slots.release();
+        }
+        try {
+            dispatch();
+        } catch (RuntimeException ex) {
+            log.debug("Dispatch after report job {} failed; the next round retries", jobId, ex);
+        }
+    }
+
+    private ReportResponse runAs(Authentication authentication, Supplier<ReportResponse> work) {
+        AtomicReference<ReportResponse> result = new AtomicReference<>();
+        if (authentication == null) {
+            Context.current()
+                .withValue(GrpcSecurityClientInterceptor.SERVICE_CALL, Boolean.TRUE)
+                .run(() -> result.set(work.get()));
+            return result.get();
+        }
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            return work.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void recordStep(UUID jobId, String step) {
+        try {
+            transactionTemplate.execute(status -> jobRepository.updateStep(jobId, workerId, step, LocalDateTime.now()));
+        } catch (DataAccessException ex) {
+            // Progress is informative only: never fail the generation for it
+            log.debug("Could not record step {} of report job {}", step, jobId, ex);
+        }
+    }
+
+    private void markAiSkipped(UUID jobId) {
+        log.warn("⚠️ Report job {} runs without its caller's token; the SRS is generated without AI", jobId);
+        try {
+            transactionTemplate.execute(status -> jobRepository.markAiSkipped(jobId, workerId, LocalDateTime.now()));
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not record skipped AI for report job {}: {}", jobId, ex.getMessage());
+        }
+    }
+
+    private void finish(UUID jobId, String result, IntSupplier update) {
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> update.getAsInt());
+        } catch (DataAccessException ex) {
+            // Stays RUNNING without heartbeat: re-queued once stale
+            log.warn("⚠️ Could not record outcome '{}' of report job {}: {}", result, jobId, ex.getMessage());
+            return;
+        }
+        if (updated == null || updated == 0) {
+            // Lost ownership (re-queued as stale or released on shutdown): the new owner reports the outcome
+            log.warn("⚠️ Report job {} is no longer owned by {}; outcome '{}' discarded", jobId, workerId, result);
+            return;
+        }
+        checkpointStore.deleteAll(jobId);
+        meterRegistry.counter("report.jobs.finished", "result", result).increment();
+    }
+
+    private void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        List<UUID> jobIds = List.copyOf(running);
+        transactionTemplate.execute(status -> jobRepository.heartbeat(jobIds, workerId, LocalDateTime.now()));
+    }
+
+    private void recoverStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(properties.getStaleAfter());
+        int maxAttempts = properties.getMaxAttempts();
+        Integer failed = transactionTemplate.execute(status -> jobRepository.failStale(staleBefore, maxAttempts,
+            "Worker lost " + maxAttempts + " times while running the job", now));
+        Integer requeued = transactionTemplate.execute(status -> jobRepository.requeueStale(staleBefore, maxAttempts, now));
+        if ((failed != null && failed > 0) || (requeued != null && requeued > 0)) {
+            log.warn("⚠️ Orphaned report jobs recovered: requeued={}, failed={}", requeued, failed);
+        }
+    }
+
+    // An expired caller token would only make every upstream call fail: run as a service call instead
+    private Authentication usable(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken jwtAuth) {
+            Instant expiresAt = jwtAuth.getToken().getExpiresAt();
+            if (expiresAt != null && expiresAt.isBefore(Instant.now().plusSeconds(30))) {
+                return null;
+            }
+        }
+        return authentication;
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static String hostName() {
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return host.length() > 80 ? host.substring(0, 80) : host;
+        } catch (UnknownHostException ex) {
+            return "report-service";
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // Release first: an interrupted job must not record its interruption as a failure
+        stopping = true;
+        try {
+            Integer released = transactionTemplate.execute(status -> jobRepository.release(workerId, LocalDateTime.now()));
+            if (released != null && released > 0) {
+                log.info("🔄 Released {} running report jobs back to the queue", released);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not release running report jobs; they are re-queued once stale: {}", ex.getMessage());
+        }
+        executor.shutdownNow();
+    }
+
+    private record Caller(Authentication authentication, long submittedNanos) {
+    }
+}
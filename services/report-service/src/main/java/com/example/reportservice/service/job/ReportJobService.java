@@ -0,0 +1,103 @@
+package com.example.reportservice.service.job;
+
+import com.example.reportservice.dto.response.ReportJobResponse;
+import com.example.reportservice.entity.ReportJob;
+import com.example.reportservice.entity.ReportJobStatus;
+import com.example.reportservice.repository.ReportJobRepository;
+import com.example.reportservice.web.BadRequestException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entry point of asynchronous SRS generation: queues jobs and reports their state (see ReportJobRunner).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private final ReportJobRepository jobRepository;
+    private final ReportJobRunner jobRunner;
+
+    /**
+     * Validates and queues an SRS generation; returns as soon as the job is stored.
+     */
+    public ReportJobResponse submit(String projectConfigId, String subject, boolean useAi, String exportType) {
+        if (projectConfigId == null || projectConfigId.isBlank()) {
+            throw new BadRequestException("projectConfigId is required");
+        }
+        if (subject == null || subject.isBlank()) {
+            throw new BadRequestException("Authenticated subject is required");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ReportJob job = ReportJob.builder()
+            .jobId(UUID.randomUUID())
+            .projectConfigId(projectConfigId.trim())
+            .createdBy(toCreatedBy(subject))
+            .useAi(useAi)
+            .exportType(exportType)
+            .status(ReportJobStatus.QUEUED)
+            .attempts(0)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        jobRepository.save(job);
+        log.info("📥 Report job queued: jobId={}, projectConfigId={}, useAi={}, exportType={}",
+            job.getJobId(), job.getProjectConfigId(), useAi, exportType);
+
+        jobRunner.submitted(job.getJobId(), SecurityContextHolder.getContext().getAuthentication());
+        return getJob(job.getJobId());
+    }
+
+    public ReportJobResponse getJob(UUID jobId) {
+        ReportJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new EntityNotFoundException("Report job not found"));
+        return toResponse(job);
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        boolean completed = job.getStatus() == ReportJobStatus.COMPLETED && job.getReportId() != null;
+        return ReportJobResponse.builder()
+            .jobId(job.getJobId())
+            .projectConfigId(job.getProjectConfigId())
+            .status(job.getStatus().name())
+            .aiSkipped(job.isAiSkipped())
+            .currentStep(job.getCurrentStep())
+            .queuePosition(job.getStatus() == ReportJobStatus.QUEUED
+                ? jobRepository.countByStatusAndCreatedAtBefore(ReportJobStatus.QUEUED, job.getCreatedAt())
+                : null)
+            .reportId(completed ? job.getReportId() : null)
+            .downloadUrl(completed ? "/api/reports/" + job.getReportId() + "/download" : null)
+            .failedStep(job.getFailedStep())
+            .errorMessage(job.getErrorMessage())
+            .createdBy(job.getCreatedBy())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .statusUrl(statusUrl(job.getJobId()))
+            .build();
+    }
+
+    private String statusUrl(UUID jobId) {
+        return "/api/reports/jobs/" + jobId;
+    }
+
+    /**
+     * Owner id stored on jobs and reports: the JWT subject when it is a UUID, else a stable name-based UUID.
+     */
+    public static UUID toCreatedBy(String subject) {
+        try {
+            return UUID.fromString(subject);
+        } catch (IllegalArgumentException ignored) {
+            return UUID.nameUUIDFromBytes(("user:" + subject).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
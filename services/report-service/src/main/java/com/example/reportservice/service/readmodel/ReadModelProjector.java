@@ -0,0 +1,233 @@
+package com.example.reportservice.service.readmodel;
+
+import com.example.reportservice.config.GrpcSecurityClientInterceptor;
+import com.example.reportservice.config.ReadModelProperties;
+import com.example.reportservice.entity.ReadModelCursor;
+import com.example.reportservice.entity.ReadModelCursor.Stream;
+import com.example.reportservice.grpc.GithubCommitChangesResponse;
+import com.example.reportservice.grpc.IssueChangesResponse;
+import com.example.reportservice.grpc.SyncGrpcClient;
+import com.example.reportservice.grpc.UnifiedActivityChangesResponse;
+import com.example.reportservice.repository.ReadModelCursorRepository;
+import com.example.reportservice.support.DashboardFanOut;
+import com.example.reportservice.web.UpstreamServiceException;
+import io.grpc.Context;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps report-service's jira_issues / github_commits / unified_activities an up-to-date projection of
+ * sync-service, fed by the Get*ChangesSince delta RPCs. Dashboards read these local tables only.
+ *
+ * CRITICAL DESIGN:
+ * - One source of truth per request: no remote reads and no local/remote merge on the request path
+ * - Configs are tracked once a dashboard asks for them; a background round catches up every config
+ *   requested within the active window, so hot dashboards never wait for sync-service. One replica runs
+ *   the round at a time (ShedLock "readModelCatchUp"); in-line catch-ups still run on any replica
+ * - First request for a config (or one idle longer than max-staleness) catches up in-line, in parallel
+ *   per config and bounded by the dashboard fan-out deadline; a late catch-up serves the local rows
+ *   as they are and the next background round completes it
+ * - Failures never fail the dashboard: they are logged, counted and stored on the cursor (last_error)
+ *
+ * Metrics: report.read-model.catch-ups{stream,result=ok|failed}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadModelProjector {
+
+    // A config is re-marked as requested at most this often per instance
+    private static final long MARK_REQUESTED_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final SyncGrpcClient syncGrpcClient;
+    private final ReadModelWriter readModelWriter;
+    private final ReadModelCursorRepository cursorRepository;
+    private final ReadModelProperties properties;
+    private final DashboardFanOut dashboardFanOut;
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, Long> lastMarkedNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Call before reading the local tables for these configs.
+     */
+    public void ensureFresh(Collection<UUID> projectConfigIds) {
+        List<UUID> configIds = projectConfigIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (!properties.isEnabled() || configIds.isEmpty()) {
+            return;
+        }
+        markRequested(configIds);
+
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getMaxStaleness());
+        Map<UUID, LocalDateTime> caughtUpAt = caughtUpAt(configIds);
+        List<UUID> stale = configIds.stream()
+            .filter(id -> caughtUpAt.get(id) == null || caughtUpAt.get(id).isBefore(staleBefore))
+            .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+            stale.stream()
+                .map(id -> scope.fork("readModelCatchUp:" + id, () -> catchUp(id), Boolean.FALSE))
+                .toList()
+                .forEach(DashboardFanOut.Branch::join);
+        }
+    }
+
+    /**
+     * Oldest complete catch-up among the configs, i.e. how old the dashboard data may be; null if unknown.
+     */
+    public LocalDateTime oldestCaughtUpAt(Collection<UUID> projectConfigIds) {
+        List<UUID> configIds = projectConfigIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (configIds.isEmpty()) {
+            return null;
+        }
+        return caughtUpAt(configIds).values().stream()
+            .filter(Objects::nonNull)
+            .min(LocalDateTime::compareTo)
+            .orElse(null);
+    }
+
+    @Scheduled(fixedDelayString = "${report.read-model.poll-interval-ms:15000}",
+               initialDelayString = "${report.read-model.poll-interval-ms:15000}")
+    @SchedulerLock(name = "readModelCatchUp", lockAtMostFor = "10m", lockAtLeastFor = "5s")
+    public void catchUpRequestedConfigs() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<UUID> configIds = cursorRepository.findRequestedSince(LocalDateTime.now().minus(properties.getActiveWindow()));
+        if (configIds.isEmpty()) {
+            return;
+        }
+        AtomicLong failed = new AtomicLong();
+        Context.current()
+            .withValue(GrpcSecurityClientInterceptor.SERVICE_CALL, Boolean.TRUE)
+            .run(() -> configIds.forEach(id -> {
+                if (!catchUp(id)) {
+                    failed.incrementAndGet();
+                }
+            }));
+        log.debug("🔄 Read model round: {} configs, {} failed", configIds.size(), failed.get());
+    }
+
+    /**
+     * Reads every stream of the config up to the sync-service horizon (at most maxPagesPerCatchUp pages each).
+     *
+     * @return false if a stream failed
+     */
+    public boolean catchUp(UUID projectConfigId) {
+        int limit = properties.getPageSize();
+        boolean issues = catchUpStream(projectConfigId, Stream.ISSUES,
+            version -> syncGrpcClient.getIssueChangesSince(projectConfigId, version, limit),
+            (version, changes) -> readModelWriter.applyIssueChanges(projectConfigId, version, changes),
+            IssueChangesResponse::getHasMore);
+        boolean commits = catchUpStream(projectConfigId, Stream.COMMITS,
+            version -> syncGrpcClient.getGithubCommitChangesSince(projectConfigId, version, limit),
+            (version, changes) -> readModelWriter.applyGithubCommitChanges(projectConfigId, version, changes),
+            GithubCommitChangesResponse::getHasMore);
+        boolean activities = catchUpStream(projectConfigId, Stream.ACTIVITIES,
+            version -> syncGrpcClient.getUnifiedActivityChangesSince(projectConfigId, version, limit),
+            (version, changes) -> readModelWriter.applyUnifiedActivityChanges(projectConfigId, version, changes),
+            UnifiedActivityChangesResponse::getHasMore);
+        return issues && commits && activities;
+    }
+
+    private <R> boolean catchUpStream(UUID projectConfigId,
+                                      Stream stream,
+                                      Function<String, R> fetch,
+                                      BiPredicate<String, R> apply,
+                                      Predicate<R> hasMore) {
+        try {
+            for (int page = 0; page < properties.getMaxPagesPerCatchUp(); page++) {
+                String version = readModelWriter.currentVersion(projectConfigId, stream);
+                R changes;
+                try {
+                    changes = fetch.apply(version);
+                } catch (EntityNotFoundException ex) {
+                    if (version.isEmpty()) {
+                        throw ex;
+                    }
+                    log.warn("⚠️ sync-service rejected read model version: config={}, stream={}, version={}; resyncing",
+                        projectConfigId, stream, version);
+                    readModelWriter.resetVersion(projectConfigId, stream);
+                    continue;
+                }
+                // false: a concurrent catch-up moved the cursor first, it owns the rest of this round
+                if (!apply.test(version, changes) || !hasMore.test(changes)) {
+                    break;
+                }
+            }
+            count(stream, "ok");
+            return true;
+        } catch (UpstreamServiceException | EntityNotFoundException | DataAccessException ex) {
+            count(stream, "failed");
+            log.warn("⚠️ Read model catch-up failed: config={}, stream={}: {}", projectConfigId, stream, ex.getMessage());
+            try {
+                readModelWriter.recordError(projectConfigId, stream, ex.getMessage());
+            } catch (DataAccessException recordFailure) {
+                log.debug("Could not record read model error for config={}", projectConfigId, recordFailure);
+            }
+            return false;
+        }
+    }
+
+    private void markRequested(List<UUID> configIds) {
+        long now = System.nanoTime();
+        List<UUID> due = configIds.stream()
+            .filter(id -> {
+                Long last = lastMarkedNanos.get(id);
+                return last == null || now - last >= MARK_REQUESTED_INTERVAL_NANOS;
+            })
+            .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            readModelWriter.markRequested(due, LocalDateTime.now());
+            due.forEach(id -> lastMarkedNanos.put(id, now));
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not register read model configs {}: {}", due, ex.getMessage());
+        }
+    }
+
+    // Per config: oldest caught_up_at of its streams; null if a stream was never caught up
+    private Map<UUID, LocalDateTime> caughtUpAt(List<UUID> configIds) {
+        Map<UUID, List<ReadModelCursor>> cursorsByConfig = cursorRepository.findByProjectConfigIdIn(configIds).stream()
+            .collect(Collectors.groupingBy(ReadModelCursor::getProjectConfigId));
+        Map<UUID, LocalDateTime> result = new HashMap<>();
+        for (UUID configId : configIds) {
+            List<ReadModelCursor> cursors = cursorsByConfig.getOrDefault(configId, List.of());
+            boolean complete = cursors.size() == Stream.values().length
+                && cursors.stream().allMatch(cursor -> cursor.getCaughtUpAt() != null);
+            result.put(configId, complete
+                ? cursors.stream().map(ReadModelCursor::getCaughtUpAt).min(LocalDateTime::compareTo).orElse(null)
+                : null);
+        }
+        return result;
+    }
+
+    private void count(Stream stream, String result) {
+        meterRegistry.counter("report.read-model.catch-ups", "stream", stream.name(), "result", result).increment();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.reportservice.service.readmodel;
+
+import com.example.reportservice.entity.GithubCommit;
+import com.example.reportservice.entity.JiraIssue;
+import com.example.reportservice.entity.ReadModelCursor;
+import com.example.reportservice.entity.ReadModelCursor.Stream;
+import com.example.reportservice.entity.UnifiedActivity;
+import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
+import com.example.reportservice.grpc.GithubCommitChangesResponse;
+import com.example.reportservice.grpc.GithubCommitTombstone;
+import com.example.reportservice.grpc.IssueChangesResponse;
+import com.example.reportservice.grpc.IssueTombstone;
+import com.example.reportservice.grpc.UnifiedActivityChangesResponse;
+import com.example.reportservice.grpc.UnifiedActivityTombstone;
+import com.example.reportservice.repository.DashboardCommitStatRepository;
+import com.example.reportservice.repository.DashboardPullRequestStatRepository;
+import com.example.reportservice.repository.DashboardTaskStatRepository;
+import com.example.reportservice.repository.GithubCommitRepository;
+import com.example.reportservice.repository.JiraIssueRepository;
+import com.example.reportservice.repository.ReadModelCursorRepository;
+import com.example.reportservice.repository.UnifiedActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one delta page of the sync-service change feed to the local tables.
+ *
+ * CRITICAL DESIGN:
+ * - Rows and cursor move in ONE transaction: after a crash the page is either fully applied with its
+ *   version saved, or not applied at all and read again (upserts are idempotent anyway)
+ * - A page is applied only if the cursor still holds the version it was read from; the cursor's
+ *   revision column turns two concurrent catch-ups of the same stream into an optimistic lock failure
+ * - Upserts are multi-row ON CONFLICT statements, tombstones one statement per page
+ * - The dashboard summaries (dashboard_*_stats) of every day a page touches, before or after the
+ *   change, are recomputed in the same transaction: summaries never lag behind the rows
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadModelWriter {
+
+    private final ReadModelCursorRepository cursorRepository;
+    private final JiraIssueRepository jiraIssueRepository;
+    private final GithubCommitRepository githubCommitRepository;
+    private final UnifiedActivityRepository unifiedActivityRepository;
+    private final DashboardTaskStatRepository taskStatRepository;
+    private final DashboardCommitStatRepository commitStatRepository;
+    private final DashboardPullRequestStatRepository pullRequestStatRepository;
+
+    /** Registers the configs (one cursor per stream) and marks them as requested by a dashboard. */
+    @Transactional
+    public void markRequested(Collection<UUID> projectConfigIds, LocalDateTime now) {
+        for (UUID projectConfigId : projectConfigIds) {
+            for (Stream stream : Stream.values()) {
+                cursorRepository.registerRequested(projectConfigId, stream.name(), now);
+            }
+        }
+    }
+
+    /** Version to read from; creates the cursor (empty version = full snapshot) if missing. */
+    @Transactional
+    public String currentVersion(UUID projectConfigId, Stream stream) {
+        return cursor(projectConfigId, stream).getVersion();
+    }
+
+    @Transactional
+    public boolean applyIssueChanges(UUID projectConfigId, String expectedVersion, IssueChangesResponse changes) {
+        ReadModelCursor cursor = cursor(projectConfigId, Stream.ISSUES);
+        if (!expectedVersion.equals(cursor.getVersion())) {
+            return false;
+        }
+
+        List<JiraIssue> upserts = distinctBy(changes.getUpsertsList().stream()
+            .map(item -> SyncRowMapper.toJiraIssue(item, projectConfigId))
+            .filter(Objects::nonNull)
+            .toList(), JiraIssue::getIssueKey);
+        Set<String> deletedKeys = changes.getDeletesList().stream()
+            .map(IssueTombstone::getIssueKey)
+            .filter(key -> key != null && !key.isBlank())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> touchedKeys = touched(upserts.stream().map(JiraIssue::getIssueKey).toList(), deletedKeys);
+        Set<LocalDate> days = taskStatRepository.findStatDays(projectConfigId, touchedKeys);
+
+        jiraIssueRepository.upsertFromSync(upserts);
+        if (!deletedKeys.isEmpty()) {
+            jiraIssueRepository.deleteByIssueKeys(projectConfigId, deletedKeys);
+        }
+
+        days.addAll(taskStatRepository.findStatDays(projectConfigId, touchedKeys));
+        taskStatRepository.refreshDays(projectConfigId, days);
+
+        advance(cursor, changes.getNextVersion(), changes.getHasMore());
+        return true;
+    }
+
+    @Transactional
+    public boolean applyGithubCommitChanges(UUID projectConfigId, String expectedVersion, GithubCommitChangesResponse changes) {
+        ReadModelCursor cursor = cursor(projectConfigId, Stream.COMMITS);
+        if (!expectedVersion.equals(cursor.getVersion())) {
+            return false;
+        }
+
+        List<GithubCommit> upserts = distinctBy(changes.getUpsertsList().stream()
+            .map(item -> SyncRowMapper.toGithubCommit(item, projectConfigId))
+            .filter(Objects::nonNull)
+            .toList(), GithubCommit::getCommitSha);
+        Set<String> deletedShas = changes.getDeletesList().stream()
+            .map(GithubCommitTombstone::getCommitSha)
+            .filter(sha -> sha != null && !sha.isBlank())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> touchedShas = touched(upserts.stream().map(GithubCommit::getCommitSha).toList(), deletedShas);
+        Set<LocalDate> days = commitStatRepository.findStatDays(projectConfigId, touchedShas);
+
+        githubCommitRepository.upsertFromSync(upserts);
+        if (!deletedShas.isEmpty()) {
+            githubCommitRepository.markDeleted(projectConfigId, deletedShas, LocalDateTime.now());
+        }
+
+        days.addAll(commitStatRepository.findStatDays(projectConfigId, touchedShas));
+        commitStatRepository.refreshDays(projectConfigId, days);
+
+        advance(cursor, changes.getNextVersion(), changes.getHasMore());
+        return true;
+    }
+
+    @Transactional
+    public boolean applyUnifiedActivityChanges(UUID projectConfigId, String expectedVersion, UnifiedActivityChangesResponse changes) {
+        ReadModelCursor cursor = cursor(projectConfigId, Stream.ACTIVITIES);
+        if (!expectedVersion.equals(cursor.getVersion())) {
+            return false;
+        }
+
+        List<UnifiedActivity> upserts = distinctBy(changes.getUpsertsList().stream()
+            .map(item -> SyncRowMapper.toUnifiedActivity(item, projectConfigId))
+            .filter(Objects::nonNull)
+            .toList(), activity -> activity.getSource() + "|" + activity.getExternalId());
+        Map<ActivitySource, Set<String>> deletedBySource = changes.getDeletesList().stream()
+            .filter(item -> item.getExternalId() != null && !item.getExternalId().isBlank())
+            .collect(Collectors.groupingBy(
+                item -> SyncRowMapper.parseActivitySource(item.getSource()),
+                Collectors.mapping(UnifiedActivityTombstone::getExternalId, Collectors.toCollection(LinkedHashSet::new))));
+        Set<String> touchedIds = touched(upserts.stream().map(UnifiedActivity::getExternalId).toList(),
+            deletedBySource.values().stream().flatMap(Set::stream).toList());
+        Set<LocalDate> days = pullRequestStatRepository.findStatDays(projectConfigId, touchedIds);
+
+        unifiedActivityRepository.upsertFromSync(upserts);
+        LocalDateTime now = LocalDateTime.now();
+        deletedBySource.forEach((source, externalIds) ->
+            unifiedActivityRepository.markDeleted(projectConfigId, source, externalIds, now));
+
+        days.addAll(pullRequestStatRepository.findStatDays(projectConfigId, touchedIds));
+        pullRequestStatRepository.refreshDays(projectConfigId, days);
+
+        advance(cursor, changes.getNextVersion(), changes.getHasMore());
+        return true;
+    }
+
+    /** sync-service rejected the saved version: start over with a full snapshot (upserts are idempotent). */
+    @Transactional
+    public void resetVersion(UUID projectConfigId, Stream stream) {
+        ReadModelCursor cursor = cursor(projectConfigId, stream);
+        cursor.setVersion("");
+        cursor.setUpdatedAt(LocalDateTime.now());
+        cursorRepository.save(cursor);
+    }
+
+    @Transactional
+    public void recordError(UUID projectConfigId, Stream stream, String message) {
+        ReadModelCursor cursor = cursor(projectConfigId, stream);
+        cursor.setLastError(message == null ? null : message.substring(0, Math.min(message.length(), 500)));
+        cursor.setUpdatedAt(LocalDateTime.now());
+        cursorRepository.save(cursor);
+    }
+
+    private ReadModelCursor cursor(UUID projectConfigId, Stream stream) {
+        return cursorRepository.findByProjectConfigIdAndStream(projectConfigId, stream)
+            .orElseGet(() -> cursorRepository.save(ReadModelCursor.builder()
+                .projectConfigId(projectConfigId)
+                .stream(stream)
+                .version("")
+                .updatedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    private void advance(ReadModelCursor cursor, String nextVersion, boolean hasMore) {
+        LocalDateTime now = LocalDateTime.now();
+        cursor.setVersion(nextVersion == null ? "" : nextVersion);
+        if (!hasMore) {
+            cursor.setCaughtUpAt(now);
+        }
+        cursor.setLastError(null);
+        cursor.setUpdatedAt(now);
+        cursorRepository.save(cursor);
+    }
+
+    // Keys whose summary days must be recomputed: upserted or deleted in this page
+    private static Set<String> touched(List<String> upsertKeys, Collection<String> deletedKeys) {
+        Set<String> keys = new LinkedHashSet<>(upsertKeys);
+        keys.addAll(deletedKeys);
+        return keys;
+    }
+
+    // One statement cannot upsert the same key twice; the later row of a page wins
+    private static <T> List<T> distinctBy(List<T> rows, Function<T, String> keyOf) {
+        Map<String, T> byKey = new LinkedHashMap<>();
+        rows.forEach(row -> byKey.put(keyOf.apply(row), row));
+        return new ArrayList<>(byKey.values());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.reportservice.service.readmodel;
+
+import com.example.reportservice.entity.GithubCommit;
+import com.example.reportservice.entity.JiraIssue;
+import com.example.reportservice.entity.UnifiedActivity;
+import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
+import com.example.reportservice.entity.UnifiedActivity.ActivityType;
+import com.example.reportservice.grpc.GithubCommitResponse;
+import com.example.reportservice.grpc.IssueResponse;
+import com.example.reportservice.grpc.UnifiedActivityResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * sync-service rows -> local read model entities.
+ * Returns null for rows that cannot be stored (missing identity or commit date); callers skip them.
+ * Values are cut to the local column lengths.
+ */
+final class SyncRowMapper {
+
+    private SyncRowMapper() {
+    }
+
+    static JiraIssue toJiraIssue(IssueResponse source, UUID configId) {
+        if (isBlank(source.getIssueKey())) {
+            return null;
+        }
+        return JiraIssue.builder()
+            .projectConfigId(configId)
+            .issueKey(truncate(source.getIssueKey(), 50))
+            .issueId(truncate(isBlank(source.getIssueId()) ? source.getIssueKey() : source.getIssueId(), 50))
+            .summary(truncate(source.getSummary() == null ? "" : source.getSummary(), 500))
+            .description(emptyToNull(source.getDescription()))
+            .issueType(truncate(emptyToNull(source.getIssueType()), 50))
+            .status(truncate(emptyToNull(source.getStatus()), 50))
+            .priority(truncate(emptyToNull(source.getPriority()), 50))
+            .assigneeEmail(truncate(emptyToNull(source.getAssigneeEmail()), 255))
+            .assigneeName(truncate(emptyToNull(source.getAssigneeName()), 255))
+            .reporterEmail(truncate(emptyToNull(source.getReporterEmail()), 255))
+            .reporterName(truncate(emptyToNull(source.getReporterName()), 255))
+            .createdAt(toUtc(parseDateTime(source.getCreatedAt())))
+            .updatedAt(toUtc(parseDateTime(source.getUpdatedAt())))
+            .dueDate(parseLocalDate(source.getDueDate()))
+            .build();
+    }
+
+    static GithubCommit toGithubCommit(GithubCommitResponse source, UUID configId) {
+        LocalDateTime committedAt = parseDateTime(source.getCommittedDate());
+        if (isBlank(source.getCommitSha()) || committedAt == null) {
+            return null;
+        }
+        return GithubCommit.builder()
+            .projectConfigId(configId)
+            .commitSha(truncate(source.getCommitSha(), 40))
+            .message(isBlank(source.getMessage()) ? "N/A" : source.getMessage())
+            .committedDate(committedAt)
+            .authorEmail(truncate(emptyToNull(source.getAuthorEmail()), 255))
+            .authorName(truncate(emptyToNull(source.getAuthorName()), 255))
+            .additions(source.getAdditions())
+            .deletions(source.getDeletions())
+            .totalChanges(source.getTotalChanges())
+            .build();
+    }
+
+    static UnifiedActivity toUnifiedActivity(UnifiedActivityResponse source, UUID configId) {
+        if (isBlank(source.getExternalId())) {
+            return null;
+        }
+        return UnifiedActivity.builder()
+            .projectConfigId(configId)
+            .source(parseActivitySource(source.getSource()))
+            .activityType(parseActivityType(source.getActivityType()))
+            .externalId(truncate(source.getExternalId(), 255))
+            .title(truncate(isBlank(source.getTitle()) ? source.getExternalId() : source.getTitle(), 1000))
+            .description(emptyToNull(source.getDescription()))
+            .authorEmail(truncate(emptyToNull(source.getAuthorEmail()), 255))
+            .authorName(truncate(emptyToNull(source.getAuthorName()), 255))
+            .status(truncate(emptyToNull(source.getStatus()), 50))
+            .createdAt(parseDateTime(source.getCreatedAt()))
+            .updatedAt(parseDateTime(source.getUpdatedAt()))
+            .build();
+    }
+
+    static LocalDateTime parseDateTime(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    static ActivitySource parseActivitySource(String value) {
+        try {
+            return isBlank(value) ? ActivitySource.JIRA : ActivitySource.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return ActivitySource.JIRA;
+        }
+    }
+
+    private static ActivityType parseActivityType(String value) {
+        try {
+            return isBlank(value) ? ActivityType.TASK : ActivityType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return ActivityType.TASK;
+        }
+    }
+
+    private static LocalDate parseLocalDate(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime toUtc(LocalDateTime value) {
+        return value == null ? null : value.atOffset(ZoneOffset.UTC);
+    }
+
+    private static String emptyToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.reportservice.storage;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed key format: two levels of 256 shards, so no directory (or listing prefix) grows past
+ * a few entries per thousand artifacts.
+ */
+public final class ArtifactKeys {
+
+    private static final Pattern KEY = Pattern.compile("^([0-9a-f]{2})/([0-9a-f]{2})/([0-9a-f]{64})\\.([a-z0-9]{1,8})$");
+    private static final Pattern EXTENSION = Pattern.compile("^[a-z0-9]{1,8}$");
+
+    private ArtifactKeys() {
+    }
+
+    public static String key(String sha256, String extension) {
+        String ext = extension(extension);
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + "." + ext;
+    }
+
+    public static boolean isContentAddressed(String key) {
+        return key != null && KEY.matcher(key).matches();
+    }
+
+    /**
+     * Keys written before the artifact store: absolute paths of files in the old temp directory.
+     */
+    public static boolean isLegacyPath(String key) {
+        return key != null && !isContentAddressed(key) && Path.of(key).isAbsolute();
+    }
+
+    public static String sha256(String key) {
+        Matcher matcher = KEY.matcher(key);
+        return matcher.matches() ? matcher.group(3) : null;
+    }
+
+    static String extension(String extension) {
+        String ext = extension == null ? "" : extension.trim().toLowerCase(Locale.ROOT);
+        if (ext.startsWith(".")) {
+            ext = ext.substring(1);
+        }
+        if (!EXTENSION.matcher(ext).matches()) {
+            throw new IllegalArgumentException("Unsupported artifact extension: " + extension);
+        }
+        return ext;
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.reportservice.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed report files on a filesystem: {@code <root>/ab/cd/<sha256>.<ext>}.
+ *
+ * CRITICAL DESIGN:
+ * - Written to {@code <root>/.staging} first, hashed while written, fsynced, then renamed into place and the
+ *   shard directory fsynced: a key that exists always has complete, durable content (crash = staging leftover)
+ * - Dedup: storing content that exists already only refreshes its modification time (retention grace); if the
+ *   file disappears meanwhile (retention), the new copy is moved into place instead
+ * - Retention deletes by renaming the file to a tombstone first, then re-checks age and references: a writer
+ *   either refreshed the file before the rename (tombstone is young -> restored) or finds no file and writes its own
+ * - Shared across replicas when root is on a shared volume; also the local cache of S3ReportArtifactStore
+ */
+@Slf4j
+public class LocalContentAddressedStore implements ReportArtifactStore {
+
+    private static final String STAGING_DIR = ".staging";
+
+    private final Path root;
+    private final Path stagingDir;
+
+    public LocalContentAddressedStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.stagingDir = this.root.resolve(STAGING_DIR);
+    }
+
+    @Override
+    public StoredArtifact write(String extension, ArtifactWriter writer) {
+        String ext = ArtifactKeys.extension(extension);
+        Path staged = null;
+        try {
+            staged = newStagingFile();
+            MessageDigest digest = sha256Digest();
+            try (OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(staged)), digest)) {
+                writer.writeTo(out);
+            }
+            return commit(staged, ArtifactKeys.key(HexFormat.of().formatHex(digest.digest()), ext));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not store report artifact", ex);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Report artifact writer failed", ex);
+        } finally {
+            deleteQuietly(staged);
+        }
+    }
+
+    @Override
+    public Optional<StoredArtifact> find(String key) {
+        Path file = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredArtifact(key, ArtifactKeys.sha256(key), attributes.size(),
+                attributes.lastModifiedTime().toInstant()));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<Path> localFile(String key) {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) && Files.isReadable(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not delete report artifact " + key, ex);
+        }
+    }
+
+    @Override
+    public boolean deleteIfUnused(String key, Instant modifiedBefore, BooleanSupplier unreferenced) {
+        Path file = resolve(key);
+        if (!ArtifactKeys.isContentAddressed(key)) {
+            // Legacy files are never written again: no concurrent dedup to guard against
+            if (!modifiedBefore(file, modifiedBefore) || !unreferenced.getAsBoolean()) {
+                return false;
+            }
+            delete(key);
+            return true;
+        }
+
+        Path tombstone;
+        try {
+            Files.createDirectories(stagingDir);
+            tombstone = stagingDir.resolve("tombstone-" + UUID.randomUUID() + ".part");
+            Files.move(file, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException ex) {
+            return false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not delete report artifact " + key, ex);
+        }
+
+        if (modifiedBefore(tombstone, modifiedBefore) && unreferenced.getAsBoolean()) {
+            deleteQuietly(tombstone);
+            return true;
+        }
+        try {
+            if (Files.isRegularFile(file)) {
+                // A writer put its own copy back meanwhile (same bytes)
+                deleteQuietly(tombstone);
+            } else {
+                Files.move(tombstone, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not restore report artifact " + key, ex);
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachKey(Instant modifiedBefore, Consumer<String> action) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root, 3)) {
+            files.filter(Files::isRegularFile)
+                .filter(file -> modifiedBefore(file, modifiedBefore))
+                .map(file -> root.relativize(file).toString().replace('\\', '/'))
+                .filter(ArtifactKeys::isContentAddressed)
+                .forEach(action);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list report artifacts", ex);
+        }
+    }
+
+    @Override
+    public void purgeLocal(Instant before) {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            files.filter(file -> modifiedBefore(file, before)).forEach(this::deleteQuietly);
+        } catch (IOException ex) {
+            log.warn("⚠️ Could not purge report artifact staging dir: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Stores a file fetched elsewhere (S3) under its key after checking that the content matches the key.
+     */
+    StoredArtifact adopt(Path staged, String key) throws IOException {
+        MessageDigest digest = sha256Digest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(staged), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        if (!sha256.equals(ArtifactKeys.sha256(key))) {
+            throw new IOException("Content of report artifact " + key + " does not match its key");
+        }
+        return commit(staged, key);
+    }
+
+    Path newStagingFile() throws IOException {
+        Files.createDirectories(stagingDir);
+        return Files.createTempFile(stagingDir, "artifact-", ".part");
+    }
+
+    void touch(String key) {
+        try {
+            Files.setLastModifiedTime(resolve(key), FileTime.from(Instant.now()));
+        } catch (IOException ex) {
+            log.debug("Could not touch report artifact {}: {}", key, ex.getMessage());
+        }
+    }
+
+    void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.debug("Could not delete {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private StoredArtifact commit(Path staged, String key) throws IOException {
+        Path target = resolve(key);
+        if (Files.isRegularFile(target) && refresh(target)) {
+            // Refreshed before any retention rename: retention sees a young tombstone and restores it
+            Optional<StoredArtifact> existing = find(key);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.createDirectories(target.getParent());
+        // Same key = same bytes, so losing a rename race to another writer is harmless
+        Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+        fsyncDirectory(target.getParent());
+        return find(key).orElseThrow(() -> new IOException("Report artifact " + key + " vanished after write"));
+    }
+
+    private static boolean refresh(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private Path resolve(String key) {
+        if (ArtifactKeys.isContentAddressed(key)) {
+            return root.resolve(key);
+        }
+        if (ArtifactKeys.isLegacyPath(key)) {
+            return Path.of(key).normalize();
+        }
+        throw new IllegalArgumentException("Not a report artifact key: " + key);
+    }
+
+    private void fsyncDirectory(Path dir) {
+        // Makes the rename durable; not supported on every platform (e.g. Windows), where it is skipped
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            log.debug("Directory fsync not supported for {}: {}", dir, ex.getMessage());
+        }
+    }
+
+    private static boolean modifiedBefore(Path file, Instant before) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
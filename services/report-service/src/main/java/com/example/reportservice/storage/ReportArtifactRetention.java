@@ -0,0 +1,150 @@
+package com.example.reportservice.storage;
+
+import com.example.reportservice.config.ReportStorageProperties;
+import com.example.reportservice.entity.Report;
+import com.example.reportservice.repository.ReportRepository;
+import com.example.reportservice.repository.SrsAiResultRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds report storage: expires old reports, deletes artifacts no report references, prunes unused AI results.
+ *
+ * CRITICAL DESIGN:
+ * - One replica per run (ShedLock "reportArtifactRetention")
+ * - Rows first, files second: a report is deleted in the database before its artifact, and an artifact is only
+ *   deleted when no reports row references its key any more (reused reports share one artifact)
+ * - Nothing written within orphanGrace is deleted, so exports of running jobs and dedup hits that are not
+ *   persisted yet survive; the store re-checks age and references after moving the artifact to a tombstone
+ *   (ReportArtifactStore#deleteIfUnused), so an export deduplicating into a key being deleted keeps its file
+ * - A failed run leaves orphans behind at worst; the next run's sweep deletes them
+ *
+ * Metrics: report.storage.retention.deleted{kind=report|artifact|ai_result}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportArtifactRetention {
+
+    private final ReportArtifactStore artifactStore;
+    private final ReportRepository reportRepository;
+    private final SrsAiResultRepository aiResultRepository;
+    private final ReportStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${report.storage.retention.cron:0 30 3 * * *}")
+    @SchedulerLock(name = "reportArtifactRetention", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void run() {
+        ReportStorageProperties.Retention retention = properties.getRetention();
+        if (!retention.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Instant graceCutoff = now.minus(retention.getOrphanGrace());
+        log.info("▶️ Report retention started: reportTtl={}, orphanGrace={}", retention.getReportTtl(), retention.getOrphanGrace());
+
+        int reports = expireReports(now, retention, graceCutoff);
+        int artifacts = sweepOrphans(graceCutoff);
+        int aiResults = pruneAiResults(now, retention.getAiResultTtl());
+        artifactStore.purgeLocal(now.minus(retention.getCacheTtl()));
+
+        log.info("✅ Report retention finished: reports={}, sweptArtifacts={}, aiResults={}", reports, artifacts, aiResults);
+    }
+
+    int expireReports(Instant now, ReportStorageProperties.Retention retention, Instant graceCutoff) {
+        if (retention.getReportTtl().isZero() || retention.getReportTtl().isNegative()) {
+            return 0;
+        }
+        LocalDateTime createdBefore = toLocal(now.minus(retention.getReportTtl()));
+        int batchSize = Math.max(1, retention.getBatchSize());
+        int deleted = 0;
+        List<Report> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Report> expired = reportRepository.findByCreatedAtBeforeOrderByCreatedAtAsc(createdBefore, PageRequest.of(0, batchSize));
+                reportRepository.deleteAllInBatch(expired);
+                return expired;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            deleted += batch.size();
+            count("report", batch.size());
+
+            Set<String> keys = new LinkedHashSet<>();
+            batch.stream().map(Report::getFilePath).filter(Objects::nonNull).forEach(keys::add);
+            keys.forEach(key -> deleteIfUnreferenced(key, graceCutoff));
+        } while (batch.size() == batchSize);
+        return deleted;
+    }
+
+    int sweepOrphans(Instant graceCutoff) {
+        AtomicInteger deleted = new AtomicInteger();
+        try {
+            artifactStore.forEachKey(graceCutoff, key -> {
+                if (deleteIfUnreferenced(key, graceCutoff)) {
+                    deleted.incrementAndGet();
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Report artifact sweep stopped: {}", ex.getMessage());
+        }
+        return deleted.get();
+    }
+
+    int pruneAiResults(Instant now, Duration ttl) {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> aiResultRepository.deleteUnusedSince(toLocal(now.minus(ttl))));
+            int count = deleted == null ? 0 : deleted;
+            count("ai_result", count);
+            return count;
+        } catch (DataAccessException ex) {
+            log.warn("⚠️ Could not prune stored AI results: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    private boolean deleteIfUnreferenced(String key, Instant graceCutoff) {
+        try {
+            if (reportRepository.existsByFilePath(key)) {
+                return false;
+            }
+            if (!artifactStore.deleteIfUnused(key, graceCutoff, () -> !reportRepository.existsByFilePath(key))) {
+                return false;
+            }
+            count("artifact", 1);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Could not delete report artifact {}: {}", key, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void count(String kind, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("report.storage.retention.deleted", "kind", kind).increment(amount);
+        }
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
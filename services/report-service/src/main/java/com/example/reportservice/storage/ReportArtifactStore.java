@@ -0,0 +1,59 @@
+package com.example.reportservice.storage;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Where generated report files live. Reports reference their file by the key returned from {@link #write}
+ * (stored in reports.file_path), never by a pod-local path.
+ *
+ * CRITICAL DESIGN:
+ * - Keys are content addresses ({@code ab/cd/<sha256>.<ext>}): identical output is stored once and a key
+ *   never points at different bytes, so any replica (or cache) can serve it and the ETag is part of the key
+ * - Keys from before this store existed are absolute local paths; they stay readable and deletable
+ * - Implementations: LocalContentAddressedStore (filesystem, default), S3ReportArtifactStore (S3-compatible)
+ */
+public interface ReportArtifactStore {
+
+    /**
+     * Runs {@code writer} against a staging file and stores the result under its content address.
+     */
+    StoredArtifact write(String extension, ArtifactWriter writer);
+
+    Optional<StoredArtifact> find(String key);
+
+    /**
+     * Readable local file with the content of {@code key} (fetched into the local cache if needed).
+     */
+    Optional<Path> localFile(String key);
+
+    void delete(String key);
+
+    /**
+     * Retention delete: removes {@code key} only if it was not written or deduplicated since {@code modifiedBefore}
+     * and {@code unreferenced} still holds once the artifact is out of the way (moved to a tombstone), so a
+     * concurrent export that deduplicates into the same key is never left pointing at a deleted file.
+     *
+     * @return true if the artifact was deleted
+     */
+    boolean deleteIfUnused(String key, Instant modifiedBefore, BooleanSupplier unreferenced);
+
+    /**
+     * Content-addressed keys last written before {@code modifiedBefore} (retention candidates).
+     */
+    void forEachKey(Instant modifiedBefore, Consumer<String> action);
+
+    /**
+     * Drops pod-local leftovers older than {@code before}: abandoned staging files and cached copies.
+     */
+    void purgeLocal(Instant before);
+
+    @FunctionalInterface
+    interface ArtifactWriter {
+        void writeTo(OutputStream out) throws Exception;
+    }
+}
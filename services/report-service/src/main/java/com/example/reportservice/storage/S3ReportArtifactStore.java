@@ -0,0 +1,229 @@
+package com.example.reportservice.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Report files in an S3-compatible bucket (AWS S3, MinIO), shared by every replica.
+ *
+ * CRITICAL DESIGN:
+ * - Writes go through the local content-addressed store (staging, hashing), then are uploaded unless the key
+ *   exists already (dedup costs a HEAD and a server-side copy); the local copy stays as read cache
+ * - Downloads are served from the local cache (sendfile); a miss fetches the object once and checks its
+ *   content against the key before caching it
+ * - Cached copies are plain local files: retention drops the ones not read for a while (purgeLocal)
+ * - Legacy path keys are resolved locally only
+ * - Retention deletes through a tombstone: a server-side copy conditioned on "unmodified since the cutoff"
+ *   (fails if a dedup hit refreshed the object), then the delete, then a reference re-check that restores the
+ *   object from the tombstone. S3 has no atomic rename, so a dedup hit landing between the copy and the delete
+ *   (one round trip) is not covered; a dedup hit after the delete uploads its own copy
+ */
+@Slf4j
+public class S3ReportArtifactStore implements ReportArtifactStore, AutoCloseable {
+
+    // Under the key prefix; never matches the content-addressed key format, so listings skip it
+    private static final String TOMBSTONE_PREFIX = ".tombstones/";
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+    private final LocalContentAddressedStore cache;
+
+    public S3ReportArtifactStore(S3Client s3, String bucket, String prefix, LocalContentAddressedStore cache) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.prefix = normalizePrefix(prefix);
+        this.cache = cache;
+    }
+
+    @Override
+    public StoredArtifact write(String extension, ArtifactWriter writer) {
+        StoredArtifact local = cache.write(extension, writer);
+        if (headObject(local.key()).isPresent() && refreshObject(local.key())) {
+            return local;
+        }
+        Path file = cache.localFile(local.key())
+            .orElseThrow(() -> new IllegalStateException("Report artifact " + local.key() + " vanished after write"));
+        s3.putObject(PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(local.key()))
+                .contentLength(local.size())
+                .build(),
+            RequestBody.fromFile(file));
+        log.info("✅ Report artifact uploaded: key={}, size={}", local.key(), local.size());
+        return local;
+    }
+
+    @Override
+    public Optional<StoredArtifact> find(String key) {
+        if (!ArtifactKeys.isContentAddressed(key)) {
+            return cache.find(key);
+        }
+        return headObject(key).map(head -> new StoredArtifact(key, ArtifactKeys.sha256(key), head.contentLength(), head.lastModified()));
+    }
+
+    @Override
+    public Optional<Path> localFile(String key) {
+        Optional<Path> cached = cache.localFile(key);
+        if (cached.isPresent() || !ArtifactKeys.isContentAddressed(key)) {
+            cached.ifPresent(file -> cache.touch(key));
+            return cached;
+        }
+
+        Path staged = null;
+        try {
+            staged = cache.newStagingFile();
+            cache.deleteQuietly(staged);
+            s3.getObject(GetObjectRequest.builder().bucket(bucket).key(objectKey(key)).build(),
+                ResponseTransformer.toFile(staged));
+            cache.adopt(staged, key);
+            log.info("📥 Report artifact fetched into local cache: key={}", key);
+            return cache.localFile(key);
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not fetch report artifact " + key, ex);
+        } finally {
+            cache.deleteQuietly(staged);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        if (ArtifactKeys.isContentAddressed(key)) {
+            s3.deleteObject(request -> request.bucket(bucket).key(objectKey(key)));
+        }
+        cache.delete(key);
+    }
+
+    @Override
+    public boolean deleteIfUnused(String key, Instant modifiedBefore, BooleanSupplier unreferenced) {
+        if (!ArtifactKeys.isContentAddressed(key)) {
+            return cache.deleteIfUnused(key, modifiedBefore, unreferenced);
+        }
+        String tombstone = prefix + TOMBSTONE_PREFIX + UUID.randomUUID();
+        try {
+            s3.copyObject(request -> request
+                .sourceBucket(bucket)
+                .sourceKey(objectKey(key))
+                .destinationBucket(bucket)
+                .destinationKey(tombstone)
+                .copySourceIfUnmodifiedSince(modifiedBefore));
+        } catch (S3Exception ex) {
+            // 412: refreshed by a dedup hit since the cutoff; 404: gone already
+            if (ex.statusCode() == 412 || ex.statusCode() == 404) {
+                return false;
+            }
+            throw ex;
+        }
+        try {
+            s3.deleteObject(request -> request.bucket(bucket).key(objectKey(key)));
+            if (unreferenced.getAsBoolean()) {
+                cache.delete(key);
+                return true;
+            }
+            if (headObject(key).isEmpty()) {
+                s3.copyObject(request -> request
+                    .sourceBucket(bucket)
+                    .sourceKey(tombstone)
+                    .destinationBucket(bucket)
+                    .destinationKey(objectKey(key)));
+            }
+            return false;
+        } finally {
+            s3.deleteObject(request -> request.bucket(bucket).key(tombstone));
+        }
+    }
+
+    @Override
+    public void forEachKey(Instant modifiedBefore, Consumer<String> action) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+            .bucket(bucket)
+            .prefix(prefix)
+            .build();
+        s3.listObjectsV2Paginator(request).contents().stream()
+            .filter(object -> object.lastModified().isBefore(modifiedBefore))
+            .map(S3Object::key)
+            .map(objectKey -> objectKey.substring(prefix.length()))
+            .filter(ArtifactKeys::isContentAddressed)
+            .forEach(action);
+    }
+
+    @Override
+    public void purgeLocal(Instant before) {
+        cache.purgeLocal(before);
+        cache.forEachKey(before, cache::delete);
+    }
+
+    @Override
+    public void close() {
+        s3.close();
+    }
+
+    // Server-side self-copy refreshes LastModified, so retention treats the dedup hit as new;
+    // false if the object was deleted since the HEAD
+    private boolean refreshObject(String key) {
+        try {
+            s3.copyObject(request -> request
+                .sourceBucket(bucket)
+                .sourceKey(objectKey(key))
+                .destinationBucket(bucket)
+                .destinationKey(objectKey(key))
+                .metadataDirective(MetadataDirective.REPLACE));
+            return true;
+        } catch (NoSuchKeyException ex) {
+            return false;
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == 404) {
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    private Optional<HeadObjectResponse> headObject(String key) {
+        try {
+            return Optional.of(s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey(key)).build()));
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        } catch (S3Exception ex) {
+            // HEAD errors carry no body, so a missing key can surface as a bare 404
+            if (ex.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+    }
+
+    private String objectKey(String key) {
+        return prefix + key;
+    }
+
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "";
+        }
+        String trimmed = prefix.trim().replaceAll("^/+", "");
+        return trimmed.endsWith("/") ? trimmed : trimmed + "/";
+    }
+}
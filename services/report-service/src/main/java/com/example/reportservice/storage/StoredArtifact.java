@@ -0,0 +1,9 @@
+package com.example.reportservice.storage;
+
+import java.time.Instant;
+
+/**
+ * A stored report file; {@code sha256} is null for legacy path keys (not content-addressed).
+ */
+public record StoredArtifact(String key, String sha256, long size, Instant lastModified) {
+}
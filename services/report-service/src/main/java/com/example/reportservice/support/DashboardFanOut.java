@@ -0,0 +1,174 @@
+package com.example.reportservice.support;
+
+import com.example.reportservice.web.UpstreamServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent upstream calls of one dashboard request in parallel on virtual threads.
+ *
+ * CRITICAL DESIGN:
+ * - One deadline per scope, not per call: a dashboard costs max(call) instead of sum(calls), and never
+ *   more than the deadline
+ * - Partial results: a branch still running at the deadline is cancelled and yields its fallback;
+ *   a branch without fallback fails the request with UpstreamServiceException
+ * - Errors are not swallowed: a branch that throws rethrows on join, exactly like the sequential call did
+ * - At most maxConcurrency branches of one scope run at a time, so a lecturer with hundreds of groups
+ *   does not open hundreds of simultaneous connections to one upstream
+ * - The caller's SecurityContext, MDC and request attributes are copied into every branch: the REST
+ *   and gRPC clients forward the caller JWT and the request id from there, and UpstreamLookupCache
+ *   keeps its request-scoped memo there
+ *
+ * Usage:
+ * <pre>
+ * try (DashboardFanOut.Scope scope = dashboardFanOut.open()) {
+ *     var groups = scope.fork("listGroups", () -> userGroupClient.listGroups(null, semesterId));
+ *     var users = scope.fork("countUsers", userGroupClient::countUsers, 0L);
+ *     ... groups.join() ... users.join() ...
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class DashboardFanOut implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long deadlineMs;
+    private final int maxConcurrency;
+
+    public DashboardFanOut(@Value("${report.dashboard.fan-out-deadline-ms:5000}") long deadlineMs,
+                           @Value("${report.dashboard.fan-out-max-concurrency:16}") int maxConcurrency) {
+        this.deadlineMs = deadlineMs;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    public Scope open() {
+        return new Scope(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs), new Semaphore(maxConcurrency));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Branches forked from one request. Closing the scope cancels branches that were never joined.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final long deadlineNanos;
+        private final Semaphore permits;
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private Scope(long deadlineNanos, Semaphore permits) {
+            this.deadlineNanos = deadlineNanos;
+            this.permits = permits;
+        }
+
+        /** Required branch: the request fails if it does not finish before the deadline. */
+        public <T> Branch<T> fork(String name, Supplier<T> call) {
+            return fork(name, call, null, false);
+        }
+
+        /** Optional branch: yields {@code fallback} if it does not finish before the deadline. */
+        public <T> Branch<T> fork(String name, Supplier<T> call, T fallback) {
+            return fork(name, call, fallback, true);
+        }
+
+        private <T> Branch<T> fork(String name, Supplier<T> call, T fallback, boolean hasFallback) {
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            Future<T> future = executor.submit(() -> {
+                permits.acquire();
+                SecurityContextHolder.setContext(securityContext);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    return call.get();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    RequestContextHolder.resetRequestAttributes();
+                    MDC.clear();
+                    permits.release();
+                }
+            });
+            futures.add(future);
+            return new Branch<>(name, future, fallback, hasFallback, deadlineNanos);
+        }
+
+        @Override
+        public void close() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    public static final class Branch<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final T fallback;
+        private final boolean hasFallback;
+        private final long deadlineNanos;
+
+        private Branch(String name, Future<T> future, T fallback, boolean hasFallback, long deadlineNanos) {
+            this.name = name;
+            this.future = future;
+            this.fallback = fallback;
+            this.hasFallback = hasFallback;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Waits for the branch until the scope deadline.
+         * Rethrows what the call threw; on timeout returns the fallback or throws UpstreamServiceException.
+         */
+        public T join() {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException ex) {
+                future.cancel(true);
+                if (hasFallback) {
+                    log.warn("⏱️ Dashboard branch '{}' missed the deadline, using partial result", name);
+                    return fallback;
+                }
+                throw new UpstreamServiceException("Upstream call '" + name + "' timed out", ex);
+            } catch (InterruptedException ex) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new UpstreamServiceException("Interrupted while waiting for '" + name + "'", ex);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new UpstreamServiceException("Upstream call '" + name + "' failed", cause);
+            }
+        }
+    }
+}
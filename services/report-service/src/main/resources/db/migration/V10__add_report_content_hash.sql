@@ -0,0 +1,4 @@
+-- Strong ETag and Range support for report downloads (see ReportFileTransfer).
+-- Filled when a report is generated; older rows are filled on their first download.
+ALTER TABLE reports ADD COLUMN IF NOT EXISTS content_sha256 VARCHAR(64);
+ALTER TABLE reports ADD COLUMN IF NOT EXISTS file_size BIGINT;
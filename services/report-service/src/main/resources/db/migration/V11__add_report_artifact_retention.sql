@@ -0,0 +1,12 @@
+-- Report artifact store and retention (see ReportArtifactStore, ReportArtifactRetention).
+-- reports.file_path now holds an artifact key (ab/cd/<sha256>.<ext>); older rows keep their absolute path.
+-- Retention checks whether any report still references a key before deleting the artifact.
+CREATE INDEX IF NOT EXISTS idx_reports_file_path ON reports(file_path);
+
+-- ShedLock: the retention run executes on one replica at a time
+CREATE TABLE IF NOT EXISTS shedlock (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    lock_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,3 @@
+-- A useAi job that ran without the caller's token (claimed by another instance, or the token expired while
+-- queued) produces the non-AI SRS; the flag tells the client to resubmit for the AI version.
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS ai_skipped BOOLEAN NOT NULL DEFAULT FALSE;
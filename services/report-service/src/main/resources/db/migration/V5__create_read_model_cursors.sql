@@ -0,0 +1,27 @@
+-- Local read model of sync-service data (jira_issues, github_commits, unified_activities).
+-- One cursor per (project config, stream): the last change version applied from Get*ChangesSince.
+
+CREATE TABLE IF NOT EXISTS read_model_cursors (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    stream VARCHAR(20) NOT NULL,
+    version VARCHAR(64) NOT NULL DEFAULT '',
+    caught_up_at TIMESTAMP,
+    last_requested_at TIMESTAMP,
+    last_error VARCHAR(500),
+    revision BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_read_model_cursors_config_stream UNIQUE (project_config_id, stream),
+    CONSTRAINT chk_read_model_cursors_stream CHECK (stream IN ('ISSUES', 'COMMITS', 'ACTIVITIES'))
+);
+
+-- Scheduler: configs a dashboard asked for recently
+CREATE INDEX IF NOT EXISTS idx_read_model_cursors_last_requested ON read_model_cursors(last_requested_at DESC);
+
+-- Dashboards now read only local tables: per-config lookups by assignee / author / date
+CREATE INDEX IF NOT EXISTS idx_jira_issues_config_assignee
+    ON jira_issues(project_config_id, lower(assignee_email));
+CREATE INDEX IF NOT EXISTS idx_github_commits_config_date
+    ON github_commits(project_config_id, committed_date DESC) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_unified_activities_config_type_created
+    ON unified_activities(project_config_id, activity_type, created_at DESC) WHERE deleted_at IS NULL;
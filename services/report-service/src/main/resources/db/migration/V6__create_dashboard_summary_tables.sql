@@ -0,0 +1,89 @@
+-- Materialized dashboard summaries over the local read model (jira_issues, github_commits, unified_activities).
+-- One row per (project config, day, breakdown key); refreshed per affected day when rows change,
+-- so dashboard queries read a handful of summary rows instead of the full history.
+
+-- Tasks per UTC day of jira_issues.updated_at (NULL = never updated), type, raw status and assignee.
+-- assignee_email is lower-cased, '' = unassigned; blank type/status are stored as 'UNKNOWN'.
+CREATE TABLE IF NOT EXISTS dashboard_task_stats (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    stat_date DATE,
+    issue_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    assignee_email VARCHAR(255) NOT NULL DEFAULT '',
+    task_count BIGINT NOT NULL,
+    -- NULLS NOT DISTINCT: undated issues share one row per key as well
+    CONSTRAINT uk_dashboard_task_stats_key
+        UNIQUE NULLS NOT DISTINCT (project_config_id, stat_date, issue_type, status, assignee_email)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_task_stats_config_assignee
+    ON dashboard_task_stats(project_config_id, assignee_email);
+
+-- Live commits per day of committed_date and author (lower-cased email, '' = unknown)
+CREATE TABLE IF NOT EXISTS dashboard_commit_stats (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    stat_date DATE NOT NULL,
+    author_email VARCHAR(255) NOT NULL DEFAULT '',
+    author_name VARCHAR(255),
+    author_login VARCHAR(255),
+    commit_count BIGINT NOT NULL,
+    additions BIGINT NOT NULL,
+    deletions BIGINT NOT NULL,
+    total_changes BIGINT NOT NULL,
+    last_commit_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_dashboard_commit_stats_config_date_author UNIQUE (project_config_id, stat_date, author_email)
+);
+
+-- Live pull requests per day of created_at, source and author (lower-cased email, '' = unknown)
+CREATE TABLE IF NOT EXISTS dashboard_pull_request_stats (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    stat_date DATE NOT NULL,
+    source VARCHAR(20) NOT NULL,
+    author_email VARCHAR(255) NOT NULL DEFAULT '',
+    pr_count BIGINT NOT NULL,
+    merged_pr_count BIGINT NOT NULL,
+    CONSTRAINT uk_dashboard_pull_request_stats_key UNIQUE (project_config_id, stat_date, source, author_email)
+);
+
+-- Backfill from the rows already stored
+
+INSERT INTO dashboard_task_stats (project_config_id, stat_date, issue_type, status, assignee_email, task_count)
+SELECT project_config_id,
+       CAST(updated_at AT TIME ZONE 'UTC' AS DATE),
+       CASE WHEN TRIM(COALESCE(issue_type, '')) = '' THEN 'UNKNOWN' ELSE issue_type END,
+       CASE WHEN TRIM(COALESCE(status, '')) = '' THEN 'UNKNOWN' ELSE status END,
+       LOWER(COALESCE(assignee_email, '')),
+       COUNT(*)
+FROM jira_issues
+GROUP BY 1, 2, 3, 4, 5;
+
+INSERT INTO dashboard_commit_stats (project_config_id, stat_date, author_email, author_name, author_login,
+                                    commit_count, additions, deletions, total_changes, last_commit_at)
+SELECT project_config_id,
+       CAST(committed_date AS DATE),
+       LOWER(TRIM(COALESCE(author_email, ''))),
+       MAX(author_name),
+       MAX(author_login),
+       COUNT(*),
+       SUM(COALESCE(additions, 0)),
+       SUM(COALESCE(deletions, 0)),
+       SUM(COALESCE(total_changes, 0)),
+       MAX(committed_date)
+FROM github_commits
+WHERE deleted_at IS NULL
+GROUP BY 1, 2, 3;
+
+INSERT INTO dashboard_pull_request_stats (project_config_id, stat_date, source, author_email, pr_count, merged_pr_count)
+SELECT project_config_id,
+       CAST(created_at AS DATE),
+       source,
+       LOWER(COALESCE(author_email, '')),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE LOWER(status) = 'merged')
+FROM unified_activities
+WHERE activity_type = 'PULL_REQUEST'
+  AND deleted_at IS NULL
+GROUP BY 1, 2, 3, 4;
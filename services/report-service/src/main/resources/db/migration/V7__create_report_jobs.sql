@@ -0,0 +1,27 @@
+-- Asynchronous SRS generation: POST /api/reports/srs queues a job, a worker runs the step pipeline,
+-- GET /api/reports/jobs/{jobId} polls it. Queued and interrupted jobs survive a restart.
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    job_id UUID PRIMARY KEY,
+    project_config_id VARCHAR(64) NOT NULL,
+    created_by UUID NOT NULL,
+    use_ai BOOLEAN NOT NULL,
+    export_type VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    current_step VARCHAR(30),
+    report_id UUID,
+    failed_step VARCHAR(30),
+    error_message VARCHAR(1000),
+    attempts INT NOT NULL DEFAULT 0,
+    worker_id VARCHAR(100),
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    heartbeat_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_report_jobs_status CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- Dispatcher (oldest queued first), stale RUNNING recovery and queue position
+CREATE INDEX IF NOT EXISTS idx_report_jobs_status_created ON report_jobs(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_report_jobs_created_by ON report_jobs(created_by, created_at DESC);
@@ -0,0 +1,17 @@
+-- Content-addressed reuse of generated SRS reports (see SrsResultCache).
+-- reports.fingerprint: hash of project config, evidence, useAi, export type and prompt version;
+-- NULL for reports that must not be reused (AI requested but the non-AI fallback was exported).
+ALTER TABLE reports ADD COLUMN IF NOT EXISTS fingerprint VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_reports_fingerprint
+    ON reports(fingerprint, created_at DESC) WHERE fingerprint IS NOT NULL;
+
+-- Validated AI output per evidence fingerprint (hash of the exact AI input and prompt version)
+CREATE TABLE IF NOT EXISTS srs_ai_results (
+    fingerprint VARCHAR(64) PRIMARY KEY,
+    result_json TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    last_used_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_srs_ai_results_last_used ON srs_ai_results(last_used_at);
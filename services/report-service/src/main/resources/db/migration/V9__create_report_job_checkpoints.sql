@@ -0,0 +1,11 @@
+-- Step outputs of a running SRS job (see ReportCheckpointStore): a retried or resumed job restores
+-- them instead of re-fetching sync-service data and re-prompting ai-service. Removed once the job ends.
+
+CREATE TABLE IF NOT EXISTS report_job_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    job_id UUID NOT NULL REFERENCES report_jobs(job_id) ON DELETE CASCADE,
+    step VARCHAR(30) NOT NULL,
+    payload_json TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_report_job_checkpoints_job_step UNIQUE (job_id, step)
+);
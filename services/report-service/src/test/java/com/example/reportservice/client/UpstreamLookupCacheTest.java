@@ -0,0 +1,138 @@
+package com.example.reportservice.client;
+
+import com.example.reportservice.config.UpstreamCacheProperties;
+import com.example.reportservice.web.UpstreamServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamLookupCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sharedCache_loadsEachKeyOnce_andCountsHitsAndMisses() {
+        UpstreamLookupCache cache = new UpstreamLookupCache(new UpstreamCacheProperties(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String group = cache.get(UpstreamLookupCache.GROUPS, 7L, id -> "group-" + id + "#" + loads.incrementAndGet());
+            assertThat(group).isEqualTo("group-7#1");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "upstream.groups").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void requestMemo_keepsOneValuePerRequest_evenWhenSharedCacheIsDisabled() {
+        UpstreamCacheProperties properties = new UpstreamCacheProperties();
+        properties.setEnabled(false);
+        UpstreamLookupCache cache = new UpstreamLookupCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.get(UpstreamLookupCache.USER_MEMBERSHIPS, 5L, id -> loads.incrementAndGet());
+        cache.get(UpstreamLookupCache.USER_MEMBERSHIPS, 5L, id -> loads.incrementAndGet());
+        assertThat(loads).hasValue(1);
+
+        // Next request: loaded again
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.get(UpstreamLookupCache.USER_MEMBERSHIPS, 5L, id -> loads.incrementAndGet());
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("report.upstream.memo.hits").tag("cache", "userMemberships").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void failures_areNotCached() {
+        UpstreamCacheProperties properties = new UpstreamCacheProperties();
+        properties.setTtl(Duration.ofMinutes(5));
+        UpstreamLookupCache cache = new UpstreamLookupCache(properties, meterRegistry);
+
+        assertThatThrownBy(() -> cache.get(UpstreamLookupCache.USER_PROFILES, 9L, id -> {
+            throw new UpstreamServiceException("user-group-service unavailable");
+        })).isInstanceOf(UpstreamServiceException.class);
+
+        String profile = cache.get(UpstreamLookupCache.USER_PROFILES, 9L, id -> "profile-" + id);
+        assertThat(profile).isEqualTo("profile-9");
+    }
+
+    @Test
+    void sharedCache_isScopedToTheCaller() {
+        UpstreamLookupCache cache = new UpstreamLookupCache(new UpstreamCacheProperties(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        authenticate("1", "ROLE_STUDENT");
+        String own = cache.get(UpstreamLookupCache.USER_PROFILES, 1L, id -> "profile#" + loads.incrementAndGet());
+        String ownAgain = cache.get(UpstreamLookupCache.USER_PROFILES, 1L, id -> "profile#" + loads.incrementAndGet());
+
+        // Another student asking for the same id must reach the upstream, which may refuse it
+        authenticate("2", "ROLE_STUDENT");
+        String other = cache.get(UpstreamLookupCache.USER_PROFILES, 1L, id -> "profile#" + loads.incrementAndGet());
+
+        assertThat(own).isEqualTo("profile#1");
+        assertThat(ownAgain).isEqualTo("profile#1");
+        assertThat(other).isEqualTo("profile#2");
+    }
+
+    @Test
+    void concurrentCallers_shareOneLoad() throws Exception {
+        UpstreamLookupCache cache = new UpstreamLookupCache(new UpstreamCacheProperties(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> cache.get(UpstreamLookupCache.GROUPS, 3L, id -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "group-" + id;
+            }));
+            loading.await();
+            Future<String> second = executor.submit(() -> cache.get(UpstreamLookupCache.GROUPS, 3L, id -> "group-" + id + "#" + loads.incrementAndGet()));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("group-3");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("group-3");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private static void authenticate(String subject, String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken(subject, null, authorities));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
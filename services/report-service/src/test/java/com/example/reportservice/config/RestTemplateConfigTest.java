@@ -0,0 +1,112 @@
+package com.example.reportservice.config;
+
+import com.example.reportservice.service.AiClient;
+import com.example.reportservice.service.impl.JiraServiceImpl;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.function.Resolver;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads RestTemplateConfig with the clients that inject its beans: one pool per RestTemplate,
+ * @Primary / @Qualifier resolution (the Lombok constructors rely on lombok.config copying @Qualifier),
+ * and pool settings taken from report.http.*.
+ */
+class RestTemplateConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+        .withUserConfiguration(RestTemplateConfig.class, HttpClientProperties.class, AiServiceProperties.class,
+            AiClient.class, JiraServiceImpl.class)
+        .withPropertyValues(
+            "ai.service.url=http://ai.local",
+            "ai.service.timeout=45000",
+            "report.http.internal.connect-timeout=1500ms",
+            "report.http.internal.response-timeout=4s",
+            "report.http.internal.max-per-route=30",
+            "report.http.jira.max-total=12",
+            "report.http.jira.max-per-route=6",
+            "report.http.jira.connection-request-timeout=750ms");
+
+    @Test
+    void eachRestTemplateHasItsOwnConnectionManager() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            HttpClientConnectionManager internal = connectionManagerOf(context.getBean("restTemplate", RestTemplate.class));
+            HttpClientConnectionManager ai = connectionManagerOf(context.getBean("aiRestTemplate", RestTemplate.class));
+            HttpClientConnectionManager jira = connectionManagerOf(context.getBean("jiraRestTemplate", RestTemplate.class));
+
+            assertThat(internal).isSameAs(context.getBean("internalConnectionManager"));
+            assertThat(ai).isSameAs(context.getBean("aiConnectionManager"));
+            assertThat(jira).isSameAs(context.getBean("jiraConnectionManager"));
+            assertThat(internal).isNotSameAs(ai).isNotSameAs(jira);
+            assertThat(ai).isNotSameAs(jira);
+        });
+    }
+
+    @Test
+    void primaryAndQualifiedInjectionResolveToTheMatchingRestTemplate() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(RestTemplate.class)).isSameAs(context.getBean("restTemplate"));
+            assertThat(ReflectionTestUtils.getField(context.getBean(AiClient.class), "restTemplate"))
+                .isSameAs(context.getBean("aiRestTemplate"));
+            assertThat(ReflectionTestUtils.getField(context.getBean(JiraServiceImpl.class), "restTemplate"))
+                .isSameAs(context.getBean("jiraRestTemplate"));
+        });
+    }
+
+    @Test
+    void poolSettingsAndTimeoutsComeFromProperties() {
+        contextRunner.run(context -> {
+            PoolingHttpClientConnectionManager internal = context.getBean("internalConnectionManager",
+                PoolingHttpClientConnectionManager.class);
+            assertThat(internal.getDefaultMaxPerRoute()).isEqualTo(30);
+            assertThat(connectionConfigOf(internal).getConnectTimeout()).isEqualTo(Timeout.ofMilliseconds(1500));
+            assertThat(connectionConfigOf(internal).getSocketTimeout()).isEqualTo(Timeout.ofSeconds(4));
+
+            PoolingHttpClientConnectionManager jira = context.getBean("jiraConnectionManager",
+                PoolingHttpClientConnectionManager.class);
+            assertThat(jira.getMaxTotal()).isEqualTo(12);
+            assertThat(jira.getDefaultMaxPerRoute()).isEqualTo(6);
+            assertThat(httpClientOf(context, "jiraRestTemplate").getConfig().getConnectionRequestTimeout())
+                .isEqualTo(Timeout.ofMilliseconds(750));
+
+            // No report.http.ai.response-timeout: falls back to ai.service.timeout
+            PoolingHttpClientConnectionManager ai = context.getBean("aiConnectionManager",
+                PoolingHttpClientConnectionManager.class);
+            assertThat(connectionConfigOf(ai).getSocketTimeout().toMilliseconds())
+                .isEqualTo(TimeUnit.SECONDS.toMillis(45));
+        });
+    }
+
+    private static Configurable httpClientOf(ApplicationContext context, String beanName) {
+        RestTemplate restTemplate = context.getBean(beanName, RestTemplate.class);
+        return (Configurable) ((HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory()).getHttpClient();
+    }
+
+    private static HttpClientConnectionManager connectionManagerOf(RestTemplate restTemplate) {
+        HttpComponentsClientHttpRequestFactory factory = (HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory();
+        return (HttpClientConnectionManager) ReflectionTestUtils.getField(factory.getHttpClient(), "connManager");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConnectionConfig connectionConfigOf(PoolingHttpClientConnectionManager cm) {
+        Resolver<Object, ConnectionConfig> resolver =
+            (Resolver<Object, ConnectionConfig>) ReflectionTestUtils.getField(cm, "connectionConfigResolver");
+        return resolver.resolve(null);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.reportservice.controller;
 
 import com.example.reportservice.dto.request.ReportRequest;
-import com.example.reportservice.dto.response.ReportResponse;
+import com.example.reportservice.dto.response.ReportJobResponse;
 import com.example.reportservice.service.ReportingService;
+import com.example.reportservice.service.job.ReportJobService;
+import com.example.reportservice.support.ReportFileTransfer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ReportController.class)
@@ -34,6 +37,12 @@ class ReportControllerSecurityTest {
     @MockBean
     private ReportingService reportingService;
 
+    @MockBean
+    private ReportJobService reportJobService;
+
+    @MockBean
+    private ReportFileTransfer reportFileTransfer;
+
     @Test
     void shouldReturnUnauthorizedWithoutToken() throws Exception {
         ReportRequest request = new ReportRequest();
@@ -54,8 +63,13 @@ class ReportControllerSecurityTest {
         request.setUseAi(false);
         request.setExportType("PDF");
 
-                Mockito.when(reportingService.generate(Mockito.anyString(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyString()))
-                .thenReturn(new ReportResponse(UUID.randomUUID(), "COMPLETED", java.time.LocalDateTime.now(), "/api/reports/test/download"));
+                UUID jobId = UUID.randomUUID();
+                Mockito.when(reportJobService.submit(Mockito.anyString(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyString()))
+                .thenReturn(ReportJobResponse.builder()
+                        .jobId(jobId)
+                        .status("QUEUED")
+                        .statusUrl("/api/reports/jobs/" + jobId)
+                        .build());
 
         mockMvc.perform(post("/api/reports/srs")
                         .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt
@@ -67,6 +81,7 @@ class ReportControllerSecurityTest {
                                 .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/reports/jobs/" + jobId));
     }
 }
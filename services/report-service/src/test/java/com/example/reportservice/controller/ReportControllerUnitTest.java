@@ -1,21 +1,26 @@
 package com.example.reportservice.controller;
 
 import com.example.reportservice.dto.request.ReportRequest;
-import com.example.reportservice.dto.response.ReportResponse;
+import com.example.reportservice.dto.response.ReportJobResponse;
 import com.example.reportservice.service.ReportingService;
+import com.example.reportservice.service.job.ReportJobService;
+import com.example.reportservice.support.ReportFileTransfer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,11 +30,17 @@ class ReportControllerUnitTest {
     @Mock
     private ReportingService reportingService;
 
+    @Mock
+    private ReportJobService reportJobService;
+
+    @Mock
+    private ReportFileTransfer reportFileTransfer;
+
     @InjectMocks
     private ReportController reportController;
 
     @Test
-    void generateSrsShouldReturnCreatedResponse() {
+    void generateSrsShouldReturnAcceptedJob() {
         ReportRequest request = new ReportRequest();
         request.setProjectConfigId("5");
         request.setUseAi(true);
@@ -38,13 +49,36 @@ class ReportControllerUnitTest {
         String subject = UUID.randomUUID().toString();
         Jwt jwt = new Jwt("token", null, null, Map.of("alg", "none"), Map.of("sub", subject));
 
-        ReportResponse expected = new ReportResponse(UUID.randomUUID(), "COMPLETED", LocalDateTime.now(), "/api/reports/1/download");
-        when(reportingService.generate("5", subject, true, "PDF")).thenReturn(expected);
+        UUID jobId = UUID.randomUUID();
+        ReportJobResponse expected = ReportJobResponse.builder()
+            .jobId(jobId)
+            .status("QUEUED")
+            .queuePosition(0L)
+            .createdAt(LocalDateTime.now())
+            .statusUrl("/api/reports/jobs/" + jobId)
+            .build();
+        when(reportJobService.submit("5", subject, true, "PDF")).thenReturn(expected);
 
         var response = reportController.generateSrs(request, jwt);
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).isEqualTo(URI.create("/api/reports/jobs/" + jobId));
         assertThat(response.getBody()).isEqualTo(expected);
-        verify(reportingService).generate("5", subject, true, "PDF");
+        verify(reportJobService).submit("5", subject, true, "PDF");
+    }
+
+    @Test
+    void getJobShouldRejectStudentPollingAnotherUsersJob() {
+        UUID jobId = UUID.randomUUID();
+        Jwt jwt = new Jwt("token", null, null, Map.of("alg", "none"),
+            Map.of("sub", UUID.randomUUID().toString(), "role", "STUDENT"));
+        when(reportJobService.getJob(jobId)).thenReturn(ReportJobResponse.builder()
+            .jobId(jobId)
+            .status("RUNNING")
+            .createdBy(UUID.randomUUID())
+            .build());
+
+        assertThatThrownBy(() -> reportController.getJob(jobId, jwt))
+            .isInstanceOf(AccessDeniedException.class);
     }
 }
@@ -0,0 +1,98 @@
+package com.example.reportservice.grpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs SyncGrpcClient against an in-process sync-service stub and checks what arrives on the server side.
+ */
+class SyncGrpcClientTest {
+
+    private static final UUID CONFIG_ID = UUID.randomUUID();
+
+    private final List<ProjectConfigStreamRequest> received = new CopyOnWriteArrayList<>();
+    private Server server;
+    private ManagedChannel channel;
+    private SyncGrpcClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(new SyncServiceGrpc.SyncServiceImplBase() {
+                @Override
+                public void streamIssuesByProjectConfig(ProjectConfigStreamRequest request,
+                                                        StreamObserver<IssueListResponse> responseObserver) {
+                    received.add(request);
+                    responseObserver.onNext(IssueListResponse.newBuilder()
+                        .addIssues(IssueResponse.newBuilder().setIssueKey("SAMT-1").setStatus("Done"))
+                        .build());
+                    responseObserver.onCompleted();
+                }
+
+                @Override
+                public void streamGithubCommitsByProjectConfig(ProjectConfigStreamRequest request,
+                                                               StreamObserver<GithubCommitListResponse> responseObserver) {
+                    received.add(request);
+                    responseObserver.onCompleted();
+                }
+            })
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        client = new SyncGrpcClient();
+        ReflectionTestUtils.setField(client, "stub", SyncServiceGrpc.newBlockingStub(channel));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getIssues_sendsFieldMaskAndRange() {
+        ReadOptions options = ReadOptions.newBuilder()
+            .addAllFields(List.of("status", "assigneeEmail", "createdAt"))
+            .setFromDate("2026-01-01")
+            .setToDate("2026-01-31")
+            .build();
+
+        List<IssueResponse> issues = client.getIssues(CONFIG_ID, options);
+
+        assertThat(issues).extracting(IssueResponse::getIssueKey).containsExactly("SAMT-1");
+        assertThat(received).hasSize(1);
+        assertThat(received.getFirst().getProjectConfigId()).isEqualTo(CONFIG_ID.toString());
+        assertThat(received.getFirst().getOptions()).isEqualTo(options);
+    }
+
+    @Test
+    void getGithubCommits_sendsFieldMask() {
+        ReadOptions options = ReadOptions.newBuilder().addAllFields(List.of("committedDate", "authorEmail")).build();
+
+        client.getGithubCommits(CONFIG_ID, options);
+
+        assertThat(received).singleElement()
+            .satisfies(request -> assertThat(request.getOptions().getFieldsList()).containsExactly("committedDate", "authorEmail"));
+    }
+
+    @Test
+    void getIssues_withoutOptions_sendsNoMask() {
+        client.getIssues(CONFIG_ID);
+
+        assertThat(received).singleElement().satisfies(request -> assertThat(request.hasOptions()).isFalse());
+    }
+}
@@ -2,22 +2,39 @@ package com.example.reportservice.service;
 
 import com.example.reportservice.client.ProjectConfigClient;
 import com.example.reportservice.client.UserGroupClient;
+import com.example.reportservice.entity.UnifiedActivity.ActivitySource;
+import com.example.reportservice.entity.UnifiedActivity.ActivityType;
+import com.example.reportservice.repository.DashboardCommitStatRepository;
+import com.example.reportservice.repository.DashboardPullRequestStatRepository;
+import com.example.reportservice.repository.DashboardTaskStatRepository;
+import com.example.reportservice.repository.DashboardTaskStatRepository.StatusCount;
 import com.example.reportservice.repository.GithubCommitRepository;
 import com.example.reportservice.repository.JiraIssueRepository;
 import com.example.reportservice.repository.SyncJobRepository;
 import com.example.reportservice.repository.UnifiedActivityRepository;
 import com.example.reportservice.service.JiraService;
 import com.example.reportservice.service.impl.DashboardReportingServiceImpl;
+import com.example.reportservice.service.readmodel.ReadModelProjector;
+import com.example.reportservice.support.DashboardFanOut;
 import com.example.reportservice.web.UpstreamServiceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +58,24 @@ class DashboardReportingServiceImplTest {
     @Mock
     private SyncJobRepository syncJobRepository;
 
+    @Mock
+    private DashboardTaskStatRepository taskStatRepository;
+
+    @Mock
+    private DashboardCommitStatRepository commitStatRepository;
+
+    @Mock
+    private DashboardPullRequestStatRepository pullRequestStatRepository;
+
     @Mock
     private JiraService jiraService;
 
+    @Mock
+    private ReadModelProjector readModelProjector;
+
+    @Spy
+    private DashboardFanOut dashboardFanOut = new DashboardFanOut(5000, 4);
+
     @InjectMocks
     private DashboardReportingServiceImpl service;
 
@@ -70,4 +102,191 @@ class DashboardReportingServiceImplTest {
         assertThat(response.getContent()).isEmpty();
         assertThat(response.getTotalElements()).isEqualTo(0);
     }
+
+    @Test
+    void getLecturerOverviewShouldCountLocalReadModelOnly() {
+        UUID firstConfig = UUID.randomUUID();
+        UUID secondConfig = UUID.randomUUID();
+        List<UUID> configIds = List.of(firstConfig, secondConfig);
+        when(userGroupClient.listGroups(7L, null)).thenReturn(List.of(
+            new UserGroupClient.GroupSummary(1L, "G1", null, null, 4L),
+            new UserGroupClient.GroupSummary(2L, "G2", null, null, 5L)
+        ));
+        when(projectConfigClient.getConfigByGroupId(1L)).thenReturn(
+            Optional.of(new ProjectConfigClient.ProjectConfigSnapshot(firstConfig, 1L, "VERIFIED", null, null)));
+        when(projectConfigClient.getConfigByGroupId(2L)).thenReturn(
+            Optional.of(new ProjectConfigClient.ProjectConfigSnapshot(secondConfig, 2L, "VERIFIED", null, null)));
+        when(jiraIssueRepository.countByProjectConfigIdIn(configIds)).thenReturn(16L);
+        when(jiraIssueRepository.countCompletedIssues(eq(configIds), any())).thenReturn(10L);
+        when(githubCommitRepository.countByProjectConfigIdInAndDeletedAtIsNull(configIds)).thenReturn(42L);
+        when(unifiedActivityRepository.countByProjectConfigIdInAndSourceAndActivityTypeAndDeletedAtIsNull(
+            configIds, ActivitySource.GITHUB, ActivityType.PULL_REQUEST)).thenReturn(5L);
+        when(readModelProjector.oldestCaughtUpAt(configIds)).thenReturn(LocalDateTime.parse("2026-03-02T09:30"));
+
+        var response = service.getLecturerOverview(7L, List.of("LECTURER"), null);
+
+        assertThat(response.getTaskCount()).isEqualTo(16);
+        assertThat(response.getCompletedTaskCount()).isEqualTo(10);
+        assertThat(response.getGithubCommitCount()).isEqualTo(42);
+        assertThat(response.getGithubPrCount()).isEqualTo(5);
+        assertThat(response.getLastSyncAt()).hasToString("2026-03-02T09:30");
+        verify(readModelProjector).ensureFresh(configIds);
+        verify(jiraIssueRepository, never()).findByProjectConfigId(any());
+    }
+
+    @Test
+    void getMemberTaskStatsShouldReadSummaryRowsOnly() {
+        UUID configId = UUID.randomUUID();
+        when(userGroupClient.getUserGroups(5L)).thenReturn(List.of(
+            new UserGroupClient.UserGroupMembership(10L, "G10", null, null, "MEMBER", null)));
+        when(userGroupClient.getUserProfile(5L)).thenReturn(
+            new UserGroupClient.UserProfile(5L, "member@example.com", "Member", null));
+        when(projectConfigClient.getConfigByGroupId(10L)).thenReturn(
+            Optional.of(new ProjectConfigClient.ProjectConfigSnapshot(configId, 10L, "VERIFIED", null, null)));
+        when(taskStatRepository.sumByStatusForAssignee(configId, "member@example.com")).thenReturn(List.of(
+            statusCount("Done", 3),
+            statusCount("Closed", 1),
+            statusCount("In Progress", 2),
+            statusCount("To Do", 2)));
+
+        var response = service.getMemberTaskStats(5L, 10L);
+
+        assertThat(response.getTotalAssigned()).isEqualTo(8);
+        assertThat(response.getCompleted()).isEqualTo(4);
+        assertThat(response.getInProgress()).isEqualTo(2);
+        assertThat(response.getTodo()).isEqualTo(2);
+        assertThat(response.getCompletionRate()).isEqualTo(50.0);
+        verify(readModelProjector).ensureFresh(List.of(configId));
+        verify(jiraIssueRepository, never()).findByProjectConfigIdInAndAssigneeEmailIgnoreCase(anyList(), any());
+    }
+
+    @Test
+    void getStudentGithubStatsShouldShowTeamCommitsButOwnPullRequestsForInactiveLeader() {
+        UUID configId = UUID.randomUUID();
+        when(userGroupClient.getUserProfile(8L)).thenReturn(
+            new UserGroupClient.UserProfile(8L, "leader@example.com", "Leader", null));
+        when(userGroupClient.getUserGroups(8L)).thenReturn(List.of(
+            new UserGroupClient.UserGroupMembership(10L, "G10", null, null, "LEADER", null)));
+        when(projectConfigClient.getConfigByGroupId(10L)).thenReturn(
+            Optional.of(new ProjectConfigClient.ProjectConfigSnapshot(configId, 10L, "VERIFIED", null, null)));
+        when(commitStatRepository.sumForAuthorWithinRange(configId, "leader@example.com", null, null))
+            .thenReturn(contributorTotals(0));
+        when(pullRequestStatRepository.sumForAuthorWithinRange(configId, "leader@example.com", null, null))
+            .thenReturn(pullRequestTotals(0, 0));
+        when(commitStatRepository.sumCommitCount(configId)).thenReturn(37L);
+
+        var response = service.getStudentGithubStats(8L, 10L, null, null);
+
+        assertThat(response.getCommitCount()).isEqualTo(37);
+        assertThat(response.getPrCount()).isZero();
+        assertThat(response.getMergedPrCount()).isZero();
+        verify(pullRequestStatRepository, never()).sumWithinRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void getLeaderTeamCommitSummaryShouldKeepLineTotalsAboveIntRange() {
+        UUID configId = UUID.randomUUID();
+        when(userGroupClient.getUserGroups(8L)).thenReturn(List.of(
+            new UserGroupClient.UserGroupMembership(10L, "G10", null, null, "LEADER", null)));
+        when(projectConfigClient.getConfigByGroupId(10L)).thenReturn(
+            Optional.of(new ProjectConfigClient.ProjectConfigSnapshot(configId, 10L, "VERIFIED", null, null)));
+        when(pullRequestStatRepository.sumWithinRange(configId, null, null, null)).thenReturn(pullRequestTotals(2, 1));
+        long additions = Integer.MAX_VALUE + 10L;
+        when(commitStatRepository.sumByAuthorWithinRange(configId, null, null)).thenReturn(List.of(
+            authorTotals("dev@example.com", 120, additions, 5L)));
+
+        var response = service.getLeaderTeamCommitSummary(8L, 10L, null, null);
+
+        assertThat(response.getMembers()).singleElement().satisfies(member -> {
+            assertThat(member.getAdditions()).isEqualTo(additions);
+            assertThat(member.getTotalChanges()).isEqualTo(additions + 5L);
+        });
+        assertThat(response.getTotalPullRequests()).isEqualTo(2);
+    }
+
+    private static DashboardCommitStatRepository.AuthorTotals authorTotals(String email, long commitCount, long additions, long deletions) {
+        return new DashboardCommitStatRepository.AuthorTotals() {
+            @Override
+            public String getAuthorEmail() {
+                return email;
+            }
+
+            @Override
+            public String getAuthorName() {
+                return null;
+            }
+
+            @Override
+            public String getAuthorLogin() {
+                return null;
+            }
+
+            @Override
+            public Long getCommitCount() {
+                return commitCount;
+            }
+
+            @Override
+            public Long getAdditions() {
+                return additions;
+            }
+
+            @Override
+            public Long getDeletions() {
+                return deletions;
+            }
+
+            @Override
+            public Long getTotalChanges() {
+                return additions + deletions;
+            }
+        };
+    }
+
+    private static DashboardCommitStatRepository.ContributorTotals contributorTotals(long commitCount) {
+        return new DashboardCommitStatRepository.ContributorTotals() {
+            @Override
+            public Long getCommitCount() {
+                return commitCount;
+            }
+
+            @Override
+            public Long getActiveDays() {
+                return 0L;
+            }
+
+            @Override
+            public LocalDateTime getLastCommitAt() {
+                return null;
+            }
+        };
+    }
+
+    private static DashboardPullRequestStatRepository.PullRequestTotals pullRequestTotals(long prCount, long mergedPrCount) {
+        return new DashboardPullRequestStatRepository.PullRequestTotals() {
+            @Override
+            public Long getPrCount() {
+                return prCount;
+            }
+
+            @Override
+            public Long getMergedPrCount() {
+                return mergedPrCount;
+            }
+        };
+    }
+
+    private static StatusCount statusCount(String status, long taskCount) {
+        return new StatusCount() {
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTaskCount() {
+                return taskCount;
+            }
+        };
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.reportservice.service;
+
+import com.example.reportservice.dto.ai.AiStructuredResponse;
+import com.example.reportservice.repository.ReportJobCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCheckpointStoreTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    @Mock
+    private ReportJobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void savedCheckpointsReadBackAsTheyWereWritten() {
+        ReportCheckpointStore store = new ReportCheckpointStore(checkpointRepository, transactionTemplate, new ObjectMapper());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        EvidenceBlock block = EvidenceBlock.builder()
+            .sourceType("ISSUE").sourceId("SAMT-1").summary("Login").description("As a user I can log in")
+            .status("Done").timestamp("2026-03-12T10:30:00Z")
+            .build();
+        AiStructuredResponse structured = new AiStructuredResponse("SRS",
+            List.of(new AiStructuredResponse.RequirementItem("FR-1", "FUNCTIONAL", "Login", "The system SHALL ...", List.of("SAMT-1"))),
+            List.of());
+        store.save(JOB_ID, "EVIDENCE_BUILD", new ReportCheckpointStore.EvidenceCheckpoint(List.of(block)));
+        store.save(JOB_ID, "AI_PROCESSING", new ReportCheckpointStore.AiCheckpoint(false, structured, "SRS", 1));
+
+        ArgumentCaptor<String> evidenceJson = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> aiJson = ArgumentCaptor.forClass(String.class);
+        verify(checkpointRepository).upsert(eq(JOB_ID), eq("EVIDENCE_BUILD"), evidenceJson.capture(), any());
+        verify(checkpointRepository).upsert(eq(JOB_ID), eq("AI_PROCESSING"), aiJson.capture(), any());
+        Map<String, String> saved = Map.of("EVIDENCE_BUILD", evidenceJson.getValue(), "AI_PROCESSING", aiJson.getValue());
+
+        assertThat(store.read(saved, "EVIDENCE_BUILD", ReportCheckpointStore.EvidenceCheckpoint.class).evidenceBlocks())
+            .containsExactly(block);
+        ReportCheckpointStore.AiCheckpoint ai = store.read(saved, "AI_PROCESSING", ReportCheckpointStore.AiCheckpoint.class);
+        assertThat(ai.structured()).isEqualTo(structured);
+        assertThat(ai.requirementsCount()).isEqualTo(1);
+        assertThat(store.read(saved, "EXPORT", ReportCheckpointStore.ExportCheckpoint.class)).isNull();
+    }
+}
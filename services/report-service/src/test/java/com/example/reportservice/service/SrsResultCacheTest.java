@@ -0,0 +1,115 @@
+package com.example.reportservice.service;
+
+import com.example.reportservice.config.SrsCacheProperties;
+import com.example.reportservice.dto.ai.AiStructuredResponse;
+import com.example.reportservice.repository.ReportRepository;
+import com.example.reportservice.repository.SrsAiResultRepository;
+import com.example.reportservice.storage.ReportArtifactStore;
+import com.example.reportservice.web.UpstreamServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SrsResultCacheTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private SrsAiResultRepository aiResultRepository;
+
+    @Mock
+    private ReportArtifactStore artifactStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SrsCacheProperties properties;
+    private SrsResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SrsCacheProperties();
+        cache = new SrsResultCache(properties, reportRepository, aiResultRepository, artifactStore, transactionTemplate,
+            new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void fingerprintsDependOnInputAndPromptVersionOnly() {
+        String ai = cache.aiFingerprint("[{\"sourceId\":\"SAMT-1\"}]");
+
+        assertThat(cache.aiFingerprint("[{\"sourceId\":\"SAMT-1\"}]")).isEqualTo(ai);
+        assertThat(cache.reportFingerprint("5", true, "pdf", ai)).isEqualTo(cache.reportFingerprint("5", true, "PDF", ai));
+        assertThat(cache.reportFingerprint("5", true, "PDF", ai)).isNotEqualTo(cache.reportFingerprint("5", false, "PDF", ai));
+
+        properties.setPromptVersion("v2");
+        assertThat(cache.aiFingerprint("[{\"sourceId\":\"SAMT-1\"}]")).isNotEqualTo(ai);
+    }
+
+    @Test
+    void aiResult_coalescesConcurrentIdenticalCalls_andHandsOutCopies() throws Exception {
+        when(aiResultRepository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger aiCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<AiStructuredResponse> leader = CompletableFuture.supplyAsync(() -> cache.aiResult("fp", false, () -> {
+            aiCalls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return new AiStructuredResponse("SRS", new ArrayList<>(), List.of());
+        }));
+        assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<AiStructuredResponse> follower = CompletableFuture.supplyAsync(() -> cache.aiResult("fp", false, () -> {
+            aiCalls.incrementAndGet();
+            return null;
+        }));
+        Thread.sleep(100);
+        release.countDown();
+
+        AiStructuredResponse first = leader.get(2, TimeUnit.SECONDS);
+        AiStructuredResponse second = follower.get(2, TimeUnit.SECONDS);
+        assertThat(aiCalls).hasValue(1);
+        assertThat(second.getSrsContent()).isEqualTo("SRS");
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void aiResult_rethrowsFailure_andKeepsNothingInFlight() {
+        when(aiResultRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cache.aiResult("fp", false, () -> {
+            throw new UpstreamServiceException("AI Service unavailable");
+        })).isInstanceOf(UpstreamServiceException.class);
+
+        assertThat(cache.aiResult("fp", false, () -> new AiStructuredResponse("SRS", List.of(), List.of())).getSrsContent())
+            .isEqualTo("SRS");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.reportservice.service.job;
+
+import com.example.reportservice.config.ReportJobProperties;
+import com.example.reportservice.dto.response.ReportResponse;
+import com.example.reportservice.entity.ReportJob;
+import com.example.reportservice.entity.ReportJobStatus;
+import com.example.reportservice.repository.ReportJobRepository;
+import com.example.reportservice.service.ReportCheckpointStore;
+import com.example.reportservice.service.ReportingService;
+import com.example.reportservice.web.ReportGenerationFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReportJobRunnerTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    @Mock
+    private ReportJobRepository jobRepository;
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private ReportCheckpointStore checkpointStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReportJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jobRepository.findIdsByStatusAndCreatedAtBefore(eq(ReportJobStatus.QUEUED), any(), any()))
+            .thenReturn(List.of(JOB_ID), List.of());
+        when(jobRepository.claim(eq(JOB_ID), anyString(), any())).thenReturn(1);
+        when(jobRepository.complete(eq(JOB_ID), anyString(), any(), any())).thenReturn(1);
+        when(jobRepository.fail(eq(JOB_ID), anyString(), any(), any(), any())).thenReturn(1);
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(false)));
+        runner = new ReportJobRunner(jobRepository, reportingService, checkpointStore, new ReportJobProperties(),
+            transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.destroy();
+    }
+
+    private static ReportJob job(boolean useAi) {
+        return ReportJob.builder()
+            .jobId(JOB_ID)
+            .projectConfigId("5")
+            .createdBy(UUID.randomUUID())
+            .useAi(useAi)
+            .exportType("PDF")
+            .status(ReportJobStatus.RUNNING)
+            .attempts(1)
+            .build();
+    }
+
+    @Test
+    void submitted_runsClaimedJob_andMarksItCompleted() {
+        UUID reportId = UUID.randomUUID();
+        when(reportingService.generate(eq("5"), anyString(), anyBoolean(), eq("PDF"), eq(JOB_ID), any()))
+            .thenReturn(new ReportResponse(reportId, "COMPLETED", LocalDateTime.now(), "/api/reports/" + reportId + "/download"));
+
+        runner.submitted(JOB_ID, null);
+
+        verify(jobRepository, timeout(2000)).complete(eq(JOB_ID), anyString(), eq(reportId), any());
+        verify(checkpointStore, timeout(2000)).deleteAll(JOB_ID);
+        verify(jobRepository, never()).fail(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void submitted_recordsFailedStep_whenPipelineGivesUp() {
+        when(reportingService.generate(eq("5"), anyString(), anyBoolean(), eq("PDF"), eq(JOB_ID), any()))
+            .thenThrow(new ReportGenerationFailedException("FETCH", "sync-service unavailable", List.of()));
+
+        runner.submitted(JOB_ID, null);
+
+        verify(jobRepository, timeout(2000)).fail(eq(JOB_ID), anyString(), eq("FETCH"), eq("sync-service unavailable"), any());
+        verify(checkpointStore, timeout(2000)).deleteAll(JOB_ID);
+    }
+
+    @Test
+    void submitted_keepsCheckpoints_whenOwnershipWasLost() {
+        UUID reportId = UUID.randomUUID();
+        when(reportingService.generate(eq("5"), anyString(), anyBoolean(), eq("PDF"), eq(JOB_ID), any()))
+            .thenReturn(new ReportResponse(reportId, "COMPLETED", LocalDateTime.now(), "/api/reports/" + reportId + "/download"));
+        // Re-queued as stale while running: the conditional update matches no row
+        when(jobRepository.complete(eq(JOB_ID), anyString(), eq(reportId), any())).thenReturn(0);
+
+        runner.submitted(JOB_ID, null);
+
+        verify(jobRepository, timeout(2000)).complete(eq(JOB_ID), anyString(), eq(reportId), any());
+        verify(checkpointStore, after(200).never()).deleteAll(any());
+    }
+
+    @Test
+    void submitted_claimsOwnSubmissionFirst_andRunsAsTheCaller() {
+        JwtAuthenticationToken caller = new JwtAuthenticationToken(Jwt.withTokenValue("token")
+            .header("alg", "none")
+            .subject("7")
+            .expiresAt(Instant.now().plusSeconds(600))
+            .build());
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(true)));
+        when(jobRepository.findIdsByStatusAndJobIdIn(eq(ReportJobStatus.QUEUED), eq(Set.of(JOB_ID)), any()))
+            .thenReturn(List.of(JOB_ID), List.of());
+        when(jobRepository.findIdsByStatusAndCreatedAtBefore(eq(ReportJobStatus.QUEUED), any(), any())).thenReturn(List.of());
+        AtomicReference<Authentication> runAs = new AtomicReference<>();
+        UUID reportId = UUID.randomUUID();
+        when(reportingService.generate(eq("5"), anyString(), anyBoolean(), eq("PDF"), eq(JOB_ID), any())).thenAnswer(invocation -> {
+            runAs.set(SecurityContextHolder.getContext().getAuthentication());
+            return new ReportResponse(reportId, "COMPLETED", LocalDateTime.now(), "/api/reports/" + reportId + "/download");
+        });
+
+        runner.submitted(JOB_ID, caller);
+
+        verify(jobRepository, timeout(2000)).complete(eq(JOB_ID), anyString(), eq(reportId), any());
+        assertThat(runAs.get()).isSameAs(caller);
+        verify(jobRepository, never()).markAiSkipped(any(), any(), any());
+    }
+
+    @Test
+    void submitted_recordsSkippedAi_whenAiJobRunsWithoutCallerToken() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(true)));
+        UUID reportId = UUID.randomUUID();
+        when(reportingService.generate(eq("5"), anyString(), anyBoolean(), eq("PDF"), eq(JOB_ID), any()))
+            .thenReturn(new ReportResponse(reportId, "COMPLETED", LocalDateTime.now(), "/api/reports/" + reportId + "/download"));
+
+        runner.submitted(JOB_ID, null);
+
+        verify(jobRepository, timeout(2000)).markAiSkipped(eq(JOB_ID), anyString(), any());
+        verify(jobRepository, timeout(2000)).complete(eq(JOB_ID), anyString(), eq(reportId), any());
+    }
+
+    @Test
+    void poll_requeuesOrphanedJobs() {
+        when(jobRepository.findIdsByStatusAndCreatedAtBefore(eq(ReportJobStatus.QUEUED), any(), any())).thenReturn(List.of());
+
+        runner.poll();
+
+        verify(jobRepository).requeueStale(any(), eq(3), any());
+        verify(jobRepository).failStale(any(), eq(3), anyString(), any());
+    }
+}
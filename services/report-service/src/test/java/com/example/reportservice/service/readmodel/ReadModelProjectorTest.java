@@ -0,0 +1,137 @@
+package com.example.reportservice.service.readmodel;
+
+import com.example.reportservice.config.ReadModelProperties;
+import com.example.reportservice.entity.ReadModelCursor;
+import com.example.reportservice.entity.ReadModelCursor.Stream;
+import com.example.reportservice.grpc.GithubCommitChangesResponse;
+import com.example.reportservice.grpc.IssueChangesResponse;
+import com.example.reportservice.grpc.SyncGrpcClient;
+import com.example.reportservice.grpc.UnifiedActivityChangesResponse;
+import com.example.reportservice.repository.ReadModelCursorRepository;
+import com.example.reportservice.support.DashboardFanOut;
+import com.example.reportservice.web.UpstreamServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadModelProjectorTest {
+
+    private static final UUID CONFIG_ID = UUID.randomUUID();
+
+    @Mock
+    private SyncGrpcClient syncGrpcClient;
+
+    @Mock
+    private ReadModelWriter readModelWriter;
+
+    @Mock
+    private ReadModelCursorRepository cursorRepository;
+
+    private final DashboardFanOut dashboardFanOut = new DashboardFanOut(5000, 4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReadModelProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = new ReadModelProjector(syncGrpcClient, readModelWriter, cursorRepository,
+            new ReadModelProperties(), dashboardFanOut, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardFanOut.destroy();
+    }
+
+    @Test
+    void ensureFresh_catchesUpNeverSyncedConfig_pageByPage() {
+        when(cursorRepository.findByProjectConfigIdIn(List.of(CONFIG_ID))).thenReturn(List.of());
+        when(readModelWriter.currentVersion(CONFIG_ID, Stream.ISSUES)).thenReturn("", "1:10");
+        IssueChangesResponse firstPage = IssueChangesResponse.newBuilder().setNextVersion("1:10").setHasMore(true).build();
+        IssueChangesResponse lastPage = IssueChangesResponse.newBuilder().setNextVersion("2:0").build();
+        when(syncGrpcClient.getIssueChangesSince(eq(CONFIG_ID), eq(""), anyInt())).thenReturn(firstPage);
+        when(syncGrpcClient.getIssueChangesSince(eq(CONFIG_ID), eq("1:10"), anyInt())).thenReturn(lastPage);
+        when(readModelWriter.applyIssueChanges(eq(CONFIG_ID), any(), any())).thenReturn(true);
+        stubEmptyCommitsAndActivities();
+
+        projector.ensureFresh(List.of(CONFIG_ID));
+
+        verify(readModelWriter).markRequested(eq(List.of(CONFIG_ID)), any());
+        verify(readModelWriter).applyIssueChanges(CONFIG_ID, "", firstPage);
+        verify(readModelWriter).applyIssueChanges(CONFIG_ID, "1:10", lastPage);
+    }
+
+    @Test
+    void ensureFresh_readsNothingRemote_whenConfigWasCaughtUpRecently() {
+        LocalDateTime now = LocalDateTime.now();
+        when(cursorRepository.findByProjectConfigIdIn(List.of(CONFIG_ID))).thenReturn(Arrays.stream(Stream.values())
+            .map(stream -> ReadModelCursor.builder().projectConfigId(CONFIG_ID).stream(stream).caughtUpAt(now).build())
+            .toList());
+
+        projector.ensureFresh(List.of(CONFIG_ID));
+
+        verifyNoInteractions(syncGrpcClient);
+    }
+
+    @Test
+    void catchUp_resyncsFromScratch_whenSyncServiceRejectsTheVersion() {
+        when(readModelWriter.currentVersion(CONFIG_ID, Stream.ISSUES)).thenReturn("9:9", "");
+        when(syncGrpcClient.getIssueChangesSince(eq(CONFIG_ID), eq("9:9"), anyInt()))
+            .thenThrow(new EntityNotFoundException("Project configuration not found"));
+        IssueChangesResponse snapshot = IssueChangesResponse.newBuilder().setNextVersion("3:0").build();
+        when(syncGrpcClient.getIssueChangesSince(eq(CONFIG_ID), eq(""), anyInt())).thenReturn(snapshot);
+        when(readModelWriter.applyIssueChanges(CONFIG_ID, "", snapshot)).thenReturn(true);
+        stubEmptyCommitsAndActivities();
+
+        assertThat(projector.catchUp(CONFIG_ID)).isTrue();
+
+        verify(readModelWriter).resetVersion(CONFIG_ID, Stream.ISSUES);
+        verify(readModelWriter, times(1)).applyIssueChanges(CONFIG_ID, "", snapshot);
+    }
+
+    @Test
+    void catchUp_recordsFailure_andKeepsOtherStreamsGoing() {
+        when(readModelWriter.currentVersion(CONFIG_ID, Stream.ISSUES)).thenReturn("");
+        when(syncGrpcClient.getIssueChangesSince(eq(CONFIG_ID), eq(""), anyInt()))
+            .thenThrow(new UpstreamServiceException("sync-service unavailable"));
+        stubEmptyCommitsAndActivities();
+
+        assertThat(projector.catchUp(CONFIG_ID)).isFalse();
+
+        verify(readModelWriter).recordError(CONFIG_ID, Stream.ISSUES, "sync-service unavailable");
+        verify(readModelWriter).applyGithubCommitChanges(eq(CONFIG_ID), eq(""), any());
+        verify(readModelWriter).applyUnifiedActivityChanges(eq(CONFIG_ID), eq(""), any());
+        assertThat(meterRegistry.get("report.read-model.catch-ups").tag("stream", "ISSUES").tag("result", "failed")
+            .counter().count()).isEqualTo(1);
+    }
+
+    private void stubEmptyCommitsAndActivities() {
+        when(readModelWriter.currentVersion(CONFIG_ID, Stream.COMMITS)).thenReturn("");
+        when(readModelWriter.currentVersion(CONFIG_ID, Stream.ACTIVITIES)).thenReturn("");
+        when(syncGrpcClient.getGithubCommitChangesSince(eq(CONFIG_ID), eq(""), anyInt()))
+            .thenReturn(GithubCommitChangesResponse.newBuilder().setNextVersion("1:0").build());
+        when(syncGrpcClient.getUnifiedActivityChangesSince(eq(CONFIG_ID), eq(""), anyInt()))
+            .thenReturn(UnifiedActivityChangesResponse.newBuilder().setNextVersion("1:0").build());
+        when(readModelWriter.applyGithubCommitChanges(eq(CONFIG_ID), eq(""), any())).thenReturn(true);
+        when(readModelWriter.applyUnifiedActivityChanges(eq(CONFIG_ID), eq(""), any())).thenReturn(true);
+    }
+}
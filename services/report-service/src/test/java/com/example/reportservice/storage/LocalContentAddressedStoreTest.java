@@ -0,0 +1,171 @@
+package com.example.reportservice.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalContentAddressedStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void write_storesUnderShardedContentAddress() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+
+        StoredArtifact artifact = store.write("PDF", out -> out.write("report".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(ArtifactKeys.isContentAddressed(artifact.key())).isTrue();
+        assertThat(artifact.key()).startsWith(artifact.sha256().substring(0, 2) + "/" + artifact.sha256().substring(2, 4) + "/")
+            .endsWith(".pdf");
+        assertThat(artifact.size()).isEqualTo(6);
+        assertThat(Files.readString(store.localFile(artifact.key()).orElseThrow())).isEqualTo("report");
+        assertThat(root.resolve(".staging")).isEmptyDirectory();
+    }
+
+    @Test
+    void write_deduplicatesIdenticalContent_andRefreshesItsAge() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact first = store.write("docx", out -> out.write(new byte[]{1, 2, 3}));
+        Path file = store.localFile(first.key()).orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(10))));
+
+        StoredArtifact second = store.write("docx", out -> out.write(new byte[]{1, 2, 3}));
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(second.lastModified()).isAfter(Instant.now().minus(Duration.ofMinutes(1)));
+        try (var files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void failedWriter_leavesNothingBehind() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+
+        assertThatThrownBy(() -> store.write("pdf", out -> {
+            out.write(1);
+            throw new IllegalStateException("renderer failed");
+        })).hasMessage("renderer failed");
+
+        try (var files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isZero();
+        }
+    }
+
+    @Test
+    void forEachKey_listsOnlyArtifactsOlderThanTheCutoff() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact old = store.write("pdf", out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        store.write("pdf", out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        Files.setLastModifiedTime(store.localFile(old.key()).orElseThrow(), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        Files.writeString(root.resolve("srs_legacy.pdf"), "legacy");
+
+        List<String> keys = new ArrayList<>();
+        store.forEachKey(Instant.now().minus(Duration.ofDays(1)), keys::add);
+
+        assertThat(keys).containsExactly(old.key());
+    }
+
+    @Test
+    void legacyAbsolutePaths_remainReadableAndDeletable() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root.resolve("store"));
+        Path legacy = Files.writeString(root.resolve("srs_1234.pdf"), "legacy");
+        String key = legacy.toAbsolutePath().toString();
+
+        assertThat(store.find(key)).hasValueSatisfying(artifact -> {
+            assertThat(artifact.sha256()).isNull();
+            assertThat(artifact.size()).isEqualTo(6);
+        });
+        assertThat(store.localFile(key)).contains(legacy.toAbsolutePath());
+
+        store.delete(key);
+        assertThat(legacy).doesNotExist();
+    }
+
+    @Test
+    void relativeKeysOutsideTheKeyFormat_areRejected() {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+
+        assertThatThrownBy(() -> store.localFile("../../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void purgeLocal_dropsAbandonedStagingFiles() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        Path abandoned = store.newStagingFile();
+        Files.setLastModifiedTime(abandoned, FileTime.from(Instant.now().minus(Duration.ofDays(5))));
+        Path inProgress = store.newStagingFile();
+
+        store.purgeLocal(Instant.now().minus(Duration.ofDays(1)));
+
+        assertThat(abandoned).doesNotExist();
+        assertThat(inProgress).exists();
+    }
+
+    @Test
+    void deleteIfUnused_deletesStaleUnreferencedArtifact() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact artifact = store.write("pdf", out -> out.write("stale".getBytes(StandardCharsets.UTF_8)));
+        Path file = store.localFile(artifact.key()).orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        assertThat(store.deleteIfUnused(artifact.key(), Instant.now().minus(Duration.ofDays(1)), () -> true)).isTrue();
+
+        assertThat(file).doesNotExist();
+        assertThat(root.resolve(".staging")).isEmptyDirectory();
+    }
+
+    @Test
+    void deleteIfUnused_keepsArtifactRefreshedSinceTheCutoff() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact artifact = store.write("pdf", out -> out.write("fresh".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(store.deleteIfUnused(artifact.key(), Instant.now().minus(Duration.ofDays(1)), () -> true)).isFalse();
+
+        assertThat(store.localFile(artifact.key())).isPresent();
+        assertThat(root.resolve(".staging")).isEmptyDirectory();
+    }
+
+    @Test
+    void deleteIfUnused_restoresArtifactReferencedWhileTombstoned() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact artifact = store.write("pdf", out -> out.write("reused".getBytes(StandardCharsets.UTF_8)));
+        Path file = store.localFile(artifact.key()).orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        assertThat(store.deleteIfUnused(artifact.key(), Instant.now().minus(Duration.ofDays(1)), () -> false)).isFalse();
+
+        assertThat(Files.readString(file)).isEqualTo("reused");
+        assertThat(root.resolve(".staging")).isEmptyDirectory();
+    }
+
+    @Test
+    void dedupWrite_whileTombstoned_recreatesTheArtifact() throws Exception {
+        LocalContentAddressedStore store = new LocalContentAddressedStore(root);
+        StoredArtifact artifact = store.write("pdf", out -> out.write("dedup".getBytes(StandardCharsets.UTF_8)));
+        Path file = store.localFile(artifact.key()).orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // The export deduplicates into the key after retention moved it away, then its report row shows up
+        boolean deleted = store.deleteIfUnused(artifact.key(), Instant.now().minus(Duration.ofDays(1)), () -> {
+            store.write("pdf", out -> out.write("dedup".getBytes(StandardCharsets.UTF_8)));
+            return false;
+        });
+
+        assertThat(deleted).isFalse();
+        assertThat(Files.readString(file)).isEqualTo("dedup");
+        assertThat(root.resolve(".staging")).isEmptyDirectory();
+    }
+}
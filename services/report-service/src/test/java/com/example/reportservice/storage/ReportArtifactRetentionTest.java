@@ -0,0 +1,123 @@
+package com.example.reportservice.storage;
+
+import com.example.reportservice.config.ReportStorageProperties;
+import com.example.reportservice.entity.Report;
+import com.example.reportservice.repository.ReportRepository;
+import com.example.reportservice.repository.SrsAiResultRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportArtifactRetentionTest {
+
+    private static final String SHARED_KEY = ArtifactKeys.key("a".repeat(64), "pdf");
+    private static final String ORPHAN_KEY = ArtifactKeys.key("b".repeat(64), "pdf");
+
+    @Mock
+    private ReportArtifactStore artifactStore;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private SrsAiResultRepository aiResultRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReportStorageProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReportArtifactRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReportStorageProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        retention = new ReportArtifactRetention(artifactStore, reportRepository, aiResultRepository, properties,
+            transactionTemplate, meterRegistry);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void expiredReport_keepsArtifactStillReferencedByAReusedReport() {
+        properties.getRetention().setBatchSize(10);
+        Report expired = Report.builder().filePath(SHARED_KEY).build();
+        when(reportRepository.findByCreatedAtBeforeOrderByCreatedAtAsc(any(), any())).thenReturn(List.of(expired));
+        when(reportRepository.existsByFilePath(SHARED_KEY)).thenReturn(true);
+
+        int deleted = retention.expireReports(Instant.now(), properties.getRetention(), Instant.now());
+
+        assertThat(deleted).isEqualTo(1);
+        verify(reportRepository).deleteAllInBatch(List.of(expired));
+        verify(artifactStore, never()).delete(anyString());
+    }
+
+    @Test
+    void sweep_deletesUnreferencedArtifactsOlderThanTheGrace() {
+        Instant graceCutoff = Instant.now().minus(Duration.ofDays(1));
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            action.accept(SHARED_KEY);
+            action.accept(ORPHAN_KEY);
+            return null;
+        }).when(artifactStore).forEachKey(any(), any());
+        when(reportRepository.existsByFilePath(SHARED_KEY)).thenReturn(true);
+        when(reportRepository.existsByFilePath(ORPHAN_KEY)).thenReturn(false);
+        when(artifactStore.deleteIfUnused(eq(ORPHAN_KEY), eq(graceCutoff), any()))
+            .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(2).getAsBoolean());
+
+        int deleted = retention.sweepOrphans(graceCutoff);
+
+        assertThat(deleted).isEqualTo(1);
+        verify(artifactStore, never()).deleteIfUnused(eq(SHARED_KEY), any(), any());
+        verify(artifactStore, never()).delete(anyString());
+        assertThat(meterRegistry.counter("report.storage.retention.deleted", "kind", "artifact").count()).isEqualTo(1);
+    }
+
+    @Test
+    void sweep_keepsArtifactReferencedOrRefreshedWhileBeingDeleted() {
+        Instant graceCutoff = Instant.now().minus(Duration.ofDays(1));
+        doAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(1).accept(ORPHAN_KEY);
+            return null;
+        }).when(artifactStore).forEachKey(any(), any());
+        // Unreferenced when listed, referenced by a reused report once the store re-checks
+        when(reportRepository.existsByFilePath(ORPHAN_KEY)).thenReturn(false, true);
+        when(artifactStore.deleteIfUnused(eq(ORPHAN_KEY), eq(graceCutoff), any()))
+            .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(2).getAsBoolean());
+
+        assertThat(retention.sweepOrphans(graceCutoff)).isZero();
+        assertThat(meterRegistry.find("report.storage.retention.deleted").counter()).isNull();
+    }
+
+    @Test
+    void zeroReportTtl_keepsReportsForever() {
+        properties.getRetention().setReportTtl(Duration.ZERO);
+
+        assertThat(retention.expireReports(Instant.now(), properties.getRetention(), Instant.now())).isZero();
+        verify(reportRepository, never()).findByCreatedAtBeforeOrderByCreatedAtAsc(any(), any());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.reportservice.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3ReportArtifactStore against MinIO, the S3-compatible stand-in also used by docker compose (profile s3).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ReportArtifactStoreIntegrationTest {
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-06-13T22-53-53Z");
+
+    @TempDir
+    Path replicaA;
+
+    @TempDir
+    Path replicaB;
+
+    private S3Client s3;
+    private String bucket;
+
+    @BeforeEach
+    void setUp() {
+        s3 = S3Client.builder()
+            .endpointOverride(URI.create(minio.getS3URL()))
+            .region(Region.US_EAST_1)
+            .forcePathStyle(true)
+            .credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+            .build();
+        bucket = "reports-" + UUID.randomUUID();
+        s3.createBucket(request -> request.bucket(bucket));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+    }
+
+    @Test
+    void artifactWrittenOnOneReplica_isServedByAnother() throws Exception {
+        StoredArtifact written = store(replicaA).write("pdf", out -> out.write("shared report".getBytes(StandardCharsets.UTF_8)));
+
+        S3ReportArtifactStore other = store(replicaB);
+        assertThat(other.find(written.key())).hasValueSatisfying(artifact -> assertThat(artifact.size()).isEqualTo(13));
+        Path local = other.localFile(written.key()).orElseThrow();
+
+        assertThat(local).startsWith(replicaB);
+        assertThat(Files.readString(local)).isEqualTo("shared report");
+    }
+
+    @Test
+    void identicalContent_isUploadedOnce() {
+        S3ReportArtifactStore store = store(replicaA);
+        StoredArtifact first = store.write("docx", out -> out.write(new byte[]{4, 2}));
+        StoredArtifact second = store(replicaB).write("docx", out -> out.write(new byte[]{4, 2}));
+
+        List<String> keys = new ArrayList<>();
+        store.forEachKey(Instant.now().plus(Duration.ofMinutes(1)), keys::add);
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(keys).containsExactly(first.key());
+    }
+
+    @Test
+    void delete_removesObjectAndCachedCopy() {
+        S3ReportArtifactStore store = store(replicaA);
+        StoredArtifact written = store.write("xlsx", out -> out.write(7));
+
+        store.delete(written.key());
+
+        assertThat(store.find(written.key())).isEmpty();
+        assertThat(store.localFile(written.key())).isEmpty();
+    }
+
+    @Test
+    void deleteIfUnused_keepsObjectsRefreshedSinceTheCutoffOrReferencedAgain() {
+        S3ReportArtifactStore store = store(replicaA);
+        StoredArtifact written = store.write("pdf", out -> out.write("retained".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(store.deleteIfUnused(written.key(), Instant.now().minus(Duration.ofDays(1)), () -> true)).isFalse();
+        assertThat(store.deleteIfUnused(written.key(), Instant.now().plus(Duration.ofMinutes(1)), () -> false)).isFalse();
+        assertThat(store(replicaB).find(written.key())).isPresent();
+
+        assertThat(store.deleteIfUnused(written.key(), Instant.now().plus(Duration.ofMinutes(1)), () -> true)).isTrue();
+        assertThat(store.find(written.key())).isEmpty();
+        assertThat(s3.listObjectsV2(request -> request.bucket(bucket)).contents()).isEmpty();
+    }
+
+    @Test
+    void missingObject_isNotFound() {
+        String key = ArtifactKeys.key("a".repeat(64), "pdf");
+
+        assertThat(store(replicaA).find(key)).isEmpty();
+        assertThat(store(replicaA).localFile(key)).isEmpty();
+    }
+
+    private S3ReportArtifactStore store(Path cacheRoot) {
+        return new S3ReportArtifactStore(s3, bucket, "reports/", new LocalContentAddressedStore(cacheRoot));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.reportservice.support;
+
+import com.example.reportservice.web.UpstreamServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DashboardFanOutTest {
+
+    private final DashboardFanOut fanOut = new DashboardFanOut(300, 4);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        fanOut.destroy();
+    }
+
+    @Test
+    void branchesRunInParallel_soTheScopeCostsTheSlowestCall() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        try (DashboardFanOut.Scope scope = fanOut.open()) {
+            List<DashboardFanOut.Branch<String>> branches = List.of("a", "b", "c").stream()
+                .map(name -> scope.fork(name, () -> {
+                    allStarted.countDown();
+                    awaitQuietly(allStarted);
+                    return name;
+                }))
+                .toList();
+
+            // Sequential execution would never release the latch and every branch would time out
+            assertThat(branches).extracting(DashboardFanOut.Branch::join).containsExactly("a", "b", "c");
+        }
+    }
+
+    @Test
+    void lateOptionalBranch_yieldsFallback_andLateRequiredBranch_fails() {
+        try (DashboardFanOut.Scope scope = fanOut.open()) {
+            var fast = scope.fork("fast", () -> 1L);
+            var slowOptional = scope.fork("slowOptional", () -> sleepAndReturn(5_000, 7L), 0L);
+            var slowRequired = scope.fork("slowRequired", () -> sleepAndReturn(5_000, 7L));
+
+            assertThat(fast.join()).isEqualTo(1L);
+            assertThat(slowOptional.join()).isZero();
+            assertThatThrownBy(slowRequired::join)
+                .isInstanceOf(UpstreamServiceException.class)
+                .hasMessageContaining("slowRequired");
+        }
+    }
+
+    @Test
+    void branchFailure_isRethrownAsIs() {
+        try (DashboardFanOut.Scope scope = fanOut.open()) {
+            var denied = scope.fork("denied", () -> {
+                throw new AccessDeniedException("not your group");
+            }, "fallback");
+
+            assertThatThrownBy(denied::join)
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("not your group");
+        }
+    }
+
+    @Test
+    void callerSecurityContext_isVisibleInBranches() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("42", "token"));
+        try (DashboardFanOut.Scope scope = fanOut.open()) {
+            var caller = scope.fork("caller", () -> SecurityContextHolder.getContext().getAuthentication().getName());
+
+            assertThat(caller.join()).isEqualTo("42");
+        }
+    }
+
+    private static <T> T sleepAndReturn(long millis, T value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.reportservice.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportFileTransferTest {
+
+    private final ReportFileTransfer transfer = new ReportFileTransfer();
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private String sha256;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = tempDir.resolve("srs.pdf");
+        Files.writeString(file, "0123456789", StandardCharsets.UTF_8);
+        sha256 = ReportFileTransfer.sha256(file);
+    }
+
+    @Test
+    void fullDownload_carriesStrongEtagAndBody() throws Exception {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/download"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + sha256 + "\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("attachment").contains("srs.pdf");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void matchingIfNoneMatch_answersNotModifiedWithoutBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", \"" + sha256 + "\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void singleRange_answersPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void staleIfRange_fallsBackToFullFile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"previous-version\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void rangeBeyondEnd_isNotSatisfiable() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void sendfileCapableConnector_getsTheRegionInsteadOfBytes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.setAttribute(ReportFileTransfer.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(request.getAttribute(ReportFileTransfer.SENDFILE_START_ATTR)).isEqualTo(7L);
+        assertThat(request.getAttribute(ReportFileTransfer.SENDFILE_END_ATTR)).isEqualTo(10L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void parseRange_ignoresMultipleAndMalformedRanges() {
+        assertThat(ReportFileTransfer.parseRange("bytes=0-1,4-5", 10)).isNull();
+        assertThat(ReportFileTransfer.parseRange("items=0-1", 10)).isNull();
+        assertThat(ReportFileTransfer.parseRange("bytes=5-2", 10)).isNull();
+        assertThat(ReportFileTransfer.parseRange("bytes=4-100", 10)).containsExactly(4L, 9L);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        transfer.write(request, response, file, "srs.pdf", MediaType.APPLICATION_PDF, Files.size(file), sha256);
+        return response;
+    }
+}
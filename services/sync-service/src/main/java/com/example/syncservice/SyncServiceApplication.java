@@ -1,13 +1,16 @@
 package com.example.syncservice;
 
+import com.example.syncservice.config.SyncProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
 @EnableAsync
+@EnableConfigurationProperties(SyncProperties.class)
 public class SyncServiceApplication {
 
     public static void main(String[] args) {
@@ -1,24 +1,39 @@
 package com.example.syncservice.client.external;
 
+import com.example.syncservice.config.SyncProperties;
 import com.example.syncservice.dto.GithubCommitDto;
+import com.example.syncservice.dto.GithubCommitFetchResult;
 import com.example.syncservice.service.FallbackSignal;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Client for GitHub REST API.
+ * Client for GitHub REST API (optionally GraphQL for commit listing).
  * 
  * CRITICAL DESIGN:
  * - WebClient for non-blocking calls
@@ -27,6 +42,10 @@ import java.util.List;
  * - Exponential backoff with jitter
  * - Circuit breaker protects against API downtime
  * - Handles 403 (rate limit) explicitly
+ * - Commit-detail enrichment runs with bounded concurrency and slows down
+ *   as X-RateLimit-Remaining approaches zero
+ * - sync.github.fetch-strategy=GRAPHQL swaps the 1 + N REST pattern for
+ *   {@link GithubGraphqlCommitFetcher} (100 commits with stats per request)
  */
 @Component
 @Slf4j
@@ -34,47 +53,149 @@ public class GithubClient {
 
     private final WebClient githubWebClient;
     private final FallbackSignal fallbackSignal;
+    private final io.github.resilience4j.ratelimiter.RateLimiter githubRateLimiter;
+    private final io.github.resilience4j.retry.Retry githubRetry;
+    private final GithubRateLimitTracker rateLimitTracker;
+    private final int detailConcurrency;
+    private final SyncProperties.FetchStrategy fetchStrategy;
+    private final GithubGraphqlCommitFetcher graphqlFetcher;
 
     public GithubClient(@Qualifier("githubWebClient") WebClient githubWebClient,
-                        FallbackSignal fallbackSignal) {
+                        FallbackSignal fallbackSignal,
+                        RateLimiterRegistry rateLimiterRegistry,
+                        RetryRegistry retryRegistry,
+                        SyncProperties syncProperties) {
         this.githubWebClient = githubWebClient;
         this.fallbackSignal = fallbackSignal;
+        this.githubRateLimiter = rateLimiterRegistry.rateLimiter("githubRateLimiter");
+        this.githubRetry = retryRegistry.retry("githubRetry");
+        SyncProperties.Github github = syncProperties.getGithub();
+        this.rateLimitTracker = new GithubRateLimitTracker(
+                github.getRateLimitLowWatermark(),
+                Duration.ofSeconds(Math.max(0, github.getRateLimitMaxWaitSeconds())));
+        this.detailConcurrency = Math.max(1, github.getDetailConcurrency());
+        this.fetchStrategy = github.getFetchStrategy() != null ? github.getFetchStrategy() : SyncProperties.FetchStrategy.REST;
+        this.graphqlFetcher = new GithubGraphqlCommitFetcher(githubWebClient, rateLimitTracker);
     }
 
     /**
      * Fetch commits from GitHub repository.
      * 
+     * INCREMENTAL MODE (any of since / validator / knownShas supplied):
+     * - since= limits the listing to commits after the stored watermark
+     * - If-None-Match / If-Modified-Since on the first page; a 304 short-circuits the whole fetch
+     *   (conditional 304 responses do not count against the GitHub rate limit)
+     * - SHAs in knownShas are already persisted with stats, so they are dropped
+     *   instead of costing one commit-detail request each
+     * 
+     * GRAPHQL STRATEGY:
+     * - since and knownShas apply as above; the validator is ignored (no conditional
+     *   requests on POST /graphql), so notModified is always false
+     * 
      * @param repoUrl Repository URL (e.g., https://github.com/owner/repo)
      * @param accessToken GitHub personal access token
      * @param perPage Number of commits per request (max 100)
-        * @return List of GitHub commits (all pages)
+     * @param since Only list commits after this UTC timestamp (null = full history)
+     * @param validator ETag or Last-Modified of the previous first page (null = unconditional)
+     * @param knownShas SHAs already stored for this config (empty = enrich everything)
+     * @return Fetched commits (all pages) plus first-page validators
      */
     @Retry(name = "githubRetry", fallbackMethod = "fetchCommitsFallback")
     @CircuitBreaker(name = "githubCircuitBreaker", fallbackMethod = "fetchCommitsFallback")
     @RateLimiter(name = "githubRateLimiter")
-    public List<GithubCommitDto> fetchCommits(String repoUrl, String accessToken, int perPage) {
-        log.debug("Fetching GitHub commits for repo={} with pageSize={}", repoUrl, perPage);
+    public GithubCommitFetchResult fetchCommits(String repoUrl,
+                                                String accessToken,
+                                                int perPage,
+                                                LocalDateTime since,
+                                                HttpValidator validator,
+                                                Set<String> knownShas) {
+        List<GithubCommitDto> allCommits = new ArrayList<>();
+        GithubCommitFetchResult result = doFetchCommits(repoUrl, accessToken, perPage, since, validator, knownShas,
+                PageCursor.FIRST, (pageNumber, commits, nextCursor) -> allCommits.addAll(commits));
+        result.setCommits(allCommits);
+        return result;
+    }
+
+    /**
+     * Streaming variant of {@link #fetchCommits}: each enriched page is handed to {@code pageHandler}
+     * before the next page is requested, and the returned result carries no commits.
+     * 
+     * - Memory stays at one page regardless of repository size
+     * - The handler runs on this thread, so a slow DB write delays the next HTTP call (backpressure)
+     * - {@code start} resumes a previously checkpointed run (page number for REST, cursor for GraphQL);
+     *   conditional validators only apply when starting from page 1
+     * - Handler failures surface as {@link PageHandlerException} and bypass the fallback
+     * - Transient failures are retried (githubRetry) after the last delivered page, not from {@code start},
+     *   so pages the handler already committed are not fetched and persisted again
+     */
+    @CircuitBreaker(name = "githubCircuitBreaker", fallbackMethod = "streamCommitsFallback")
+    @RateLimiter(name = "githubRateLimiter")
+    public GithubCommitFetchResult streamCommits(String repoUrl,
+                                                 String accessToken,
+                                                 int perPage,
+                                                 LocalDateTime since,
+                                                 HttpValidator validator,
+                                                 Set<String> knownShas,
+                                                 PageCursor start,
+                                                 PageHandler<GithubCommitDto> pageHandler) {
+        PageCursor first = start != null ? start : PageCursor.FIRST;
+        ResumablePageHandler<GithubCommitDto> resumable = new ResumablePageHandler<>(pageHandler);
+        return githubRetry.executeSupplier(() -> doFetchCommits(repoUrl, accessToken, perPage, since, validator, knownShas,
+                resumable.hasDelivered() ? PageCursor.after(resumable.lastPage(), resumable.nextCursor()) : first,
+                resumable));
+    }
+
+    private GithubCommitFetchResult doFetchCommits(String repoUrl,
+                                                   String accessToken,
+                                                   int perPage,
+                                                   LocalDateTime since,
+                                                   HttpValidator validator,
+                                                   Set<String> knownShas,
+                                                   PageCursor start,
+                                                   PageHandler<GithubCommitDto> pageHandler) {
+        log.debug("Fetching GitHub commits for repo={} with pageSize={}, since={}", repoUrl, perPage, since);
 
         String[] parts = extractOwnerAndRepo(repoUrl);
         String owner = parts[0];
         String repo = parts[1];
+        Set<String> skipShas = knownShas != null ? knownShas : Set.of();
+        String sinceParam = since != null ? since.atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) : null;
 
         try {
             final int pageSize = Math.min(Math.max(perPage, 1), 100); // GitHub max 100
-            List<GithubCommitDto> allCommits = new java.util.ArrayList<>();
+            if (fetchStrategy == SyncProperties.FetchStrategy.GRAPHQL) {
+                return graphqlFetcher.fetch(owner, repo, accessToken, pageSize, sinceParam, skipShas, start, pageHandler);
+            }
 
-            int page = 1;
+            String etag = null;
+            String lastModified = null;
+            int skippedKnown = 0;
+            int commitsFetched = 0;
+            int pagesFetched = 0;
+
+            int page = Math.max(start.page(), 1);
             while (true) {
                 final int currentPage = page;
-                List<GithubCommitDto> commits = githubWebClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/repos/{owner}/{repo}/commits")
-                                .queryParam("per_page", pageSize)
-                                .queryParam("page", currentPage)
-                                .build(owner, repo))
+                ResponseEntity<List<GithubCommitDto>> response = githubWebClient.get()
+                        .uri(uriBuilder -> {
+                            uriBuilder.path("/repos/{owner}/{repo}/commits")
+                                    .queryParam("per_page", pageSize)
+                                    .queryParam("page", currentPage);
+                            if (sinceParam != null) {
+                                uriBuilder.queryParam("since", sinceParam);
+                            }
+                            return uriBuilder.build(owner, repo);
+                        })
                         .header("Authorization", "Bearer " + accessToken)
                         .header("Accept", "application/vnd.github+json")
                         .header("X-GitHub-Api-Version", "2022-11-28")
+                        .headers(headers -> {
+                            // Conditional request only makes sense for the first page:
+                            // if page 1 is unchanged, nothing newer than the watermark exists.
+                            if (currentPage == 1 && validator != null) {
+                                validator.applyTo(headers);
+                            }
+                        })
                         .retrieve()
                         .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
                             if (clientResponse.statusCode() == HttpStatus.FORBIDDEN) {
@@ -93,32 +214,53 @@ public class GithubClient {
                             log.error("GitHub server error: {}", clientResponse.statusCode());
                             return clientResponse.createException();
                         })
-                        .bodyToMono(new ParameterizedTypeReference<List<GithubCommitDto>>() {})
+                        .toEntity(new ParameterizedTypeReference<List<GithubCommitDto>>() {})
                         .timeout(Duration.ofSeconds(30))
                         .block();
 
+                if (response == null) {
+                    break;
+                }
+                pagesFetched++;
+
+                rateLimitTracker.update(accessToken, response.getHeaders());
+
+                if (currentPage == 1) {
+                    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        log.info("GitHub commits not modified since last sync for repo={}/{}", owner, repo);
+                        return GithubCommitFetchResult.builder()
+                                .notModified(true)
+                                .etag(validator != null ? validator.etag() : null)
+                                .lastModified(validator != null ? validator.lastModified() : null)
+                                .pagesFetched(1)
+                                .build();
+                    }
+                    etag = response.getHeaders().getETag();
+                    lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                }
+
+                List<GithubCommitDto> commits = response.getBody();
                 if (commits == null || commits.isEmpty()) {
                     break;
                 }
 
                 // IMPORTANT: the list-commits endpoint does NOT include "stats".
                 // Enrich each commit via the commit-detail endpoint so we can persist additions/deletions/totalChanges.
+                List<GithubCommitDto> toEnrich = new ArrayList<>(commits.size());
                 for (GithubCommitDto base : commits) {
                     if (base == null || base.getSha() == null || base.getSha().isBlank()) {
                         continue;
                     }
-                    try {
-                        GithubCommitDto detailed = fetchCommitDetail(owner, repo, base.getSha(), accessToken);
-                        allCommits.add(detailed != null ? detailed : base);
-                    } catch (RateLimitExceededException | AuthenticationException | RepositoryNotFoundException e) {
-                        // Let the outer handler deal with these explicitly
-                        throw e;
-                    } catch (Exception e) {
-                        // If a single commit fails to enrich, keep the base commit (stats will be missing => 0)
-                        log.warn("Failed to fetch GitHub commit detail sha={} repo={}/{}: {}", base.getSha(), owner, repo, e.getMessage());
-                        allCommits.add(base);
+                    if (skipShas.contains(base.getSha())) {
+                        // Already persisted with stats; re-upserting the bare listing would zero them out.
+                        skippedKnown++;
+                        continue;
                     }
+                    toEnrich.add(base);
                 }
+                List<GithubCommitDto> enriched = enrichCommits(owner, repo, toEnrich, accessToken);
+                commitsFetched += enriched.size();
+                PageHandler.deliver(pageHandler, currentPage, enriched, null);
 
                 // If we received less than a full page, we've reached the end.
                 if (commits.size() < pageSize) {
@@ -127,14 +269,22 @@ public class GithubClient {
                 page++;
             }
 
-            if (allCommits.isEmpty()) {
-                log.info("No commits found for repo={}/{}", owner, repo);
-                return List.of();
+            if (commitsFetched == 0) {
+                log.info("No new commits found for repo={}/{} (skippedKnown={})", owner, repo, skippedKnown);
+            } else {
+                log.info("Fetched {} commits from GitHub repo={}/{} (pages={}, startPage={}, skippedKnown={})",
+                        commitsFetched, owner, repo, pagesFetched, start.page(), skippedKnown);
             }
 
-            log.info("Fetched {} commits from GitHub repo={}/{}", allCommits.size(), owner, repo);
-            return allCommits;
+            return GithubCommitFetchResult.builder()
+                    .etag(etag)
+                    .lastModified(lastModified)
+                    .pagesFetched(pagesFetched)
+                    .skippedKnownCommits(skippedKnown)
+                    .build();
 
+        } catch (PageHandlerException e) {
+            throw e;
         } catch (RateLimitExceededException e) {
             log.error("GitHub rate limit exceeded for repo={}/{}", owner, repo);
             throw e;
@@ -144,13 +294,54 @@ public class GithubClient {
         } catch (RepositoryNotFoundException e) {
             log.error("GitHub repository not found: {}/{}", owner, repo);
             throw e;
+        } catch (WebClientRequestException e) {
+            // Unwrapped so githubRetry (retry-exceptions) recognises the transient I/O failure
+            log.warn("GitHub request failed for repo={}/{}: {}", owner, repo, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching GitHub commits for repo={}/{}: {}", owner, repo, e.getMessage(), e);
             throw new GithubClientException("Failed to fetch GitHub commits: " + e.getMessage(), e);
         }
     }
 
-    private GithubCommitDto fetchCommitDetail(String owner, String repo, String sha, String accessToken) {
+    /**
+     * Enrich one page of commits with stats, up to {@code detailConcurrency} requests in flight.
+     * 
+     * - Order of the page is preserved (flatMapSequential)
+     * - Every detail call takes a permit from githubRateLimiter
+     * - X-RateLimit-Remaining is tracked per token; below the low watermark each call reserves its own
+     *   slot at subscription, so concurrent calls are spaced out instead of firing together
+     * - A single failed detail keeps the base commit (stats => 0); rate-limit/auth/404 abort the fetch
+     */
+    private List<GithubCommitDto> enrichCommits(String owner, String repo, List<GithubCommitDto> commits, String accessToken) {
+        if (commits.isEmpty()) {
+            return List.of();
+        }
+
+        List<GithubCommitDto> enriched = Flux.fromIterable(commits)
+            .flatMapSequential(base -> Mono.defer(() -> Mono.delay(rateLimitTracker.reserveNextRequest(accessToken))
+                        .then(fetchCommitDetail(owner, repo, base.getSha(), accessToken)))
+                    .transformDeferred(RateLimiterOperator.of(githubRateLimiter))
+                    .onErrorMap(RequestNotPermitted.class,
+                        e -> new RateLimitExceededException("GitHub client-side rate limiter exhausted: " + e.getMessage()))
+                    .defaultIfEmpty(base)
+                    .onErrorResume(e -> !(e instanceof RateLimitExceededException
+                            || e instanceof AuthenticationException
+                            || e instanceof RepositoryNotFoundException), e -> {
+                        // If a single commit fails to enrich, keep the base commit (stats will be missing => 0)
+                        log.warn("Failed to fetch GitHub commit detail sha={} repo={}/{}: {}", base.getSha(), owner, repo, e.getMessage());
+                        return Mono.just(base);
+                    }),
+                detailConcurrency)
+            .collectList()
+            .block();
+
+        log.debug("Enriched {} commits for repo={}/{} (concurrency={}, rateLimitRemaining={})",
+            commits.size(), owner, repo, detailConcurrency, rateLimitTracker.remaining(accessToken));
+        return enriched != null ? enriched : List.of();
+    }
+
+    private Mono<GithubCommitDto> fetchCommitDetail(String owner, String repo, String sha, String accessToken) {
         return githubWebClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/repos/{owner}/{repo}/commits/{sha}")
@@ -161,6 +352,7 @@ public class GithubClient {
             .retrieve()
             .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
                 if (clientResponse.statusCode() == HttpStatus.FORBIDDEN) {
+                    rateLimitTracker.update(accessToken, clientResponse.headers().asHttpHeaders());
                     return Mono.error(new RateLimitExceededException("GitHub rate limit exceeded"));
                 } else if (clientResponse.statusCode() == HttpStatus.UNAUTHORIZED) {
                     return Mono.error(new AuthenticationException("GitHub token invalid"));
@@ -170,9 +362,10 @@ public class GithubClient {
                 return clientResponse.createException();
             })
             .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> clientResponse.createException())
-            .bodyToMono(GithubCommitDto.class)
+            .toEntity(GithubCommitDto.class)
             .timeout(Duration.ofSeconds(30))
-            .block();
+            .doOnNext(entity -> rateLimitTracker.update(accessToken, entity.getHeaders()))
+            .mapNotNull(ResponseEntity::getBody);
     }
 
     /**
@@ -181,7 +374,9 @@ public class GithubClient {
      * 
      * CRITICAL: Sets degraded execution flag for orchestrator to detect.
      */
-    private List<GithubCommitDto> fetchCommitsFallback(String repoUrl, String accessToken, int perPage, Throwable throwable) {
+    private GithubCommitFetchResult fetchCommitsFallback(String repoUrl, String accessToken, int perPage,
+                                                         LocalDateTime since, HttpValidator validator,
+                                                         Set<String> knownShas, Throwable throwable) {
         String errorMsg = String.format("GitHub API unavailable for repo=%s: %s", 
                 repoUrl, throwable.getMessage());
         
@@ -191,7 +386,30 @@ public class GithubClient {
         fallbackSignal.setDegraded(true, errorMsg);
         
         // Return safe empty result (prevents exception propagation)
-        return List.of();
+        return GithubCommitFetchResult.empty();
+    }
+
+    /**
+     * Fallback for streamCommits: pages delivered before the failure stay persisted,
+     * the run is flagged degraded exactly like fetchCommits.
+     */
+    private GithubCommitFetchResult streamCommitsFallback(String repoUrl, String accessToken, int perPage,
+                                                          LocalDateTime since, HttpValidator validator,
+                                                          Set<String> knownShas, PageCursor start,
+                                                          PageHandler<GithubCommitDto> pageHandler,
+                                                          Throwable throwable) {
+        return fetchCommitsFallback(repoUrl, accessToken, perPage, since, validator, knownShas, throwable);
+    }
+
+    /**
+     * Handler (DB) failures are not an upstream outage: rethrow instead of degrading.
+     */
+    private GithubCommitFetchResult streamCommitsFallback(String repoUrl, String accessToken, int perPage,
+                                                          LocalDateTime since, HttpValidator validator,
+                                                          Set<String> knownShas, PageCursor start,
+                                                          PageHandler<GithubCommitDto> pageHandler,
+                                                          PageHandlerException exception) {
+        throw exception;
     }
 
     /**
@@ -212,6 +430,42 @@ public class GithubClient {
         return parts;
     }
 
+    /**
+     * Position to start a streamed fetch from: REST page number and/or GraphQL cursor.
+     */
+    public record PageCursor(int page, String cursor) {
+
+        public static final PageCursor FIRST = new PageCursor(1, null);
+
+        /**
+         * Resume right after a committed page.
+         */
+        public static PageCursor after(int committedPage, String nextCursor) {
+            return committedPage <= 0 ? FIRST : new PageCursor(committedPage + 1, nextCursor);
+        }
+    }
+
+    /**
+     * HTTP validators from a previous response, replayed as a conditional request.
+     */
+    public record HttpValidator(String etag, String lastModified) {
+
+        public static HttpValidator of(String etag, String lastModified) {
+            if ((etag == null || etag.isBlank()) && (lastModified == null || lastModified.isBlank())) {
+                return null;
+            }
+            return new HttpValidator(etag, lastModified);
+        }
+
+        void applyTo(HttpHeaders headers) {
+            if (etag != null && !etag.isBlank()) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+            } else if (lastModified != null && !lastModified.isBlank()) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+
     // Custom exceptions
     public static class GithubClientException extends RuntimeException {
         public GithubClientException(String message, Throwable cause) {
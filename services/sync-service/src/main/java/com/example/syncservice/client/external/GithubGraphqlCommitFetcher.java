@@ -0,0 +1,246 @@
+package com.example.syncservice.client.external;
+
+import com.example.syncservice.dto.GithubCommitDto;
+import com.example.syncservice.dto.GithubCommitFetchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GraphQL backend for {@link GithubClient#fetchCommits}.
+ *
+ * CRITICAL DESIGN:
+ * - One POST /graphql returns up to 100 commits WITH additions/deletions/changedFilesIfAvailable,
+ *   replacing the REST 1 + N (listing + commit-detail) pattern
+ * - Walks defaultBranchRef.history(first, since, after) until pageInfo.hasNextPage is false;
+ *   each page is handed to the PageHandler with its endCursor so a run can resume after it
+ * - Nodes are mapped into the REST {@link GithubCommitDto} shape, so DataMapper and
+ *   the persist path see the same DTO whichever backend is active
+ * - GraphQL has no conditional requests: notModified is never reported and no validators are returned
+ * - GraphQL errors arrive with HTTP 200 in an "errors" array and are translated to the
+ *   same exceptions as the REST backend (NOT_FOUND / RATE_LIMITED / FORBIDDEN)
+ */
+@Slf4j
+class GithubGraphqlCommitFetcher {
+
+    static final String COMMIT_HISTORY_QUERY = """
+            query($owner: String!, $name: String!, $since: GitTimestamp, $after: String, $first: Int!) {
+              repository(owner: $owner, name: $name) {
+                defaultBranchRef {
+                  target {
+                    ... on Commit {
+                      history(first: $first, since: $since, after: $after) {
+                        pageInfo { hasNextPage endCursor }
+                        nodes {
+                          oid
+                          message
+                          additions
+                          deletions
+                          changedFilesIfAvailable
+                          author { name email date user { login } }
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    /**
+     * Hard stop for a runaway cursor loop (500 x 100 = 50k commits per run).
+     */
+    private static final int MAX_PAGES = 500;
+
+    private final WebClient githubWebClient;
+    private final GithubRateLimitTracker rateLimitTracker;
+
+    GithubGraphqlCommitFetcher(WebClient githubWebClient, GithubRateLimitTracker rateLimitTracker) {
+        this.githubWebClient = githubWebClient;
+        this.rateLimitTracker = rateLimitTracker;
+    }
+
+    GithubCommitFetchResult fetch(String owner, String repo, String accessToken, int pageSize,
+                                  String sinceParam, Set<String> skipShas,
+                                  GithubClient.PageCursor start, PageHandler<GithubCommitDto> pageHandler) {
+        int commitsFetched = 0;
+        int skippedKnown = 0;
+        int pages = 0;
+        int pageNumber = start.cursor() != null ? start.page() : 1;
+        String cursor = start.cursor();
+
+        while (pages < MAX_PAGES) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("owner", owner);
+            variables.put("name", repo);
+            variables.put("first", pageSize);
+            variables.put("since", sinceParam);
+            variables.put("after", cursor);
+
+            Map<String, Object> history = extractHistory(owner, repo, executeQuery(owner, repo, accessToken, variables));
+            pages++;
+            if (history == null) {
+                // Empty repository (no default branch yet)
+                break;
+            }
+
+            List<GithubCommitDto> pageCommits = new ArrayList<>();
+            for (Object rawNode : asList(history.get("nodes"))) {
+                GithubCommitDto dto = toCommitDto(asMap(rawNode));
+                if (dto == null) {
+                    continue;
+                }
+                if (skipShas.contains(dto.getSha())) {
+                    skippedKnown++;
+                    continue;
+                }
+                pageCommits.add(dto);
+            }
+
+            Map<String, Object> pageInfo = asMap(history.get("pageInfo"));
+            String endCursor = pageInfo != null ? (String) pageInfo.get("endCursor") : null;
+            boolean hasNextPage = pageInfo != null && Boolean.TRUE.equals(pageInfo.get("hasNextPage"));
+
+            commitsFetched += pageCommits.size();
+            PageHandler.deliver(pageHandler, pageNumber, pageCommits, endCursor);
+
+            if (!hasNextPage || endCursor == null || endCursor.equals(cursor)) {
+                break;
+            }
+            cursor = endCursor;
+            pageNumber++;
+        }
+
+        if (pages >= MAX_PAGES) {
+            log.warn("GitHub GraphQL history for repo={}/{} stopped at MAX_PAGES={}", owner, repo, MAX_PAGES);
+        }
+        log.info("Fetched {} commits via GitHub GraphQL repo={}/{} (pages={}, skippedKnown={})",
+                commitsFetched, owner, repo, pages, skippedKnown);
+
+        return GithubCommitFetchResult.builder()
+                .pagesFetched(pages)
+                .skippedKnownCommits(skippedKnown)
+                .build();
+    }
+
+    private Map<String, Object> executeQuery(String owner, String repo, String accessToken, Map<String, Object> variables) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("query", COMMIT_HISTORY_QUERY);
+        body.put("variables", variables);
+
+        ResponseEntity<Map<String, Object>> response = githubWebClient.post()
+                .uri("/graphql")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
+                    if (clientResponse.statusCode() == HttpStatus.FORBIDDEN
+                            || clientResponse.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                        rateLimitTracker.update(accessToken, clientResponse.headers().asHttpHeaders());
+                        log.warn("GitHub GraphQL rate limit exceeded ({})", clientResponse.statusCode());
+                        return Mono.error(new GithubClient.RateLimitExceededException("GitHub rate limit exceeded"));
+                    } else if (clientResponse.statusCode() == HttpStatus.UNAUTHORIZED) {
+                        log.error("GitHub authentication failed (401)");
+                        return Mono.error(new GithubClient.AuthenticationException("GitHub token invalid"));
+                    }
+                    return clientResponse.createException();
+                })
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> {
+                    log.error("GitHub GraphQL server error: {}", clientResponse.statusCode());
+                    return clientResponse.createException();
+                })
+                .toEntity(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .timeout(Duration.ofSeconds(30))
+                .block();
+
+        if (response == null || response.getBody() == null) {
+            throw new GithubClient.GithubClientException("Empty GraphQL response for " + owner + "/" + repo, null);
+        }
+        rateLimitTracker.update(accessToken, response.getHeaders());
+        return response.getBody();
+    }
+
+    private Map<String, Object> extractHistory(String owner, String repo, Map<String, Object> body) {
+        List<Object> errors = asList(body.get("errors"));
+        if (!errors.isEmpty()) {
+            Map<String, Object> first = asMap(errors.get(0));
+            String type = first != null ? String.valueOf(first.get("type")) : "";
+            String message = first != null ? String.valueOf(first.get("message")) : "unknown";
+            switch (type) {
+                case "NOT_FOUND" -> throw new GithubClient.RepositoryNotFoundException("Repository not found: " + owner + "/" + repo);
+                case "RATE_LIMITED" -> throw new GithubClient.RateLimitExceededException("GitHub GraphQL rate limit exceeded");
+                case "FORBIDDEN" -> throw new GithubClient.AuthenticationException("GitHub token lacks access: " + message);
+                default -> throw new GithubClient.GithubClientException("GitHub GraphQL error: " + message, null);
+            }
+        }
+
+        Map<String, Object> data = asMap(body.get("data"));
+        Map<String, Object> repository = data != null ? asMap(data.get("repository")) : null;
+        if (repository == null) {
+            throw new GithubClient.RepositoryNotFoundException("Repository not found: " + owner + "/" + repo);
+        }
+        Map<String, Object> branchRef = asMap(repository.get("defaultBranchRef"));
+        Map<String, Object> target = branchRef != null ? asMap(branchRef.get("target")) : null;
+        return target != null ? asMap(target.get("history")) : null;
+    }
+
+    private GithubCommitDto toCommitDto(Map<String, Object> node) {
+        if (node == null) {
+            return null;
+        }
+        String oid = (String) node.get("oid");
+        if (oid == null || oid.isBlank()) {
+            return null;
+        }
+
+        Map<String, Object> author = asMap(node.get("author"));
+        Map<String, Object> user = author != null ? asMap(author.get("user")) : null;
+        String email = author != null ? (String) author.get("email") : null;
+
+        Integer additions = asInteger(node.get("additions"));
+        Integer deletions = asInteger(node.get("deletions"));
+        Integer total = additions != null || deletions != null
+                ? (additions != null ? additions : 0) + (deletions != null ? deletions : 0)
+                : null;
+
+        return GithubCommitDto.builder()
+                .sha(oid)
+                .commit(new GithubCommitDto.CommitDetails(
+                        (String) node.get("message"),
+                        author != null
+                                ? new GithubCommitDto.CommitAuthor((String) author.get("name"), email, (String) author.get("date"))
+                                : null))
+                .author(user != null ? new GithubCommitDto.Author((String) user.get("login"), email) : null)
+                .stats(new GithubCommitDto.Stats(additions, deletions, total))
+                .changedFiles(asInteger(node.get("changedFilesIfAvailable")))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return value instanceof List<?> list ? (List<Object>) list : List.of();
+    }
+
+    private static Integer asInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+}
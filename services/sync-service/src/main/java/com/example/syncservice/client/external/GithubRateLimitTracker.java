@@ -0,0 +1,117 @@
+package com.example.syncservice.client.external;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks GitHub's X-RateLimit-Remaining / X-RateLimit-Reset per access token and
+ * reserves a send slot for each request.
+ *
+ * Above the low watermark requests go out immediately. Below it, the remaining budget is
+ * spread evenly until the reset time, so a large enrichment run slows down instead of
+ * running into a 403. When the budget is exhausted and the reset is further away than
+ * {@code maxWait}, callers get a {@link GithubClient.RateLimitExceededException}.
+ *
+ * Slots are reserved atomically per token (one interval after the previous slot) and each
+ * reservation counts against the remaining budget, so concurrent detail calls are spaced out
+ * instead of all waiting the same delay and firing together.
+ */
+@Slf4j
+class GithubRateLimitTracker {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final Map<Integer, State> states = new ConcurrentHashMap<>();
+    private final int lowWatermark;
+    private final Duration maxWait;
+
+    GithubRateLimitTracker(int lowWatermark, Duration maxWait) {
+        this.lowWatermark = Math.max(0, lowWatermark);
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Record the rate-limit headers of a response made with {@code accessToken}.
+     * Keeps the last reserved slot, so pacing continues across header updates.
+     */
+    void update(String accessToken, HttpHeaders headers) {
+        String remaining = headers.getFirst(REMAINING_HEADER);
+        String reset = headers.getFirst(RESET_HEADER);
+        if (remaining == null || reset == null) {
+            return;
+        }
+        try {
+            long parsedRemaining = Long.parseLong(remaining.trim());
+            Instant resetAt = Instant.ofEpochSecond(Long.parseLong(reset.trim()));
+            states.compute(key(accessToken), (key, previous) ->
+                    new State(parsedRemaining, resetAt, previous != null ? previous.lastSlot() : null));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed GitHub rate-limit headers remaining={} reset={}", remaining, reset);
+        }
+    }
+
+    /**
+     * Reserve the next send slot for {@code accessToken} and return the delay until it.
+     */
+    Duration reserveNextRequest(String accessToken) {
+        Instant now = Instant.now();
+        Reservation[] reservation = new Reservation[1];
+        states.computeIfPresent(key(accessToken), (key, state) -> {
+            reservation[0] = reserve(state, now);
+            return reservation[0].state();
+        });
+
+        if (reservation[0] == null || reservation[0].slot() == null) {
+            return Duration.ZERO;
+        }
+        if (reservation[0].exhausted()) {
+            if (reservation[0].slot().isAfter(now.plus(maxWait))) {
+                throw new GithubClient.RateLimitExceededException(
+                        "GitHub rate limit exhausted, resets at " + reservation[0].slot());
+            }
+            log.warn("GitHub rate limit exhausted, waiting {}s for reset", Duration.between(now, reservation[0].slot()).toSeconds());
+        }
+        return Duration.between(now, reservation[0].slot());
+    }
+
+    Long remaining(String accessToken) {
+        State state = states.get(key(accessToken));
+        return state != null ? state.remaining() : null;
+    }
+
+    // Runs inside compute: one reservation per token at a time
+    private Reservation reserve(State state, Instant now) {
+        if (state.remaining() > lowWatermark || !state.resetAt().isAfter(now)) {
+            return new Reservation(state.consumeOne(state.lastSlot()), null, false);
+        }
+        if (state.remaining() <= 0) {
+            // Nothing left before the reset; the budget refills then
+            return new Reservation(state, state.resetAt(), true);
+        }
+        Instant previous = state.lastSlot() != null && state.lastSlot().isAfter(now) ? state.lastSlot() : now;
+        Duration interval = Duration.between(previous, state.resetAt()).dividedBy(state.remaining());
+        Instant slot = previous.plus(interval);
+        return new Reservation(state.consumeOne(slot), slot, false);
+    }
+
+    // Keyed by hash so the tracker does not keep plaintext tokens reachable.
+    private Integer key(String accessToken) {
+        return accessToken == null ? 0 : accessToken.hashCode();
+    }
+
+    private record State(long remaining, Instant resetAt, Instant lastSlot) {
+
+        State consumeOne(Instant slot) {
+            return new State(Math.max(0, remaining - 1), resetAt, slot);
+        }
+    }
+
+    private record Reservation(State state, Instant slot, boolean exhausted) {
+    }
+}
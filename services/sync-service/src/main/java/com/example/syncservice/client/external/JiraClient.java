@@ -1,9 +1,11 @@
 package com.example.syncservice.client.external;
 
 import com.example.syncservice.dto.JiraIssueDto;
+import com.example.syncservice.dto.JiraIssueFetchResult;
 import com.example.syncservice.service.FallbackSignal;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -12,14 +14,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Client for Jira REST API.
@@ -36,13 +43,19 @@ import java.util.Map;
 @Slf4j
 public class JiraClient {
 
+    private static final DateTimeFormatter JQL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int MAX_PAGES = 500;
+
     private final WebClient jiraWebClient;
     private final FallbackSignal fallbackSignal;
+    private final io.github.resilience4j.retry.Retry jiraRetry;
 
     public JiraClient(@Qualifier("jiraWebClient") WebClient jiraWebClient,
-                      FallbackSignal fallbackSignal) {
+                      FallbackSignal fallbackSignal,
+                      RetryRegistry retryRegistry) {
         this.jiraWebClient = jiraWebClient;
         this.fallbackSignal = fallbackSignal;
+        this.jiraRetry = retryRegistry.retry("jiraRetry");
     }
 
     /**
@@ -52,18 +65,83 @@ public class JiraClient {
          * @param email Jira email used for Atlassian Cloud Basic auth
      * @param apiToken Jira API token (Basic auth)
      * @param maxResults Max results per request (default 100)
-     * @return List of Jira issues
+     * @return List of Jira issues (all pages)
      */
     @Retry(name = "jiraRetry", fallbackMethod = "fetchIssuesFallback")
     @CircuitBreaker(name = "jiraCircuitBreaker", fallbackMethod = "fetchIssuesFallback")
     @RateLimiter(name = "jiraRateLimiter")
         public List<JiraIssueDto> fetchIssues(String hostUrl, String email, String apiToken, int maxResults) {
-        log.debug("Fetching Jira issues for hostUrl={} using email={}", hostUrl, email);
+        List<JiraIssueDto> allIssues = new ArrayList<>();
+        doFetchIssues(hostUrl, email, apiToken, maxResults, null, (pageNumber, issues, nextCursor) -> allIssues.addAll(issues));
+        return allIssues;
+    }
+
+    /**
+     * Fetch issues updated at or after a watermark, following nextPageToken until exhausted.
+     *
+     * JQL: updated >= "yyyy-MM-dd HH:mm" ORDER BY updated ASC
+     * Ascending order means a run cut short (page cap, crash) has still processed the oldest
+     * changes first, so advancing the watermark to the newest fetched issue never skips anything.
+     *
+     * @param updatedSince Only issues updated at or after this time (null = all issues)
+     * @return Issues plus page statistics
+     */
+    @Retry(name = "jiraRetry", fallbackMethod = "fetchIssuesUpdatedSinceFallback")
+    @CircuitBreaker(name = "jiraCircuitBreaker", fallbackMethod = "fetchIssuesUpdatedSinceFallback")
+    @RateLimiter(name = "jiraRateLimiter")
+    public JiraIssueFetchResult fetchIssuesUpdatedSince(String hostUrl, String email, String apiToken,
+                                                        int maxResults, LocalDateTime updatedSince) {
+        List<JiraIssueDto> allIssues = new ArrayList<>();
+        JiraIssueFetchResult result = doFetchIssues(hostUrl, email, apiToken, maxResults, updatedSince,
+                (pageNumber, issues, nextCursor) -> allIssues.addAll(issues));
+        result.setIssues(allIssues);
+        return result;
+    }
+
+    /**
+     * Streaming variant of {@link #fetchIssuesUpdatedSince}: each page is handed to {@code pageHandler}
+     * before the next nextPageToken request, and the returned result carries no issues.
+     *
+     * - Memory stays at one page regardless of project size
+     * - The handler runs on this thread, so a slow DB write delays the next HTTP call (backpressure)
+     * - Pages arrive in ascending `updated` order; a later run resumes by restarting with updatedSince at the
+     *   newest committed `updated` (nextPageToken values are not meant to outlive the search)
+     * - Handler failures surface as {@link PageHandlerException} and bypass the fallback
+     * - Transient failures are retried (jiraRetry) within the same search, from the nextPageToken of the last
+     *   delivered page, so pages the handler already committed are not fetched and persisted again
+     */
+    @CircuitBreaker(name = "jiraCircuitBreaker", fallbackMethod = "streamIssuesUpdatedSinceFallback")
+    @RateLimiter(name = "jiraRateLimiter")
+    public JiraIssueFetchResult streamIssuesUpdatedSince(String hostUrl, String email, String apiToken,
+                                                         int maxResults, LocalDateTime updatedSince,
+                                                         PageHandler<JiraIssueDto> pageHandler) {
+        ResumablePageHandler<JiraIssueDto> resumable = new ResumablePageHandler<>(pageHandler);
+        return jiraRetry.executeSupplier(() -> doFetchIssues(hostUrl, email, apiToken, maxResults,
+                updatedSince, resumable.lastPage(), resumable.nextCursor(), resumable));
+    }
+
+    private JiraIssueFetchResult doFetchIssues(String hostUrl, String email, String apiToken,
+                                               int maxResults, LocalDateTime updatedSince,
+                                               PageHandler<JiraIssueDto> pageHandler) {
+        return doFetchIssues(hostUrl, email, apiToken, maxResults, updatedSince, 0, null, pageHandler);
+    }
+
+    /**
+     * @param pagesDone pages delivered by an earlier attempt (0 = start of the search); page numbers stay absolute
+     * @param resumeToken nextPageToken of the last delivered page, null to start from the first page
+     */
+    private JiraIssueFetchResult doFetchIssues(String hostUrl, String email, String apiToken,
+                                               int maxResults, LocalDateTime updatedSince,
+                                               int pagesDone, String resumeToken,
+                                               PageHandler<JiraIssueDto> pageHandler) {
+        log.debug("Fetching Jira issues for hostUrl={} using email={}, updatedSince={}", hostUrl, email, updatedSince);
 
         String authHeader = "Basic " + java.util.Base64.getEncoder()
             .encodeToString((email + ":" + apiToken).getBytes(StandardCharsets.UTF_8));
 
-        String jql = "updated IS NOT EMPTY ORDER BY updated DESC";
+        String jql = updatedSince != null
+            ? "updated >= \"" + updatedSince.format(JQL_DATE_FORMAT) + "\" ORDER BY updated ASC"
+            : "updated IS NOT EMPTY ORDER BY updated ASC";
         List<String> fields = List.of(
             "summary",
             "description",
@@ -76,68 +154,119 @@ public class JiraClient {
             "created",
             "updated"
         );
-        Map<String, Object> requestBody = new LinkedHashMap<>();
-        requestBody.put("jql", jql);
-        requestBody.put("maxResults", maxResults);
-        requestBody.put("fields", fields);
-        requestBody.put("fieldsByKeys", false);
 
         try {
-            Map<String, Object> response = jiraWebClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host(extractHost(hostUrl))
-                            .path("/rest/api/3/search/jql")
-                            .build())
-                    .header("Authorization", authHeader)
-                    .header("Accept", "application/json")
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
-                        if (clientResponse.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                            log.warn("Jira rate limit exceeded (429)");
-                            return Mono.error(new RateLimitExceededException("Jira rate limit exceeded"));
-                        } else if (clientResponse.statusCode() == HttpStatus.GONE) {
-                            log.error("Jira search endpoint deprecated or unavailable (410)");
-                            return Mono.error(new JiraClientException("Jira search endpoint unavailable. Verify /rest/api/3/search/jql support.", null));
-                        } else if (clientResponse.statusCode() == HttpStatus.UNAUTHORIZED) {
-                            log.error("Jira authentication failed (401)");
-                            return Mono.error(new AuthenticationException("Jira API token invalid"));
-                        }
-                        return clientResponse.createException();
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> {
-                        log.error("Jira server error: {}", clientResponse.statusCode());
-                        return clientResponse.createException();
-                    })
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> issues = (List<Map<String, Object>>) response.get("issues");
-            
-            if (issues == null || issues.isEmpty()) {
-                log.info("No issues found for Jira account={}", email);
-                return List.of();
+            int issuesFetched = 0;
+            Set<String> seenTokens = new HashSet<>();
+            String nextPageToken = resumeToken;
+            int pages = pagesDone;
+            boolean truncated = false;
+
+            while (true) {
+                Map<String, Object> requestBody = new LinkedHashMap<>();
+                requestBody.put("jql", jql);
+                requestBody.put("maxResults", maxResults);
+                requestBody.put("fields", fields);
+                requestBody.put("fieldsByKeys", false);
+                if (nextPageToken != null) {
+                    requestBody.put("nextPageToken", nextPageToken);
+                }
+
+                Map<String, Object> response = searchPage(hostUrl, authHeader, requestBody);
+                pages++;
+
+                if (response == null) {
+                    break;
+                }
+
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> issues = (List<Map<String, Object>>) response.get("issues");
+                Object token = response.get("nextPageToken");
+                if (issues != null && !issues.isEmpty()) {
+                    List<JiraIssueDto> pageIssues = convertToJiraIssueDtos(issues);
+                    issuesFetched += pageIssues.size();
+                    PageHandler.deliver(pageHandler, pages, pageIssues, token instanceof String value ? value : null);
+                }
+
+                boolean isLast = Boolean.TRUE.equals(response.get("isLast"));
+                if (isLast || !(token instanceof String value) || value.isBlank() || issues == null || issues.isEmpty()) {
+                    break;
+                }
+                if (!seenTokens.add(value)) {
+                    log.warn("Jira returned a repeated nextPageToken for account={}, stopping pagination", email);
+                    break;
+                }
+                if (pages >= MAX_PAGES) {
+                    log.warn("Jira pagination capped at {} pages for account={}; remaining issues picked up next run", MAX_PAGES, email);
+                    truncated = true;
+                    break;
+                }
+                nextPageToken = value;
+            }
+
+            if (issuesFetched == 0) {
+                log.info("No issues found for Jira account={} (updatedSince={})", email, updatedSince);
+            } else {
+                log.info("Fetched {} issues from Jira account={} in {} page(s)", issuesFetched, email, pages);
             }
 
-            log.info("Fetched {} issues from Jira account={}", issues.size(), email);
-            return convertToJiraIssueDtos(issues);
+            return JiraIssueFetchResult.builder()
+                .pagesFetched(pages)
+                .truncated(truncated)
+                .build();
 
+        } catch (PageHandlerException e) {
+            throw e;
         } catch (RateLimitExceededException e) {
             log.error("Jira rate limit exceeded for email={}", email);
             throw e;
         } catch (AuthenticationException e) {
             log.error("Jira authentication failed for email={}", email);
             throw e;
+        } catch (WebClientRequestException e) {
+            // Unwrapped so jiraRetry (retry-exceptions) recognises the transient I/O failure
+            log.warn("Jira request failed for email={}: {}", email, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching Jira issues for email={}: {}", email, e.getMessage(), e);
             throw new JiraClientException("Failed to fetch Jira issues: " + e.getMessage(), e);
         }
     }
 
+    private Map<String, Object> searchPage(String hostUrl, String authHeader, Map<String, Object> requestBody) {
+        return jiraWebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme("https")
+                        .host(extractHost(hostUrl))
+                        .path("/rest/api/3/search/jql")
+                        .build())
+                .header("Authorization", authHeader)
+                .header("Accept", "application/json")
+            .header("Content-Type", "application/json")
+            .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
+                    if (clientResponse.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                        log.warn("Jira rate limit exceeded (429)");
+                        return Mono.error(new RateLimitExceededException("Jira rate limit exceeded"));
+                    } else if (clientResponse.statusCode() == HttpStatus.GONE) {
+                        log.error("Jira search endpoint deprecated or unavailable (410)");
+                        return Mono.error(new JiraClientException("Jira search endpoint unavailable. Verify /rest/api/3/search/jql support.", null));
+                    } else if (clientResponse.statusCode() == HttpStatus.UNAUTHORIZED) {
+                        log.error("Jira authentication failed (401)");
+                        return Mono.error(new AuthenticationException("Jira API token invalid"));
+                    }
+                    return clientResponse.createException();
+                })
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> {
+                    log.error("Jira server error: {}", clientResponse.statusCode());
+                    return clientResponse.createException();
+                })
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .timeout(Duration.ofSeconds(30))
+                .block();
+    }
+
     /**
      * Convert raw JSON to JiraIssueDto objects.
      */
@@ -223,6 +352,36 @@ public class JiraClient {
         return List.of();
     }
 
+    private JiraIssueFetchResult fetchIssuesUpdatedSinceFallback(String hostUrl, String email, String apiToken,
+                                                                 int maxResults, LocalDateTime updatedSince,
+                                                                 Throwable throwable) {
+        return JiraIssueFetchResult.builder()
+                .issues(fetchIssuesFallback(hostUrl, email, apiToken, maxResults, throwable))
+                .build();
+    }
+
+    /**
+     * Fallback for streamIssuesUpdatedSince: pages delivered before the failure stay persisted,
+     * the run is flagged degraded exactly like fetchIssues.
+     */
+    private JiraIssueFetchResult streamIssuesUpdatedSinceFallback(String hostUrl, String email, String apiToken,
+                                                                  int maxResults, LocalDateTime updatedSince,
+                                                                  PageHandler<JiraIssueDto> pageHandler,
+                                                                  Throwable throwable) {
+        fetchIssuesFallback(hostUrl, email, apiToken, maxResults, throwable);
+        return JiraIssueFetchResult.builder().build();
+    }
+
+    /**
+     * Handler (DB) failures are not an upstream outage: rethrow instead of degrading.
+     */
+    private JiraIssueFetchResult streamIssuesUpdatedSinceFallback(String hostUrl, String email, String apiToken,
+                                                                  int maxResults, LocalDateTime updatedSince,
+                                                                  PageHandler<JiraIssueDto> pageHandler,
+                                                                  PageHandlerException exception) {
+        throw exception;
+    }
+
     /**
      * Extract host from URL.
      */
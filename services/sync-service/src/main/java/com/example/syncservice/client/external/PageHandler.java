@@ -0,0 +1,38 @@
+package com.example.syncservice.client.external;
+
+import java.util.List;
+
+/**
+ * Receives one fetched page at a time from a streaming client call.
+ *
+ * CRITICAL DESIGN:
+ * - Invoked synchronously on the fetching thread; the next page is requested only after
+ *   onPage returns, so a slow consumer (DB) throttles the HTTP side
+ * - Anything thrown here is wrapped in {@link PageHandlerException} and is NOT treated as an
+ *   upstream API failure (no fallback, no circuit-breaker penalty)
+ *
+ * @param <T> DTO type of the page
+ */
+@FunctionalInterface
+public interface PageHandler<T> {
+
+    /**
+     * @param pageNumber 1-based page number in the upstream listing (absolute, also when resuming)
+     * @param items      items of this page (may be empty when every item was skipped)
+     * @param nextCursor opaque cursor to resume after this page, or null if the source has none
+     */
+    void onPage(int pageNumber, List<T> items, String nextCursor);
+
+    /**
+     * Deliver a page, tagging consumer failures so clients can tell them apart from API errors.
+     */
+    static <T> void deliver(PageHandler<T> handler, int pageNumber, List<T> items, String nextCursor) {
+        try {
+            handler.onPage(pageNumber, items, nextCursor);
+        } catch (PageHandlerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new PageHandlerException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.syncservice.client.external;
+
+/**
+ * Failure raised by a {@link PageHandler} while consuming a streamed page.
+ * Propagated unchanged through the client fallbacks so DB errors fail the sync job.
+ */
+public class PageHandlerException extends RuntimeException {
+
+    public PageHandlerException(Throwable cause) {
+        super("Page handler failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.syncservice.client.external;
+
+import java.util.List;
+
+/**
+ * Remembers the last page a streaming call delivered, so a retried call continues after it
+ * instead of fetching and persisting the committed pages again.
+ *
+ * Only used on the fetching thread (see {@link PageHandler}).
+ *
+ * @param <T> DTO type of the page
+ */
+final class ResumablePageHandler<T> implements PageHandler<T> {
+
+    private final PageHandler<T> delegate;
+    private int lastPage;
+    private String nextCursor;
+
+    ResumablePageHandler(PageHandler<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onPage(int pageNumber, List<T> items, String nextCursor) {
+        delegate.onPage(pageNumber, items, nextCursor);
+        this.lastPage = pageNumber;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * TRUE once a page has been accepted by the delegate.
+     */
+    boolean hasDelivered() {
+        return lastPage > 0;
+    }
+
+    int lastPage() {
+        return lastPage;
+    }
+
+    String nextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.syncservice.client.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends server-streaming messages only while the transport is ready.
+ *
+ * Without this, onNext on a slow client just queues messages in Netty buffers and the
+ * "bounded memory" of the chunked read is lost. The calling handler thread parks until
+ * the client drains (onReady), and stops with CANCELLED if the client goes away.
+ * Must be created inside the RPC method, before it returns (onReadyHandler contract).
+ */
+class FlowControlledSender<T> {
+
+    private static final long READY_POLL_MS = 500;
+
+    private final ServerCallStreamObserver<T> observer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+
+    FlowControlledSender(StreamObserver<T> responseObserver) {
+        this.observer = (ServerCallStreamObserver<T>) responseObserver;
+        observer.setOnReadyHandler(this::signalReady);
+        observer.setOnCancelHandler(this::signalReady);
+    }
+
+    void send(T message) {
+        awaitReady();
+        observer.onNext(message);
+    }
+
+    private void awaitReady() {
+        lock.lock();
+        try {
+            while (!observer.isReady()) {
+                if (observer.isCancelled()) {
+                    throw Status.CANCELLED.withDescription("Client cancelled the stream").asRuntimeException();
+                }
+                ready.await(READY_POLL_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Status.CANCELLED.withDescription("Interrupted while streaming").asRuntimeException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalReady() {
+        lock.lock();
+        try {
+            ready.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,26 +1,61 @@
 package com.example.syncservice.client.grpc;
 
+import com.example.syncservice.dto.ProjectStatsRow;
+import com.example.syncservice.dto.SyncReadFilter;
 import com.example.syncservice.entity.GithubCommit;
 import com.example.syncservice.entity.JiraIssue;
 import com.example.syncservice.entity.UnifiedActivity;
 import com.example.syncservice.repository.GithubCommitRepository;
 import com.example.syncservice.repository.JiraIssueRepository;
+import com.example.syncservice.repository.SyncProjectStatsRepository;
+import com.example.syncservice.repository.SyncReadQueryRepository;
 import com.example.syncservice.repository.UnifiedActivityRepository;
+import com.example.syncservice.service.SyncDeltaService;
+import com.example.syncservice.service.SyncReadStreamService;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.data.domain.Limit;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+/**
+ * Read API for report-service.
+ *
+ * The unary Get*ByProjectConfig RPCs return every row in one message and are kept for
+ * compatibility; large projects should use the Stream* (cursor, chunked, flow-controlled)
+ * or Get*Page* (keyset page token) variants, whose memory does not grow with project size.
+ * Consumers that keep a local copy use Get*ChangesSince and only pull what changed.
+ *
+ * Stream* and Get*Page* accept ReadOptions (field mask + author/type/date filters); when set,
+ * rows are read through a projected query so only the requested columns leave the database.
+ * Dashboards that only need counts use GetProjectStats (pre-aggregated, many configs per call).
+ */
 @GrpcService
 @RequiredArgsConstructor
 public class SyncGrpcService extends SyncServiceGrpc.SyncServiceImplBase {
 
+    static final int DEFAULT_CHUNK_SIZE = 250;
+    static final int MAX_CHUNK_SIZE = 1000;
+    static final int DEFAULT_PAGE_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 2000;
+    static final int MAX_STATS_CONFIGS = 500;
+
     private final JiraIssueRepository jiraIssueRepository;
     private final GithubCommitRepository githubCommitRepository;
     private final UnifiedActivityRepository unifiedActivityRepository;
+    private final SyncReadStreamService syncReadStreamService;
+    private final SyncDeltaService syncDeltaService;
+    private final SyncProjectStatsRepository syncProjectStatsRepository;
 
     @Override
     public void getIssuesByProjectConfig(
@@ -40,25 +75,7 @@ public class SyncGrpcService extends SyncServiceGrpc.SyncServiceImplBase {
                     IssueListResponse.newBuilder();
 
             for (JiraIssue issue : issues) {
-
-                response.addIssues(
-                        IssueResponse.newBuilder()
-                                .setIssueId(issue.getIssueId())
-                                .setIssueKey(issue.getIssueKey())
-                                .setSummary(issue.getSummary())
-                                .setDescription(nullSafe(issue.getDescription()))
-                                .setIssueType(nullSafe(issue.getIssueType()))
-                                .setStatus(nullSafe(issue.getStatus()))
-                                .setPriority(nullSafe(issue.getPriority()))
-                                .setAssigneeEmail(nullSafe(issue.getAssigneeEmail()))
-                                .setAssigneeName(nullSafe(issue.getAssigneeName()))
-                                .setReporterEmail(nullSafe(issue.getReporterEmail()))
-                                .setReporterName(nullSafe(issue.getReporterName()))
-                        .setCreatedAt(issue.getCreatedAt() == null ? "" : issue.getCreatedAt().toString())
-                        .setUpdatedAt(issue.getUpdatedAt() == null ? "" : issue.getUpdatedAt().toString())
-                        .setDueDate(issue.getDueDate() == null ? "" : issue.getDueDate().toString())
-                                .build()
-                );
+                response.addIssues(toIssueResponse(issue));
             }
 
             responseObserver.onNext(response.build());
@@ -90,18 +107,7 @@ public class SyncGrpcService extends SyncServiceGrpc.SyncServiceImplBase {
             GithubCommitListResponse.Builder response = GithubCommitListResponse.newBuilder();
 
             for (GithubCommit commit : commits) {
-                response.addCommits(
-                    GithubCommitResponse.newBuilder()
-                        .setCommitSha(nullSafe(commit.getCommitSha()))
-                        .setMessage(nullSafe(commit.getMessage()))
-                        .setCommittedDate(commit.getCommittedDate() == null ? "" : commit.getCommittedDate().toString())
-                        .setAuthorEmail(nullSafe(commit.getAuthorEmail()))
-                        .setAuthorName(nullSafe(commit.getAuthorName()))
-                        .setAdditions(commit.getAdditions() == null ? 0 : Math.max(0, commit.getAdditions()))
-                        .setDeletions(commit.getDeletions() == null ? 0 : Math.max(0, commit.getDeletions()))
-                        .setTotalChanges(commit.getTotalChanges() == null ? 0 : Math.max(0, commit.getTotalChanges()))
-                        .build()
-                );
+                response.addCommits(toGithubCommitResponse(commit));
             }
 
             responseObserver.onNext(response.build());
@@ -131,20 +137,7 @@ public class SyncGrpcService extends SyncServiceGrpc.SyncServiceImplBase {
             UnifiedActivityListResponse.Builder response = UnifiedActivityListResponse.newBuilder();
 
             for (UnifiedActivity activity : activities) {
-                response.addActivities(
-                    UnifiedActivityResponse.newBuilder()
-                        .setSource(activity.getSource() == null ? "" : activity.getSource().name())
-                        .setActivityType(activity.getActivityType() == null ? "" : activity.getActivityType().name())
-                        .setExternalId(nullSafe(activity.getExternalId()))
-                        .setTitle(nullSafe(activity.getTitle()))
-                        .setDescription(nullSafe(activity.getDescription()))
-                        .setAuthorEmail(nullSafe(activity.getAuthorEmail()))
-                        .setAuthorName(nullSafe(activity.getAuthorName()))
-                        .setStatus(nullSafe(activity.getStatus()))
-                        .setCreatedAt(activity.getCreatedAt() == null ? "" : activity.getCreatedAt().toString())
-                        .setUpdatedAt(activity.getUpdatedAt() == null ? "" : activity.getUpdatedAt().toString())
-                        .build()
-                );
+                response.addActivities(toUnifiedActivityResponse(activity));
             }
 
             responseObserver.onNext(response.build());
@@ -159,9 +152,587 @@ public class SyncGrpcService extends SyncServiceGrpc.SyncServiceImplBase {
         }
     }
 
+    // ---------------------------------------------------------------------
+    // Server-streaming variants: cursor read, one message per chunk
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void streamIssuesByProjectConfig(
+            ProjectConfigStreamRequest request,
+            StreamObserver<IssueListResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<IssueResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::issues, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        FlowControlledSender<IssueListResponse> sender = new FlowControlledSender<>(responseObserver);
+        try {
+            if (projected != null) {
+                syncReadStreamService.forEachProjectedChunk(JiraIssue.class, projectConfigId, projected.filter(),
+                        projected.attributes(), chunkSize(request.getChunkSize()),
+                        chunk -> sender.send(IssueListResponse.newBuilder().addAllIssues(projected.map(chunk)).build()));
+                responseObserver.onCompleted();
+                return;
+            }
+            syncReadStreamService.forEachIssueChunk(projectConfigId, chunkSize(request.getChunkSize()), chunk -> {
+                IssueListResponse.Builder message = IssueListResponse.newBuilder();
+                chunk.forEach(issue -> message.addIssues(toIssueResponse(issue)));
+                sender.send(message.build());
+            });
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(streamError("Failed to stream issues", ex));
+        }
+    }
+
+    @Override
+    public void streamGithubCommitsByProjectConfig(
+            ProjectConfigStreamRequest request,
+            StreamObserver<GithubCommitListResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<GithubCommitResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::commits, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        FlowControlledSender<GithubCommitListResponse> sender = new FlowControlledSender<>(responseObserver);
+        try {
+            if (projected != null) {
+                syncReadStreamService.forEachProjectedChunk(GithubCommit.class, projectConfigId, projected.filter(),
+                        projected.attributes(), chunkSize(request.getChunkSize()),
+                        chunk -> sender.send(GithubCommitListResponse.newBuilder().addAllCommits(projected.map(chunk)).build()));
+                responseObserver.onCompleted();
+                return;
+            }
+            syncReadStreamService.forEachGithubCommitChunk(projectConfigId, chunkSize(request.getChunkSize()), chunk -> {
+                GithubCommitListResponse.Builder message = GithubCommitListResponse.newBuilder();
+                chunk.forEach(commit -> message.addCommits(toGithubCommitResponse(commit)));
+                sender.send(message.build());
+            });
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(streamError("Failed to stream github commits", ex));
+        }
+    }
+
+    @Override
+    public void streamUnifiedActivitiesByProjectConfig(
+            ProjectConfigStreamRequest request,
+            StreamObserver<UnifiedActivityListResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<UnifiedActivityResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::activities, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        FlowControlledSender<UnifiedActivityListResponse> sender = new FlowControlledSender<>(responseObserver);
+        try {
+            if (projected != null) {
+                syncReadStreamService.forEachProjectedChunk(UnifiedActivity.class, projectConfigId, projected.filter(),
+                        projected.attributes(), chunkSize(request.getChunkSize()),
+                        chunk -> sender.send(UnifiedActivityListResponse.newBuilder().addAllActivities(projected.map(chunk)).build()));
+                responseObserver.onCompleted();
+                return;
+            }
+            syncReadStreamService.forEachUnifiedActivityChunk(projectConfigId, chunkSize(request.getChunkSize()), chunk -> {
+                UnifiedActivityListResponse.Builder message = UnifiedActivityListResponse.newBuilder();
+                chunk.forEach(activity -> message.addActivities(toUnifiedActivityResponse(activity)));
+                sender.send(message.build());
+            });
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(streamError("Failed to stream unified activities", ex));
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Page-token variants: keyset pagination on id, token = last id of the page
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void getIssuesPageByProjectConfig(
+            ProjectConfigPageRequest request,
+            StreamObserver<IssuePageResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<IssueResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::issues, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        Long afterId = parsePageToken(request.getPageToken(), responseObserver);
+        if (afterId == null) {
+            return;
+        }
+        try {
+            int pageSize = pageSize(request.getPageSize());
+            if (projected != null) {
+                List<Tuple> rows = syncReadStreamService.findProjectedPage(JiraIssue.class, projectConfigId,
+                        projected.filter(), projected.attributes(), afterId, pageSize + 1);
+                responseObserver.onNext(IssuePageResponse.newBuilder()
+                        .addAllIssues(projected.map(rows.subList(0, Math.min(rows.size(), pageSize))))
+                        .setNextPageToken(nextPageToken(rows, pageSize, SyncGrpcService::tupleId))
+                        .build());
+                responseObserver.onCompleted();
+                return;
+            }
+            List<JiraIssue> rows = jiraIssueRepository.findActivePageAfter(projectConfigId, afterId, Limit.of(pageSize + 1));
+            IssuePageResponse.Builder response = IssuePageResponse.newBuilder();
+            rows.stream().limit(pageSize).forEach(issue -> response.addIssues(toIssueResponse(issue)));
+            response.setNextPageToken(nextPageToken(rows, pageSize, JiraIssue::getId));
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch issues page")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    @Override
+    public void getGithubCommitsPageByProjectConfig(
+            ProjectConfigPageRequest request,
+            StreamObserver<GithubCommitPageResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<GithubCommitResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::commits, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        Long afterId = parsePageToken(request.getPageToken(), responseObserver);
+        if (afterId == null) {
+            return;
+        }
+        try {
+            int pageSize = pageSize(request.getPageSize());
+            if (projected != null) {
+                List<Tuple> rows = syncReadStreamService.findProjectedPage(GithubCommit.class, projectConfigId,
+                        projected.filter(), projected.attributes(), afterId, pageSize + 1);
+                responseObserver.onNext(GithubCommitPageResponse.newBuilder()
+                        .addAllCommits(projected.map(rows.subList(0, Math.min(rows.size(), pageSize))))
+                        .setNextPageToken(nextPageToken(rows, pageSize, SyncGrpcService::tupleId))
+                        .build());
+                responseObserver.onCompleted();
+                return;
+            }
+            List<GithubCommit> rows = githubCommitRepository.findActivePageAfter(projectConfigId, afterId, Limit.of(pageSize + 1));
+            GithubCommitPageResponse.Builder response = GithubCommitPageResponse.newBuilder();
+            rows.stream().limit(pageSize).forEach(commit -> response.addCommits(toGithubCommitResponse(commit)));
+            response.setNextPageToken(nextPageToken(rows, pageSize, GithubCommit::getId));
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch github commits page")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    @Override
+    public void getUnifiedActivitiesPageByProjectConfig(
+            ProjectConfigPageRequest request,
+            StreamObserver<UnifiedActivityPageResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        ProjectedRead<UnifiedActivityResponse> projected = request.hasOptions()
+                ? resolveOptions(request.getOptions(), SyncReadProjection::activities, responseObserver)
+                : null;
+        if (request.hasOptions() && projected == null) {
+            return;
+        }
+        Long afterId = parsePageToken(request.getPageToken(), responseObserver);
+        if (afterId == null) {
+            return;
+        }
+        try {
+            int pageSize = pageSize(request.getPageSize());
+            if (projected != null) {
+                List<Tuple> rows = syncReadStreamService.findProjectedPage(UnifiedActivity.class, projectConfigId,
+                        projected.filter(), projected.attributes(), afterId, pageSize + 1);
+                responseObserver.onNext(UnifiedActivityPageResponse.newBuilder()
+                        .addAllActivities(projected.map(rows.subList(0, Math.min(rows.size(), pageSize))))
+                        .setNextPageToken(nextPageToken(rows, pageSize, SyncGrpcService::tupleId))
+                        .build());
+                responseObserver.onCompleted();
+                return;
+            }
+            List<UnifiedActivity> rows = unifiedActivityRepository.findActivePageAfter(projectConfigId, afterId, Limit.of(pageSize + 1));
+            UnifiedActivityPageResponse.Builder response = UnifiedActivityPageResponse.newBuilder();
+            rows.stream().limit(pageSize).forEach(activity -> response.addActivities(toUnifiedActivityResponse(activity)));
+            response.setNextPageToken(nextPageToken(rows, pageSize, UnifiedActivity::getId));
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch unified activities page")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Delta variants: rows written after a change version, soft deletes as tombstones
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void getIssueChangesSince(
+            ChangesSinceRequest request,
+            StreamObserver<IssueChangesResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        try {
+            SyncDeltaService.Delta<JiraIssue> delta =
+                    syncDeltaService.issueChangesSince(projectConfigId, request.getSinceVersion(), request.getLimit());
+            IssueChangesResponse.Builder response = IssueChangesResponse.newBuilder()
+                    .setNextVersion(delta.nextVersion())
+                    .setHasMore(delta.hasMore());
+            for (JiraIssue issue : delta.rows()) {
+                if (issue.getDeletedAt() != null) {
+                    response.addDeletes(IssueTombstone.newBuilder()
+                            .setIssueId(nullSafe(issue.getIssueId()))
+                            .setIssueKey(nullSafe(issue.getIssueKey()))
+                            .setDeletedAt(issue.getDeletedAt().toString())
+                            .build());
+                } else {
+                    response.addUpserts(toIssueResponse(issue));
+                }
+            }
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException ex) {
+            responseObserver.onError(invalidVersion(ex));
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch issue changes")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    @Override
+    public void getGithubCommitChangesSince(
+            ChangesSinceRequest request,
+            StreamObserver<GithubCommitChangesResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        try {
+            SyncDeltaService.Delta<GithubCommit> delta =
+                    syncDeltaService.githubCommitChangesSince(projectConfigId, request.getSinceVersion(), request.getLimit());
+            GithubCommitChangesResponse.Builder response = GithubCommitChangesResponse.newBuilder()
+                    .setNextVersion(delta.nextVersion())
+                    .setHasMore(delta.hasMore());
+            for (GithubCommit commit : delta.rows()) {
+                if (commit.getDeletedAt() != null) {
+                    response.addDeletes(GithubCommitTombstone.newBuilder()
+                            .setCommitSha(nullSafe(commit.getCommitSha()))
+                            .setDeletedAt(commit.getDeletedAt().toString())
+                            .build());
+                } else {
+                    response.addUpserts(toGithubCommitResponse(commit));
+                }
+            }
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException ex) {
+            responseObserver.onError(invalidVersion(ex));
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch github commit changes")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    @Override
+    public void getUnifiedActivityChangesSince(
+            ChangesSinceRequest request,
+            StreamObserver<UnifiedActivityChangesResponse> responseObserver) {
+
+        UUID projectConfigId = parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+        if (projectConfigId == null) {
+            return;
+        }
+        try {
+            SyncDeltaService.Delta<UnifiedActivity> delta =
+                    syncDeltaService.unifiedActivityChangesSince(projectConfigId, request.getSinceVersion(), request.getLimit());
+            UnifiedActivityChangesResponse.Builder response = UnifiedActivityChangesResponse.newBuilder()
+                    .setNextVersion(delta.nextVersion())
+                    .setHasMore(delta.hasMore());
+            for (UnifiedActivity activity : delta.rows()) {
+                if (activity.getDeletedAt() != null) {
+                    response.addDeletes(UnifiedActivityTombstone.newBuilder()
+                            .setSource(activity.getSource() == null ? "" : activity.getSource().name())
+                            .setExternalId(nullSafe(activity.getExternalId()))
+                            .setDeletedAt(activity.getDeletedAt().toString())
+                            .build());
+                } else {
+                    response.addUpserts(toUnifiedActivityResponse(activity));
+                }
+            }
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException ex) {
+            responseObserver.onError(invalidVersion(ex));
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch unified activity changes")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Pre-aggregated counters (sync_project_stats)
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void getProjectStats(
+            ProjectStatsRequest request,
+            StreamObserver<ProjectStatsResponse> responseObserver) {
+
+        if (request.getProjectConfigIdsCount() > MAX_STATS_CONFIGS) {
+            responseObserver.onError(
+                Status.INVALID_ARGUMENT
+                    .withDescription("At most " + MAX_STATS_CONFIGS + " projectConfigIds per call")
+                    .asRuntimeException()
+            );
+            return;
+        }
+        Set<UUID> projectConfigIds = new LinkedHashSet<>();
+        for (String rawId : request.getProjectConfigIdsList()) {
+            UUID projectConfigId = parseProjectConfigId(rawId, responseObserver);
+            if (projectConfigId == null) {
+                return;
+            }
+            projectConfigIds.add(projectConfigId);
+        }
+        try {
+            // Every requested config gets an entry, zeros until its first sync
+            Map<UUID, ProjectStats.Builder> byConfig = new LinkedHashMap<>();
+            projectConfigIds.forEach(id -> byConfig.put(id, ProjectStats.newBuilder().setProjectConfigId(id.toString())));
+
+            for (ProjectStatsRow row : syncProjectStatsRepository.findByProjectConfigIds(
+                    projectConfigIds, request.getIncludeAuthors())) {
+                if (row.isWholeConfig()) {
+                    byConfig.get(row.projectConfigId())
+                            .setTaskCount(row.taskCount())
+                            .setCompletedTaskCount(row.completedTaskCount())
+                            .setCommitCount(row.commitCount())
+                            .setPrCount(row.prCount())
+                            .setMergedPrCount(row.mergedPrCount())
+                            .setUpdatedAt(row.updatedAt() == null ? "" : row.updatedAt().toString());
+                } else {
+                    byConfig.get(row.projectConfigId()).addAuthors(AuthorStats.newBuilder()
+                            .setAuthorEmail(row.authorEmail())
+                            .setTaskCount(row.taskCount())
+                            .setCompletedTaskCount(row.completedTaskCount())
+                            .setCommitCount(row.commitCount())
+                            .setPrCount(row.prCount())
+                            .setMergedPrCount(row.mergedPrCount())
+                            .build());
+                }
+            }
+
+            ProjectStatsResponse.Builder response = ProjectStatsResponse.newBuilder();
+            byConfig.values().forEach(response::addStats);
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(
+                Status.INTERNAL
+                    .withDescription("Failed to fetch project stats")
+                    .withCause(ex)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    /**
+     * Resolves ReadOptions for one row type; on a bad mask or filter answers INVALID_ARGUMENT
+     * and returns null.
+     */
+    private <R> ProjectedRead<R> resolveOptions(ReadOptions options,
+                                                Function<List<String>, SyncReadProjection.Projection<R>> projectionOf,
+                                                StreamObserver<?> responseObserver) {
+        try {
+            return new ProjectedRead<>(projectionOf.apply(options.getFieldsList()), SyncReadProjection.filter(options));
+        } catch (IllegalArgumentException ex) {
+            responseObserver.onError(
+                Status.INVALID_ARGUMENT
+                    .withDescription("options are invalid: " + ex.getMessage())
+                    .asRuntimeException()
+            );
+            return null;
+        }
+    }
+
+    private record ProjectedRead<R>(SyncReadProjection.Projection<R> projection, SyncReadFilter filter) {
+
+        List<String> attributes() {
+            return projection.attributes();
+        }
+
+        List<R> map(List<Tuple> rows) {
+            return rows.stream().map(projection.mapper()).toList();
+        }
+    }
+
+    private static Long tupleId(Tuple row) {
+        return row.get(SyncReadQueryRepository.ID, Long.class);
+    }
+
+    private static StatusRuntimeException invalidVersion(IllegalArgumentException ex) {
+        return Status.INVALID_ARGUMENT
+                .withDescription("sinceVersion is invalid")
+                .withCause(ex)
+                .asRuntimeException();
+    }
+
+    private IssueResponse toIssueResponse(JiraIssue issue) {
+        return IssueResponse.newBuilder()
+                .setIssueId(issue.getIssueId())
+                .setIssueKey(issue.getIssueKey())
+                .setSummary(issue.getSummary())
+                .setDescription(nullSafe(issue.getDescription()))
+                .setIssueType(nullSafe(issue.getIssueType()))
+                .setStatus(nullSafe(issue.getStatus()))
+                .setPriority(nullSafe(issue.getPriority()))
+                .setAssigneeEmail(nullSafe(issue.getAssigneeEmail()))
+                .setAssigneeName(nullSafe(issue.getAssigneeName()))
+                .setReporterEmail(nullSafe(issue.getReporterEmail()))
+                .setReporterName(nullSafe(issue.getReporterName()))
+                .setCreatedAt(issue.getCreatedAt() == null ? "" : issue.getCreatedAt().toString())
+                .setUpdatedAt(issue.getUpdatedAt() == null ? "" : issue.getUpdatedAt().toString())
+                .setDueDate(issue.getDueDate() == null ? "" : issue.getDueDate().toString())
+                .build();
+    }
+
+    private GithubCommitResponse toGithubCommitResponse(GithubCommit commit) {
+        return GithubCommitResponse.newBuilder()
+                .setCommitSha(nullSafe(commit.getCommitSha()))
+                .setMessage(nullSafe(commit.getMessage()))
+                .setCommittedDate(commit.getCommittedDate() == null ? "" : commit.getCommittedDate().toString())
+                .setAuthorEmail(nullSafe(commit.getAuthorEmail()))
+                .setAuthorName(nullSafe(commit.getAuthorName()))
+                .setAdditions(commit.getAdditions() == null ? 0 : Math.max(0, commit.getAdditions()))
+                .setDeletions(commit.getDeletions() == null ? 0 : Math.max(0, commit.getDeletions()))
+                .setTotalChanges(commit.getTotalChanges() == null ? 0 : Math.max(0, commit.getTotalChanges()))
+                .build();
+    }
+
+    private UnifiedActivityResponse toUnifiedActivityResponse(UnifiedActivity activity) {
+        return UnifiedActivityResponse.newBuilder()
+                .setSource(activity.getSource() == null ? "" : activity.getSource().name())
+                .setActivityType(activity.getActivityType() == null ? "" : activity.getActivityType().name())
+                .setExternalId(nullSafe(activity.getExternalId()))
+                .setTitle(nullSafe(activity.getTitle()))
+                .setDescription(nullSafe(activity.getDescription()))
+                .setAuthorEmail(nullSafe(activity.getAuthorEmail()))
+                .setAuthorName(nullSafe(activity.getAuthorName()))
+                .setStatus(nullSafe(activity.getStatus()))
+                .setCreatedAt(activity.getCreatedAt() == null ? "" : activity.getCreatedAt().toString())
+                .setUpdatedAt(activity.getUpdatedAt() == null ? "" : activity.getUpdatedAt().toString())
+                .build();
+    }
+
+    static int chunkSize(int requested) {
+        return requested <= 0 ? DEFAULT_CHUNK_SIZE : Math.min(requested, MAX_CHUNK_SIZE);
+    }
+
+    static int pageSize(int requested) {
+        return requested <= 0 ? DEFAULT_PAGE_SIZE : Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    private static <T> String nextPageToken(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        // One extra row was fetched: present only if another page exists
+        return rows.size() > pageSize ? String.valueOf(idOf.apply(rows.get(pageSize - 1))) : "";
+    }
+
+    private Long parsePageToken(String pageToken, StreamObserver<?> responseObserver) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(pageToken);
+        } catch (NumberFormatException ex) {
+            responseObserver.onError(
+                Status.INVALID_ARGUMENT
+                    .withDescription("pageToken is invalid")
+                    .asRuntimeException()
+            );
+            return null;
+        }
+    }
+
+    private static StatusRuntimeException streamError(String description, Exception ex) {
+        if (ex instanceof StatusRuntimeException statusException
+                && statusException.getStatus().getCode() == Status.Code.CANCELLED) {
+            return statusException;
+        }
+        return Status.INTERNAL.withDescription(description).withCause(ex).asRuntimeException();
+    }
+
     private UUID parseProjectConfigId(ProjectConfigRequest request, StreamObserver<?> responseObserver) {
+        return parseProjectConfigId(request.getProjectConfigId(), responseObserver);
+    }
+
+    private UUID parseProjectConfigId(String projectConfigId, StreamObserver<?> responseObserver) {
         try {
-            return UUID.fromString(request.getProjectConfigId());
+            return UUID.fromString(projectConfigId);
         } catch (IllegalArgumentException ex) {
             responseObserver.onError(
                 Status.INVALID_ARGUMENT
@@ -0,0 +1,177 @@
+package com.example.syncservice.client.grpc;
+
+import com.example.syncservice.dto.SyncReadFilter;
+import com.example.syncservice.entity.UnifiedActivity;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Translates ReadOptions into a {@link SyncReadFilter} and a field projection.
+ *
+ * Field names in a mask are the proto field names, which are also the entity attribute names,
+ * so the mask becomes the SELECT list as-is. Unknown names are rejected (INVALID_ARGUMENT)
+ * rather than ignored, so a typo never silently returns empty fields.
+ */
+final class SyncReadProjection {
+
+    private static final Map<String, BiConsumer<IssueResponse.Builder, Object>> ISSUE_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, BiConsumer<GithubCommitResponse.Builder, Object>> COMMIT_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, BiConsumer<UnifiedActivityResponse.Builder, Object>> ACTIVITY_FIELDS = new LinkedHashMap<>();
+
+    private static final List<String> ISSUE_IDENTITY = List.of("issueId", "issueKey");
+    private static final List<String> COMMIT_IDENTITY = List.of("commitSha");
+    private static final List<String> ACTIVITY_IDENTITY = List.of("source", "externalId");
+
+    static {
+        ISSUE_FIELDS.put("issueId", (b, v) -> b.setIssueId(text(v)));
+        ISSUE_FIELDS.put("issueKey", (b, v) -> b.setIssueKey(text(v)));
+        ISSUE_FIELDS.put("summary", (b, v) -> b.setSummary(text(v)));
+        ISSUE_FIELDS.put("description", (b, v) -> b.setDescription(text(v)));
+        ISSUE_FIELDS.put("issueType", (b, v) -> b.setIssueType(text(v)));
+        ISSUE_FIELDS.put("status", (b, v) -> b.setStatus(text(v)));
+        ISSUE_FIELDS.put("priority", (b, v) -> b.setPriority(text(v)));
+        ISSUE_FIELDS.put("assigneeEmail", (b, v) -> b.setAssigneeEmail(text(v)));
+        ISSUE_FIELDS.put("assigneeName", (b, v) -> b.setAssigneeName(text(v)));
+        ISSUE_FIELDS.put("reporterEmail", (b, v) -> b.setReporterEmail(text(v)));
+        ISSUE_FIELDS.put("reporterName", (b, v) -> b.setReporterName(text(v)));
+        ISSUE_FIELDS.put("createdAt", (b, v) -> b.setCreatedAt(text(v)));
+        ISSUE_FIELDS.put("updatedAt", (b, v) -> b.setUpdatedAt(text(v)));
+        ISSUE_FIELDS.put("dueDate", (b, v) -> b.setDueDate(text(v)));
+
+        COMMIT_FIELDS.put("commitSha", (b, v) -> b.setCommitSha(text(v)));
+        COMMIT_FIELDS.put("message", (b, v) -> b.setMessage(text(v)));
+        COMMIT_FIELDS.put("committedDate", (b, v) -> b.setCommittedDate(text(v)));
+        COMMIT_FIELDS.put("authorEmail", (b, v) -> b.setAuthorEmail(text(v)));
+        COMMIT_FIELDS.put("authorName", (b, v) -> b.setAuthorName(text(v)));
+        COMMIT_FIELDS.put("additions", (b, v) -> b.setAdditions(count(v)));
+        COMMIT_FIELDS.put("deletions", (b, v) -> b.setDeletions(count(v)));
+        COMMIT_FIELDS.put("totalChanges", (b, v) -> b.setTotalChanges(count(v)));
+
+        ACTIVITY_FIELDS.put("source", (b, v) -> b.setSource(text(v)));
+        ACTIVITY_FIELDS.put("activityType", (b, v) -> b.setActivityType(text(v)));
+        ACTIVITY_FIELDS.put("externalId", (b, v) -> b.setExternalId(text(v)));
+        ACTIVITY_FIELDS.put("title", (b, v) -> b.setTitle(text(v)));
+        ACTIVITY_FIELDS.put("description", (b, v) -> b.setDescription(text(v)));
+        ACTIVITY_FIELDS.put("authorEmail", (b, v) -> b.setAuthorEmail(text(v)));
+        ACTIVITY_FIELDS.put("authorName", (b, v) -> b.setAuthorName(text(v)));
+        ACTIVITY_FIELDS.put("status", (b, v) -> b.setStatus(text(v)));
+        ACTIVITY_FIELDS.put("createdAt", (b, v) -> b.setCreatedAt(text(v)));
+        ACTIVITY_FIELDS.put("updatedAt", (b, v) -> b.setUpdatedAt(text(v)));
+    }
+
+    private SyncReadProjection() {
+    }
+
+    /**
+     * @param attributes entity attributes to select (the row id is always added by the query)
+     * @param mapper     builds the response row from a Tuple aliased by attribute name
+     */
+    record Projection<R>(List<String> attributes, Function<Tuple, R> mapper) {
+    }
+
+    static Projection<IssueResponse> issues(List<String> fieldMask) {
+        return projection(fieldMask, ISSUE_FIELDS, ISSUE_IDENTITY, IssueResponse::newBuilder, IssueResponse.Builder::build);
+    }
+
+    static Projection<GithubCommitResponse> commits(List<String> fieldMask) {
+        return projection(fieldMask, COMMIT_FIELDS, COMMIT_IDENTITY,
+                GithubCommitResponse::newBuilder, GithubCommitResponse.Builder::build);
+    }
+
+    static Projection<UnifiedActivityResponse> activities(List<String> fieldMask) {
+        return projection(fieldMask, ACTIVITY_FIELDS, ACTIVITY_IDENTITY,
+                UnifiedActivityResponse::newBuilder, UnifiedActivityResponse.Builder::build);
+    }
+
+    static SyncReadFilter filter(ReadOptions options) {
+        Set<UnifiedActivity.ActivitySource> sources = EnumSet.noneOf(UnifiedActivity.ActivitySource.class);
+        for (String source : options.getSourcesList()) {
+            sources.add(enumValue(UnifiedActivity.ActivitySource.class, source, "sources"));
+        }
+        Set<UnifiedActivity.ActivityType> activityTypes = EnumSet.noneOf(UnifiedActivity.ActivityType.class);
+        for (String activityType : options.getActivityTypesList()) {
+            activityTypes.add(enumValue(UnifiedActivity.ActivityType.class, activityType, "activityTypes"));
+        }
+        LocalDate from = date(options.getFromDate(), "fromDate");
+        LocalDate to = date(options.getToDate(), "toDate");
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+
+        SyncReadFilter.DateField dateField = switch (options.getDateField()) {
+            case CREATED_AT -> SyncReadFilter.DateField.CREATED_AT;
+            case UPDATED_AT -> SyncReadFilter.DateField.UPDATED_AT;
+            default -> SyncReadFilter.DateField.DEFAULT;
+        };
+        String authorEmail = options.getAuthorEmail().isBlank() ? null : options.getAuthorEmail();
+        return new SyncReadFilter(authorEmail, sources, activityTypes, from, to, dateField);
+    }
+
+    private static <B, R> Projection<R> projection(List<String> fieldMask,
+                                                   Map<String, BiConsumer<B, Object>> fields,
+                                                   List<String> identity,
+                                                   Supplier<B> newBuilder,
+                                                   Function<B, R> build) {
+        Set<String> selected = new LinkedHashSet<>(identity);
+        if (fieldMask.isEmpty()) {
+            selected.addAll(fields.keySet());
+        }
+        for (String field : fieldMask) {
+            if (!fields.containsKey(field)) {
+                throw new IllegalArgumentException("Unknown field in mask: " + field);
+            }
+            selected.add(field);
+        }
+
+        List<String> attributes = new ArrayList<>(selected);
+        Function<Tuple, R> mapper = tuple -> {
+            B builder = newBuilder.get();
+            for (String attribute : attributes) {
+                fields.get(attribute).accept(builder, tuple.get(attribute));
+            }
+            return build.apply(builder);
+        };
+        return new Projection<>(List.copyOf(attributes), mapper);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, String option) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown value in " + option + ": " + value, ex);
+        }
+    }
+
+    private static LocalDate date(String value, String option) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(option + " must be an ISO date (yyyy-MM-dd)", ex);
+        }
+    }
+
+    // Same null handling as the entity mappers in SyncGrpcService
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static int count(Object value) {
+        return value == null ? 0 : Math.max(0, ((Number) value).intValue());
+    }
+}
@@ -1,14 +1,17 @@
 package com.example.syncservice.config;
 
+import com.example.syncservice.metrics.SyncMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -25,6 +28,11 @@ import java.util.concurrent.ThreadPoolExecutor;
  * - Queue: 100 tasks (bounded queue prevents memory exhaustion)
  * - Rejection: CallerRunsPolicy (backpressure - caller thread executes if queue full)
  * 
+ * Modes (sync.async.mode):
+ * - platform (default): ThreadPoolTaskExecutor sized by core/max pool size
+ * - virtual: one virtual thread per sync, concurrency capped by a semaphore
+ *   (sync.async.virtual.max-concurrency) instead of a pool; see VirtualThreadTaskExecutor
+ * 
  * @see com.example.syncservice.SyncServiceApplication
  */
 @Configuration
@@ -34,10 +42,17 @@ public class AsyncConfig {
     
     @Bean(name = "syncTaskExecutor")
     public Executor syncTaskExecutor(
+            @Value("${sync.async.mode:platform}") String mode,
             @Value("${sync.async.core-pool-size:2}") int corePoolSize,
             @Value("${sync.async.max-pool-size:5}") int maxPoolSize,
             @Value("${sync.async.queue-capacity:100}") int queueCapacity,
-            @Value("${sync.async.thread-name-prefix:sync-}") String threadNamePrefix) {
+            @Value("${sync.async.thread-name-prefix:sync-}") String threadNamePrefix,
+            @Value("${sync.async.virtual.max-concurrency:200}") int virtualMaxConcurrency,
+            SyncMetrics syncMetrics) {
+
+        if ("virtual".equalsIgnoreCase(mode.trim())) {
+            return virtualThreadExecutor(virtualMaxConcurrency, queueCapacity, threadNamePrefix, syncMetrics);
+        }
         
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
@@ -66,6 +81,7 @@ public class AsyncConfig {
         executor.setTaskDecorator(new MdcTaskDecorator());
         
         executor.initialize();
+        syncMetrics.registerThreadPoolMetrics("syncTaskExecutor", executor.getThreadPoolExecutor());
         
         log.info("✅ Initialized syncTaskExecutor - core={}, max={}, queue={}, prefix='{}'",
                 corePoolSize, maxPoolSize, queueCapacity, threadNamePrefix);
@@ -75,6 +91,33 @@ public class AsyncConfig {
         return executor;
     }
     
+    private Executor virtualThreadExecutor(int maxConcurrency, int queueCapacity, String threadNamePrefix,
+                                           SyncMetrics syncMetrics) {
+        // Semaphore replaces the pool size; waiting tasks are parked virtual threads, bounded by queueCapacity
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(
+                maxConcurrency, queueCapacity, threadNamePrefix, new MdcTaskDecorator(), 60);
+        syncMetrics.registerExecutorMetrics("syncTaskExecutor", executor::getActiveCount, executor::getWaitingCount);
+
+        log.info("✅ Initialized syncTaskExecutor in VIRTUAL mode - maxConcurrency={}, maxWaiting={}, prefix='{}'",
+                maxConcurrency, queueCapacity, threadNamePrefix);
+        log.info("✅ MDC propagation: ENABLED (correlation IDs propagate to virtual threads)");
+        return executor;
+    }
+
+    /**
+     * JFR-based pinning diagnostics, only in virtual mode.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("'${sync.async.mode:platform}'.trim().equalsIgnoreCase('virtual') "
+            + "and ${sync.async.virtual.pinning-diagnostics:true}")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${sync.async.virtual.pinning-threshold-ms:20}") long thresholdMs,
+            SyncMetrics syncMetrics) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), syncMetrics);
+        monitor.start();
+        return monitor;
+    }
+    
     /**
      * Task decorator for propagating MDC context (correlation IDs) to async threads.
      * Without this, correlation IDs would be lost in async execution.
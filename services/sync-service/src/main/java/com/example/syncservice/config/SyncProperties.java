@@ -0,0 +1,329 @@
+package com.example.syncservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tunables for Jira/GitHub sync behaviour (prefix {@code sync}).
+ */
+@ConfigurationProperties(prefix = "sync")
+public class SyncProperties {
+
+    private final Github github = new Github();
+    private final Jira jira = new Jira();
+    private final Resume resume = new Resume();
+    private final Scheduler scheduler = new Scheduler();
+    private final Sharding sharding = new Sharding();
+    private final Persistence persistence = new Persistence();
+
+    public Github getGithub() {
+        return github;
+    }
+
+    public Jira getJira() {
+        return jira;
+    }
+
+    public Resume getResume() {
+        return resume;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public Persistence getPersistence() {
+        return persistence;
+    }
+
+    public static class Github {
+
+        /**
+         * Commit fetch backend: REST (listing + one detail call per commit) or
+         * GRAPHQL (history connection, stats included in every page).
+         */
+        private FetchStrategy fetchStrategy = FetchStrategy.REST;
+
+        /**
+         * Use per-config watermarks and conditional requests instead of walking every page.
+         */
+        private boolean incrementalEnabled = true;
+
+        /**
+         * Minutes subtracted from the stored watermark when building {@code since=},
+         * so commits pushed late with slightly older dates are not missed.
+         */
+        private int sinceOverlapMinutes = 5;
+
+        /**
+         * Maximum commit-detail requests in flight per sync run (per token).
+         */
+        private int detailConcurrency = 8;
+
+        /**
+         * Below this X-RateLimit-Remaining value, detail requests are spread out until the reset time.
+         */
+        private int rateLimitLowWatermark = 200;
+
+        /**
+         * Longest wait for a rate-limit reset before failing the fetch with a rate-limit error.
+         */
+        private int rateLimitMaxWaitSeconds = 60;
+
+        public FetchStrategy getFetchStrategy() {
+            return fetchStrategy;
+        }
+
+        public void setFetchStrategy(FetchStrategy fetchStrategy) {
+            this.fetchStrategy = fetchStrategy;
+        }
+
+        public boolean isIncrementalEnabled() {
+            return incrementalEnabled;
+        }
+
+        public void setIncrementalEnabled(boolean incrementalEnabled) {
+            this.incrementalEnabled = incrementalEnabled;
+        }
+
+        public int getSinceOverlapMinutes() {
+            return sinceOverlapMinutes;
+        }
+
+        public void setSinceOverlapMinutes(int sinceOverlapMinutes) {
+            this.sinceOverlapMinutes = sinceOverlapMinutes;
+        }
+
+        public int getDetailConcurrency() {
+            return detailConcurrency;
+        }
+
+        public void setDetailConcurrency(int detailConcurrency) {
+            this.detailConcurrency = detailConcurrency;
+        }
+
+        public int getRateLimitLowWatermark() {
+            return rateLimitLowWatermark;
+        }
+
+        public void setRateLimitLowWatermark(int rateLimitLowWatermark) {
+            this.rateLimitLowWatermark = rateLimitLowWatermark;
+        }
+
+        public int getRateLimitMaxWaitSeconds() {
+            return rateLimitMaxWaitSeconds;
+        }
+
+        public void setRateLimitMaxWaitSeconds(int rateLimitMaxWaitSeconds) {
+            this.rateLimitMaxWaitSeconds = rateLimitMaxWaitSeconds;
+        }
+    }
+
+    public enum FetchStrategy {
+        REST,
+        GRAPHQL
+    }
+
+    public static class Jira {
+
+        /**
+         * Query only issues updated since the stored watermark (JQL {@code updated >=}).
+         */
+        private boolean incrementalEnabled = true;
+
+        /**
+         * Minutes subtracted from the watermark. JQL dates have minute precision and are
+         * evaluated in the Jira user's time zone, so keep a generous overlap; upserts are idempotent.
+         */
+        private int sinceOverlapMinutes = 15;
+
+        public boolean isIncrementalEnabled() {
+            return incrementalEnabled;
+        }
+
+        public void setIncrementalEnabled(boolean incrementalEnabled) {
+            this.incrementalEnabled = incrementalEnabled;
+        }
+
+        public int getSinceOverlapMinutes() {
+            return sinceOverlapMinutes;
+        }
+
+        public void setSinceOverlapMinutes(int sinceOverlapMinutes) {
+            this.sinceOverlapMinutes = sinceOverlapMinutes;
+        }
+    }
+
+    public static class Resume {
+
+        /**
+         * Continue from the last committed page of an interrupted job with the same window.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Checkpoints older than this are ignored and the window is fetched from the start.
+         */
+        private int maxAgeHours = 24;
+
+        /**
+         * A RUNNING job without a page checkpoint for this long is treated as abandoned and may be resumed.
+         */
+        private int staleRunningMinutes = 15;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAgeHours() {
+            return maxAgeHours;
+        }
+
+        public void setMaxAgeHours(int maxAgeHours) {
+            this.maxAgeHours = maxAgeHours;
+        }
+
+        public int getStaleRunningMinutes() {
+            return staleRunningMinutes;
+        }
+
+        public void setStaleRunningMinutes(int staleRunningMinutes) {
+            this.staleRunningMinutes = staleRunningMinutes;
+        }
+    }
+
+    public static class Scheduler {
+
+        /**
+         * Cron of the scheduled Jira sync; its fire time also keys the sharded run.
+         */
+        private String jiraIssuesCron = "0 */30 * * * *";
+
+        /**
+         * Cron of the scheduled GitHub sync; its fire time also keys the sharded run.
+         */
+        private String githubCommitsCron = "0 */15 * * * *";
+
+        /**
+         * Scheduled syncs running at once across all hosts; keep below the syncTaskExecutor capacity.
+         */
+        private int maxInFlight = 16;
+
+        /**
+         * Scheduled syncs running at once against one Jira site or one GitHub token.
+         */
+        private int perHostMaxInFlight = 4;
+
+        /**
+         * How strongly recent change volume raises a config's priority over pure staleness (0 = staleness only).
+         */
+        private double changeRateWeight = 1.0;
+
+        public String getJiraIssuesCron() {
+            return jiraIssuesCron;
+        }
+
+        public void setJiraIssuesCron(String jiraIssuesCron) {
+            this.jiraIssuesCron = jiraIssuesCron;
+        }
+
+        public String getGithubCommitsCron() {
+            return githubCommitsCron;
+        }
+
+        public void setGithubCommitsCron(String githubCommitsCron) {
+            this.githubCommitsCron = githubCommitsCron;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public int getPerHostMaxInFlight() {
+            return perHostMaxInFlight;
+        }
+
+        public void setPerHostMaxInFlight(int perHostMaxInFlight) {
+            this.perHostMaxInFlight = perHostMaxInFlight;
+        }
+
+        public double getChangeRateWeight() {
+            return changeRateWeight;
+        }
+
+        public void setChangeRateWeight(double changeRateWeight) {
+            this.changeRateWeight = changeRateWeight;
+        }
+    }
+
+    public static class Sharding {
+
+        /**
+         * Split scheduled syncs across replicas via leased rows in sync_work_items instead of
+         * running the whole schedule on the single ShedLock holder.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Lease length; renewed by the heartbeat while the sync runs, reclaimable by any replica once expired.
+         */
+        private int leaseTtlSeconds = 120;
+
+        /**
+         * Work items of configs not requested for this many hours (config deleted / unverified) are purged.
+         */
+        private int retentionHours = 24;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getLeaseTtlSeconds() {
+            return leaseTtlSeconds;
+        }
+
+        public void setLeaseTtlSeconds(int leaseTtlSeconds) {
+            this.leaseTtlSeconds = leaseTtlSeconds;
+        }
+
+        public int getRetentionHours() {
+            return retentionHours;
+        }
+
+        public void setRetentionHours(int retentionHours) {
+            this.retentionHours = retentionHours;
+        }
+    }
+
+    public static class Persistence {
+
+        /**
+         * Batches with at least this many rows are loaded via COPY + one INSERT ... SELECT merge.
+         * Full-history syncs also buffer pages up to this many rows per write (see SyncOrchestrator).
+         */
+        private int copyThreshold = 2000;
+
+        public int getCopyThreshold() {
+            return copyThreshold;
+        }
+
+        public void setCopyThreshold(int copyThreshold) {
+            this.copyThreshold = copyThreshold;
+        }
+    }
+}
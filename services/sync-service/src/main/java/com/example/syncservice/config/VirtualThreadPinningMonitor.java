@@ -0,0 +1,66 @@
+package com.example.syncservice.config;
+
+import com.example.syncservice.metrics.SyncMetrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Pinning diagnostics for virtual-thread mode.
+ *
+ * A virtual thread that blocks inside a {@code synchronized} block (or a native frame) pins its carrier,
+ * and enough pinned carriers stall every sync. This listens to the JFR {@code jdk.VirtualThreadPinned}
+ * event in-process and logs the top frames of each pin longer than the threshold, so the offending
+ * synchronized section (ours or a library's) can be replaced with a ReentrantLock.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final RecordingStream stream;
+    private final SyncMetrics syncMetrics;
+
+    public VirtualThreadPinningMonitor(Duration threshold, SyncMetrics syncMetrics) {
+        this.syncMetrics = syncMetrics;
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    public void start() {
+        stream.startAsync();
+        log.info("✅ Virtual-thread pinning diagnostics: ENABLED");
+    }
+
+    private void onPinned(RecordedEvent event) {
+        syncMetrics.recordVirtualThreadPinned(event.getDuration());
+        log.warn("⚠️ Virtual thread pinned for {}ms (thread={}):\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?",
+                topFrames(event));
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "    <no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
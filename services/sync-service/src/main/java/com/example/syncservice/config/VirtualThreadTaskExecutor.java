@@ -0,0 +1,137 @@
+package com.example.syncservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * syncTaskExecutor in virtual-thread mode ({@code sync.async.mode=virtual}).
+ *
+ * CRITICAL DESIGN:
+ * - One virtual thread per task, no pool: WebClient#block, gRPC blocking stubs and JDBC park the
+ *   virtual thread and free the carrier, so hundreds of syncs cost little more than their stacks
+ * - A Semaphore caps tasks RUNNING at once (replaces max-pool-size) and keeps the DB pool and
+ *   upstream rate limits in charge of throughput, not the thread count
+ * - Tasks over the cap wait parked on the semaphore; at most {@code queueCapacity} may wait,
+ *   further submissions get TaskRejectedException (same contract as AbortPolicy on the platform pool)
+ * - The TaskDecorator (MDC propagation) is applied on the submitting thread, like ThreadPoolTaskExecutor
+ */
+@Slf4j
+public class VirtualThreadTaskExecutor implements TaskExecutor, DisposableBean {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final ThreadFactory threadFactory;
+    private final TaskDecorator taskDecorator;
+    private final long awaitTerminationMillis;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger submitted = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    public VirtualThreadTaskExecutor(int maxConcurrency,
+                                     int queueCapacity,
+                                     String threadNamePrefix,
+                                     TaskDecorator taskDecorator,
+                                     long awaitTerminationSeconds) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.permits = new Semaphore(this.maxConcurrency, true);
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.taskDecorator = taskDecorator;
+        this.awaitTerminationMillis = TimeUnit.SECONDS.toMillis(awaitTerminationSeconds);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new TaskRejectedException("syncTaskExecutor is shutting down");
+        }
+
+        boolean acquired = permits.tryAcquire();
+        if (!acquired && waiting.incrementAndGet() > queueCapacity) {
+            waiting.decrementAndGet();
+            throw new TaskRejectedException("syncTaskExecutor saturated: running=" + maxConcurrency
+                    + ", waiting=" + queueCapacity);
+        }
+
+        // Decorate here so the MDC of the submitting thread is captured
+        Runnable decorated = taskDecorator != null ? taskDecorator.decorate(task) : task;
+        submitted.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> runWithPermit(decorated, acquired)).start();
+        } catch (RuntimeException | Error e) {
+            submitted.decrementAndGet();
+            if (acquired) {
+                permits.release();
+            } else {
+                waiting.decrementAndGet();
+            }
+            throw new TaskRejectedException("Could not start virtual thread", e);
+        }
+    }
+
+    private void runWithPermit(Runnable task, boolean alreadyAcquired) {
+        boolean holdsPermit = alreadyAcquired;
+        try {
+            if (!holdsPermit) {
+                try {
+                    permits.acquire();
+                    holdsPermit = true;
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            }
+            task.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Virtual sync task interrupted before it started");
+        } finally {
+            if (holdsPermit) {
+                permits.release();
+            }
+            submitted.decrementAndGet();
+        }
+    }
+
+    /**
+     * Tasks currently holding a permit.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Tasks started but parked until a permit frees up.
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Graceful shutdown: refuse new tasks, wait for running ones (mirrors setWaitForTasksToCompleteOnShutdown).
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown = true;
+        long deadline = System.currentTimeMillis() + awaitTerminationMillis;
+        while (submitted.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        if (submitted.get() > 0) {
+            log.warn("⚠️ syncTaskExecutor shut down with {} virtual task(s) still running", submitted.get());
+        }
+    }
+}
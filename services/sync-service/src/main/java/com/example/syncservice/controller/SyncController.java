@@ -53,7 +53,8 @@ public class SyncController {
     private final SyncJobQueryService syncJobQueryService;
 
     @PostMapping("/jira/issues")
-    @Operation(summary = "Trigger Jira issue sync for a single project config")
+    @Operation(summary = "Trigger Jira issue sync for a single project config",
+        description = "Incremental by default (issues updated since the stored watermark). Pass fullResync=true to re-fetch every issue.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Jira sync completed",
             content = @Content(schema = @Schema(implementation = com.example.common.api.ApiResponse.class))),
@@ -62,18 +63,21 @@ public class SyncController {
     })
     public CompletableFuture<ResponseEntity<ApiResponse<SyncResultDto>>> syncJiraIssues(
         @Valid @RequestBody SyncRequestDto request,
+        @RequestParam(defaultValue = "false") boolean fullResync,
         Authentication authentication,
         HttpServletRequest servletRequest
     ) {
         Long userId = getUserIdFromAuthentication(authentication);
-        log.info("Manual Jira sync requested for configId={} by user={}", request.projectConfigId(), userId);
+        log.info("Manual Jira sync requested for configId={} by user={} fullResync={}",
+            request.projectConfigId(), userId, fullResync);
 
-        return syncOrchestrator.syncJiraIssuesAsync(request.projectConfigId())
+        return syncOrchestrator.syncJiraIssuesAsync(request.projectConfigId(), fullResync)
             .thenApply(result -> buildSuccessResponse(result, servletRequest, result.isDegraded()));
     }
 
     @PostMapping("/github/commits")
-    @Operation(summary = "Trigger GitHub commit sync for a single project config")
+    @Operation(summary = "Trigger GitHub commit sync for a single project config",
+        description = "Incremental by default (watermark + conditional requests). Pass fullResync=true to re-fetch and re-enrich the full history.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "GitHub sync completed",
             content = @Content(schema = @Schema(implementation = com.example.common.api.ApiResponse.class))),
@@ -82,13 +86,15 @@ public class SyncController {
     })
     public CompletableFuture<ResponseEntity<ApiResponse<SyncResultDto>>> syncGithubCommits(
         @Valid @RequestBody SyncRequestDto request,
+        @RequestParam(defaultValue = "false") boolean fullResync,
         Authentication authentication,
         HttpServletRequest servletRequest
     ) {
         Long userId = getUserIdFromAuthentication(authentication);
-        log.info("Manual GitHub sync requested for configId={} by user={}", request.projectConfigId(), userId);
+        log.info("Manual GitHub sync requested for configId={} by user={} fullResync={}",
+            request.projectConfigId(), userId, fullResync);
 
-        return syncOrchestrator.syncGithubCommitsAsync(request.projectConfigId())
+        return syncOrchestrator.syncGithubCommitsAsync(request.projectConfigId(), fullResync)
             .thenApply(result -> buildSuccessResponse(result, servletRequest, result.isDegraded()));
     }
 
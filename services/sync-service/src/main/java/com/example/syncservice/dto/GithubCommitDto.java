@@ -34,6 +34,13 @@ public class GithubCommitDto {
     @JsonProperty("files")
     private List<FileChange> files;
 
+    /**
+     * Changed-file count from GraphQL {@code changedFilesIfAvailable}.
+     * The REST shape carries the file list in {@link #files} instead.
+     */
+    @JsonProperty("changedFiles")
+    private Integer changedFiles;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,32 @@
+package com.example.syncservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a (possibly incremental) GitHub commit fetch.
+ * Carries the HTTP validators of the first page so the next run can send a conditional request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubCommitFetchResult {
+
+    @Builder.Default
+    private List<GithubCommitDto> commits = List.of();
+
+    private boolean notModified;     // TRUE if GitHub answered 304 for the first page
+    private String etag;
+    private String lastModified;
+    private int pagesFetched;
+    private int skippedKnownCommits; // SHAs already persisted, detail enrichment skipped
+
+    public static GithubCommitFetchResult empty() {
+        return GithubCommitFetchResult.builder().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.syncservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a paginated Jira issue search.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JiraIssueFetchResult {
+
+    @Builder.Default
+    private List<JiraIssueDto> issues = List.of();
+
+    private int pagesFetched;
+    private boolean truncated;  // TRUE if the page cap stopped pagination before nextPageToken ran out
+}
@@ -0,0 +1,79 @@
+package com.example.syncservice.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Signed changes to sync_project_stats collected while persisting one page.
+ *
+ * Every counted row adds to its whole-config row and, if it has one, to its (lower-cased) author's row.
+ * A row written again with the same status and author adds -1 and +1 to the same counters, so it
+ * leaves no entry behind.
+ */
+public final class ProjectStatsDelta {
+
+    // Same set report-service treats as DONE
+    private static final Set<String> COMPLETED_STATUSES = Set.of("done", "closed", "resolved", "completed", "merged", "approved");
+
+    private static final int TASKS = 0;
+    private static final int COMPLETED_TASKS = 1;
+    private static final int COMMITS = 2;
+    private static final int PULL_REQUESTS = 3;
+    private static final int MERGED_PULL_REQUESTS = 4;
+
+    private final Map<Key, long[]> counters = new LinkedHashMap<>();
+
+    /**
+     * Count (+1) or uncount (-1) a Jira issue; {@code assigneeEmail} is its author.
+     */
+    public void addTask(UUID projectConfigId, String assigneeEmail, String status, int sign) {
+        add(projectConfigId, assigneeEmail, TASKS, sign);
+        if (status != null && COMPLETED_STATUSES.contains(status.toLowerCase(Locale.ROOT))) {
+            add(projectConfigId, assigneeEmail, COMPLETED_TASKS, sign);
+        }
+    }
+
+    public void addCommit(UUID projectConfigId, String authorEmail, int sign) {
+        add(projectConfigId, authorEmail, COMMITS, sign);
+    }
+
+    public void addPullRequest(UUID projectConfigId, String authorEmail, String status, int sign) {
+        add(projectConfigId, authorEmail, PULL_REQUESTS, sign);
+        if ("merged".equalsIgnoreCase(status)) {
+            add(projectConfigId, authorEmail, MERGED_PULL_REQUESTS, sign);
+        }
+    }
+
+    /**
+     * Rows with at least one non-zero counter, counters holding the change to apply.
+     */
+    public List<ProjectStatsRow> changes() {
+        List<ProjectStatsRow> changes = new ArrayList<>();
+        counters.forEach((key, values) -> {
+            if (values[TASKS] != 0 || values[COMPLETED_TASKS] != 0 || values[COMMITS] != 0
+                    || values[PULL_REQUESTS] != 0 || values[MERGED_PULL_REQUESTS] != 0) {
+                changes.add(new ProjectStatsRow(key.projectConfigId(), key.authorEmail(), values[TASKS],
+                        values[COMPLETED_TASKS], values[COMMITS], values[PULL_REQUESTS], values[MERGED_PULL_REQUESTS], null));
+            }
+        });
+        return changes;
+    }
+
+    private void add(UUID projectConfigId, String authorEmail, int counter, int sign) {
+        if (projectConfigId == null) {
+            return;
+        }
+        counters.computeIfAbsent(new Key(projectConfigId, ProjectStatsRow.WHOLE_CONFIG), key -> new long[5])[counter] += sign;
+        if (authorEmail != null && !authorEmail.isEmpty()) {
+            counters.computeIfAbsent(new Key(projectConfigId, authorEmail.toLowerCase(Locale.ROOT)), key -> new long[5])[counter] += sign;
+        }
+    }
+
+    private record Key(UUID projectConfigId, String authorEmail) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.syncservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of sync_project_stats: counters of a project config, or of one author in it.
+ *
+ * @param authorEmail lower-cased author (issues: assignee); empty for the whole-config row
+ * @param updatedAt   last change of any counter in the row (null in {@link ProjectStatsDelta#changes()})
+ */
+public record ProjectStatsRow(UUID projectConfigId,
+                              String authorEmail,
+                              long taskCount,
+                              long completedTaskCount,
+                              long commitCount,
+                              long prCount,
+                              long mergedPrCount,
+                              LocalDateTime updatedAt) {
+
+    public static final String WHOLE_CONFIG = "";
+
+    public boolean isWholeConfig() {
+        return WHOLE_CONFIG.equals(authorEmail);
+    }
+}
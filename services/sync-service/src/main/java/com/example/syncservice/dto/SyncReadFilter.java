@@ -0,0 +1,35 @@
+package com.example.syncservice.dto;
+
+import com.example.syncservice.entity.UnifiedActivity;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Row filter pushed into the sync read queries (ReadOptions on the gRPC side).
+ *
+ * @param authorEmail   case-insensitive match on the author (issues: assignee); null = any
+ * @param sources       unified activities only; empty = any
+ * @param activityTypes unified activities only; empty = any
+ * @param from          inclusive date on {@code dateField}; null = open
+ * @param to            inclusive date on {@code dateField}; null = open
+ * @param dateField     which timestamp the range applies to
+ */
+public record SyncReadFilter(String authorEmail,
+                             Set<UnifiedActivity.ActivitySource> sources,
+                             Set<UnifiedActivity.ActivityType> activityTypes,
+                             LocalDate from,
+                             LocalDate to,
+                             DateField dateField) {
+
+    public enum DateField {
+        /** Commits: committedDate; issues and activities: createdAt. */
+        DEFAULT,
+        CREATED_AT,
+        UPDATED_AT
+    }
+
+    public static SyncReadFilter none() {
+        return new SyncReadFilter(null, Set.of(), Set.of(), null, null, DateField.DEFAULT);
+    }
+}
@@ -22,8 +22,13 @@ public class SyncResultDto {
     private String jobType;
     private boolean success;
     private boolean degraded;  // TRUE if fallback triggered (partial failure)
+    private boolean incremental;  // TRUE if only changes since the stored watermark were fetched
+    private int pagesFetched;
     private int recordsFetched;
-    private int recordsSaved;
+    private int recordsSaved;  // unified activities inserted + updated
+    private int recordsInserted;
+    private int recordsUpdated;
+    private int recordsUnchanged;  // skipped: content hash matched the stored row
     private long durationMs;
     private String errorMessage;
     private String correlationId;
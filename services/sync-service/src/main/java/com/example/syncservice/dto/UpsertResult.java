@@ -0,0 +1,40 @@
+package com.example.syncservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a conditional unified_activities upsert.
+ *
+ * @param inserted           new rows
+ * @param updated            existing rows whose content hash changed
+ * @param unchanged          rows whose stored hash matched (skipped, or only their timestamps refreshed)
+ * @param changedExternalIds external IDs of inserted or updated rows
+ */
+public record UpsertResult(int inserted, int updated, int unchanged, List<String> changedExternalIds) {
+
+    public static UpsertResult empty() {
+        return new UpsertResult(0, 0, 0, List.of());
+    }
+
+    /**
+     * Rows actually written (inserted + updated).
+     */
+    public int written() {
+        return inserted + updated;
+    }
+
+    /**
+     * Every row accounted for, written or not.
+     */
+    public int total() {
+        return inserted + updated + unchanged;
+    }
+
+    public UpsertResult plus(UpsertResult other) {
+        List<String> ids = new ArrayList<>(changedExternalIds.size() + other.changedExternalIds.size());
+        ids.addAll(changedExternalIds);
+        ids.addAll(other.changedExternalIds);
+        return new UpsertResult(inserted + other.inserted, updated + other.updated, unchanged + other.unchanged, ids);
+    }
+}
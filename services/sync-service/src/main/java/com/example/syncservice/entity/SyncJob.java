@@ -48,15 +48,58 @@ public class SyncJob extends BaseEntity {
     @Column(name = "records_fetched")
     private Integer recordsFetched;
 
+    /**
+     * Unified activities actually written (inserted + updated).
+     */
     @Column(name = "records_saved")
     private Integer recordsSaved;
 
+    @Builder.Default
+    @Column(name = "records_inserted", nullable = false)
+    private Integer recordsInserted = 0;
+
+    @Builder.Default
+    @Column(name = "records_updated", nullable = false)
+    private Integer recordsUpdated = 0;
+
+    /**
+     * Unified activities skipped because their content hash was unchanged.
+     */
+    @Builder.Default
+    @Column(name = "records_unchanged", nullable = false)
+    private Integer recordsUnchanged = 0;
+
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
     @Column(name = "correlation_id", length = 100)
     private String correlationId;
 
+    /**
+     * Incremental window this job was started with (null = full history).
+     */
+    @Column(name = "window_since")
+    private LocalDateTime windowSince;
+
+    /**
+     * Last upstream page whose rows are committed (0 = nothing committed yet).
+     */
+    @Builder.Default
+    @Column(name = "pages_committed", nullable = false)
+    private Integer pagesCommitted = 0;
+
+    @Column(name = "checkpoint_cursor", length = 512)
+    private String checkpointCursor;
+
+    /**
+     * Newest source timestamp among committed pages.
+     */
+    @Column(name = "checkpoint_at")
+    private LocalDateTime checkpointAt;
+
+    @Column(name = "resumed_from_job_id")
+    private Long resumedFromJobId;
+
     /**
      * Calculate execution duration in milliseconds.
      */
@@ -76,6 +119,53 @@ public class SyncJob extends BaseEntity {
         this.correlationId = correlationId;
     }
 
+    /**
+     * Record a committed page. Called in the same transaction as the page upsert.
+     */
+    public void recordPageCheckpoint(int pageNumber, String nextCursor, LocalDateTime pageLatest,
+                                     int pageRecordsFetched, int pageInserted, int pageUpdated, int pageUnchanged) {
+        this.pagesCommitted = Math.max(pagesCommitted != null ? pagesCommitted : 0, pageNumber);
+        this.checkpointCursor = nextCursor;
+        if (pageLatest != null && (checkpointAt == null || pageLatest.isAfter(checkpointAt))) {
+            this.checkpointAt = pageLatest;
+        }
+        this.recordsFetched = (recordsFetched != null ? recordsFetched : 0) + pageRecordsFetched;
+        this.recordsSaved = (recordsSaved != null ? recordsSaved : 0) + pageInserted + pageUpdated;
+        this.recordsInserted = (recordsInserted != null ? recordsInserted : 0) + pageInserted;
+        this.recordsUpdated = (recordsUpdated != null ? recordsUpdated : 0) + pageUpdated;
+        this.recordsUnchanged = (recordsUnchanged != null ? recordsUnchanged : 0) + pageUnchanged;
+    }
+
+    /**
+     * Continue from the checkpoint of an interrupted job with the same window.
+     */
+    public void resumeFrom(SyncJob previous) {
+        this.resumedFromJobId = previous.getId();
+        this.pagesCommitted = previous.getPagesCommitted();
+        this.checkpointCursor = previous.getCheckpointCursor();
+        this.checkpointAt = previous.getCheckpointAt();
+    }
+
+    /**
+     * TRUE if this job stopped with committed pages that a later run can continue from:
+     * FAILED / PARTIAL_FAILURE, or RUNNING with no checkpoint since {@code staleBefore} (its owner died).
+     * A live RUNNING job, possibly on another replica, is never resumed.
+     */
+    public boolean isResumable(LocalDateTime staleBefore) {
+        if (pagesCommitted == null || pagesCommitted <= 0) {
+            return false;
+        }
+        return switch (status) {
+            case FAILED, PARTIAL_FAILURE -> true;
+            case RUNNING -> {
+                // updated_at moves with every page checkpoint
+                LocalDateTime lastProgress = getUpdatedAt() != null ? getUpdatedAt() : startedAt;
+                yield lastProgress != null && lastProgress.isBefore(staleBefore);
+            }
+            case COMPLETED -> false;
+        };
+    }
+
     /**
      * Mark job as completed successfully.
      */
@@ -0,0 +1,59 @@
+package com.example.syncservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * High-water mark for incremental sync of a single project config and job type.
+ * Stores the latest persisted source timestamp plus HTTP validators (ETag/Last-Modified)
+ * so the next run can issue conditional requests.
+ */
+@Entity
+@Table(name = "sync_watermarks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sync_watermarks_config_type",
+                        columnNames = {"project_config_id", "job_type"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncWatermark extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectConfigId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 50)
+    private SyncJob.JobType jobType;
+
+    @Column(name = "watermark_at")
+    private LocalDateTime watermarkAt;
+
+    @Column(name = "etag")
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    @Column(name = "last_full_sync_at")
+    private LocalDateTime lastFullSyncAt;
+
+    /**
+     * Move the watermark forward. Never moves it backwards, so overlapping
+     * or out-of-order batches cannot cause records to be skipped.
+     */
+    public void advanceTo(LocalDateTime candidate) {
+        if (candidate != null && (watermarkAt == null || candidate.isAfter(watermarkAt))) {
+            this.watermarkAt = candidate;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.syncservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Leased unit of scheduled sync work (one project config + job type).
+ * Written only through native SQL in SyncWorkItemRepositoryImpl so claims can use SKIP LOCKED
+ * and database time; mapped here for schema management and inspection.
+ */
+@Entity
+@Table(name = "sync_work_items",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sync_work_items_config_type",
+                        columnNames = {"project_config_id", "job_type"})
+        },
+        indexes = {
+                @Index(name = "idx_sync_work_items_lease_owner", columnList = "lease_owner")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncWorkItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_config_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectConfigId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 50)
+    private SyncJob.JobType jobType;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "claimed_for")
+    private LocalDateTime claimedFor;
+
+    @Column(name = "completed_for")
+    private LocalDateTime completedFor;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
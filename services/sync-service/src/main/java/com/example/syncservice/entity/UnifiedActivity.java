@@ -3,6 +3,7 @@ package com.example.syncservice.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -20,8 +21,11 @@ import java.util.UUID;
                 @Index(name = "idx_unified_activities_source_type", columnList = "source,activity_type"),
                 @Index(name = "idx_unified_activities_author", columnList = "author_email"),
                 @Index(name = "idx_unified_activities_created_at", columnList = "created_at"),
-                @Index(name = "idx_unified_activities_deleted_at", columnList = "deleted_at")
+                @Index(name = "idx_unified_activities_deleted_at", columnList = "deleted_at"),
+                @Index(name = "idx_unified_activities_config_content_changed", columnList = "project_config_id,content_changed_at")
         })
+// Source update time; NULL when the source has none (V29)
+@AttributeOverride(name = "updatedAt", column = @Column(name = "updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,6 +66,19 @@ public class UnifiedActivity extends BaseEntity {
     @Column(name = "status", length = 50)
     private String status;
 
+    /**
+     * SHA-256 (hex) of the mutable fields; the upsert skips rows whose hash is unchanged.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * Set by the database on insert and on every real content change.
+     */
+    @Column(name = "content_changed_at", insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime contentChangedAt;
+
     public enum ActivitySource {
         JIRA,
         GITHUB
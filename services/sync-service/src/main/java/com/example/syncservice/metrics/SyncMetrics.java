@@ -2,12 +2,20 @@ package com.example.syncservice.metrics;
 
 import com.example.syncservice.entity.SyncJob;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Metrics component for Prometheus monitoring.
@@ -20,6 +28,11 @@ import java.util.concurrent.TimeUnit;
  * - sync_job_total_count: Production metric for total jobs started (for failure rate calculation)
  * - constraint_violation_count: Tracks database constraint violations
  * - parser_warning_count: Tracks timestamp parsing failures
+ * - sync_activities_upserted_total: unified_activities upsert outcomes (inserted / updated / unchanged)
+ * - sync_dispatch_queue_depth / sync_dispatch_wait_seconds: scheduled syncs waiting for a slot, and for how long
+ * - sync_host_in_flight: scheduled syncs running per Jira site / GitHub token
+ * - sync_tasks_deferred_total: scheduled syncs left for the next run
+ * - sync_virtual_thread_pinned_seconds: virtual-thread pins over the diagnostics threshold (virtual mode)
  * 
  * Access metrics: http://localhost:8084/actuator/prometheus
  */
@@ -45,6 +58,13 @@ public class SyncMetrics {
     private final Counter recordsParsedCounter;  // NEW: Total records parsed (for accurate parser warning rate)
     private final Counter syncTasksRejectedCounter;  // NEW: Tasks rejected due to queue saturation
     private final Counter syncBatchPartialRejectionCounter;  // NEW: Batch with at least 1 rejection
+    private final Counter activitiesInsertedCounter;
+    private final Counter activitiesUpdatedCounter;
+    private final Counter activitiesUnchangedCounter;
+    private final Counter syncTasksDeferredCounter;
+
+    private final Map<SyncJob.JobType, AtomicInteger> dispatchQueueDepth = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hostInFlight = new ConcurrentHashMap<>();
 
     // Timers
     private final Timer jiraTimer;
@@ -116,6 +136,23 @@ public class SyncMetrics {
                 .description("Number of batches with at least one task rejected (partial failure)")
                 .register(meterRegistry);
 
+        this.activitiesInsertedCounter = Counter.builder("sync_activities_upserted_total")
+                .description("unified_activities rows by upsert outcome")
+                .tag("outcome", "inserted")
+                .register(meterRegistry);
+
+        this.activitiesUpdatedCounter = Counter.builder("sync_activities_upserted_total")
+                .tag("outcome", "updated")
+                .register(meterRegistry);
+
+        this.activitiesUnchangedCounter = Counter.builder("sync_activities_upserted_total")
+                .tag("outcome", "unchanged")
+                .register(meterRegistry);
+
+        this.syncTasksDeferredCounter = Counter.builder("sync_tasks_deferred_total")
+                .description("Scheduled syncs not started before the run deadline (picked up first next run)")
+                .register(meterRegistry);
+
         // Initialize timers
         this.jiraTimer = Timer.builder("sync_duration_seconds")
                 .description("Duration of sync operations")
@@ -236,27 +273,105 @@ public class SyncMetrics {
         recordsParsedCounter.increment();
     }
 
+    /**
+     * Record the outcome of one unified_activities upsert.
+     * A high unchanged share means the content-hash skip is saving writes.
+     */
+    public void recordActivityUpsert(int inserted, int updated, int unchanged) {
+        activitiesInsertedCounter.increment(inserted);
+        activitiesUpdatedCounter.increment(updated);
+        activitiesUnchangedCounter.increment(unchanged);
+    }
+
+    /**
+     * Queue-depth gauge value for scheduled syncs of one job type (registered on first use).
+     */
+    public AtomicInteger dispatchQueueDepth(SyncJob.JobType jobType) {
+        return dispatchQueueDepth.computeIfAbsent(jobType, type -> meterRegistry.gauge(
+                "sync_dispatch_queue_depth",
+                Tags.of("job_type", type.name().toLowerCase()),
+                new AtomicInteger()));
+    }
+
+    /**
+     * In-flight gauge value for one host key (registered on first use).
+     * Host keys never contain credentials: GitHub tokens are reduced to a hash.
+     */
+    public AtomicInteger hostInFlight(String hostKey) {
+        return hostInFlight.computeIfAbsent(hostKey, key -> meterRegistry.gauge(
+                "sync_host_in_flight",
+                Tags.of("host", key),
+                new AtomicInteger()));
+    }
+
+    /**
+     * Record how long a scheduled sync waited in the dispatch queue before it started.
+     */
+    public void recordDispatchWait(SyncJob.JobType jobType, Duration wait) {
+        Timer.builder("sync_dispatch_wait_seconds")
+                .description("Time a scheduled sync waited for a global/per-host slot")
+                .tag("job_type", jobType.name().toLowerCase())
+                .register(meterRegistry)
+                .record(wait);
+    }
+
+    /**
+     * Record scheduled syncs deferred to the next run.
+     */
+    public void recordSyncDeferred(int count) {
+        syncTasksDeferredCounter.increment(count);
+        log.warn("⚠️ {} scheduled sync(s) deferred to the next run", count);
+    }
+
     /**
      * Register thread pool metrics for monitoring (from AsyncConfig executor).
      */
     public void registerThreadPoolMetrics(String executorName, 
-                                          java.util.concurrent.ThreadPoolExecutor executor) {
-        io.micrometer.core.instrument.Gauge.builder("thread_pool_active", executor,
-                        java.util.concurrent.ThreadPoolExecutor::getActiveCount)
+                                          ThreadPoolExecutor executor) {
+        Gauge.builder("thread_pool_active", executor,
+                        ThreadPoolExecutor::getActiveCount)
                 .tag("executor", executorName)
                 .description("Active thread count")
                 .register(meterRegistry);
 
-        io.micrometer.core.instrument.Gauge.builder("thread_pool_queue_size", executor,
+        Gauge.builder("thread_pool_queue_size", executor,
                         e -> e.getQueue().size())
                 .tag("executor", executorName)
                 .description("Queue size")
                 .register(meterRegistry);
 
-        io.micrometer.core.instrument.Gauge.builder("thread_pool_completed_tasks", executor,
-                        java.util.concurrent.ThreadPoolExecutor::getCompletedTaskCount)
+        Gauge.builder("thread_pool_completed_tasks", executor,
+                        ThreadPoolExecutor::getCompletedTaskCount)
                 .tag("executor", executorName)
                 .description("Completed task count")
                 .register(meterRegistry);
     }
+
+    /**
+     * Executor gauges for executors without a ThreadPoolExecutor (virtual-thread mode).
+     * Same names as {@link #registerThreadPoolMetrics} so dashboards work in both modes.
+     */
+    public void registerExecutorMetrics(String executorName,
+                                        Supplier<Number> activeCount,
+                                        Supplier<Number> queueSize) {
+        Gauge.builder("thread_pool_active", activeCount)
+                .tag("executor", executorName)
+                .description("Active thread count")
+                .register(meterRegistry);
+
+        Gauge.builder("thread_pool_queue_size", queueSize)
+                .tag("executor", executorName)
+                .description("Queue size")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a virtual thread pinned to its carrier (JFR jdk.VirtualThreadPinned).
+     */
+    public void recordVirtualThreadPinned(Duration duration) {
+        Timer.builder("sync_virtual_thread_pinned_seconds")
+                .description("Virtual threads pinned to their carrier (synchronized / native frames)")
+                .register(meterRegistry)
+                .record(duration);
+    }
 }
@@ -1,12 +1,20 @@
 package com.example.syncservice.repository;
 
 import com.example.syncservice.entity.GithubCommit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for GithubCommit entity.
@@ -18,4 +26,36 @@ public interface GithubCommitRepository extends JpaRepository<GithubCommit, Long
     List<GithubCommit> findByProjectConfigIdAndDeletedAtIsNull(UUID projectConfigId);
 
     Optional<GithubCommit> findByProjectConfigIdAndCommitSha(UUID projectConfigId, String commitSha);
+
+    /**
+     * SHAs already persisted for a config. Used by incremental sync to skip commit-detail enrichment.
+     */
+    @Query("SELECT gc.commitSha FROM GithubCommit gc WHERE gc.projectConfigId = :configId")
+    List<String> findCommitShas(@Param("configId") UUID configId);
+
+    /**
+     * SHAs already persisted for a config with committed_date at or after {@code since}.
+     */
+    @Query("SELECT gc.commitSha FROM GithubCommit gc WHERE gc.projectConfigId = :configId " +
+            "AND gc.committedDate >= :since")
+    List<String> findCommitShasCommittedSince(@Param("configId") UUID configId,
+                                              @Param("since") LocalDateTime since);
+
+    /**
+     * Active rows of a config in id order, read through a JDBC cursor (fetch size 500, read-only).
+     * Must be consumed inside a read-only transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT gc FROM GithubCommit gc WHERE gc.projectConfigId = :configId AND gc.deletedAt IS NULL ORDER BY gc.id")
+    Stream<GithubCommit> streamActiveByProjectConfigId(@Param("configId") UUID configId);
+
+    /**
+     * Keyset page of active rows with id greater than {@code afterId}, in id order.
+     */
+    @Query("SELECT gc FROM GithubCommit gc WHERE gc.projectConfigId = :configId AND gc.deletedAt IS NULL " +
+            "AND gc.id > :afterId ORDER BY gc.id")
+    List<GithubCommit> findActivePageAfter(@Param("configId") UUID configId, @Param("afterId") long afterId, Limit limit);
 }
@@ -5,11 +5,13 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,6 +20,7 @@ import java.util.List;
  *
  * CRITICAL: Ensures no constraint violations on sync retry or circuit breaker recovery.
  * PERFORMANCE: True batch UPSERT with multi-row INSERT (single roundtrip per batch).
+ * Batches of at least sync.persistence.copy-threshold rows use COPY + one merge instead (PostgresCopySupport).
  */
 @Repository
 @Slf4j
@@ -25,16 +28,52 @@ public class GithubCommitRepositoryImpl implements GithubCommitRepositoryCustom
 
     private static final int BATCH_SIZE = 500;
 
+    private static final List<String> COLUMNS = List.of(
+            "project_config_id", "commit_sha", "commit_message", "message",
+            "author_name", "author_email", "author_login",
+            "committed_date",
+            "additions", "deletions", "files_changed", "total_changes",
+            "created_at", "updated_at");
+    private static final String CONFLICT_COLUMNS = "project_config_id, commit_sha";
+    private static final String ON_CONFLICT_CLAUSE = """
+            ON CONFLICT (project_config_id, commit_sha)
+            DO UPDATE SET
+                commit_message = EXCLUDED.commit_message,
+                message = EXCLUDED.message,
+                author_name = EXCLUDED.author_name,
+                author_email = EXCLUDED.author_email,
+                author_login = EXCLUDED.author_login,
+                committed_date = EXCLUDED.committed_date,
+                additions = EXCLUDED.additions,
+                deletions = EXCLUDED.deletions,
+                files_changed = EXCLUDED.files_changed,
+                total_changes = EXCLUDED.total_changes,
+                updated_at = EXCLUDED.updated_at
+            """;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${sync.persistence.copy-threshold:2000}")
+    private int copyThreshold = 2000;
+
     @Override
     @Transactional
     public int upsertBatch(List<GithubCommit> commits) {
         if (commits == null || commits.isEmpty()) {
             return 0;
         }
+        if (commits.size() >= copyThreshold) {
+            return upsertBatchCopy(commits);
+        }
+        return upsertBatchMultiValues(commits);
+    }
 
+    /**
+     * Multi-row INSERT ... VALUES path, {@value #BATCH_SIZE} rows per statement.
+     */
+    @Transactional
+    public int upsertBatchMultiValues(List<GithubCommit> commits) {
         int totalAffected = 0;
 
         // Process in batches to prevent query size limit and memory issues
@@ -53,6 +92,25 @@ public class GithubCommitRepositoryImpl implements GithubCommitRepositoryCustom
         return totalAffected;
     }
 
+    /**
+     * COPY into a temp staging table, then a single INSERT ... SELECT ... ON CONFLICT.
+     */
+    @Transactional
+    public int upsertBatchCopy(List<GithubCommit> commits) {
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(commits.size());
+        for (GithubCommit commit : commits) {
+            rows.add(toRow(commit, nowTimestamp));
+        }
+
+        int affected = PostgresCopySupport.copyAndMerge(entityManager, "github_commits", "stg_github_commits",
+                COLUMNS, CONFLICT_COLUMNS, ON_CONFLICT_CLAUSE, rows);
+        entityManager.clear();
+
+        log.debug("COPY-upserted {} GitHub commits ({} rows staged)", affected, rows.size());
+        return affected;
+    }
+
     /**
      * Executes true batch UPSERT with multi-row INSERT.
      * 
@@ -78,56 +136,45 @@ public class GithubCommitRepositoryImpl implements GithubCommitRepositoryCustom
             }
         }
 
-        sql.append("""
-                
-                ON CONFLICT (project_config_id, commit_sha)
-                DO UPDATE SET
-                    commit_message = EXCLUDED.commit_message,
-                    message = EXCLUDED.message,
-                    author_name = EXCLUDED.author_name,
-                    author_email = EXCLUDED.author_email,
-                    author_login = EXCLUDED.author_login,
-                    committed_date = EXCLUDED.committed_date,
-                    additions = EXCLUDED.additions,
-                    deletions = EXCLUDED.deletions,
-                    files_changed = EXCLUDED.files_changed,
-                    total_changes = EXCLUDED.total_changes,
-                    updated_at = EXCLUDED.updated_at
-                """);
+        sql.append("\n").append(ON_CONFLICT_CLAUSE);
 
         Query query = entityManager.createNativeQuery(sql.toString());
 
         // Bind parameters sequentially for all rows
         int paramIndex = 1;
-        LocalDateTime now = LocalDateTime.now();
-        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
 
         for (GithubCommit commit : batch) {
-            query.setParameter(paramIndex++, commit.getProjectConfigId());
-            query.setParameter(paramIndex++, commit.getCommitSha());
-            query.setParameter(paramIndex++, commit.getMessage());
-            query.setParameter(paramIndex++, commit.getMessage());
-            query.setParameter(paramIndex++, commit.getAuthorName());
-            query.setParameter(paramIndex++, commit.getAuthorEmail());
-            query.setParameter(paramIndex++, commit.getAuthorLogin());
-            query.setParameter(paramIndex++, commit.getCommittedDate() != null
-                    ? Timestamp.valueOf(commit.getCommittedDate())
-                    : nowTimestamp);
-            query.setParameter(paramIndex++, commit.getAdditions() != null ? commit.getAdditions() : 0);
-            query.setParameter(paramIndex++, commit.getDeletions() != null ? commit.getDeletions() : 0);
-            query.setParameter(paramIndex++, commit.getFilesChanged() != null ? commit.getFilesChanged() : 0);
-            query.setParameter(paramIndex++, commit.getTotalChanges() != null ? commit.getTotalChanges() : 0);
-            query.setParameter(paramIndex++, commit.getCreatedAt() != null
-                    ? Timestamp.valueOf(commit.getCreatedAt())
-                    : nowTimestamp);
-            query.setParameter(paramIndex++, commit.getUpdatedAt() != null
-                    ? Timestamp.valueOf(commit.getUpdatedAt())
-                    : nowTimestamp);
+            for (Object value : toRow(commit, nowTimestamp)) {
+                query.setParameter(paramIndex++, value);
+            }
         }
 
         return query.executeUpdate();
     }
 
+    /**
+     * Column values in {@link #COLUMNS} order, shared by both write paths.
+     */
+    private Object[] toRow(GithubCommit commit, Timestamp nowTimestamp) {
+        return new Object[] {
+                commit.getProjectConfigId(),
+                commit.getCommitSha(),
+                commit.getMessage(),
+                commit.getMessage(),
+                commit.getAuthorName(),
+                commit.getAuthorEmail(),
+                commit.getAuthorLogin(),
+                commit.getCommittedDate() != null ? Timestamp.valueOf(commit.getCommittedDate()) : nowTimestamp,
+                commit.getAdditions() != null ? commit.getAdditions() : 0,
+                commit.getDeletions() != null ? commit.getDeletions() : 0,
+                commit.getFilesChanged() != null ? commit.getFilesChanged() : 0,
+                commit.getTotalChanges() != null ? commit.getTotalChanges() : 0,
+                commit.getCreatedAt() != null ? Timestamp.valueOf(commit.getCreatedAt()) : nowTimestamp,
+                commit.getUpdatedAt() != null ? Timestamp.valueOf(commit.getUpdatedAt()) : nowTimestamp
+        };
+    }
+
     @Override
     @Transactional
     public int upsert(GithubCommit commit) {
@@ -1,12 +1,19 @@
 package com.example.syncservice.repository;
 
 import com.example.syncservice.entity.JiraIssue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for JiraIssue entity.
@@ -18,4 +25,22 @@ public interface JiraIssueRepository extends JpaRepository<JiraIssue, Long>, Jir
     List<JiraIssue> findByProjectConfigIdAndDeletedAtIsNull(UUID projectConfigId);
 
     Optional<JiraIssue> findByProjectConfigIdAndIssueKey(UUID projectConfigId, String issueKey);
+
+    /**
+     * Active rows of a config in id order, read through a JDBC cursor (fetch size 500, read-only).
+     * Must be consumed inside a read-only transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ji FROM JiraIssue ji WHERE ji.projectConfigId = :configId AND ji.deletedAt IS NULL ORDER BY ji.id")
+    Stream<JiraIssue> streamActiveByProjectConfigId(@Param("configId") UUID configId);
+
+    /**
+     * Keyset page of active rows with id greater than {@code afterId}, in id order.
+     */
+    @Query("SELECT ji FROM JiraIssue ji WHERE ji.projectConfigId = :configId AND ji.deletedAt IS NULL " +
+            "AND ji.id > :afterId ORDER BY ji.id")
+    List<JiraIssue> findActivePageAfter(@Param("configId") UUID configId, @Param("afterId") long afterId, Limit limit);
 }
@@ -5,11 +5,13 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,6 +20,7 @@ import java.util.List;
  *
  * CRITICAL: Ensures no constraint violations on sync retry or circuit breaker recovery.
  * PERFORMANCE: True batch UPSERT with multi-row INSERT (single roundtrip per batch).
+ * Batches of at least sync.persistence.copy-threshold rows use COPY + one merge instead (PostgresCopySupport).
  */
 @Repository
 @Slf4j
@@ -25,16 +28,52 @@ public class JiraIssueRepositoryImpl implements JiraIssueRepositoryCustom {
 
     private static final int BATCH_SIZE = 500;
 
+    private static final List<String> COLUMNS = List.of(
+            "project_config_id", "issue_key", "issue_id", "summary", "description",
+            "issue_type", "status", "priority",
+            "assignee_email", "assignee_name",
+            "reporter_email", "reporter_name",
+            "created_at", "updated_at");
+    private static final String CONFLICT_COLUMNS = "project_config_id, issue_key";
+    private static final String ON_CONFLICT_CLAUSE = """
+            ON CONFLICT (project_config_id, issue_key)
+            DO UPDATE SET
+                issue_id = EXCLUDED.issue_id,
+                summary = EXCLUDED.summary,
+                description = EXCLUDED.description,
+                issue_type = EXCLUDED.issue_type,
+                status = EXCLUDED.status,
+                priority = EXCLUDED.priority,
+                assignee_email = EXCLUDED.assignee_email,
+                assignee_name = EXCLUDED.assignee_name,
+                reporter_email = EXCLUDED.reporter_email,
+                reporter_name = EXCLUDED.reporter_name,
+                updated_at = EXCLUDED.updated_at
+            """;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${sync.persistence.copy-threshold:2000}")
+    private int copyThreshold = 2000;
+
     @Override
     @Transactional
     public int upsertBatch(List<JiraIssue> issues) {
         if (issues == null || issues.isEmpty()) {
             return 0;
         }
+        if (issues.size() >= copyThreshold) {
+            return upsertBatchCopy(issues);
+        }
+        return upsertBatchMultiValues(issues);
+    }
 
+    /**
+     * Multi-row INSERT ... VALUES path, {@value #BATCH_SIZE} rows per statement.
+     */
+    @Transactional
+    public int upsertBatchMultiValues(List<JiraIssue> issues) {
         int totalAffected = 0;
 
         // Process in batches to prevent query size limit and memory issues
@@ -53,6 +92,25 @@ public class JiraIssueRepositoryImpl implements JiraIssueRepositoryCustom {
         return totalAffected;
     }
 
+    /**
+     * COPY into a temp staging table, then a single INSERT ... SELECT ... ON CONFLICT.
+     */
+    @Transactional
+    public int upsertBatchCopy(List<JiraIssue> issues) {
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(issues.size());
+        for (JiraIssue issue : issues) {
+            rows.add(toRow(issue, nowTimestamp));
+        }
+
+        int affected = PostgresCopySupport.copyAndMerge(entityManager, "jira_issues", "stg_jira_issues",
+                COLUMNS, CONFLICT_COLUMNS, ON_CONFLICT_CLAUSE, rows);
+        entityManager.clear();
+
+        log.debug("COPY-upserted {} Jira issues ({} rows staged)", affected, rows.size());
+        return affected;
+    }
+
     /**
      * Executes true batch UPSERT with multi-row INSERT.
      * 
@@ -78,54 +136,45 @@ public class JiraIssueRepositoryImpl implements JiraIssueRepositoryCustom {
             }
         }
 
-        sql.append("""
-                
-                ON CONFLICT (project_config_id, issue_key)
-                DO UPDATE SET
-                    issue_id = EXCLUDED.issue_id,
-                    summary = EXCLUDED.summary,
-                    description = EXCLUDED.description,
-                    issue_type = EXCLUDED.issue_type,
-                    status = EXCLUDED.status,
-                    priority = EXCLUDED.priority,
-                    assignee_email = EXCLUDED.assignee_email,
-                    assignee_name = EXCLUDED.assignee_name,
-                    reporter_email = EXCLUDED.reporter_email,
-                    reporter_name = EXCLUDED.reporter_name,
-                    updated_at = EXCLUDED.updated_at
-                """);
+        sql.append("\n").append(ON_CONFLICT_CLAUSE);
 
         Query query = entityManager.createNativeQuery(sql.toString());
 
         // Bind parameters sequentially for all rows
         int paramIndex = 1;
-        LocalDateTime now = LocalDateTime.now();
-        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
 
         for (JiraIssue issue : batch) {
-            query.setParameter(paramIndex++, issue.getProjectConfigId());
-            query.setParameter(paramIndex++, issue.getIssueKey());
-            query.setParameter(paramIndex++, issue.getIssueId());
-            query.setParameter(paramIndex++, issue.getSummary());
-            query.setParameter(paramIndex++, issue.getDescription());
-            query.setParameter(paramIndex++, issue.getIssueType());
-            query.setParameter(paramIndex++, issue.getStatus());
-            query.setParameter(paramIndex++, issue.getPriority());
-            query.setParameter(paramIndex++, issue.getAssigneeEmail());
-            query.setParameter(paramIndex++, issue.getAssigneeName());
-            query.setParameter(paramIndex++, issue.getReporterEmail());
-            query.setParameter(paramIndex++, issue.getReporterName());
-            query.setParameter(paramIndex++, issue.getCreatedAt() != null 
-                    ? Timestamp.valueOf(issue.getCreatedAt()) 
-                    : nowTimestamp);
-            query.setParameter(paramIndex++, issue.getUpdatedAt() != null 
-                    ? Timestamp.valueOf(issue.getUpdatedAt()) 
-                    : nowTimestamp);
+            for (Object value : toRow(issue, nowTimestamp)) {
+                query.setParameter(paramIndex++, value);
+            }
         }
 
         return query.executeUpdate();
     }
 
+    /**
+     * Column values in {@link #COLUMNS} order, shared by both write paths.
+     */
+    private Object[] toRow(JiraIssue issue, Timestamp nowTimestamp) {
+        return new Object[] {
+                issue.getProjectConfigId(),
+                issue.getIssueKey(),
+                issue.getIssueId(),
+                issue.getSummary(),
+                issue.getDescription(),
+                issue.getIssueType(),
+                issue.getStatus(),
+                issue.getPriority(),
+                issue.getAssigneeEmail(),
+                issue.getAssigneeName(),
+                issue.getReporterEmail(),
+                issue.getReporterName(),
+                issue.getCreatedAt() != null ? Timestamp.valueOf(issue.getCreatedAt()) : nowTimestamp,
+                issue.getUpdatedAt() != null ? Timestamp.valueOf(issue.getUpdatedAt()) : nowTimestamp
+        };
+    }
+
     @Override
     @Transactional
     public int upsert(JiraIssue issue) {
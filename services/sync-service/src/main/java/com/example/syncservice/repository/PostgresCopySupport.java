@@ -0,0 +1,186 @@
+package com.example.syncservice.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk UPSERT via PostgreSQL COPY.
+ *
+ * CRITICAL DESIGN:
+ * - Runs on the JDBC connection of the CURRENT transaction (Session#doReturningWork)
+ * - Rows are streamed with CopyManager into a temp staging table (temp tables are not WAL-logged)
+ * - A single INSERT ... SELECT ... ON CONFLICT merges staging into the target table,
+ *   using the same conflict clause as the multi-row VALUES path
+ * - Staging table is created ON COMMIT DROP and truncated per call, so repeated calls
+ *   inside one transaction reuse it
+ * - Duplicate keys inside one load are collapsed (last row wins) with DISTINCT ON
+ *
+ * PERFORMANCE: No bind-parameter limit and no giant SQL string; CSV is written in 64 KB chunks.
+ */
+final class PostgresCopySupport {
+
+    private static final int WRITE_CHUNK_BYTES = 64 * 1024;
+    private static final String ORDINAL_COLUMN = "copy_ord";
+
+    private PostgresCopySupport() {
+    }
+
+    /**
+     * @param targetTable       table to merge into
+     * @param stagingTable      temp table name (unique per target table)
+     * @param columns           target columns, in the order of each row array
+     * @param conflictColumns   columns of the ON CONFLICT target, comma separated
+     * @param onConflictClause  full "ON CONFLICT (...) DO UPDATE SET ..." clause
+     * @param rows              row values (null = SQL NULL)
+     * @return rows inserted or updated by the merge
+     */
+    static int copyAndMerge(EntityManager entityManager,
+                            String targetTable,
+                            String stagingTable,
+                            List<String> columns,
+                            String conflictColumns,
+                            String onConflictClause,
+                            List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Pending entity changes must reach the connection before the raw JDBC work
+        entityManager.flush();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            stage(connection, targetTable, stagingTable, columns, rows);
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(mergeSql(targetTable, stagingTable, columns, conflictColumns, onConflictClause));
+            }
+        });
+    }
+
+    /**
+     * Same as {@link #copyAndMerge} for an onConflictClause ending in a RETURNING list:
+     * one Object[] per row actually inserted or updated (rows skipped by a DO UPDATE ... WHERE are absent).
+     */
+    static List<Object[]> copyAndMergeReturning(EntityManager entityManager,
+                                                String targetTable,
+                                                String stagingTable,
+                                                List<String> columns,
+                                                String conflictColumns,
+                                                String onConflictClause,
+                                                List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.flush();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            stage(connection, targetTable, stagingTable, columns, rows);
+            List<Object[]> returned = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                         mergeSql(targetTable, stagingTable, columns, conflictColumns, onConflictClause))) {
+                int width = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    Object[] row = new Object[width];
+                    for (int i = 0; i < width; i++) {
+                        row[i] = resultSet.getObject(i + 1);
+                    }
+                    returned.add(row);
+                }
+            }
+            return returned;
+        });
+    }
+
+    private static void stage(Connection connection, String targetTable, String stagingTable,
+                              List<String> columns, List<Object[]> rows) throws SQLException {
+        String columnList = String.join(", ", columns);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + stagingTable + " ON COMMIT DROP AS "
+                    + "SELECT " + columnList + ", 0::INT AS " + ORDINAL_COLUMN
+                    + " FROM " + targetTable + " WITH NO DATA");
+            statement.execute("TRUNCATE " + stagingTable);
+        }
+
+        copyRows(connection, "COPY " + stagingTable + " (" + columnList + ", " + ORDINAL_COLUMN + ")"
+                + " FROM STDIN WITH (FORMAT csv)", rows);
+    }
+
+    private static String mergeSql(String targetTable, String stagingTable, List<String> columns,
+                                   String conflictColumns, String onConflictClause) {
+        String columnList = String.join(", ", columns);
+        return "INSERT INTO " + targetTable + " (" + columnList + ") "
+                + "SELECT DISTINCT ON (" + conflictColumns + ") " + columnList
+                + " FROM " + stagingTable
+                + " ORDER BY " + conflictColumns + ", " + ORDINAL_COLUMN + " DESC\n"
+                + onConflictClause;
+    }
+
+    private static void copyRows(Connection connection, String copySql, List<Object[]> rows) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        CopyIn copyIn = copyManager.copyIn(copySql);
+        try {
+            StringBuilder buffer = new StringBuilder(WRITE_CHUNK_BYTES + 1024);
+            int ordinal = 0;
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    appendCsvValue(buffer, value);
+                    buffer.append(',');
+                }
+                buffer.append(ordinal++).append('\n');
+
+                if (buffer.length() >= WRITE_CHUNK_BYTES) {
+                    writeChunk(copyIn, buffer);
+                }
+            }
+            if (!buffer.isEmpty()) {
+                writeChunk(copyIn, buffer);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeChunk(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * CSV format: unquoted empty = NULL, quoted value = literal (so "" stays an empty string).
+     */
+    private static void appendCsvValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number) {
+            buffer.append(value);
+            return;
+        }
+        String text = value.toString();
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.syncservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change-version reads over jira_issues, github_commits and unified_activities (V24 change_xid).
+ *
+ * CRITICAL DESIGN:
+ * - Version = (change_xid, id): change_xid is the transaction that last wrote the row, stamped by trigger,
+ *   so every write path (JPA, native upsert, COPY merge, soft delete) is covered
+ * - Only rows with change_xid below the horizon (pg_snapshot_xmin of a snapshot taken BEFORE the read) are
+ *   returned: all those transactions have ended, so nothing can still commit behind the cursor
+ * - Returns (id, change_xid) only; callers load the entities by id
+ */
+@Repository
+public class SyncDeltaRepository {
+
+    public enum ChangeTable {
+        JIRA_ISSUES("jira_issues"),
+        GITHUB_COMMITS("github_commits"),
+        UNIFIED_ACTIVITIES("unified_activities");
+
+        private final String tableName;
+
+        ChangeTable(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Oldest transaction still running; every change below it is committed (or rolled back) for good.
+     */
+    public long currentHorizon() {
+        Object horizon = entityManager.createNativeQuery(
+                "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)")
+                .getSingleResult();
+        return ((Number) horizon).longValue();
+    }
+
+    /**
+     * Rows of a config changed after (sinceXid, afterId) and before {@code horizon}, in version order.
+     * Includes soft-deleted rows (tombstones).
+     *
+     * @return [id, change_xid] pairs, at most {@code limit}
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findChangedIds(ChangeTable table, UUID projectConfigId,
+                                         long sinceXid, long afterId, long horizon, int limit) {
+        // Table name comes from the enum, never from input
+        String sql = """
+                SELECT id, CAST(CAST(change_xid AS TEXT) AS BIGINT) AS change_version
+                FROM %s
+                WHERE project_config_id = :configId
+                  AND (change_xid, id) > (CAST(CAST(:sinceXid AS TEXT) AS xid8), :afterId)
+                  AND change_xid < CAST(CAST(:horizon AS TEXT) AS xid8)
+                ORDER BY change_xid, id
+                LIMIT :limit
+                """.formatted(table.tableName);
+        return entityManager.createNativeQuery(sql)
+                .setParameter("configId", projectConfigId)
+                .setParameter("sinceXid", sinceXid)
+                .setParameter("afterId", afterId)
+                .setParameter("horizon", horizon)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
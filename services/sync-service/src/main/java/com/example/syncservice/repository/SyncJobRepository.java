@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +41,22 @@ public interface SyncJobRepository extends JpaRepository<SyncJob, Long>, JpaSpec
         Optional<SyncJob> findLastSuccessfulSync(@Param("configId") UUID configId,
                                               @Param("jobType") SyncJob.JobType jobType);
 
+    /**
+     * Last successful sync job per config, for many configs in one query (scheduler priorities).
+     */
+    @Query("SELECT sj FROM SyncJob sj WHERE sj.id IN (" +
+            "SELECT MAX(s2.id) FROM SyncJob s2 WHERE s2.projectConfigId IN :configIds " +
+            "AND s2.jobType = :jobType AND s2.status = 'COMPLETED' AND s2.deletedAt IS NULL " +
+            "GROUP BY s2.projectConfigId)")
+    List<SyncJob> findLastSuccessfulSyncs(@Param("configIds") Collection<UUID> configIds,
+                                          @Param("jobType") SyncJob.JobType jobType);
+
+    /**
+     * Latest job for a config and job type created before the given job (resume candidate).
+     */
+    Optional<SyncJob> findFirstByProjectConfigIdAndJobTypeAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(
+            UUID projectConfigId, SyncJob.JobType jobType, Long id);
+
     /**
      * Count failed jobs in last 24 hours.
      */
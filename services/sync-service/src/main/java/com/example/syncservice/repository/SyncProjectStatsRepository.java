@@ -0,0 +1,187 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.dto.ProjectStatsDelta;
+import com.example.syncservice.dto.ProjectStatsRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Per-config and per-author counters in sync_project_stats (V26).
+ *
+ * CRITICAL DESIGN:
+ * - Counters are maintained INCREMENTALLY: a persisted page reads the stored state of its own rows
+ *   (lock*Rows, FOR UPDATE, before the upsert), and only the difference between that state and the written
+ *   one is applied (applyDelta). Cost is O(page), not O(rows of the project)
+ * - applyDelta adds to each column, so a Jira and a GitHub sync of the same config never overwrite
+ *   each other's counters
+ * - Callers run both in the transaction that writes the rows: counters and rows commit together.
+ *   Exact as long as one sync per config writes at a time (SyncOrchestrator joins concurrent ones)
+ */
+@Repository
+public class SyncProjectStatsRepository {
+
+    // Bind-parameter budget per statement (PostgreSQL allows 65535)
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Stored state of a counted row.
+     *
+     * @param authorEmail issues: assignee
+     * @param deleted     soft-deleted rows count for nothing, before or after the upsert
+     */
+    public record CountedRow(String authorEmail, String status, boolean deleted) {
+    }
+
+    /**
+     * Current assignee and status of the given Jira issues of one config, keyed by issue key; locks the rows.
+     */
+    public Map<String, CountedRow> lockTaskRows(UUID projectConfigId, Collection<String> issueKeys) {
+        return lockRows("""
+                SELECT issue_key, assignee_email, status, deleted_at IS NOT NULL
+                FROM jira_issues
+                WHERE project_config_id = :configId AND issue_key IN (:keys)
+                FOR UPDATE
+                """, projectConfigId, issueKeys);
+    }
+
+    /**
+     * Current author of the given commits of one config, keyed by SHA; locks the rows.
+     */
+    public Map<String, CountedRow> lockCommitRows(UUID projectConfigId, Collection<String> commitShas) {
+        return lockRows("""
+                SELECT commit_sha, author_email, NULL, deleted_at IS NOT NULL
+                FROM github_commits
+                WHERE project_config_id = :configId AND commit_sha IN (:keys)
+                FOR UPDATE
+                """, projectConfigId, commitShas);
+    }
+
+    /**
+     * Current author and status of the given GitHub pull request activities of one config, keyed by external ID;
+     * locks the rows.
+     */
+    public Map<String, CountedRow> lockPullRequestRows(UUID projectConfigId, Collection<String> externalIds) {
+        return lockRows("""
+                SELECT external_id, author_email, status, deleted_at IS NOT NULL
+                FROM unified_activities
+                WHERE project_config_id = :configId AND source = 'GITHUB' AND activity_type = 'PULL_REQUEST'
+                  AND external_id IN (:keys)
+                FOR UPDATE
+                """, projectConfigId, externalIds);
+    }
+
+    /**
+     * Add the collected changes to the counters, creating missing rows.
+     */
+    public void applyDelta(ProjectStatsDelta delta) {
+        List<ProjectStatsRow> changes = delta.changes();
+        int columns = 7;
+        for (int start = 0; start < changes.size(); start += MAX_BATCH_SIZE / columns) {
+            List<ProjectStatsRow> batch = changes.subList(start, Math.min(start + MAX_BATCH_SIZE / columns, changes.size()));
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO sync_project_stats (project_config_id, author_email, task_count, completed_task_count,
+                                                    commit_count, pr_count, merged_pr_count, updated_at)
+                    VALUES
+                    """);
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append("(?, ?, ?, ?, ?, ?, ?, NOW())");
+                if (i < batch.size() - 1) {
+                    sql.append(",\n");
+                }
+            }
+            sql.append("""
+
+                    ON CONFLICT (project_config_id, author_email) DO UPDATE SET
+                        task_count = sync_project_stats.task_count + EXCLUDED.task_count,
+                        completed_task_count = sync_project_stats.completed_task_count + EXCLUDED.completed_task_count,
+                        commit_count = sync_project_stats.commit_count + EXCLUDED.commit_count,
+                        pr_count = sync_project_stats.pr_count + EXCLUDED.pr_count,
+                        merged_pr_count = sync_project_stats.merged_pr_count + EXCLUDED.merged_pr_count,
+                        updated_at = EXCLUDED.updated_at
+                    """);
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int paramIndex = 1;
+            for (ProjectStatsRow change : batch) {
+                query.setParameter(paramIndex++, change.projectConfigId());
+                query.setParameter(paramIndex++, change.authorEmail());
+                query.setParameter(paramIndex++, change.taskCount());
+                query.setParameter(paramIndex++, change.completedTaskCount());
+                query.setParameter(paramIndex++, change.commitCount());
+                query.setParameter(paramIndex++, change.prCount());
+                query.setParameter(paramIndex++, change.mergedPrCount());
+            }
+            query.executeUpdate();
+        }
+    }
+
+    /**
+     * Counters of the given configs: the whole-config rows, plus per-author rows if requested.
+     * Configs without any synced row have no entry.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ProjectStatsRow> findByProjectConfigIds(Collection<UUID> projectConfigIds, boolean includeAuthors) {
+        if (projectConfigIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT project_config_id, author_email, task_count, completed_task_count,
+                       commit_count, pr_count, merged_pr_count, updated_at
+                FROM sync_project_stats
+                WHERE project_config_id IN (:configIds)
+                %s
+                ORDER BY project_config_id, author_email
+                """.formatted(includeAuthors ? "" : "AND author_email = ''");
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("configIds", projectConfigIds)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ProjectStatsRow(
+                        (UUID) row[0],
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        ((Number) row[4]).longValue(),
+                        ((Number) row[5]).longValue(),
+                        ((Number) row[6]).longValue(),
+                        toLocalDateTime(row[7])))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CountedRow> lockRows(String sql, UUID projectConfigId, Collection<String> keys) {
+        List<String> distinctKeys = keys.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, CountedRow> rows = new HashMap<>(distinctKeys.size() * 2);
+        for (int start = 0; start < distinctKeys.size(); start += MAX_BATCH_SIZE) {
+            List<Object[]> batch = entityManager.createNativeQuery(sql)
+                    .setParameter("configId", projectConfigId)
+                    .setParameter("keys", distinctKeys.subList(start, Math.min(start + MAX_BATCH_SIZE, distinctKeys.size())))
+                    .getResultList();
+            for (Object[] row : batch) {
+                rows.put((String) row[0], new CountedRow((String) row[1], (String) row[2], Boolean.TRUE.equals(row[3])));
+            }
+        }
+        return rows;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.dto.SyncReadFilter;
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.entity.UnifiedActivity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Projected, filtered reads of jira_issues / github_commits / unified_activities.
+ *
+ * CRITICAL DESIGN:
+ * - SELECT lists only the requested attributes (plus id), so unrequested TEXT columns such as
+ *   description / message are never read from disk or sent over JDBC
+ * - Author, source/type and date filters are WHERE clauses (author uses lower(), see V25 indexes)
+ * - Results are Tuples aliased by attribute name, in id order (keyset-pageable)
+ */
+@Repository
+public class SyncReadQueryRepository {
+
+    public static final String ID = "id";
+    private static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Active rows of a config with id greater than {@code afterId}, projected to {@code attributes}.
+     * Use getResultStream() inside a read-only transaction, or setMaxResults() for a page.
+     */
+    public TypedQuery<Tuple> projectedQuery(Class<?> entityClass,
+                                            UUID projectConfigId,
+                                            SyncReadFilter filter,
+                                            Collection<String> attributes,
+                                            long afterId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ID).alias(ID));
+        for (String attribute : attributes) {
+            if (!ID.equals(attribute)) {
+                selections.add(root.get(attribute).alias(attribute));
+            }
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("projectConfigId"), projectConfigId));
+        predicates.add(cb.isNull(root.get("deletedAt")));
+        predicates.add(cb.greaterThan(root.<Long>get(ID), afterId));
+
+        if (filter.authorEmail() != null && !filter.authorEmail().isBlank()) {
+            predicates.add(cb.equal(cb.lower(root.<String>get(authorAttribute(entityClass))),
+                    filter.authorEmail().trim().toLowerCase(Locale.ROOT)));
+        }
+        if (entityClass == UnifiedActivity.class) {
+            if (!filter.sources().isEmpty()) {
+                predicates.add(root.get("source").in(filter.sources()));
+            }
+            if (!filter.activityTypes().isEmpty()) {
+                predicates.add(root.get("activityType").in(filter.activityTypes()));
+            }
+        }
+        String dateAttribute = dateAttribute(entityClass, filter.dateField());
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get(dateAttribute), filter.from().atStartOfDay()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(root.<LocalDateTime>get(dateAttribute), filter.to().plusDays(1).atStartOfDay()));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get(ID)));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private static String authorAttribute(Class<?> entityClass) {
+        return entityClass == JiraIssue.class ? "assigneeEmail" : "authorEmail";
+    }
+
+    private static String dateAttribute(Class<?> entityClass, SyncReadFilter.DateField dateField) {
+        return switch (dateField) {
+            case CREATED_AT -> "createdAt";
+            case UPDATED_AT -> "updatedAt";
+            case DEFAULT -> entityClass == GithubCommit.class ? "committedDate" : "createdAt";
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for SyncWatermark entity.
+ */
+@Repository
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermark, Long> {
+
+    Optional<SyncWatermark> findByProjectConfigIdAndJobTypeAndDeletedAtIsNull(UUID projectConfigId,
+                                                                             SyncJob.JobType jobType);
+}
@@ -0,0 +1,12 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.entity.SyncWorkItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for SyncWorkItem entity (leased scheduled-sync work).
+ */
+@Repository
+public interface SyncWorkItemRepository extends JpaRepository<SyncWorkItem, Long>, SyncWorkItemRepositoryCustom {
+}
@@ -0,0 +1,52 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.entity.SyncJob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lease operations on sync_work_items. Runs are keyed by the scheduler's fire time, which replicas
+ * agree on as long as their clocks are closer than the cron interval; lease expiry uses database time.
+ */
+public interface SyncWorkItemRepositoryCustom {
+
+    /**
+     * Request a sync of every given config for the run fired at {@code runAt}.
+     * Idempotent across replicas seeding the same run; an older run never overwrites a newer one.
+     *
+     * @return Number of rows newly requested
+     */
+    int requestRun(SyncJob.JobType jobType, LocalDateTime runAt, Collection<UUID> projectConfigIds);
+
+    /**
+     * Lease up to {@code limit} due configs (stalest first), skipping rows other replicas hold.
+     *
+     * @return Claimed config IDs
+     */
+    List<UUID> claimDue(SyncJob.JobType jobType, String owner, int limit, int leaseSeconds);
+
+    /**
+     * Extend every lease held by {@code owner}.
+     *
+     * @return Number of leases renewed
+     */
+    int renewLeases(String owner, int leaseSeconds);
+
+    /**
+     * Mark a claimed config done for the run it was claimed for and drop the lease.
+     */
+    int complete(SyncJob.JobType jobType, UUID projectConfigId, String owner);
+
+    /**
+     * Drop leases without completing (claimed but never started); the rows stay due.
+     */
+    int release(SyncJob.JobType jobType, Collection<UUID> projectConfigIds, String owner);
+
+    /**
+     * Delete rows no run has requested for {@code retentionHours} (config no longer verified).
+     */
+    int purgeStale(int retentionHours);
+}
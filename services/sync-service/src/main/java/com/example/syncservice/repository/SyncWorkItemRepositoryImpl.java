@@ -0,0 +1,171 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.entity.SyncJob;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native PostgreSQL implementation of the sync work lease table.
+ *
+ * CRITICAL DESIGN:
+ * - requestRun: INSERT ... ON CONFLICT raises requested_at to the scheduler's fire time;
+ *   every replica seeds the same run with the same key, only the first write changes anything
+ * - claimDue: UPDATE ... FROM (SELECT ... FOR UPDATE SKIP LOCKED) so concurrent replicas never
+ *   wait on or double-claim a row; expired leases (crashed owner) are claimable again
+ * - A row is due while completed_for < requested_at, so a config finished for this run
+ *   is not picked up again by a replica that seeds late
+ * - Each statement is its own short transaction; leases, not row locks, span the sync
+ */
+@Repository
+@Slf4j
+public class SyncWorkItemRepositoryImpl implements SyncWorkItemRepositoryCustom {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int requestRun(SyncJob.JobType jobType, LocalDateTime runAt, Collection<UUID> projectConfigIds) {
+        if (projectConfigIds == null || projectConfigIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> ids = new ArrayList<>(projectConfigIds);
+        Timestamp runTimestamp = Timestamp.valueOf(runAt);
+        int requested = 0;
+
+        for (int start = 0; start < ids.size(); start += MAX_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(start, Math.min(start + MAX_BATCH_SIZE, ids.size()));
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO sync_work_items (project_config_id, job_type, requested_at)
+                    VALUES
+                    """);
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append("(?, CAST(? AS VARCHAR), ?)");
+                if (i < batch.size() - 1) {
+                    sql.append(",\n");
+                }
+            }
+            sql.append("""
+
+                    ON CONFLICT (project_config_id, job_type)
+                    DO UPDATE SET requested_at = EXCLUDED.requested_at
+                    WHERE sync_work_items.requested_at < EXCLUDED.requested_at
+                    """);
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int paramIndex = 1;
+            for (UUID id : batch) {
+                query.setParameter(paramIndex++, id);
+                query.setParameter(paramIndex++, jobType.name());
+                query.setParameter(paramIndex++, runTimestamp);
+            }
+            requested += query.executeUpdate();
+        }
+
+        log.debug("Requested {} {} work item(s) for run {}", requested, jobType, runAt);
+        return requested;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDue(SyncJob.JobType jobType, String owner, int limit, int leaseSeconds) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Query query = entityManager.createNativeQuery("""
+                UPDATE sync_work_items w
+                SET lease_owner = :owner,
+                    lease_until = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds),
+                    claimed_for = w.requested_at
+                FROM (
+                    SELECT id FROM sync_work_items
+                    WHERE job_type = :jobType
+                      AND (completed_for IS NULL OR completed_for < requested_at)
+                      AND (lease_until IS NULL OR lease_until < LOCALTIMESTAMP)
+                    ORDER BY last_completed_at NULLS FIRST, id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                ) due
+                WHERE w.id = due.id
+                RETURNING w.project_config_id
+                """);
+        query.setParameter("owner", owner);
+        query.setParameter("leaseSeconds", leaseSeconds);
+        query.setParameter("jobType", jobType.name());
+        query.setParameter("limit", limit);
+        return (List<UUID>) query.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int renewLeases(String owner, int leaseSeconds) {
+        return entityManager.createNativeQuery("""
+                        UPDATE sync_work_items
+                        SET lease_until = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds)
+                        WHERE lease_owner = :owner
+                        """)
+                .setParameter("owner", owner)
+                .setParameter("leaseSeconds", leaseSeconds)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int complete(SyncJob.JobType jobType, UUID projectConfigId, String owner) {
+        return entityManager.createNativeQuery("""
+                        UPDATE sync_work_items
+                        SET completed_for = claimed_for,
+                            last_completed_at = LOCALTIMESTAMP,
+                            lease_owner = NULL,
+                            lease_until = NULL
+                        WHERE project_config_id = :configId AND job_type = :jobType AND lease_owner = :owner
+                        """)
+                .setParameter("configId", projectConfigId)
+                .setParameter("jobType", jobType.name())
+                .setParameter("owner", owner)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int release(SyncJob.JobType jobType, Collection<UUID> projectConfigIds, String owner) {
+        if (projectConfigIds == null || projectConfigIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery("""
+                        UPDATE sync_work_items
+                        SET lease_owner = NULL, lease_until = NULL
+                        WHERE project_config_id IN (:configIds) AND job_type = :jobType AND lease_owner = :owner
+                        """)
+                .setParameter("configIds", projectConfigIds)
+                .setParameter("jobType", jobType.name())
+                .setParameter("owner", owner)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int purgeStale(int retentionHours) {
+        return entityManager.createNativeQuery("""
+                        DELETE FROM sync_work_items
+                        WHERE requested_at < LOCALTIMESTAMP - make_interval(hours => :retentionHours)
+                          AND lease_owner IS NULL
+                        """)
+                .setParameter("retentionHours", retentionHours)
+                .executeUpdate();
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.syncservice.repository;
 
 import com.example.syncservice.entity.UnifiedActivity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for UnifiedActivity entity.
@@ -35,4 +40,22 @@ public interface UnifiedActivityRepository extends JpaRepository<UnifiedActivity
     @Query("SELECT COUNT(ua) FROM UnifiedActivity ua WHERE ua.projectConfigId = :configId " +
             "AND ua.createdAt > :since AND ua.deletedAt IS NULL")
         Long countRecentActivities(@Param("configId") UUID configId, @Param("since") LocalDateTime since);
+
+    /**
+     * Active rows of a config in id order, read through a JDBC cursor (fetch size 500, read-only).
+     * Must be consumed inside a read-only transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ua FROM UnifiedActivity ua WHERE ua.projectConfigId = :configId AND ua.deletedAt IS NULL ORDER BY ua.id")
+    Stream<UnifiedActivity> streamActiveByProjectConfigId(@Param("configId") UUID configId);
+
+    /**
+     * Keyset page of active rows with id greater than {@code afterId}, in id order.
+     */
+    @Query("SELECT ua FROM UnifiedActivity ua WHERE ua.projectConfigId = :configId AND ua.deletedAt IS NULL " +
+            "AND ua.id > :afterId ORDER BY ua.id")
+    List<UnifiedActivity> findActivePageAfter(@Param("configId") UUID configId, @Param("afterId") long afterId, Limit limit);
 }
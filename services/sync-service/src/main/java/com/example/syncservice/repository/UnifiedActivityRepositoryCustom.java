@@ -1,5 +1,6 @@
 package com.example.syncservice.repository;
 
+import com.example.syncservice.dto.UpsertResult;
 import com.example.syncservice.entity.UnifiedActivity;
 
 import java.util.List;
@@ -15,8 +16,16 @@ public interface UnifiedActivityRepositoryCustom {
      * Uses PostgreSQL ON CONFLICT DO UPDATE for idempotent writes.
      * Automatically handles batching for large datasets (max 500 records per batch).
      *
+     * Rows whose content_hash is unchanged are skipped and not counted.
+     *
      * @param activities List of activities to upsert
-     * @return Number of rows affected
+     * @return Number of rows inserted or updated
      */
     int upsertBatch(List<UnifiedActivity> activities);
+
+    /**
+     * Same as {@link #upsertBatch} with the inserted / updated / unchanged split
+     * and the external IDs of the rows that were actually written.
+     */
+    UpsertResult upsertBatchDetailed(List<UnifiedActivity> activities);
 }
@@ -1,22 +1,34 @@
 package com.example.syncservice.repository;
 
+import com.example.syncservice.dto.UpsertResult;
 import com.example.syncservice.entity.UnifiedActivity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Implementation of custom UPSERT operations for UnifiedActivity.
  * Uses native PostgreSQL ON CONFLICT for idempotent writes.
  * 
  * CRITICAL: This ensures no duplicate data even if sync runs multiple times.
+ * CONDITIONAL: A conflicting row is only rewritten when its content_hash or source updated_at changed, so
+ * re-syncing unchanged activities creates no dead tuples; RETURNING (xmax = 0) tells inserts from updates.
+ * A timestamp-only rewrite refreshes updated_at but keeps content_changed_at and counts as unchanged.
+ * Rows without a source updated_at are staged with NULL and keep the stored one (V29), so they never look changed.
+ * Rows without a hash (callers that bypass DataMapper) are always updated.
+ * PERFORMANCE: Batches of at least sync.persistence.copy-threshold rows go through
+ * COPY into a staging table + one merge (see PostgresCopySupport); smaller batches use multi-row INSERT.
  */
 @Repository
 @Slf4j
@@ -29,87 +41,192 @@ public class UnifiedActivityRepositoryImpl implements UnifiedActivityRepositoryC
     private static final int AUTHOR_NAME_MAX_LENGTH = 255;
     private static final int STATUS_MAX_LENGTH = 50;
 
+    private static final List<String> COLUMNS = List.of(
+            "project_config_id", "source", "activity_type", "external_id",
+            "title", "description", "author_email", "author_name", "status", "content_hash",
+            "created_at", "updated_at", "created_by", "updated_by");
+    private static final String CONFLICT_COLUMNS = "project_config_id, source, external_id";
+    private static final String ON_CONFLICT_CLAUSE = """
+            ON CONFLICT (project_config_id, source, external_id) 
+            DO UPDATE SET
+                title = EXCLUDED.title,
+                description = EXCLUDED.description,
+                author_email = EXCLUDED.author_email,
+                author_name = EXCLUDED.author_name,
+                status = EXCLUDED.status,
+                content_hash = EXCLUDED.content_hash,
+                content_changed_at = CASE
+                    WHEN unified_activities.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+                      OR EXCLUDED.content_hash IS NULL
+                    THEN CURRENT_TIMESTAMP
+                    ELSE unified_activities.content_changed_at
+                END,
+                updated_at = COALESCE(EXCLUDED.updated_at, unified_activities.updated_at),
+                updated_by = EXCLUDED.updated_by
+            WHERE unified_activities.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+               OR EXCLUDED.content_hash IS NULL
+               OR unified_activities.updated_at IS DISTINCT FROM COALESCE(EXCLUDED.updated_at, unified_activities.updated_at)
+            RETURNING external_id, (xmax = 0) AS inserted, (content_changed_at = CURRENT_TIMESTAMP) AS content_changed
+            """;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${sync.persistence.copy-threshold:2000}")
+    private int copyThreshold = 2000;
+
     @Override
     @Transactional
     public int upsertBatch(List<UnifiedActivity> activities) {
+        return upsertBatchDetailed(activities).written();
+    }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertBatchDetailed(List<UnifiedActivity> activities) {
         if (activities == null || activities.isEmpty()) {
-            return 0;
+            return UpsertResult.empty();
+        }
+        if (activities.size() >= copyThreshold) {
+            return upsertCopy(activities);
         }
+        return upsertMultiValues(activities);
+    }
+
+    /**
+     * Multi-row INSERT ... VALUES path, {@value #MAX_BATCH_SIZE} rows per statement.
+     *
+     * @return rows inserted or updated
+     */
+    @Transactional
+    public int upsertBatchMultiValues(List<UnifiedActivity> activities) {
+        return upsertMultiValues(activities).written();
+    }
+
+    /**
+     * COPY into a temp staging table, then a single INSERT ... SELECT ... ON CONFLICT.
+     *
+     * @return rows inserted or updated
+     */
+    @Transactional
+    public int upsertBatchCopy(List<UnifiedActivity> activities) {
+        return upsertCopy(activities).written();
+    }
 
-        int totalAffected = 0;
+    private UpsertResult upsertMultiValues(List<UnifiedActivity> activities) {
+        UpsertResult result = UpsertResult.empty();
 
         for (int start = 0; start < activities.size(); start += MAX_BATCH_SIZE) {
             int end = Math.min(start + MAX_BATCH_SIZE, activities.size());
             List<UnifiedActivity> batch = activities.subList(start, end);
-            totalAffected += executeBatchUpsert(batch);
+            result = result.plus(executeBatchUpsert(batch));
         }
 
-        log.debug("Batch upserted {} unified activities", totalAffected);
-        return totalAffected;
+        log.debug("Batch upserted unified activities: inserted={}, updated={}, unchanged={}",
+                result.inserted(), result.updated(), result.unchanged());
+        return result;
     }
 
-    private int executeBatchUpsert(List<UnifiedActivity> batch) {
+    private UpsertResult upsertCopy(List<UnifiedActivity> activities) {
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(activities.size());
+        for (UnifiedActivity activity : activities) {
+            rows.add(toRow(activity, nowTimestamp));
+        }
+
+        List<Object[]> returned = PostgresCopySupport.copyAndMergeReturning(entityManager, "unified_activities",
+                "stg_unified_activities", COLUMNS, CONFLICT_COLUMNS, ON_CONFLICT_CLAUSE, rows);
+        UpsertResult result = toResult(rows, returned);
+        log.debug("COPY-upserted unified activities ({} rows staged): inserted={}, updated={}, unchanged={}",
+                rows.size(), result.inserted(), result.updated(), result.unchanged());
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private UpsertResult executeBatchUpsert(List<UnifiedActivity> batch) {
         StringBuilder sql = new StringBuilder("""
                 INSERT INTO unified_activities (
                     project_config_id, source, activity_type, external_id, 
-                    title, description, author_email, author_name, status,
+                    title, description, author_email, author_name, status, content_hash,
                     created_at, updated_at, created_by, updated_by
                 ) VALUES 
                 """);
 
         for (int i = 0; i < batch.size(); i++) {
-            sql.append("(?, CAST(? AS VARCHAR), CAST(? AS VARCHAR), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            sql.append("(?, CAST(? AS VARCHAR), CAST(? AS VARCHAR), ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS TIMESTAMP), ?, ?)");
             if (i < batch.size() - 1) {
                 sql.append(",\n");
             }
         }
 
-        sql.append("""
-                
-                ON CONFLICT (project_config_id, source, external_id) 
-                DO UPDATE SET
-                    title = EXCLUDED.title,
-                    description = EXCLUDED.description,
-                    author_email = EXCLUDED.author_email,
-                    author_name = EXCLUDED.author_name,
-                    status = EXCLUDED.status,
-                    updated_at = EXCLUDED.updated_at,
-                    updated_by = EXCLUDED.updated_by
-                """);
+        sql.append("\n").append(ON_CONFLICT_CLAUSE);
 
         Query query = entityManager.createNativeQuery(sql.toString());
 
         int paramIndex = 1;
-        LocalDateTime now = LocalDateTime.now();
-        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        Timestamp nowTimestamp = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(batch.size());
 
         for (UnifiedActivity activity : batch) {
-            Timestamp createdAt = activity.getCreatedAt() != null
-                    ? Timestamp.valueOf(activity.getCreatedAt())
-                    : nowTimestamp;
-            Timestamp updatedAt = activity.getUpdatedAt() != null
-                    ? Timestamp.valueOf(activity.getUpdatedAt())
-                    : nowTimestamp;
-
-            query.setParameter(paramIndex++, activity.getProjectConfigId());
-            query.setParameter(paramIndex++, activity.getSource().name());
-            query.setParameter(paramIndex++, activity.getActivityType().name());
-            query.setParameter(paramIndex++, safeRequired(activity.getExternalId(), "missing-external-id", EXTERNAL_ID_MAX_LENGTH));
-            query.setParameter(paramIndex++, safeRequired(activity.getTitle(), "[untitled]", TITLE_MAX_LENGTH));
-            query.setParameter(paramIndex++, activity.getDescription());
-            query.setParameter(paramIndex++, truncate(activity.getAuthorEmail(), AUTHOR_EMAIL_MAX_LENGTH));
-            query.setParameter(paramIndex++, truncate(activity.getAuthorName(), AUTHOR_NAME_MAX_LENGTH));
-            query.setParameter(paramIndex++, truncate(activity.getStatus(), STATUS_MAX_LENGTH));
-            query.setParameter(paramIndex++, createdAt);
-            query.setParameter(paramIndex++, updatedAt);
-            query.setParameter(paramIndex++, activity.getCreatedBy());
-            query.setParameter(paramIndex++, activity.getUpdatedBy());
+            Object[] row = toRow(activity, nowTimestamp);
+            rows.add(row);
+            for (Object value : row) {
+                query.setParameter(paramIndex++, value);
+            }
+        }
+
+        return toResult(rows, (List<Object[]>) query.getResultList());
+    }
+
+    /**
+     * Classify RETURNING rows; keys that were sent but not returned, or only had their timestamps
+     * refreshed, count as unchanged.
+     *
+     * content_changed: content_changed_at was set to this transaction's CURRENT_TIMESTAMP (insert or hash change).
+     */
+    private UpsertResult toResult(List<Object[]> sentRows, List<Object[]> returned) {
+        Set<String> distinctKeys = new HashSet<>(sentRows.size() * 2);
+        for (Object[] row : sentRows) {
+            distinctKeys.add(row[0] + "|" + row[1] + "|" + row[3]);
         }
 
-        return query.executeUpdate();
+        int inserted = 0;
+        int updated = 0;
+        List<String> changedExternalIds = new ArrayList<>(returned.size());
+        for (Object[] row : returned) {
+            if (Boolean.TRUE.equals(row[1])) {
+                inserted++;
+            } else if (Boolean.TRUE.equals(row[2])) {
+                updated++;
+            } else {
+                continue;
+            }
+            changedExternalIds.add((String) row[0]);
+        }
+        int unchanged = Math.max(0, distinctKeys.size() - inserted - updated);
+        return new UpsertResult(inserted, updated, unchanged, changedExternalIds);
+    }
+
+    /**
+     * Column values in {@link #COLUMNS} order, normalized once for both write paths.
+     */
+    private Object[] toRow(UnifiedActivity activity, Timestamp nowTimestamp) {
+        return new Object[] {
+                activity.getProjectConfigId(),
+                activity.getSource().name(),
+                activity.getActivityType().name(),
+                safeRequired(activity.getExternalId(), "missing-external-id", EXTERNAL_ID_MAX_LENGTH),
+                safeRequired(activity.getTitle(), "[untitled]", TITLE_MAX_LENGTH),
+                activity.getDescription(),
+                truncate(activity.getAuthorEmail(), AUTHOR_EMAIL_MAX_LENGTH),
+                truncate(activity.getAuthorName(), AUTHOR_NAME_MAX_LENGTH),
+                truncate(activity.getStatus(), STATUS_MAX_LENGTH),
+                activity.getContentHash(),
+                activity.getCreatedAt() != null ? Timestamp.valueOf(activity.getCreatedAt()) : nowTimestamp,
+                activity.getUpdatedAt() != null ? Timestamp.valueOf(activity.getUpdatedAt()) : null,
+                activity.getCreatedBy(),
+                activity.getUpdatedBy()
+        };
     }
 
     private String safeRequired(String value, String fallback, int maxLength) {
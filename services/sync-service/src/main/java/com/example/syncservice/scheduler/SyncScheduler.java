@@ -1,23 +1,39 @@
 package com.example.syncservice.scheduler;
 
-import com.example.syncservice.service.SyncOrchestrator;
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.service.SyncDispatcher;
+import com.example.syncservice.service.SyncWorkLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Scheduler for sync jobs.
  * 
  * CRITICAL DESIGN:
- * - @SchedulerLock ensures only ONE instance executes (multi-replica safe)
+ * - ShedLock ensures only ONE instance executes (multi-replica safe); with sync.sharding.enabled
+ *   every replica dispatches and sync_work_items leases split the configs between them instead
  * - Scheduler delegates to service layer (NO business logic here)
+ * - SyncDispatcher admits configs by priority within global/per-host limits;
+ *   its budget stays below lockAtMostFor so a run never outlives its lock
  * - Correlation ID for tracing
+ * - Sharded runs are keyed by the cron fire time, so replicas firing a few seconds apart seed the same run
  * - Can be disabled via configuration property
  * 
  * PRODUCTION SAFETY:
@@ -31,27 +47,35 @@ import java.util.UUID;
 @ConditionalOnProperty(name = "sync.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class SyncScheduler {
 
-    private final SyncOrchestrator syncOrchestrator;
+    private static final Duration JIRA_DISPATCH_BUDGET = Duration.ofMinutes(24);
+    private static final Duration GITHUB_DISPATCH_BUDGET = Duration.ofMinutes(12);
+
+    private final SyncDispatcher syncDispatcher;
+    private final SyncWorkLeaseService syncWorkLeaseService;
+    private final LockProvider lockProvider;
+    private final SyncProperties syncProperties;
+
+    // Windows searched backwards for the last fire time; covers crons from every second to monthly
+    private static final List<Duration> FIRE_TIME_LOOKBACK = List.of(
+            Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofDays(1), Duration.ofDays(32));
 
     /**
      * Scheduled job: Sync Jira issues for all verified configs.
      * 
      * Default: Every 30 minutes
-     * Lock: Max 25 minutes (allows 5min buffer before next execution)
+     * Lock: Max 25 minutes (allows 5min buffer before next execution); none when sharded
      */
     @Scheduled(cron = "${sync.scheduler.jira-issues-cron:0 */30 * * * *}")
-    @SchedulerLock(
-            name = "syncJiraIssues",
-            lockAtMostFor = "25m",
-            lockAtLeastFor = "1m"
-    )
     public void syncJiraIssues() {
         String correlationId = "SCHEDULER-JIRA-" + UUID.randomUUID().toString().substring(0, 8);
         MDC.put("correlationId", correlationId);
 
         try {
             log.info("=== Starting scheduled Jira issues sync: correlationId={} ===", correlationId);
-            syncOrchestrator.executeFullSync();
+            runExclusiveUnlessSharded("syncJiraIssues", Duration.ofMinutes(25), Duration.ofMinutes(1),
+                    () -> syncDispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES,
+                            fireTime(syncProperties.getScheduler().getJiraIssuesCron(), LocalDateTime.now()),
+                            JIRA_DISPATCH_BUDGET));
             log.info("=== Completed scheduled Jira issues sync: correlationId={} ===", correlationId);
         } catch (Exception e) {
             log.error("Error in scheduled Jira issues sync: {}", e.getMessage(), e);
@@ -64,24 +88,19 @@ public class SyncScheduler {
      * Scheduled job: Sync GitHub commits for all verified configs.
      * 
      * Default: Every 15 minutes
-     * Lock: Max 13 minutes
+     * Lock: Max 13 minutes; none when sharded
      */
     @Scheduled(cron = "${sync.scheduler.github-commits-cron:0 */15 * * * *}")
-    @SchedulerLock(
-            name = "syncGithubCommits",
-            lockAtMostFor = "13m",
-            lockAtLeastFor = "30s"
-    )
     public void syncGithubCommits() {
         String correlationId = "SCHEDULER-GITHUB-" + UUID.randomUUID().toString().substring(0, 8);
         MDC.put("correlationId", correlationId);
 
         try {
             log.info("=== Starting scheduled GitHub commits sync: correlationId={} ===", correlationId);
-            // Note: This calls executeFullSync which currently only does Jira
-            // You would need to add a similar method for GitHub in SyncOrchestrator
-            // For now, this demonstrates the pattern
-            log.warn("GitHub sync not yet implemented in orchestrator");
+            runExclusiveUnlessSharded("syncGithubCommits", Duration.ofMinutes(13), Duration.ofSeconds(30),
+                    () -> syncDispatcher.dispatch(SyncJob.JobType.GITHUB_COMMITS,
+                            fireTime(syncProperties.getScheduler().getGithubCommitsCron(), LocalDateTime.now()),
+                            GITHUB_DISPATCH_BUDGET));
             log.info("=== Completed scheduled GitHub commits sync: correlationId={} ===", correlationId);
         } catch (Exception e) {
             log.error("Error in scheduled GitHub commits sync: {}", e.getMessage(), e);
@@ -90,6 +109,57 @@ public class SyncScheduler {
         }
     }
 
+    /**
+     * Lease heartbeat (sharded mode only): keeps this replica's claimed work from being reclaimed
+     * while it is queued or running. Runs on EVERY replica, so no lock.
+     */
+    @Scheduled(fixedDelayString = "${sync.sharding.heartbeat-ms:30000}", initialDelayString = "${sync.sharding.heartbeat-ms:30000}")
+    public void renewWorkLeases() {
+        if (!syncWorkLeaseService.isEnabled()) {
+            return;
+        }
+        try {
+            int renewed = syncWorkLeaseService.renewOwnedLeases();
+            log.debug("Renewed {} sync work lease(s)", renewed);
+        } catch (Exception e) {
+            log.warn("Failed to renew sync work leases: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Same lock names and durations the @SchedulerLock annotations used, taken programmatically
+     * so sharded replicas can skip it.
+     */
+    private void runExclusiveUnlessSharded(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor,
+                                           Runnable dispatch) {
+        if (syncWorkLeaseService.isEnabled()) {
+            dispatch.run();
+            return;
+        }
+        new DefaultLockingTaskExecutor(lockProvider).executeWithLock(dispatch,
+                new LockConfiguration(Instant.now(), lockName, lockAtMostFor, lockAtLeastFor));
+    }
+
+    /**
+     * Latest time at or before {@code now} the cron fires: the run this invocation belongs to,
+     * even if it started late. Falls back to the current minute for crons that never fired in the lookback.
+     */
+    static LocalDateTime fireTime(String cron, LocalDateTime now) {
+        CronExpression expression = CronExpression.parse(cron);
+        for (Duration lookback : FIRE_TIME_LOOKBACK) {
+            LocalDateTime latest = null;
+            for (LocalDateTime next = expression.next(now.minus(lookback));
+                 next != null && !next.isAfter(now);
+                 next = expression.next(next)) {
+                latest = next;
+            }
+            if (latest != null) {
+                return latest;
+            }
+        }
+        return now.truncatedTo(ChronoUnit.MINUTES);
+    }
+
     /**
      * Health check scheduled job.
      * Runs every minute to verify scheduler is alive.
@@ -8,9 +8,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 import java.util.UUID;
 
 /**
@@ -51,6 +55,7 @@ public class DataMapper {
                 .build();
         activity.setCreatedAt(parseIsoDateTime(dto.getFields().getCreated(), "createdAt", externalId));
         activity.setUpdatedAt(parseIsoDateTime(dto.getFields().getUpdated(), "updatedAt", externalId));
+        activity.setContentHash(contentHash(activity));
         return activity;
     }
 
@@ -78,6 +83,7 @@ public class DataMapper {
                 .build();
         activity.setCreatedAt(parseIsoDateTime(commitDateRaw, "committedDate", externalId));
         activity.setUpdatedAt(parseIsoDateTime(commitDateRaw, "committedDate", externalId));
+        activity.setContentHash(contentHash(activity));
         return activity;
     }
 
@@ -127,6 +133,7 @@ public class DataMapper {
 
     /**
      * Convert GitHub commit to GithubCommit entity (denormalized storage).
+     * Accepts both the REST shape (files list) and the GraphQL shape (changedFiles count).
      */
     public GithubCommit githubCommitDtoToEntity(GithubCommitDto dto, UUID projectConfigId) {
     // Increment records parsed BEFORE mapping to ensure accurate denominator
@@ -142,7 +149,7 @@ public class DataMapper {
             .additions(dto.getStats() != null && dto.getStats().getAdditions() != null ? dto.getStats().getAdditions() : 0)
             .deletions(dto.getStats() != null && dto.getStats().getDeletions() != null ? dto.getStats().getDeletions() : 0)
             .totalChanges(dto.getStats() != null && dto.getStats().getTotal() != null ? dto.getStats().getTotal() : 0)
-            .filesChanged(dto.getFiles() != null ? dto.getFiles().size() : 0)
+            .filesChanged(resolveFilesChanged(dto))
             .build();
     
     // Set committed_date from GitHub API (not sync time)
@@ -176,6 +183,38 @@ public class DataMapper {
         };
     }
 
+    /**
+     * SHA-256 (hex) over the fields the upsert may overwrite.
+     * Timestamps are excluded on purpose: Jira bumps `updated` for changes that do not touch these fields.
+     * The upsert still refreshes updated_at on its own, without counting the row as changed.
+     */
+    String contentHash(UnifiedActivity activity) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (String field : new String[] {
+                activity.getTitle(),
+                activity.getDescription(),
+                activity.getAuthorEmail(),
+                activity.getAuthorName(),
+                activity.getStatus()}) {
+            // Separator + null marker keep ("ab", null) and ("a", "b") distinct
+            digest.update(field == null ? new byte[] {0} : ("\u0001" + field).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0x1F);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private int resolveFilesChanged(GithubCommitDto dto) {
+        if (dto.getFiles() != null) {
+            return dto.getFiles().size();
+        }
+        return dto.getChangedFiles() != null ? dto.getChangedFiles() : 0;
+    }
+
     /**
      * Build commit description from stats.
      */
@@ -240,10 +279,14 @@ public class DataMapper {
     /**
      * Parse ISO 8601 date string to LocalDateTime with production-grade logging.
      * Handles both Jira and GitHub API date formats.
-     * Increments parser_warning_count metric when parsing fails and fallback is used.
+     * Increments parser_warning_count metric when parsing fails.
      * 
      * PRODUCTION LOG FORMAT:
-     * "⚠️ Failed to parse {fieldName}. recordId={issueKey/commitSha} rawValue=[{original}]. Fallback to now()."
+     * "⚠️ Failed to parse {fieldName}. recordId={issueKey/commitSha} rawValue=[{original}]. Left unset."
+     * 
+     * Unparseable values stay null instead of falling back to now(): the sync watermark is the latest
+     * mapped timestamp, and now() would move it past records not fetched yet. The upserts store the sync
+     * time for null timestamps, as for missing ones.
      * 
      * This ensures alert triage can identify:
      * - Which field is problematic (createdAt/updatedAt/committedDate)
@@ -253,7 +296,7 @@ public class DataMapper {
      * @param isoDateString ISO 8601 date string (e.g., "2026-02-22T10:15:30Z" or "2026-02-22T10:15:30.123+0700")
      * @param fieldName Field name for logging (e.g., "createdAt", "updatedAt", "committedDate")
      * @param recordIdentifier Record identifier for logging (issueKey or commitSha)
-     * @return LocalDateTime or current time if parsing fails
+     * @return LocalDateTime, or null if the value is missing or cannot be parsed
      */
     private LocalDateTime parseIsoDateTime(String isoDateString, String fieldName, String recordIdentifier) {
         if (isoDateString == null || isoDateString.isBlank()) {
@@ -274,12 +317,12 @@ public class DataMapper {
             return LocalDateTime.parse(normalized, ISO_FORMATTER);
         } catch (Exception e) {
             // PRODUCTION-GRADE LOG: Include field name, record identifier, and raw value
-            log.warn("⚠️ Failed to parse {}. recordId={} rawValue=[{}]. Fallback to now(). Error: {}", 
+            log.warn("⚠️ Failed to parse {}. recordId={} rawValue=[{}]. Left unset. Error: {}", 
                     fieldName, recordIdentifier, isoDateString, e.getMessage());
             
             // Increment parser warning metric for production monitoring
             syncMetrics.recordParserWarning();
-            return LocalDateTime.now();
+            return null;
         }
     }
 }
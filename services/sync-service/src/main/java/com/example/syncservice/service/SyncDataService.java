@@ -1,8 +1,11 @@
 package com.example.syncservice.service;
 
+import com.example.syncservice.dto.ProjectStatsDelta;
+import com.example.syncservice.dto.UpsertResult;
 import com.example.syncservice.entity.*;
 import com.example.syncservice.metrics.SyncMetrics;
 import com.example.syncservice.repository.*;
+import com.example.syncservice.repository.SyncProjectStatsRepository.CountedRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.postgresql.util.PSQLException;
@@ -10,8 +13,20 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for database operations with transactional boundaries.
@@ -22,6 +37,7 @@ import java.util.UUID;
  * - Batch operations use EntityManager flush/clear to prevent memory leaks
  * - UPSERT logic ensures idempotent writes
  * - Tracks constraint violations for production monitoring
+ * - sync_project_stats counters move by the page's own changes, in the SAME transaction as the rows they count
  */
 @Service
 @RequiredArgsConstructor
@@ -32,6 +48,8 @@ public class SyncDataService {
     private final UnifiedActivityRepository unifiedActivityRepository;
     private final JiraIssueRepository jiraIssueRepository;
     private final GithubCommitRepository githubCommitRepository;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+    private final SyncProjectStatsRepository syncProjectStatsRepository;
     private final SyncMetrics syncMetrics;
 
     /**
@@ -104,6 +122,113 @@ public class SyncDataService {
         log.error("Sync job id={} failed: {}", syncJobId, errorMessage);
     }
 
+    /**
+     * Find an interrupted job this run can continue from.
+     * Transaction duration: <50ms
+     *
+     * Only the job immediately preceding {@code currentJobId} is considered: it must have committed
+     * pages, have failed or stopped checkpointing for {@code staleRunning} (see SyncJob#isResumable),
+     * share the same window and be younger than {@code maxAge}.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SyncJob> findResumableJob(UUID projectConfigId,
+                                              SyncJob.JobType jobType,
+                                              Long currentJobId,
+                                              LocalDateTime windowSince,
+                                              Duration maxAge,
+                                              Duration staleRunning) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(maxAge);
+        LocalDateTime staleBefore = now.minus(staleRunning);
+        return syncJobRepository
+                .findFirstByProjectConfigIdAndJobTypeAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(projectConfigId, jobType, currentJobId)
+                .filter(previous -> previous.isResumable(staleBefore))
+                .filter(previous -> Objects.equals(previous.getWindowSince(), windowSince))
+                .filter(previous -> previous.getStartedAt() != null && previous.getStartedAt().isAfter(cutoff));
+    }
+
+    /**
+     * Last successful job per config, keyed by config ID (configs never synced are absent).
+     * Transaction duration: <100ms
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, SyncJob> findLastSuccessfulSyncs(Collection<UUID> projectConfigIds, SyncJob.JobType jobType) {
+        if (projectConfigIds.isEmpty()) {
+            return Map.of();
+        }
+        return syncJobRepository.findLastSuccessfulSyncs(projectConfigIds, jobType).stream()
+                .collect(Collectors.toMap(SyncJob::getProjectConfigId, Function.identity()));
+    }
+
+    /**
+     * Record the fetch window of a job and, if resuming, inherit the previous checkpoint.
+     * Transaction duration: <50ms
+     */
+    @Transactional
+    public void startSyncWindow(Long syncJobId, LocalDateTime windowSince, SyncJob resumeFrom) {
+        SyncJob job = syncJobRepository.findById(syncJobId)
+                .orElseThrow(() -> new IllegalArgumentException("SyncJob not found: " + syncJobId));
+
+        job.setWindowSince(windowSince);
+        if (resumeFrom != null) {
+            job.resumeFrom(resumeFrom);
+            log.info("Sync job id={} resumes job id={} after page {}", syncJobId, resumeFrom.getId(), resumeFrom.getPagesCommitted());
+        }
+        syncJobRepository.save(job);
+    }
+
+    /**
+     * Load the incremental-sync watermark for a config and job type.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SyncWatermark> findWatermark(UUID projectConfigId, SyncJob.JobType jobType) {
+        return syncWatermarkRepository.findByProjectConfigIdAndJobTypeAndDeletedAtIsNull(projectConfigId, jobType);
+    }
+
+    /**
+     * SHAs already persisted for a config, optionally limited to commits at or after {@code since}.
+     * Transaction duration: <100ms (index on project_config_id, committed_date)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findKnownCommitShas(UUID projectConfigId, LocalDateTime since) {
+        List<String> shas = since == null
+                ? githubCommitRepository.findCommitShas(projectConfigId)
+                : githubCommitRepository.findCommitShasCommittedSince(projectConfigId, since);
+        return new HashSet<>(shas);
+    }
+
+    /**
+     * Advance the watermark after a batch has been persisted.
+     * Transaction duration: <50ms
+     *
+     * @param latestSourceTimestamp newest source timestamp in the persisted batch (null keeps the current mark)
+     * @param fullSync TRUE if this run walked the full history (records last_full_sync_at)
+     */
+    @Transactional
+    public void advanceWatermark(UUID projectConfigId,
+                                 SyncJob.JobType jobType,
+                                 LocalDateTime latestSourceTimestamp,
+                                 String etag,
+                                 String lastModified,
+                                 boolean fullSync) {
+        SyncWatermark watermark = syncWatermarkRepository
+                .findByProjectConfigIdAndJobTypeAndDeletedAtIsNull(projectConfigId, jobType)
+                .orElseGet(() -> SyncWatermark.builder()
+                        .projectConfigId(projectConfigId)
+                        .jobType(jobType)
+                        .build());
+
+        watermark.advanceTo(latestSourceTimestamp);
+        watermark.setEtag(etag);
+        watermark.setLastModified(lastModified);
+        if (fullSync) {
+            watermark.setLastFullSyncAt(LocalDateTime.now());
+        }
+        syncWatermarkRepository.save(watermark);
+
+        log.debug("Advanced watermark for configId={}, type={} to {}", projectConfigId, jobType, watermark.getWatermarkAt());
+    }
+
     /**
      * Persist unified activities using UPSERT.
      * Transaction duration: 2-5 seconds for 1000 records
@@ -121,30 +246,105 @@ public class SyncDataService {
         return upsertUnifiedActivities(activities);
     }
 
+    /**
+     * Persist one streamed Jira page (or several buffered pages of a full sync, {@code pageNumber} being the
+     * last of them) and checkpoint it in the SAME transaction.
+     * Transaction duration: <1 second per 100-issue page
+     *
+     * Either the page rows and the checkpoint are both committed or neither is,
+     * so a resumed job never skips a page.
+     *
+     * @return Unified activity upsert outcome (inserted / updated / unchanged)
+     */
     @Transactional
-    public int persistJiraSyncBatch(List<UnifiedActivity> activities, List<JiraIssue> issues) {
-        int affectedActivities = activities == null || activities.isEmpty() ? 0 : upsertUnifiedActivities(activities);
+    public UpsertResult persistJiraSyncPage(Long syncJobId,
+                                   int pageNumber,
+                                   String nextCursor,
+                                   LocalDateTime pageLatest,
+                                   List<UnifiedActivity> activities,
+                                   List<JiraIssue> issues) {
+        UpsertResult upsert = upsertUnifiedActivitiesDetailed(activities);
         if (issues != null && !issues.isEmpty()) {
             upsertJiraIssues(issues);
         }
-        return affectedActivities;
+        checkpointPage(syncJobId, pageNumber, nextCursor, pageLatest, issues != null ? issues.size() : 0, upsert);
+        return upsert;
     }
 
+    /**
+     * Persist one streamed GitHub page (or several buffered pages of a full sync) and checkpoint it
+     * in the SAME transaction.
+     * Transaction duration: <1 second per 100-commit page
+     *
+     * @return Unified activity upsert outcome (inserted / updated / unchanged)
+     */
     @Transactional
-    public int persistGithubSyncBatch(List<UnifiedActivity> activities, List<GithubCommit> commits) {
-        int affectedActivities = activities == null || activities.isEmpty() ? 0 : upsertUnifiedActivities(activities);
+    public UpsertResult persistGithubSyncPage(Long syncJobId,
+                                     int pageNumber,
+                                     String nextCursor,
+                                     LocalDateTime pageLatest,
+                                     List<UnifiedActivity> activities,
+                                     List<GithubCommit> commits) {
+        UpsertResult upsert = upsertUnifiedActivitiesDetailed(activities);
         if (commits != null && !commits.isEmpty()) {
             upsertGithubCommits(commits);
         }
-        return affectedActivities;
+        checkpointPage(syncJobId, pageNumber, nextCursor, pageLatest, commits != null ? commits.size() : 0, upsert);
+        return upsert;
+    }
+
+    private void checkpointPage(Long syncJobId, int pageNumber, String nextCursor, LocalDateTime pageLatest,
+                                int recordsFetched, UpsertResult upsert) {
+        SyncJob job = syncJobRepository.findById(syncJobId)
+                .orElseThrow(() -> new IllegalArgumentException("SyncJob not found: " + syncJobId));
+        job.recordPageCheckpoint(pageNumber, nextCursor, pageLatest, recordsFetched,
+                upsert.inserted(), upsert.updated(), upsert.unchanged());
+        syncJobRepository.save(job);
+        log.debug("Sync job id={} committed page {} (fetched={}, inserted={}, updated={}, unchanged={})",
+                syncJobId, pageNumber, recordsFetched, upsert.inserted(), upsert.updated(), upsert.unchanged());
     }
 
     private int upsertUnifiedActivities(List<UnifiedActivity> activities) {
+        return upsertUnifiedActivitiesDetailed(activities).written();
+    }
+
+    private UpsertResult upsertUnifiedActivitiesDetailed(List<UnifiedActivity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return UpsertResult.empty();
+        }
 
         try {
-            int affected = unifiedActivityRepository.upsertBatch(activities);
-            log.debug("Persisted {} unified activities (upsert)", affected);
-            return affected;
+            // Only pull requests are counted from unified_activities
+            Map<UUID, List<UnifiedActivity>> pullRequests = groupByConfig(activities.stream()
+                    .filter(activity -> activity.getSource() == UnifiedActivity.ActivitySource.GITHUB
+                            && activity.getActivityType() == UnifiedActivity.ActivityType.PULL_REQUEST)
+                    .toList(), UnifiedActivity::getProjectConfigId, UnifiedActivity::getExternalId);
+            Map<UUID, Map<String, CountedRow>> before = new HashMap<>();
+            pullRequests.forEach((configId, rows) -> before.put(configId,
+                    syncProjectStatsRepository.lockPullRequestRows(configId, rows.stream().map(UnifiedActivity::getExternalId).toList())));
+
+            UpsertResult result = unifiedActivityRepository.upsertBatchDetailed(activities);
+            syncMetrics.recordActivityUpsert(result.inserted(), result.updated(), result.unchanged());
+
+            // Rows the upsert skipped (same content_hash) cannot move a counter
+            Set<String> changed = new HashSet<>(result.changedExternalIds());
+            ProjectStatsDelta delta = new ProjectStatsDelta();
+            pullRequests.forEach((configId, rows) -> rows.stream()
+                    .filter(activity -> changed.contains(activity.getExternalId()))
+                    .forEach(activity -> {
+                        CountedRow previous = before.get(configId).get(activity.getExternalId());
+                        if (previous != null && previous.deleted()) {
+                            return;
+                        }
+                        if (previous != null) {
+                            delta.addPullRequest(configId, previous.authorEmail(), previous.status(), -1);
+                        }
+                        delta.addPullRequest(configId, activity.getAuthorEmail(), activity.getStatus(), 1);
+                    }));
+            syncProjectStatsRepository.applyDelta(delta);
+            log.debug("Persisted unified activities (upsert): inserted={}, updated={}, unchanged={}",
+                    result.inserted(), result.updated(), result.unchanged());
+            return result;
         } catch (DataIntegrityViolationException e) {
             // Only increment metric for UNIQUE constraint violations (SQLState 23505)
             // Do NOT count FK violations, NOT NULL, or other constraints
@@ -179,7 +379,26 @@ public class SyncDataService {
 
         try {
             // Use UPSERT to handle UNIQUE constraint on (project_config_id, issue_key)
+            Map<UUID, List<JiraIssue>> byConfig = groupByConfig(issues, JiraIssue::getProjectConfigId, JiraIssue::getIssueKey);
+            Map<UUID, Map<String, CountedRow>> before = new HashMap<>();
+            byConfig.forEach((configId, rows) -> before.put(configId,
+                    syncProjectStatsRepository.lockTaskRows(configId, rows.stream().map(JiraIssue::getIssueKey).toList())));
+
             int affected = jiraIssueRepository.upsertBatch(issues);
+
+            // jira_issues upserts are unconditional: unchanged rows subtract and add the same counters
+            ProjectStatsDelta delta = new ProjectStatsDelta();
+            byConfig.forEach((configId, rows) -> rows.forEach(issue -> {
+                CountedRow previous = before.get(configId).get(issue.getIssueKey());
+                if (previous != null && previous.deleted()) {
+                    return;
+                }
+                if (previous != null) {
+                    delta.addTask(configId, previous.authorEmail(), previous.status(), -1);
+                }
+                delta.addTask(configId, issue.getAssigneeEmail(), issue.getStatus(), 1);
+            }));
+            syncProjectStatsRepository.applyDelta(delta);
             log.debug("Upserted {} Jira issues", affected);
         } catch (DataIntegrityViolationException e) {
             // Only increment metric for UNIQUE constraint violations (SQLState 23505)
@@ -215,7 +434,25 @@ public class SyncDataService {
 
         try {
             // Use UPSERT to handle UNIQUE constraint on (project_config_id, commit_sha)
+            Map<UUID, List<GithubCommit>> byConfig = groupByConfig(commits, GithubCommit::getProjectConfigId, GithubCommit::getCommitSha);
+            Map<UUID, Map<String, CountedRow>> before = new HashMap<>();
+            byConfig.forEach((configId, rows) -> before.put(configId,
+                    syncProjectStatsRepository.lockCommitRows(configId, rows.stream().map(GithubCommit::getCommitSha).toList())));
+
             int affected = githubCommitRepository.upsertBatch(commits);
+
+            ProjectStatsDelta delta = new ProjectStatsDelta();
+            byConfig.forEach((configId, rows) -> rows.forEach(commit -> {
+                CountedRow previous = before.get(configId).get(commit.getCommitSha());
+                if (previous != null && previous.deleted()) {
+                    return;
+                }
+                if (previous != null) {
+                    delta.addCommit(configId, previous.authorEmail(), -1);
+                }
+                delta.addCommit(configId, commit.getAuthorEmail(), 1);
+            }));
+            syncProjectStatsRepository.applyDelta(delta);
             log.debug("Upserted {} GitHub commits", affected);
         } catch (DataIntegrityViolationException e) {
             // Only increment metric for UNIQUE constraint violations (SQLState 23505)
@@ -229,4 +466,22 @@ public class SyncDataService {
             throw e;
         }
     }
+
+    /**
+     * Rows per config, one per conflict key (the last one wins, as in the upsert); rows without a config or key
+     * are not counted.
+     */
+    private static <T> Map<UUID, List<T>> groupByConfig(List<T> rows, Function<T, UUID> configIdOf, Function<T, String> keyOf) {
+        Map<UUID, Map<String, T>> byConfig = new LinkedHashMap<>();
+        for (T row : rows) {
+            UUID configId = configIdOf.apply(row);
+            String key = keyOf.apply(row);
+            if (configId != null && key != null) {
+                byConfig.computeIfAbsent(configId, id -> new LinkedHashMap<>()).put(key, row);
+            }
+        }
+        Map<UUID, List<T>> grouped = new LinkedHashMap<>();
+        byConfig.forEach((configId, byKey) -> grouped.put(configId, List.copyOf(byKey.values())));
+        return grouped;
+    }
 }
@@ -0,0 +1,148 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.entity.UnifiedActivity;
+import com.example.syncservice.repository.GithubCommitRepository;
+import com.example.syncservice.repository.JiraIssueRepository;
+import com.example.syncservice.repository.SyncDeltaRepository;
+import com.example.syncservice.repository.SyncDeltaRepository.ChangeTable;
+import com.example.syncservice.repository.UnifiedActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Delta reads for GetChangesSince: rows written after a change version, soft deletes included.
+ *
+ * A consumer starts with an empty version (full snapshot, paged), keeps {@link Delta#nextVersion()}
+ * and asks again later; only rows written in between come back. Versions are opaque tokens
+ * ("&lt;xid&gt;:&lt;id&gt;"), see SyncDeltaRepository for why they never skip a late commit.
+ *
+ * Transaction duration: two SHORT read-only queries (horizon, changed ids) + one load by id.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncDeltaService {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 5000;
+
+    private final SyncDeltaRepository syncDeltaRepository;
+    private final JiraIssueRepository jiraIssueRepository;
+    private final GithubCommitRepository githubCommitRepository;
+    private final UnifiedActivityRepository unifiedActivityRepository;
+
+    @Transactional(readOnly = true)
+    public Delta<JiraIssue> issueChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return changesSince(ChangeTable.JIRA_ISSUES, projectConfigId, sinceVersion, limit,
+                jiraIssueRepository::findAllById, JiraIssue::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public Delta<GithubCommit> githubCommitChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return changesSince(ChangeTable.GITHUB_COMMITS, projectConfigId, sinceVersion, limit,
+                githubCommitRepository::findAllById, GithubCommit::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public Delta<UnifiedActivity> unifiedActivityChangesSince(UUID projectConfigId, String sinceVersion, int limit) {
+        return changesSince(ChangeTable.UNIFIED_ACTIVITIES, projectConfigId, sinceVersion, limit,
+                unifiedActivityRepository::findAllById, UnifiedActivity::getId);
+    }
+
+    private <T> Delta<T> changesSince(ChangeTable table,
+                                      UUID projectConfigId,
+                                      String sinceVersion,
+                                      int limit,
+                                      Function<List<Long>, List<T>> loader,
+                                      Function<T, Long> idOf) {
+        ChangeVersion since = ChangeVersion.parse(sinceVersion);
+        int pageLimit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        // Horizon FIRST: everything below it has finished before the read below takes its snapshot
+        long horizon = syncDeltaRepository.currentHorizon();
+        List<Object[]> changed = syncDeltaRepository.findChangedIds(
+                table, projectConfigId, since.xid(), since.afterId(), horizon, pageLimit + 1);
+
+        boolean hasMore = changed.size() > pageLimit;
+        List<Object[]> page = hasMore ? changed.subList(0, pageLimit) : changed;
+
+        ChangeVersion next;
+        if (hasMore) {
+            Object[] last = page.get(page.size() - 1);
+            next = new ChangeVersion(((Number) last[1]).longValue(), ((Number) last[0]).longValue());
+        } else {
+            // Caught up: skip straight to the horizon (nothing below it is left unseen)
+            next = horizon > since.xid() ? new ChangeVersion(horizon, 0) : since;
+        }
+
+        List<Long> ids = page.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        return new Delta<>(loadInOrder(ids, loader, idOf), next.format(), hasMore);
+    }
+
+    private static <T> List<T> loadInOrder(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * @param rows        changed rows in version order; rows with deletedAt set are tombstones
+     * @param nextVersion pass back as sinceVersion on the next call
+     * @param hasMore     true if the limit cut the delta short: call again right away
+     */
+    public record Delta<T>(List<T> rows, String nextVersion, boolean hasMore) {
+    }
+
+    /**
+     * Position in the change log: last seen (transaction id, row id).
+     */
+    record ChangeVersion(long xid, long afterId) {
+
+        static final ChangeVersion BEGINNING = new ChangeVersion(0, 0);
+
+        static ChangeVersion parse(String token) {
+            if (token == null || token.isBlank()) {
+                return BEGINNING;
+            }
+            int separator = token.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed change version: " + token);
+            }
+            try {
+                long xid = Long.parseLong(token.substring(0, separator));
+                long afterId = Long.parseLong(token.substring(separator + 1));
+                if (xid < 0 || afterId < 0) {
+                    throw new IllegalArgumentException("Malformed change version: " + token);
+                }
+                return new ChangeVersion(xid, afterId);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed change version: " + token, e);
+            }
+        }
+
+        String format() {
+            return xid + ":" + afterId;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.client.grpc.ProjectConfigGrpcClient;
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.dto.ProjectConfigDto;
+import com.example.syncservice.dto.SyncResultDto;
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.exception.ConfigNotFoundException;
+import com.example.syncservice.metrics.SyncMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fair dispatcher for scheduled syncs (replaces submitting every config at once).
+ *
+ * CRITICAL DESIGN:
+ * - Configs are ordered by priority = staleness x (1 + weight * log1p(rows changed by the last successful run));
+ *   never-synced configs go first
+ * - A config starts only when a global slot (sync.scheduler.max-in-flight) AND a slot for its host
+ *   (Jira site / GitHub token, sync.scheduler.per-host-max-in-flight) are free; otherwise the next
+ *   config of another host is tried, so one busy tenant cannot starve the rest
+ * - Admission defers instead of rejecting: a full executor puts the config back in the queue,
+ *   and whatever is still queued at the run deadline is left for the next run (where it is staler, so first)
+ * - Slots are shared by the Jira and GitHub runs; host keys never contain credentials
+ * - Each config is fetched once per run: the one used for the host key is passed on to SyncOrchestrator
+ *
+ * The caller's thread runs the dispatch loop and waits for its syncs until the deadline,
+ * so the ShedLock of the scheduled job covers the whole run.
+ *
+ * Sharded mode (sync.sharding.enabled=true, every replica dispatches): instead of queueing every config,
+ * the queue is refilled with configs leased from sync_work_items whenever it runs dry, at most as many as
+ * there are free global slots. Finished syncs complete their lease; claims not started by the deadline are
+ * released. Global and per-host limits then apply per replica.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncDispatcher {
+
+    private static final long AWAIT_SLICE_MS = 1000;
+
+    private final ProjectConfigGrpcClient projectConfigGrpcClient;
+    private final SyncOrchestrator syncOrchestrator;
+    private final SyncDataService syncDataService;
+    private final SyncMetrics syncMetrics;
+    private final SyncProperties syncProperties;
+    private final SyncWorkLeaseService syncWorkLeaseService;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+    // Guarded by lock
+    private final Map<String, AtomicInteger> hostInFlight = new HashMap<>();
+    private int totalInFlight;
+
+    /**
+     * Sync every verified config for {@code jobType}, highest priority first.
+     *
+     * @param runAt  scheduler fire time; keys the run in sharded mode
+     * @param budget time until queued configs are deferred and the call returns
+     */
+    public DispatchSummary dispatch(SyncJob.JobType jobType, LocalDateTime runAt, Duration budget) {
+        Instant deadline = Instant.now().plus(budget);
+
+        // Step 1: Verified configs + last successful run of each (OUTSIDE transaction / one SHORT query)
+        List<UUID> configIds = projectConfigGrpcClient.listVerifiedConfigIds();
+        if (configIds.isEmpty()) {
+            log.info("No verified configs found, skipping {} dispatch", jobType);
+            return new DispatchSummary(0, 0, 0, 0);
+        }
+        Map<UUID, SyncJob> lastSuccessful = syncDataService.findLastSuccessfulSyncs(configIds, jobType);
+        boolean sharded = syncWorkLeaseService.isEnabled();
+
+        // Step 2: Build the priority queue (sharded: request the run, the queue is filled from claims below)
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingDouble(Candidate::priority).reversed());
+        // Sharded: claims whose config could not be loaded, handed back when the run ends
+        List<UUID> unavailable = new ArrayList<>();
+        int skipped;
+        if (sharded) {
+            syncWorkLeaseService.seed(jobType, runAt, configIds);
+            skipped = 0;
+        } else {
+            skipped = enqueue(jobType, configIds, lastSuccessful, now, queue, unavailable);
+        }
+        int candidates = queue.size();
+        AtomicInteger queueDepth = syncMetrics.dispatchQueueDepth(jobType);
+        queueDepth.set(queue.size());
+        log.info("Dispatching {} {} sync(s) (skipped configs={}, sharded={}, deadline={})",
+                candidates, jobType, skipped, sharded, deadline);
+
+        // Step 3: Admit by priority within global + per-host limits
+        List<CompletableFuture<SyncResultDto>> futures = new ArrayList<>();
+        int rejections = 0;
+        lock.lock();
+        try {
+            while (Instant.now().isBefore(deadline)) {
+                if (queue.isEmpty()) {
+                    if (!sharded) {
+                        break;
+                    }
+                    int freeSlots = Math.max(1, syncProperties.getScheduler().getMaxInFlight()) - totalInFlight;
+                    if (freeSlots <= 0) {
+                        slotReleased.await(AWAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                        continue;
+                    }
+                    // Claim + config lookups hit the DB and gRPC: do not hold the lock (blocks release())
+                    lock.unlock();
+                    int claimed;
+                    int claimedSkipped;
+                    try {
+                        List<UUID> claimedIds = syncWorkLeaseService.claim(jobType, freeSlots);
+                        claimed = claimedIds.size();
+                        claimedSkipped = enqueue(jobType, claimedIds, lastSuccessful, now, queue, unavailable);
+                    } finally {
+                        lock.lock();
+                    }
+                    if (claimed == 0) {
+                        break;  // Nothing left to claim; other replicas own the rest of the run
+                    }
+                    skipped += claimedSkipped;
+                    candidates += claimed - claimedSkipped;
+                    queueDepth.set(queue.size());
+                    continue;
+                }
+
+                Candidate next = pollAdmissible(queue);
+                if (next == null) {
+                    slotReleased.await(AWAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+
+                acquire(next.hostKey());
+                CompletableFuture<SyncResultDto> future;
+                try {
+                    // The config loaded for the host key is handed over, so the sync does not fetch it again
+                    future = jobType == SyncJob.JobType.GITHUB_COMMITS
+                            ? syncOrchestrator.syncGithubCommitsAsync(next.config())
+                            : syncOrchestrator.syncJiraIssuesAsync(next.config());
+                } catch (RejectedExecutionException e) {
+                    // Executor saturated (e.g. by manual syncs): defer, do not drop
+                    release(next.hostKey());
+                    queue.add(next);
+                    rejections++;
+                    syncMetrics.recordSyncRejection();
+                    log.warn("Sync executor full, deferring configId={} ({})", next.configId(), e.getClass().getSimpleName());
+                    slotReleased.await(AWAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+
+                syncMetrics.recordDispatchWait(jobType, Duration.ofNanos(System.nanoTime() - next.enqueuedAtNanos()));
+                queueDepth.set(queue.size());
+                future.whenComplete((result, throwable) -> {
+                    if (sharded) {
+                        syncWorkLeaseService.complete(jobType, next.configId());
+                    }
+                    release(next.hostKey());
+                });
+                futures.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} dispatch interrupted with {} config(s) queued", jobType, queue.size());
+        } finally {
+            lock.unlock();
+        }
+
+        int deferred = queue.size();
+        queueDepth.set(0);
+        if (deferred > 0) {
+            syncMetrics.recordSyncDeferred(deferred);
+        }
+        if (sharded && (deferred > 0 || !unavailable.isEmpty())) {
+            // Hand unstarted claims back now instead of waiting for the leases to expire
+            List<UUID> unstarted = new ArrayList<>(unavailable);
+            queue.forEach(candidate -> unstarted.add(candidate.configId()));
+            syncWorkLeaseService.release(jobType, unstarted);
+        }
+        if (rejections > 0) {
+            syncMetrics.recordSyncBatchPartialRejection(rejections, candidates);
+        }
+
+        // Step 4: Wait for the started syncs (bounded by the same deadline)
+        awaitCompletion(futures, deadline);
+
+        DispatchSummary summary = new DispatchSummary(candidates, futures.size(), deferred, skipped);
+        log.info("Finished {} dispatch: {}", jobType, summary);
+        return summary;
+    }
+
+    /**
+     * Queue every config that has this integration; returns how many were skipped.
+     * Sharded: configs that are gone or have no integration are completed right away so they are not
+     * claimed again this run. Configs that failed to load (e.g. a gRPC timeout) go to {@code unavailable}
+     * and are released when the run ends, so another shard can still sync them.
+     */
+    private int enqueue(SyncJob.JobType jobType, List<UUID> configIds, Map<UUID, SyncJob> lastSuccessful,
+                        LocalDateTime now, PriorityQueue<Candidate> queue, List<UUID> unavailable) {
+        double changeRateWeight = syncProperties.getScheduler().getChangeRateWeight();
+        int skipped = 0;
+        for (UUID configId : configIds) {
+            ProjectConfigDto config;
+            try {
+                config = loadConfig(jobType, configId);
+            } catch (Exception e) {
+                log.warn("Skipping configId={} in {} dispatch: config unavailable ({})", configId, jobType, e.getMessage());
+                if (syncWorkLeaseService.isEnabled()) {
+                    unavailable.add(configId);
+                }
+                skipped++;
+                continue;
+            }
+            String hostKey = config != null ? hostKey(jobType, config) : null;
+            if (hostKey == null) {
+                if (syncWorkLeaseService.isEnabled()) {
+                    syncWorkLeaseService.complete(jobType, configId);
+                }
+                skipped++;
+                continue;
+            }
+            queue.add(new Candidate(configId, hostKey, config, priority(lastSuccessful.get(configId), now, changeRateWeight), System.nanoTime()));
+        }
+        return skipped;
+    }
+
+    /**
+     * Priority of a config: higher runs first.
+     * Staleness (minutes since the last successful run) scaled up by how many rows that run changed,
+     * so busy projects are refreshed more often than idle ones of the same age.
+     */
+    static double priority(SyncJob lastSuccessful, LocalDateTime now, double changeRateWeight) {
+        if (lastSuccessful == null || lastSuccessful.getCompletedAt() == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double stalenessMinutes = Math.max(1, Duration.between(lastSuccessful.getCompletedAt(), now).toMinutes());
+        int changed = lastSuccessful.getRecordsSaved() != null ? Math.max(0, lastSuccessful.getRecordsSaved()) : 0;
+        return stalenessMinutes * (1 + Math.max(0, changeRateWeight) * Math.log1p(changed));
+    }
+
+    /**
+     * Upstream the sync will hit: "jira:<site host>" or "github:<token hash>".
+     * Null if the config has no integration for this job type (nothing to sync).
+     */
+    static String hostKey(SyncJob.JobType jobType, ProjectConfigDto config) {
+        if (jobType == SyncJob.JobType.GITHUB_COMMITS || jobType == SyncJob.JobType.GITHUB_PRS) {
+            String token = config.getGithubToken();
+            if (isBlank(config.getGithubRepoUrl()) || isBlank(token)) {
+                return null;
+            }
+            // Hash only, same as GithubRateLimitTracker: no plaintext token in metric tags
+            return "github:" + Integer.toHexString(token.hashCode());
+        }
+        if (isBlank(config.getJiraHostUrl())) {
+            return null;
+        }
+        String host = null;
+        try {
+            host = URI.create(config.getJiraHostUrl().trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            log.debug("Unparseable Jira host URL for configId={}", config.getConfigId());
+        }
+        return "jira:" + (host != null ? host.toLowerCase() : "unknown");
+    }
+
+    /**
+     * Config of a queued id; null if it no longer exists. Any other failure is thrown to the caller.
+     */
+    private ProjectConfigDto loadConfig(SyncJob.JobType jobType, UUID configId) {
+        try {
+            ProjectConfigDto config = projectConfigGrpcClient.getDecryptedConfig(configId);
+            if (hostKey(jobType, config) == null) {
+                log.debug("Skipping configId={} in {} dispatch: integration not configured", configId, jobType);
+            }
+            return config;
+        } catch (ConfigNotFoundException e) {
+            log.debug("Skipping configId={} in {} dispatch: config no longer exists", configId, jobType);
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Highest-priority candidate whose host has a free slot, or null if none may start now.
+     * Caller holds the lock.
+     */
+    private Candidate pollAdmissible(PriorityQueue<Candidate> queue) {
+        if (totalInFlight >= Math.max(1, syncProperties.getScheduler().getMaxInFlight())) {
+            return null;
+        }
+        int perHostLimit = Math.max(1, syncProperties.getScheduler().getPerHostMaxInFlight());
+        List<Candidate> skipped = new ArrayList<>();
+        Candidate admitted = null;
+        while (!queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            if (hostCounter(candidate.hostKey()).get() < perHostLimit) {
+                admitted = candidate;
+                break;
+            }
+            skipped.add(candidate);
+        }
+        queue.addAll(skipped);
+        return admitted;
+    }
+
+    private void acquire(String hostKey) {
+        totalInFlight++;
+        hostCounter(hostKey).incrementAndGet();
+    }
+
+    private void release(String hostKey) {
+        lock.lock();
+        try {
+            totalInFlight--;
+            hostCounter(hostKey).decrementAndGet();
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AtomicInteger hostCounter(String hostKey) {
+        return hostInFlight.computeIfAbsent(hostKey, syncMetrics::hostInFlight);
+    }
+
+    private void awaitCompletion(List<CompletableFuture<SyncResultDto>> futures, Instant deadline) {
+        if (futures.isEmpty()) {
+            return;
+        }
+        long remainingMs = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(remainingMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Dispatch deadline reached with syncs still running; they continue in the background");
+        } catch (ExecutionException e) {
+            // Individual failures are already logged and counted by SyncOrchestrator
+            log.debug("At least one dispatched sync failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Candidate(UUID configId, String hostKey, ProjectConfigDto config, double priority, long enqueuedAtNanos) {
+    }
+
+    /**
+     * @param candidates configs queued this run
+     * @param started    syncs started
+     * @param deferred   configs left for the next run
+     * @param skipped    configs without this integration, or whose config could not be loaded
+     */
+    public record DispatchSummary(int candidates, int started, int deferred, int skipped) {
+    }
+}
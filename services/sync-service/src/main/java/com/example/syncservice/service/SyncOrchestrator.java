@@ -3,10 +3,12 @@ package com.example.syncservice.service;
 import com.example.syncservice.client.external.GithubClient;
 import com.example.syncservice.client.external.JiraClient;
 import com.example.syncservice.client.grpc.ProjectConfigGrpcClient;
-import com.example.syncservice.dto.GithubCommitDto;
-import com.example.syncservice.dto.JiraIssueDto;
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.dto.GithubCommitFetchResult;
+import com.example.syncservice.dto.JiraIssueFetchResult;
 import com.example.syncservice.dto.ProjectConfigDto;
 import com.example.syncservice.dto.SyncResultDto;
+import com.example.syncservice.dto.UpsertResult;
 import com.example.syncservice.entity.*;
 import com.example.syncservice.metrics.SyncMetrics;
 import lombok.RequiredArgsConstructor;
@@ -15,13 +17,19 @@ import org.slf4j.MDC;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Orchestrator for sync operations.
@@ -29,7 +37,11 @@ import java.util.stream.Collectors;
  * CRITICAL DESIGN:
  * - External API calls OUTSIDE transactions
  * - Database writes INSIDE transactions (via SyncDataService)
- * - Async execution using bounded thread pool
+ * - Streaming fetch -> map -> persist, one page at a time (heap stays flat, a slow DB throttles fetching);
+ *   full-history syncs buffer pages up to sync.persistence.copy-threshold rows so they are written
+ *   through the COPY path, checkpointing once per buffered batch
+ * - Page checkpoints in sync_jobs let the next run resume an interrupted job
+ * - Async execution using bounded thread pool (scheduled runs are admitted by SyncDispatcher)
  * - Correlation ID propagation for tracing
  * - Metrics tracking for observability
  */
@@ -48,62 +60,7 @@ public class SyncOrchestrator {
     private final DataMapper dataMapper;
     private final SyncMetrics syncMetrics;
     private final FallbackSignal fallbackSignal;
-
-    /**
-     * Execute sync for all verified project configs.
-     * Called by scheduler.
-     */
-    public void executeFullSync() {
-        String correlationId = "SYNC-" + UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("correlationId", correlationId);
-
-        try {
-            log.info("Starting full sync: correlationId={}", correlationId);
-
-            // Fetch verified config IDs via gRPC (OUTSIDE transaction)
-            List<UUID> configIds = projectConfigGrpcClient.listVerifiedConfigIds();
-            log.info("Found {} verified configs to sync", configIds.size());
-
-            if (configIds.isEmpty()) {
-                log.info("No verified configs found, skipping sync");
-                return;
-            }
-
-            // Submit async jobs for each config
-            List<CompletableFuture<SyncResultDto>> futures = new ArrayList<>();
-            int rejectionCount = 0;
-            for (UUID configId : configIds) {
-                try {
-                    futures.add(syncJiraIssuesAsync(configId));
-                } catch (java.util.concurrent.RejectedExecutionException e) {
-                    // AbortPolicy: Queue full, task rejected
-                    // Catches both RejectedExecutionException and its subclass TaskRejectedException
-                    log.error("❌ CRITICAL: Sync queue full, task rejected for configId={}. Exception type: {}. Increase thread pool capacity.", 
-                              configId, e.getClass().getSimpleName());
-                    syncMetrics.recordSyncRejection();
-                    rejectionCount++;
-                    // Continue with remaining configs (fail-fast per config, not entire batch)
-                }
-            }
-
-            // Record batch-level partial rejection if at least 1 task rejected
-            if (rejectionCount > 0) {
-                syncMetrics.recordSyncBatchPartialRejection(rejectionCount, configIds.size());
-            }
-
-            // Wait for all to complete (with timeout handled by async executor)
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                    .thenRun(() -> log.info("All sync jobs completed"))
-                    .exceptionally(ex -> {
-                        log.error("Error waiting for sync jobs: {}", ex.getMessage());
-                        return null;
-                    })
-                    .join();
-
-        } finally {
-            MDC.remove("correlationId");
-        }
-    }
+    private final SyncProperties syncProperties;
 
     /**
      * Sync Jira issues for a single project config (async).
@@ -111,19 +68,53 @@ public class SyncOrchestrator {
      * FLOW:
      * 1. Create sync job (transaction)
      * 2. Fetch config via gRPC (OUTSIDE transaction)
-     * 3. Fetch issues from Jira API (OUTSIDE transaction)
-     * 4. Transform data (in-memory)
-     * 5. Persist to DB (transaction via SyncDataService)
-     * 6. Update sync job status (transaction)
+     * 3. Resolve watermark window, resume checkpoint of an interrupted job (transactions)
+     * 4. Stream pages from Jira API (OUTSIDE transaction); per page: map, then
+     *    upsert + checkpoint in one SHORT transaction before the next page is fetched
+     * 5. Advance watermark, update sync job status (transactions)
      */
     @Async("syncTaskExecutor")
     public CompletableFuture<SyncResultDto> syncJiraIssuesAsync(UUID projectConfigId) {
-        return joinOrStartSync(projectConfigId, inFlightJiraSyncs, "Jira", () -> executeJiraSync(projectConfigId));
+        return joinOrStartSync(projectConfigId, inFlightJiraSyncs, "Jira", () -> executeJiraSync(projectConfigId, null, false));
+    }
+
+    /**
+     * Sync Jira issues, optionally ignoring the stored watermark and re-fetching every issue.
+     */
+    @Async("syncTaskExecutor")
+    public CompletableFuture<SyncResultDto> syncJiraIssuesAsync(UUID projectConfigId, boolean fullResync) {
+        return joinOrStartSync(projectConfigId, inFlightJiraSyncs, "Jira", () -> executeJiraSync(projectConfigId, null, fullResync));
+    }
+
+    /**
+     * Incremental Jira sync with a config the caller already fetched (SyncDispatcher), saving a second gRPC lookup.
+     */
+    @Async("syncTaskExecutor")
+    public CompletableFuture<SyncResultDto> syncJiraIssuesAsync(ProjectConfigDto config) {
+        UUID projectConfigId = config.getConfigId();
+        return joinOrStartSync(projectConfigId, inFlightJiraSyncs, "Jira", () -> executeJiraSync(projectConfigId, config, false));
     }
 
     @Async("syncTaskExecutor")
     public CompletableFuture<SyncResultDto> syncGithubCommitsAsync(UUID projectConfigId) {
-        return joinOrStartSync(projectConfigId, inFlightGithubSyncs, "GitHub", () -> executeGithubSync(projectConfigId));
+        return joinOrStartSync(projectConfigId, inFlightGithubSyncs, "GitHub", () -> executeGithubSync(projectConfigId, null, false));
+    }
+
+    /**
+     * Sync GitHub commits, optionally ignoring the stored watermark and re-enriching every commit.
+     */
+    @Async("syncTaskExecutor")
+    public CompletableFuture<SyncResultDto> syncGithubCommitsAsync(UUID projectConfigId, boolean fullResync) {
+        return joinOrStartSync(projectConfigId, inFlightGithubSyncs, "GitHub", () -> executeGithubSync(projectConfigId, null, fullResync));
+    }
+
+    /**
+     * Incremental GitHub sync with a config the caller already fetched (SyncDispatcher), saving a second gRPC lookup.
+     */
+    @Async("syncTaskExecutor")
+    public CompletableFuture<SyncResultDto> syncGithubCommitsAsync(ProjectConfigDto config) {
+        UUID projectConfigId = config.getConfigId();
+        return joinOrStartSync(projectConfigId, inFlightGithubSyncs, "GitHub", () -> executeGithubSync(projectConfigId, config, false));
     }
 
     private CompletableFuture<SyncResultDto> joinOrStartSync(
@@ -165,7 +156,8 @@ public class SyncOrchestrator {
         return placeholder;
     }
 
-    private CompletableFuture<SyncResultDto> executeJiraSync(UUID projectConfigId) {
+    private CompletableFuture<SyncResultDto> executeJiraSync(UUID projectConfigId, ProjectConfigDto prefetchedConfig,
+                                                               boolean fullResync) {
         long startTime = System.currentTimeMillis();
         String correlationId = MDC.get("correlationId");
         if (correlationId == null) {
@@ -184,45 +176,87 @@ public class SyncOrchestrator {
             // Step 1: Create sync job (SHORT transaction)
             syncJob = syncDataService.createSyncJob(projectConfigId, SyncJob.JobType.JIRA_ISSUES, correlationId);
 
-            // Step 2: Fetch config via gRPC (OUTSIDE transaction)
-            ProjectConfigDto config = projectConfigGrpcClient.getDecryptedConfig(projectConfigId);
+            // Step 2: Fetch config via gRPC unless the dispatcher already did (OUTSIDE transaction)
+            ProjectConfigDto config = prefetchedConfig != null
+                    ? prefetchedConfig
+                    : projectConfigGrpcClient.getDecryptedConfig(projectConfigId);
             log.debug("Fetched config for configId={}: jiraHost={}", projectConfigId, config.getJiraHostUrl());
 
-            // Step 3: Fetch issues from Jira API (OUTSIDE transaction)
+            // Step 3: Resolve incremental window from the stored watermark (SHORT read-only transaction)
+            boolean incremental = !fullResync && syncProperties.getJira().isIncrementalEnabled();
+            LocalDateTime updatedSince = incremental
+                    ? syncDataService.findWatermark(projectConfigId, SyncJob.JobType.JIRA_ISSUES)
+                        .map(SyncWatermark::getWatermarkAt)
+                        .map(at -> at.minusMinutes(Math.max(0, syncProperties.getJira().getSinceOverlapMinutes())))
+                        .orElse(null)
+                    : null;
+
+            // Step 4: Resume an interrupted job with the same window (SHORT transactions)
+            // Issues arrive in ascending `updated` order, so resuming = restarting at the checkpoint time.
+            SyncJob resumeFrom = findResumableJob(syncJob, updatedSince);
+            syncDataService.startSyncWindow(syncJob.getId(), updatedSince, resumeFrom);
+            LocalDateTime effectiveSince = resumeFrom != null && resumeFrom.getCheckpointAt() != null
+                    ? resumeFrom.getCheckpointAt().minusMinutes(Math.max(0, syncProperties.getJira().getSinceOverlapMinutes()))
+                    : updatedSince;
+            PageProgress progress = new PageProgress(resumeFrom);
+            PendingPages<JiraIssue> pending = new PendingPages<>(rowsPerWrite(updatedSince));
+            Long syncJobId = syncJob.getId();
+
+            // Step 5: Stream pages from Jira API (OUTSIDE transaction); each page is mapped and
+            // persisted + checkpointed in its own SHORT transaction before the next page is requested
+            // (full-history syncs: one transaction per batch of pages, see PendingPages).
             // CRITICAL: Fallback may be triggered here, setting degraded flag
-            List<JiraIssueDto> issueDtos = jiraClient.fetchIssues(
+            JiraIssueFetchResult fetchResult = jiraClient.streamIssuesUpdatedSince(
                     config.getJiraHostUrl(),
                     config.getJiraEmail(),
                     config.getJiraApiToken(),
-                    100);
+                    100,
+                    effectiveSince,
+                    (pageNumber, issueDtos, nextCursor) -> {
+                        List<UnifiedActivity> unifiedActivities = issueDtos.stream()
+                                .map(dto -> dataMapper.jiraIssueToUnifiedActivity(dto, projectConfigId))
+                                .collect(Collectors.toList());
+                        List<JiraIssue> jiraIssues = issueDtos.stream()
+                                .map(dto -> dataMapper.jiraIssueDtoToEntity(dto, projectConfigId))
+                                .collect(Collectors.toList());
+                        LocalDateTime pageLatest = latest(jiraIssues.stream().map(JiraIssue::getUpdatedAt));
+
+                        if (pending.add(pageNumber, nextCursor, pageLatest, issueDtos.size(), unifiedActivities, jiraIssues)) {
+                            flushJiraPages(syncJobId, pending, progress);
+                        }
+                    });
+            // Pages delivered before a fallback are kept as well
+            flushJiraPages(syncJobId, pending, progress);
 
             // Check if fallback was triggered (degraded execution)
             boolean degraded = fallbackSignal.isDegraded();
             String degradationReason = fallbackSignal.getReason();
+            int recordsFetched = progress.fetched;
+            int savedActivities = progress.saved;
+
+            log.info("Streamed {} Jira issues in {} page(s) for configId={}, updatedSince={}, resumedFrom={}, degraded={}",
+                    recordsFetched, fetchResult.getPagesFetched(), projectConfigId, effectiveSince,
+                    resumeFrom != null ? resumeFrom.getId() : null, degraded);
+
+            // Step 6: Advance watermark to the newest persisted `updated` (never on degraded runs)
+            if (!degraded) {
+                syncDataService.advanceWatermark(
+                        projectConfigId,
+                        SyncJob.JobType.JIRA_ISSUES,
+                        progress.latest,
+                        null,
+                        null,
+                        updatedSince == null && !fetchResult.isTruncated());
+            }
 
-            log.info("Fetched {} Jira issues for configId={}, degraded={}", 
-                    issueDtos.size(), projectConfigId, degraded);
-
-            // Step 4: Transform data (in-memory, NO transaction)
-            List<UnifiedActivity> unifiedActivities = issueDtos.stream()
-                    .map(dto -> dataMapper.jiraIssueToUnifiedActivity(dto, projectConfigId))
-                    .collect(Collectors.toList());
-
-            List<JiraIssue> jiraIssues = issueDtos.stream()
-                    .map(dto -> dataMapper.jiraIssueDtoToEntity(dto, projectConfigId))
-                    .collect(Collectors.toList());
-
-            // Step 5: Persist to DB (SHORT transactions)
-            int savedActivities = syncDataService.persistJiraSyncBatch(unifiedActivities, jiraIssues);
-
-            // Step 6: Update sync job status based on execution result
+            // Step 7: Update sync job status based on execution result
             long duration = System.currentTimeMillis() - startTime;
             
             if (degraded) {
                 // Fallback triggered → PARTIAL_FAILURE
                 syncDataService.markSyncJobAsPartialFailure(
                         syncJob.getId(), 
-                        issueDtos.size(), 
+                        recordsFetched, 
                         savedActivities, 
                         degradationReason);
                 syncMetrics.recordSyncPartialFailure(SyncJob.JobType.JIRA_ISSUES, duration);
@@ -231,11 +265,11 @@ public class SyncOrchestrator {
                         projectConfigId, degradationReason);
             } else {
                 // Normal execution → COMPLETED (even if 0 records)
-                syncDataService.completeSyncJob(syncJob.getId(), issueDtos.size(), savedActivities);
+                syncDataService.completeSyncJob(syncJob.getId(), recordsFetched, savedActivities);
                 syncMetrics.recordSyncSuccess(SyncJob.JobType.JIRA_ISSUES, duration);
                 
                 log.info("✅ Completed Jira sync for configId={}: fetched={}, saved={}, duration={}ms",
-                        projectConfigId, issueDtos.size(), savedActivities, duration);
+                        projectConfigId, recordsFetched, savedActivities, duration);
             }
 
                 return CompletableFuture.completedFuture(SyncResultDto.builder()
@@ -244,8 +278,13 @@ public class SyncOrchestrator {
                         .jobType(SyncJob.JobType.JIRA_ISSUES.name())
                     .success(true)
                         .degraded(degraded)
-                        .recordsFetched(issueDtos.size())
+                        .incremental(updatedSince != null)
+                        .pagesFetched(fetchResult.getPagesFetched())
+                        .recordsFetched(recordsFetched)
                         .recordsSaved(savedActivities)
+                        .recordsInserted(progress.upserted.inserted())
+                        .recordsUpdated(progress.upserted.updated())
+                        .recordsUnchanged(progress.upserted.unchanged())
                         .durationMs(duration)
                         .errorMessage(degraded ? degradationReason : null)
                         .correlationId(correlationId)
@@ -271,9 +310,14 @@ public class SyncOrchestrator {
     /**
      * Sync GitHub commits for a single project config (async).
      * 
-     * Similar flow to syncJiraIssuesAsync.
+     * Similar flow to syncJiraIssuesAsync, plus incremental mode:
+     * - since= derived from the per-config watermark (minus a small overlap)
+     * - conditional first-page request using the stored ETag/Last-Modified
+     * - SHAs already in github_commits skip commit-detail enrichment
+     * - watermark advanced only after a non-degraded batch is persisted
      */
-    private CompletableFuture<SyncResultDto> executeGithubSync(UUID projectConfigId) {
+    private CompletableFuture<SyncResultDto> executeGithubSync(UUID projectConfigId, ProjectConfigDto prefetchedConfig,
+                                                                 boolean fullResync) {
         long startTime = System.currentTimeMillis();
         String correlationId = MDC.get("correlationId");
         if (correlationId == null) {
@@ -292,44 +336,92 @@ public class SyncOrchestrator {
             // Step 1: Create sync job
             syncJob = syncDataService.createSyncJob(projectConfigId, SyncJob.JobType.GITHUB_COMMITS, correlationId);
 
-            // Step 2: Fetch config via gRPC
-            ProjectConfigDto config = projectConfigGrpcClient.getDecryptedConfig(projectConfigId);
+            // Step 2: Fetch config via gRPC unless the dispatcher already did
+            ProjectConfigDto config = prefetchedConfig != null
+                    ? prefetchedConfig
+                    : projectConfigGrpcClient.getDecryptedConfig(projectConfigId);
             log.debug("Fetched config for configId={}: githubRepo={}", projectConfigId, config.getGithubRepoUrl());
 
-            // Step 3: Fetch commits from GitHub API
+            // Step 3: Resolve incremental window (SHORT read-only transactions)
+            boolean incremental = !fullResync && syncProperties.getGithub().isIncrementalEnabled();
+            SyncWatermark watermark = incremental
+                    ? syncDataService.findWatermark(projectConfigId, SyncJob.JobType.GITHUB_COMMITS).orElse(null)
+                    : null;
+            LocalDateTime since = watermark != null && watermark.getWatermarkAt() != null
+                    ? watermark.getWatermarkAt().minusMinutes(Math.max(0, syncProperties.getGithub().getSinceOverlapMinutes()))
+                    : null;
+            Set<String> knownShas = incremental
+                    ? syncDataService.findKnownCommitShas(projectConfigId, since)
+                    : Set.of();
+
+            // Step 4: Resume an interrupted job with the same window (SHORT transactions)
+            SyncJob resumeFrom = findResumableJob(syncJob, since);
+            syncDataService.startSyncWindow(syncJob.getId(), since, resumeFrom);
+            GithubClient.PageCursor start = resumeFrom != null
+                    ? GithubClient.PageCursor.after(resumeFrom.getPagesCommitted(), resumeFrom.getCheckpointCursor())
+                    : GithubClient.PageCursor.FIRST;
+            PageProgress progress = new PageProgress(resumeFrom);
+            PendingPages<GithubCommit> pending = new PendingPages<>(rowsPerWrite(since));
+            Long syncJobId = syncJob.getId();
+
+            // Step 5: Stream pages from GitHub API (OUTSIDE transaction); each enriched page is mapped and
+            // persisted + checkpointed in its own SHORT transaction before the next page is requested
+            // (full-history syncs: one transaction per batch of pages, see PendingPages).
             // CRITICAL: Fallback may be triggered here, setting degraded flag
-            List<GithubCommitDto> commitDtos = githubClient.fetchCommits(
+            GithubCommitFetchResult fetchResult = githubClient.streamCommits(
                     config.getGithubRepoUrl(),
                     config.getGithubToken(),
-                    100);
+                    100,
+                    since,
+                    watermark != null ? GithubClient.HttpValidator.of(watermark.getEtag(), watermark.getLastModified()) : null,
+                    knownShas,
+                    start,
+                    (pageNumber, commitDtos, nextCursor) -> {
+                        List<UnifiedActivity> unifiedActivities = commitDtos.stream()
+                                .map(dto -> dataMapper.githubCommitToUnifiedActivity(dto, projectConfigId))
+                                .collect(Collectors.toList());
+                        List<GithubCommit> githubCommits = commitDtos.stream()
+                                .map(dto -> dataMapper.githubCommitDtoToEntity(dto, projectConfigId))
+                                .collect(Collectors.toList());
+                        LocalDateTime pageLatest = latest(githubCommits.stream().map(GithubCommit::getCommittedDate));
+
+                        if (pending.add(pageNumber, nextCursor, pageLatest, commitDtos.size(), unifiedActivities, githubCommits)) {
+                            flushGithubPages(syncJobId, pending, progress);
+                        }
+                    });
+            // Pages delivered before a fallback are kept as well
+            flushGithubPages(syncJobId, pending, progress);
 
             // Check if fallback was triggered (degraded execution)
             boolean degraded = fallbackSignal.isDegraded();
             String degradationReason = fallbackSignal.getReason();
+            int recordsFetched = progress.fetched;
+            int savedActivities = progress.saved;
+
+            log.info("Streamed {} GitHub commits for configId={}, incremental={}, since={}, startPage={}, notModified={}, skippedKnown={}, degraded={}",
+                    recordsFetched, projectConfigId, incremental, since, start.page(), fetchResult.isNotModified(),
+                    fetchResult.getSkippedKnownCommits(), degraded);
+
+            // Step 6: Advance watermark (never on degraded runs: pages after the failure were not fetched).
+            // Includes the checkpoint of a resumed job, since the newest commits sit on the pages it committed.
+            if (!degraded) {
+                syncDataService.advanceWatermark(
+                        projectConfigId,
+                        SyncJob.JobType.GITHUB_COMMITS,
+                        progress.latest,
+                        fetchResult.getEtag(),
+                        fetchResult.getLastModified(),
+                        since == null);
+            }
 
-            log.info("Fetched {} GitHub commits for configId={}, degraded={}", 
-                    commitDtos.size(), projectConfigId, degraded);
-
-            // Step 4: Transform data
-            List<UnifiedActivity> unifiedActivities = commitDtos.stream()
-                    .map(dto -> dataMapper.githubCommitToUnifiedActivity(dto, projectConfigId))
-                    .collect(Collectors.toList());
-
-            List<GithubCommit> githubCommits = commitDtos.stream()
-                    .map(dto -> dataMapper.githubCommitDtoToEntity(dto, projectConfigId))
-                    .collect(Collectors.toList());
-
-            // Step 5: Persist to DB
-            int savedActivities = syncDataService.persistGithubSyncBatch(unifiedActivities, githubCommits);
-
-            // Step 6: Update sync job status based on execution result
+            // Step 7: Update sync job status based on execution result
             long duration = System.currentTimeMillis() - startTime;
             
             if (degraded) {
                 // Fallback triggered → PARTIAL_FAILURE
                 syncDataService.markSyncJobAsPartialFailure(
                         syncJob.getId(), 
-                        commitDtos.size(), 
+                        recordsFetched, 
                         savedActivities, 
                         degradationReason);
                 syncMetrics.recordSyncPartialFailure(SyncJob.JobType.GITHUB_COMMITS, duration);
@@ -338,11 +430,11 @@ public class SyncOrchestrator {
                         projectConfigId, degradationReason);
             } else {
                 // Normal execution → COMPLETED (even if 0 records)
-                syncDataService.completeSyncJob(syncJob.getId(), commitDtos.size(), savedActivities);
+                syncDataService.completeSyncJob(syncJob.getId(), recordsFetched, savedActivities);
                 syncMetrics.recordSyncSuccess(SyncJob.JobType.GITHUB_COMMITS, duration);
                 
                 log.info("✅ Completed GitHub sync for configId={}: fetched={}, saved={}, duration={}ms",
-                        projectConfigId, commitDtos.size(), savedActivities, duration);
+                        projectConfigId, recordsFetched, savedActivities, duration);
             }
 
                 return CompletableFuture.completedFuture(SyncResultDto.builder()
@@ -351,8 +443,13 @@ public class SyncOrchestrator {
                         .jobType(SyncJob.JobType.GITHUB_COMMITS.name())
                     .success(true)
                         .degraded(degraded)
-                        .recordsFetched(commitDtos.size())
+                        .incremental(since != null)
+                        .pagesFetched(fetchResult.getPagesFetched())
+                        .recordsFetched(recordsFetched)
                         .recordsSaved(savedActivities)
+                        .recordsInserted(progress.upserted.inserted())
+                        .recordsUpdated(progress.upserted.updated())
+                        .recordsUnchanged(progress.upserted.unchanged())
                         .durationMs(duration)
                         .errorMessage(degraded ? degradationReason : null)
                         .correlationId(correlationId)
@@ -373,4 +470,125 @@ public class SyncOrchestrator {
             }
         }
     }
+
+    private SyncJob findResumableJob(SyncJob syncJob, LocalDateTime windowSince) {
+        if (!syncProperties.getResume().isEnabled()) {
+            return null;
+        }
+        return syncDataService.findResumableJob(
+                        syncJob.getProjectConfigId(),
+                        syncJob.getJobType(),
+                        syncJob.getId(),
+                        windowSince,
+                        Duration.ofHours(Math.max(0, syncProperties.getResume().getMaxAgeHours())),
+                        Duration.ofMinutes(Math.max(0, syncProperties.getResume().getStaleRunningMinutes())))
+                .orElse(null);
+    }
+
+    // Incremental windows commit every page; full-history syncs buffer up to the COPY threshold
+    private int rowsPerWrite(LocalDateTime windowSince) {
+        return windowSince == null ? Math.max(1, syncProperties.getPersistence().getCopyThreshold()) : 1;
+    }
+
+    private void flushJiraPages(Long syncJobId, PendingPages<JiraIssue> pending, PageProgress progress) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        UpsertResult upsert = syncDataService.persistJiraSyncPage(
+                syncJobId, pending.lastPage, pending.nextCursor, pending.latest, pending.activities, pending.entities);
+        progress.add(pending.fetched, upsert, pending.latest);
+        pending.clear();
+    }
+
+    private void flushGithubPages(Long syncJobId, PendingPages<GithubCommit> pending, PageProgress progress) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        UpsertResult upsert = syncDataService.persistGithubSyncPage(
+                syncJobId, pending.lastPage, pending.nextCursor, pending.latest, pending.activities, pending.entities);
+        progress.add(pending.fetched, upsert, pending.latest);
+        pending.clear();
+    }
+
+    // Records whose timestamp could not be parsed are mapped to null and never move the watermark
+    private static LocalDateTime latest(Stream<LocalDateTime> timestamps) {
+        return timestamps.filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    /**
+     * Running totals of a streamed sync; only touched from the fetching thread.
+     * Starts from the inherited checkpoint so the watermark covers pages committed before a resume.
+     */
+    private static final class PageProgress {
+        private int fetched;
+        private int saved;
+        private UpsertResult upserted = UpsertResult.empty();
+        private LocalDateTime latest;
+
+        PageProgress(SyncJob resumeFrom) {
+            this.latest = resumeFrom != null ? resumeFrom.getCheckpointAt() : null;
+        }
+
+        void add(int pageFetched, UpsertResult pageUpsert, LocalDateTime pageLatest) {
+            fetched += pageFetched;
+            saved += pageUpsert.written();
+            // Counts only: changed IDs are not retained across pages
+            upserted = new UpsertResult(
+                    upserted.inserted() + pageUpsert.inserted(),
+                    upserted.updated() + pageUpsert.updated(),
+                    upserted.unchanged() + pageUpsert.unchanged(),
+                    List.of());
+            if (pageLatest != null && (latest == null || pageLatest.isAfter(latest))) {
+                latest = pageLatest;
+            }
+        }
+    }
+
+    /**
+     * Mapped pages not written yet; only touched from the fetching thread.
+     * Written as one checkpointed batch (last page, its cursor, newest timestamp) once it holds
+     * {@code rowsPerWrite} activities, so a resume re-fetches at most one batch.
+     */
+    private static final class PendingPages<E> {
+        private final int rowsPerWrite;
+        private List<UnifiedActivity> activities = new ArrayList<>();
+        private List<E> entities = new ArrayList<>();
+        private int lastPage;
+        private String nextCursor;
+        private LocalDateTime latest;
+        private int fetched;
+
+        PendingPages(int rowsPerWrite) {
+            this.rowsPerWrite = rowsPerWrite;
+        }
+
+        /**
+         * @return TRUE when the buffer is due to be written
+         */
+        boolean add(int pageNumber, String pageCursor, LocalDateTime pageLatest, int pageFetched,
+                    List<UnifiedActivity> pageActivities, List<E> pageEntities) {
+            activities.addAll(pageActivities);
+            entities.addAll(pageEntities);
+            lastPage = pageNumber;
+            nextCursor = pageCursor;
+            if (pageLatest != null && (latest == null || pageLatest.isAfter(latest))) {
+                latest = pageLatest;
+            }
+            fetched += pageFetched;
+            return activities.size() >= rowsPerWrite;
+        }
+
+        boolean isEmpty() {
+            return lastPage == 0;
+        }
+
+        void clear() {
+            activities = new ArrayList<>();
+            entities = new ArrayList<>();
+            lastPage = 0;
+            nextCursor = null;
+            latest = null;
+            fetched = 0;
+        }
+    }
 }
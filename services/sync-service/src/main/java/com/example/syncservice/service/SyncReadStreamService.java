@@ -0,0 +1,128 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.dto.SyncReadFilter;
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.entity.UnifiedActivity;
+import com.example.syncservice.repository.GithubCommitRepository;
+import com.example.syncservice.repository.JiraIssueRepository;
+import com.example.syncservice.repository.SyncReadQueryRepository;
+import com.example.syncservice.repository.UnifiedActivityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Chunked reads of synced data for the streaming gRPC RPCs.
+ *
+ * CRITICAL DESIGN:
+ * - Rows come from a JDBC cursor (fetch size 500), never a full List
+ * - Each chunk is handed to the consumer, then the persistence context is cleared,
+ *   so memory stays at one chunk regardless of project size
+ * - The consumer runs INSIDE the read-only transaction (it must be fast: map + send)
+ *
+ * Transaction duration: one connection for the whole stream; the gRPC deadline and
+ * flow control of the caller bound it.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncReadStreamService {
+
+    private final JiraIssueRepository jiraIssueRepository;
+    private final GithubCommitRepository githubCommitRepository;
+    private final UnifiedActivityRepository unifiedActivityRepository;
+    private final SyncReadQueryRepository syncReadQueryRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long forEachIssueChunk(UUID projectConfigId, int chunkSize, Consumer<List<JiraIssue>> chunkConsumer) {
+        try (Stream<JiraIssue> rows = jiraIssueRepository.streamActiveByProjectConfigId(projectConfigId)) {
+            return forEachChunk(rows, chunkSize, chunkConsumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachGithubCommitChunk(UUID projectConfigId, int chunkSize, Consumer<List<GithubCommit>> chunkConsumer) {
+        try (Stream<GithubCommit> rows = githubCommitRepository.streamActiveByProjectConfigId(projectConfigId)) {
+            return forEachChunk(rows, chunkSize, chunkConsumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachUnifiedActivityChunk(UUID projectConfigId, int chunkSize,
+                                            Consumer<List<UnifiedActivity>> chunkConsumer) {
+        try (Stream<UnifiedActivity> rows = unifiedActivityRepository.streamActiveByProjectConfigId(projectConfigId)) {
+            return forEachChunk(rows, chunkSize, chunkConsumer);
+        }
+    }
+
+    /**
+     * Projected, filtered variant (ReadOptions): Tuples aliased by attribute name, plus "id".
+     * Tuples are not managed, but the context is cleared per chunk all the same.
+     */
+    @Transactional(readOnly = true)
+    public long forEachProjectedChunk(Class<?> entityClass,
+                                      UUID projectConfigId,
+                                      SyncReadFilter filter,
+                                      List<String> attributes,
+                                      int chunkSize,
+                                      Consumer<List<Tuple>> chunkConsumer) {
+        try (Stream<Tuple> rows = syncReadQueryRepository
+                .projectedQuery(entityClass, projectConfigId, filter, attributes, 0L)
+                .getResultStream()) {
+            return forEachChunk(rows, chunkSize, chunkConsumer);
+        }
+    }
+
+    /**
+     * One keyset page of the projected, filtered read: rows with id &gt; afterId, at most {@code limit}.
+     */
+    @Transactional(readOnly = true)
+    public List<Tuple> findProjectedPage(Class<?> entityClass,
+                                         UUID projectConfigId,
+                                         SyncReadFilter filter,
+                                         List<String> attributes,
+                                         long afterId,
+                                         int limit) {
+        return syncReadQueryRepository
+                .projectedQuery(entityClass, projectConfigId, filter, attributes, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> long forEachChunk(Stream<T> rows, int chunkSize, Consumer<List<T>> chunkConsumer) {
+        long total = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() >= chunkSize) {
+                total += emit(chunk, chunkConsumer);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            total += emit(chunk, chunkConsumer);
+        }
+        return total;
+    }
+
+    private <T> int emit(List<T> chunk, Consumer<List<T>> chunkConsumer) {
+        chunkConsumer.accept(chunk);
+        // Read-only entities are still tracked; drop them once sent
+        entityManager.clear();
+        return chunk.size();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.repository.SyncWorkItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leases scheduled sync work to this replica (sync.sharding.enabled=true).
+ *
+ * CRITICAL DESIGN:
+ * - Every replica seeds the run for all verified configs (idempotent), then claims batches with SKIP LOCKED,
+ *   so the schedule is spread over however many replicas are up - no leader, no static shard map
+ * - Rebalancing is implicit: a new replica simply claims the next batch; a crashed replica stops renewing
+ *   and its leases expire back into the pool after sync.sharding.lease-ttl-seconds
+ * - Lease errors never fail a sync: an unrecorded completion only means the config may be synced once more
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncWorkLeaseService {
+
+    private final SyncWorkItemRepository syncWorkItemRepository;
+    private final SyncProperties syncProperties;
+
+    private final String ownerId = resolveOwnerId();
+
+    public boolean isEnabled() {
+        return syncProperties.getSharding().isEnabled();
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * Request the run of {@code jobType} fired at {@code runAt} for every config (one SHORT transaction per 500 configs).
+     */
+    public void seed(SyncJob.JobType jobType, LocalDateTime runAt, Collection<UUID> configIds) {
+        int requested = syncWorkItemRepository.requestRun(jobType, runAt, configIds);
+        int purged = syncWorkItemRepository.purgeStale(syncProperties.getSharding().getRetentionHours());
+        log.info("Seeded {} work items for run {}: requested={}, purged={}, owner={}",
+                jobType, runAt, requested, purged, ownerId);
+    }
+
+    public List<UUID> claim(SyncJob.JobType jobType, int limit) {
+        List<UUID> claimed = syncWorkItemRepository.claimDue(jobType, ownerId, limit,
+                syncProperties.getSharding().getLeaseTtlSeconds());
+        if (!claimed.isEmpty()) {
+            log.debug("Claimed {} {} work item(s)", claimed.size(), jobType);
+        }
+        return claimed;
+    }
+
+    public void complete(SyncJob.JobType jobType, UUID configId) {
+        try {
+            if (syncWorkItemRepository.complete(jobType, configId, ownerId) == 0) {
+                log.warn("⚠️ Lease on configId={} ({}) was lost before completion; another replica may resync it",
+                        configId, jobType);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record completion of configId={} ({}): {}", configId, jobType, e.getMessage());
+        }
+    }
+
+    public void release(SyncJob.JobType jobType, Collection<UUID> configIds) {
+        if (configIds.isEmpty()) {
+            return;
+        }
+        try {
+            int released = syncWorkItemRepository.release(jobType, configIds, ownerId);
+            log.info("Released {} unstarted {} work item(s)", released, jobType);
+        } catch (Exception e) {
+            log.warn("Failed to release {} work item(s); they return after lease expiry: {}", jobType, e.getMessage());
+        }
+    }
+
+    /**
+     * Heartbeat: extend every lease held by this replica (claimed, queued or running).
+     */
+    public int renewOwnedLeases() {
+        return syncWorkItemRepository.renewLeases(ownerId, syncProperties.getSharding().getLeaseTtlSeconds());
+    }
+
+    private static String resolveOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        // Random suffix: a restarted pod must not inherit the leases of its previous incarnation
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
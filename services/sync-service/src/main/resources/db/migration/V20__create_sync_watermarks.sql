@@ -0,0 +1,30 @@
+-- Per-config high-water marks for incremental sync.
+-- One row per (project_config_id, job_type); the orchestrator advances it only after a
+-- non-degraded batch has been persisted, so a crashed run simply re-reads the same window.
+
+CREATE TABLE IF NOT EXISTS sync_watermarks (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    job_type VARCHAR(50) NOT NULL,
+    watermark_at TIMESTAMP,
+    etag VARCHAR(255),
+    last_modified VARCHAR(100),
+    last_full_sync_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP,
+    deleted_by BIGINT,
+    CONSTRAINT uk_sync_watermarks_config_type UNIQUE (project_config_id, job_type)
+);
+
+-- Speeds up the known-SHA lookup used to skip commit-detail enrichment.
+CREATE INDEX IF NOT EXISTS idx_github_commits_config_committed_date
+    ON github_commits(project_config_id, committed_date);
+
+COMMENT ON TABLE sync_watermarks IS 'High-water marks for incremental Jira/GitHub sync per project config';
+COMMENT ON COLUMN sync_watermarks.watermark_at IS 'Latest source timestamp persisted (GitHub commit date / Jira updated), UTC';
+COMMENT ON COLUMN sync_watermarks.etag IS 'ETag of the first page of the last incremental fetch (If-None-Match)';
+COMMENT ON COLUMN sync_watermarks.last_modified IS 'Last-Modified of the first page of the last incremental fetch (If-Modified-Since)';
+COMMENT ON COLUMN sync_watermarks.last_full_sync_at IS 'When the last full (non-incremental) resync completed';
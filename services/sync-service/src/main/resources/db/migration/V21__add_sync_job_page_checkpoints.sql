@@ -0,0 +1,19 @@
+-- Page-level checkpoints for streaming sync jobs.
+-- Each fetched page is upserted and checkpointed in the same transaction, so a job that
+-- crashes mid-run can be resumed by the next run from the last committed page.
+
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS window_since TIMESTAMP;
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS pages_committed INT NOT NULL DEFAULT 0;
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS checkpoint_cursor VARCHAR(512);
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS checkpoint_at TIMESTAMP;
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS resumed_from_job_id BIGINT;
+
+-- Resume lookup: latest job for a config/type
+CREATE INDEX IF NOT EXISTS idx_sync_jobs_config_type_id
+    ON sync_jobs(project_config_id, job_type, id DESC);
+
+COMMENT ON COLUMN sync_jobs.window_since IS 'Incremental window the job was started with (NULL = full history); a resume must match it';
+COMMENT ON COLUMN sync_jobs.pages_committed IS 'Last upstream page number whose rows are committed';
+COMMENT ON COLUMN sync_jobs.checkpoint_cursor IS 'Opaque upstream cursor after the last committed page (GitHub GraphQL endCursor)';
+COMMENT ON COLUMN sync_jobs.checkpoint_at IS 'Newest source timestamp among committed pages (commit date / Jira updated), UTC';
+COMMENT ON COLUMN sync_jobs.resumed_from_job_id IS 'Earlier job whose checkpoint this job continued from';
@@ -0,0 +1,20 @@
+-- Content hashing for unified_activities.
+-- The upsert only rewrites a row when content_hash changes, so unchanged activities
+-- no longer produce dead tuples / WAL on every sync.
+-- content_changed_at moves only on insert or real content change (downstream change feed).
+
+ALTER TABLE unified_activities ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE unified_activities ADD COLUMN IF NOT EXISTS content_changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_unified_activities_config_content_changed
+    ON unified_activities(project_config_id, content_changed_at);
+
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS records_inserted INT NOT NULL DEFAULT 0;
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS records_updated INT NOT NULL DEFAULT 0;
+ALTER TABLE sync_jobs ADD COLUMN IF NOT EXISTS records_unchanged INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN unified_activities.content_hash IS 'SHA-256 (hex) of the mutable activity fields, computed by DataMapper';
+COMMENT ON COLUMN unified_activities.content_changed_at IS 'When the row was inserted or its content_hash last changed';
+COMMENT ON COLUMN sync_jobs.records_inserted IS 'unified_activities rows inserted by this job';
+COMMENT ON COLUMN sync_jobs.records_updated IS 'unified_activities rows whose content changed';
+COMMENT ON COLUMN sync_jobs.records_unchanged IS 'unified_activities rows skipped because content_hash matched';
@@ -0,0 +1,33 @@
+-- Work table for sharding scheduled syncs across replicas.
+-- One row per (project_config_id, job_type). Every replica seeds the verified configs of a run
+-- (requested_at = run minute, idempotent across replicas) and claims due rows with
+-- SELECT ... FOR UPDATE SKIP LOCKED; a crashed replica's rows come back when lease_until passes.
+
+CREATE TABLE IF NOT EXISTS sync_work_items (
+    id BIGSERIAL PRIMARY KEY,
+    project_config_id UUID NOT NULL,
+    job_type VARCHAR(50) NOT NULL,
+    requested_at TIMESTAMP NOT NULL,
+    claimed_for TIMESTAMP,
+    completed_for TIMESTAMP,
+    last_completed_at TIMESTAMP,
+    lease_owner VARCHAR(255),
+    lease_until TIMESTAMP,
+    CONSTRAINT uk_sync_work_items_config_type UNIQUE (project_config_id, job_type)
+);
+
+-- Claim scan: due rows of one job type, stalest first
+CREATE INDEX IF NOT EXISTS idx_sync_work_items_claim
+    ON sync_work_items(job_type, last_completed_at NULLS FIRST)
+    WHERE completed_for IS NULL OR completed_for < requested_at;
+
+CREATE INDEX IF NOT EXISTS idx_sync_work_items_lease_owner
+    ON sync_work_items(lease_owner)
+    WHERE lease_owner IS NOT NULL;
+
+COMMENT ON TABLE sync_work_items IS 'Leased work queue that shards scheduled syncs across sync-service replicas';
+COMMENT ON COLUMN sync_work_items.requested_at IS 'Run (minute, DB time) that last requested this config';
+COMMENT ON COLUMN sync_work_items.claimed_for IS 'requested_at value the current/last lease was taken for';
+COMMENT ON COLUMN sync_work_items.completed_for IS 'requested_at value last finished; due while < requested_at';
+COMMENT ON COLUMN sync_work_items.lease_owner IS 'Replica holding the lease (host:pid:random)';
+COMMENT ON COLUMN sync_work_items.lease_until IS 'Lease expiry (DB time); renewed by the owner heartbeat, reclaimable after';
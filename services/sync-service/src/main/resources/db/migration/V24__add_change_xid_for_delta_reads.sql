@@ -0,0 +1,55 @@
+-- Change versions for GetChangesSince delta reads.
+-- Every insert/update (including soft deletes) stamps the row with the id of the writing
+-- transaction. Readers only return rows below pg_snapshot_xmin(pg_current_snapshot()):
+-- every transaction under that horizon has finished, so a cursor advanced to it never skips
+-- a row that commits late (unlike a plain sequence, whose values can commit out of order).
+
+CREATE OR REPLACE FUNCTION sync_stamp_change_xid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ==============================================
+-- jira_issues
+-- ==============================================
+ALTER TABLE jira_issues ADD COLUMN IF NOT EXISTS change_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP TRIGGER IF EXISTS trg_jira_issues_change_xid ON jira_issues;
+CREATE TRIGGER trg_jira_issues_change_xid
+    BEFORE INSERT OR UPDATE ON jira_issues
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_jira_issues_config_change
+    ON jira_issues(project_config_id, change_xid, id);
+
+-- ==============================================
+-- github_commits
+-- ==============================================
+ALTER TABLE github_commits ADD COLUMN IF NOT EXISTS change_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP TRIGGER IF EXISTS trg_github_commits_change_xid ON github_commits;
+CREATE TRIGGER trg_github_commits_change_xid
+    BEFORE INSERT OR UPDATE ON github_commits
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_github_commits_config_change
+    ON github_commits(project_config_id, change_xid, id);
+
+-- ==============================================
+-- unified_activities (no-op upserts are skipped since V22, so unchanged rows keep their version)
+-- ==============================================
+ALTER TABLE unified_activities ADD COLUMN IF NOT EXISTS change_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP TRIGGER IF EXISTS trg_unified_activities_change_xid ON unified_activities;
+CREATE TRIGGER trg_unified_activities_change_xid
+    BEFORE INSERT OR UPDATE ON unified_activities
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_unified_activities_config_change
+    ON unified_activities(project_config_id, change_xid, id);
+
+COMMENT ON COLUMN jira_issues.change_xid IS 'Transaction that last wrote the row (delta read version)';
+COMMENT ON COLUMN github_commits.change_xid IS 'Transaction that last wrote the row (delta read version)';
+COMMENT ON COLUMN unified_activities.change_xid IS 'Transaction that last wrote the row (delta read version)';
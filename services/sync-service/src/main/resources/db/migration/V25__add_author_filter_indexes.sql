@@ -0,0 +1,24 @@
+-- Indexes for ReadOptions filters on the sync read RPCs.
+-- Author filters compare lower(email) within one project config; partial on active rows,
+-- which are the only rows those reads return.
+
+-- ==============================================
+-- jira_issues (authorEmail filter matches the assignee)
+-- ==============================================
+CREATE INDEX IF NOT EXISTS idx_jira_issues_config_assignee_lower
+    ON jira_issues(project_config_id, lower(assignee_email), id)
+    WHERE deleted_at IS NULL;
+
+-- ==============================================
+-- github_commits
+-- ==============================================
+CREATE INDEX IF NOT EXISTS idx_github_commits_config_author_lower
+    ON github_commits(project_config_id, lower(author_email), id)
+    WHERE deleted_at IS NULL;
+
+-- ==============================================
+-- unified_activities
+-- ==============================================
+CREATE INDEX IF NOT EXISTS idx_unified_activities_config_author_lower
+    ON unified_activities(project_config_id, lower(author_email), id)
+    WHERE deleted_at IS NULL;
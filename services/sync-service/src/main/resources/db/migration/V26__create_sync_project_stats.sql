@@ -0,0 +1,55 @@
+-- Pre-aggregated counters per project config (author_email = '') and per author, served by
+-- GetProjectStats so dashboards no longer pull whole issue / commit / activity lists to count them.
+-- Refreshed by SyncDataService in the same transaction as the rows it counts.
+
+CREATE TABLE IF NOT EXISTS sync_project_stats (
+    project_config_id     UUID         NOT NULL,
+    author_email          VARCHAR(255) NOT NULL,   -- lower-cased; '' = whole config
+    task_count            BIGINT       NOT NULL DEFAULT 0,
+    completed_task_count  BIGINT       NOT NULL DEFAULT 0,
+    commit_count          BIGINT       NOT NULL DEFAULT 0,
+    pr_count              BIGINT       NOT NULL DEFAULT 0,
+    merged_pr_count       BIGINT       NOT NULL DEFAULT 0,
+    updated_at            TIMESTAMP    NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_sync_project_stats PRIMARY KEY (project_config_id, author_email)
+);
+
+-- ==============================================
+-- Backfill from existing rows
+-- ==============================================
+INSERT INTO sync_project_stats (project_config_id, author_email, task_count, completed_task_count)
+SELECT project_config_id, author_email, count(*),
+       count(*) FILTER (WHERE lower(status) IN ('done', 'closed', 'resolved', 'completed', 'merged', 'approved'))
+FROM (
+    SELECT project_config_id, '' AS author_email, status FROM jira_issues WHERE deleted_at IS NULL
+    UNION ALL
+    SELECT project_config_id, lower(assignee_email), status FROM jira_issues
+    WHERE deleted_at IS NULL AND assignee_email IS NOT NULL AND assignee_email <> ''
+) tasks
+GROUP BY project_config_id, author_email
+ON CONFLICT (project_config_id, author_email) DO NOTHING;
+
+INSERT INTO sync_project_stats (project_config_id, author_email, commit_count)
+SELECT project_config_id, author_email, count(*)
+FROM (
+    SELECT project_config_id, '' AS author_email FROM github_commits WHERE deleted_at IS NULL
+    UNION ALL
+    SELECT project_config_id, lower(author_email) FROM github_commits
+    WHERE deleted_at IS NULL AND author_email IS NOT NULL AND author_email <> ''
+) commits
+GROUP BY project_config_id, author_email
+ON CONFLICT (project_config_id, author_email) DO UPDATE SET commit_count = EXCLUDED.commit_count;
+
+INSERT INTO sync_project_stats (project_config_id, author_email, pr_count, merged_pr_count)
+SELECT project_config_id, author_email, count(*), count(*) FILTER (WHERE lower(status) = 'merged')
+FROM (
+    SELECT project_config_id, '' AS author_email, status FROM unified_activities
+    WHERE deleted_at IS NULL AND source = 'GITHUB' AND activity_type = 'PULL_REQUEST'
+    UNION ALL
+    SELECT project_config_id, lower(author_email), status FROM unified_activities
+    WHERE deleted_at IS NULL AND source = 'GITHUB' AND activity_type = 'PULL_REQUEST'
+      AND author_email IS NOT NULL AND author_email <> ''
+) pull_requests
+GROUP BY project_config_id, author_email
+ON CONFLICT (project_config_id, author_email)
+    DO UPDATE SET pr_count = EXCLUDED.pr_count, merged_pr_count = EXCLUDED.merged_pr_count;
@@ -0,0 +1,3 @@
+-- requested_at now carries the scheduler's cron fire time instead of the DB minute the
+-- replica seeded in, so replicas firing on either side of a minute boundary share one run.
+COMMENT ON COLUMN sync_work_items.requested_at IS 'Scheduler fire time of the run that last requested this config';
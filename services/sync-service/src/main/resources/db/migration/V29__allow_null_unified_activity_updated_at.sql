@@ -0,0 +1,6 @@
+-- unified_activities.updated_at is the SOURCE update time. Activities whose source has none were
+-- stamped with the sync time, so every re-sync looked like a timestamp change: the conditional
+-- upsert rewrote the row and change_xid resent it on the delta feed.
+-- They are now staged as NULL and the upsert keeps the stored value (COALESCE), so the column
+-- must accept NULL for rows first inserted without one.
+ALTER TABLE unified_activities ALTER COLUMN updated_at DROP NOT NULL;
@@ -0,0 +1,293 @@
+package com.example.syncservice.client.external;
+
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.dto.GithubCommitFetchResult;
+import com.example.syncservice.service.FallbackSignal;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubClientTest {
+
+    @Test
+    void fetchCommits_notModified_shortCircuitsWithoutDetailCalls() {
+        List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        ExchangeFunction exchangeFunction = request -> {
+            requests.add(request);
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+        };
+
+        GithubClient githubClient = newClient(exchangeFunction);
+
+        GithubCommitFetchResult result = githubClient.fetchCommits(
+                "https://github.com/octo/repo",
+                "token-123",
+                100,
+                LocalDateTime.of(2026, 3, 9, 10, 0),
+                GithubClient.HttpValidator.of("\"etag-1\"", null),
+                Set.of());
+
+        assertThat(result.isNotModified()).isTrue();
+        assertThat(result.getCommits()).isEmpty();
+        assertThat(result.getEtag()).isEqualTo("\"etag-1\"");
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"etag-1\"");
+        assertThat(requests.get(0).url().getQuery()).contains("since=2026-03-09T10:00:00Z");
+    }
+
+    @Test
+    void fetchCommits_skipsDetailEnrichmentForKnownShas() {
+        List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        ExchangeFunction exchangeFunction = request -> {
+            requests.add(request);
+            String path = request.url().getPath();
+            String payload;
+            if (path.endsWith("/commits")) {
+                payload = """
+                        [
+                          { "sha": "known1", "commit": { "message": "old", "author": { "date": "2026-03-09T10:00:00Z" } } },
+                          { "sha": "new1", "commit": { "message": "new", "author": { "date": "2026-03-09T11:00:00Z" } } }
+                        ]
+                        """;
+            } else {
+                payload = """
+                        { "sha": "new1", "commit": { "message": "new", "author": { "date": "2026-03-09T11:00:00Z" } },
+                          "stats": { "additions": 5, "deletions": 1, "total": 6 } }
+                        """;
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ETAG, "\"etag-2\"")
+                    .body(payload)
+                    .build());
+        };
+
+        GithubClient githubClient = newClient(exchangeFunction);
+
+        GithubCommitFetchResult result = githubClient.fetchCommits(
+                "https://github.com/octo/repo", "token-123", 100, null, null, Set.of("known1"));
+
+        assertThat(result.getCommits()).extracting("sha").containsExactly("new1");
+        assertThat(result.getCommits().get(0).getStats().getAdditions()).isEqualTo(5);
+        assertThat(result.getSkippedKnownCommits()).isEqualTo(1);
+        assertThat(result.getEtag()).isEqualTo("\"etag-2\"");
+        assertThat(requests).extracting(r -> r.url().getPath())
+                .containsExactly("/repos/octo/repo/commits", "/repos/octo/repo/commits/new1");
+    }
+
+    @Test
+    void fetchCommits_graphqlStrategy_returnsEnrichedCommitsWithoutDetailCalls() {
+        List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        ExchangeFunction exchangeFunction = request -> {
+            requests.add(request);
+            String payload = requests.size() == 1
+                    ? """
+                    { "data": { "repository": { "defaultBranchRef": { "target": { "history": {
+                        "pageInfo": { "hasNextPage": true, "endCursor": "cursor-1" },
+                        "nodes": [
+                          { "oid": "known1", "message": "old", "additions": 1, "deletions": 0, "changedFilesIfAvailable": 1,
+                            "author": { "name": "Octo", "email": "octo@example.com", "date": "2026-03-09T10:00:00Z", "user": { "login": "octo" } } },
+                          { "oid": "new1", "message": "new", "additions": 5, "deletions": 1, "changedFilesIfAvailable": 3,
+                            "author": { "name": "Octo", "email": "octo@example.com", "date": "2026-03-09T11:00:00Z", "user": { "login": "octo" } } }
+                        ] } } } } } }
+                    """
+                    : """
+                    { "data": { "repository": { "defaultBranchRef": { "target": { "history": {
+                        "pageInfo": { "hasNextPage": false, "endCursor": "cursor-2" },
+                        "nodes": [
+                          { "oid": "new2", "message": "newer", "additions": 2, "deletions": 2, "changedFilesIfAvailable": null,
+                            "author": { "name": "Cat", "email": "cat@example.com", "date": "2026-03-09T12:00:00Z", "user": null } }
+                        ] } } } } } }
+                    """;
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(payload)
+                    .build());
+        };
+
+        SyncProperties properties = new SyncProperties();
+        properties.getGithub().setFetchStrategy(SyncProperties.FetchStrategy.GRAPHQL);
+        GithubClient githubClient = newClient(exchangeFunction, properties);
+
+        GithubCommitFetchResult result = githubClient.fetchCommits(
+                "https://github.com/octo/repo", "token-123", 100, null, null, Set.of("known1"));
+
+        assertThat(result.getCommits()).extracting("sha").containsExactly("new1", "new2");
+        assertThat(result.getCommits().get(0).getStats().getTotal()).isEqualTo(6);
+        assertThat(result.getCommits().get(0).getChangedFiles()).isEqualTo(3);
+        assertThat(result.getCommits().get(0).getAuthor().getLogin()).isEqualTo("octo");
+        assertThat(result.getCommits().get(1).getAuthor()).isNull();
+        assertThat(result.getSkippedKnownCommits()).isEqualTo(1);
+        assertThat(result.getPagesFetched()).isEqualTo(2);
+        assertThat(result.isNotModified()).isFalse();
+        assertThat(requests).extracting(r -> r.url().getPath()).containsExactly("/graphql", "/graphql");
+        assertThat(requests).extracting(r -> r.method().name()).containsOnly("POST");
+    }
+
+    @Test
+    void fetchCommits_graphqlStrategy_mapsNotFoundErrorToRepositoryNotFound() {
+        ExchangeFunction exchangeFunction = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("""
+                        { "data": { "repository": null },
+                          "errors": [ { "type": "NOT_FOUND", "message": "Could not resolve to a Repository" } ] }
+                        """)
+                .build());
+
+        SyncProperties properties = new SyncProperties();
+        properties.getGithub().setFetchStrategy(SyncProperties.FetchStrategy.GRAPHQL);
+        GithubClient githubClient = newClient(exchangeFunction, properties);
+
+        assertThatThrownBy(() -> githubClient.fetchCommits(
+                "https://github.com/octo/missing", "token-123", 100, null, null, Set.of()))
+                .isInstanceOf(GithubClient.RepositoryNotFoundException.class);
+    }
+
+    @Test
+    void streamCommits_resumesAtCheckpointPage_andDeliversEachPageBeforeNextRequest() {
+        List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        List<String> events = new CopyOnWriteArrayList<>();
+        ExchangeFunction exchangeFunction = request -> {
+            requests.add(request);
+            String query = request.url().getQuery();
+            events.add("GET " + request.url().getPath() + (query != null ? "?" + query : ""));
+            String path = request.url().getPath();
+            String payload;
+            if (path.endsWith("/commits")) {
+                payload = query.endsWith("&page=3")
+                        ? "[ { \"sha\": \"c3\", \"commit\": { \"message\": \"m\" } } ]"
+                        : "[]";
+            } else {
+                payload = "{ \"sha\": \"c3\", \"stats\": { \"additions\": 1, \"deletions\": 1, \"total\": 2 } }";
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(payload)
+                    .build());
+        };
+
+        GithubClient githubClient = newClient(exchangeFunction);
+        List<Integer> deliveredPages = new CopyOnWriteArrayList<>();
+
+        GithubCommitFetchResult result = githubClient.streamCommits(
+                "https://github.com/octo/repo", "token-123", 1, null,
+                GithubClient.HttpValidator.of("\"etag-1\"", null), Set.of(),
+                GithubClient.PageCursor.after(2, null),
+                (pageNumber, commits, nextCursor) -> {
+                    deliveredPages.add(pageNumber);
+                    events.add("PAGE " + pageNumber + " size=" + commits.size());
+                });
+
+        assertThat(deliveredPages).containsExactly(3);
+        assertThat(result.getCommits()).isEmpty();
+        assertThat(result.getPagesFetched()).isEqualTo(2);
+        assertThat(requests.get(0).url().getQuery()).contains("page=3");
+        // Validators only belong to page 1
+        assertThat(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isNull();
+        assertThat(events).containsExactly(
+                "GET /repos/octo/repo/commits?per_page=1&page=3",
+                "GET /repos/octo/repo/commits/c3",
+                "PAGE 3 size=1",
+                "GET /repos/octo/repo/commits?per_page=1&page=4");
+    }
+
+    @Test
+    void streamCommits_handlerFailure_isSurfacedAsPageHandlerException() {
+        ExchangeFunction exchangeFunction = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[ { \"sha\": \"known1\" } ]")
+                .build());
+
+        GithubClient githubClient = newClient(exchangeFunction);
+
+        assertThatThrownBy(() -> githubClient.streamCommits(
+                "https://github.com/octo/repo", "token-123", 100, null, null, Set.of("known1"),
+                GithubClient.PageCursor.FIRST,
+                (pageNumber, commits, nextCursor) -> {
+                    throw new IllegalStateException("db down");
+                }))
+                .isInstanceOf(PageHandlerException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void streamCommits_transientFailure_retriesAfterLastDeliveredPage() {
+        List<String> listings = new CopyOnWriteArrayList<>();
+        AtomicInteger page2Attempts = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            String path = request.url().getPath();
+            String query = request.url().getQuery();
+            if (!path.endsWith("/commits")) {
+                String sha = path.substring(path.lastIndexOf('/') + 1);
+                return Mono.just(json("{ \"sha\": \"" + sha + "\", \"stats\": { \"additions\": 1, \"deletions\": 0, \"total\": 1 } }"));
+            }
+            listings.add(query);
+            if (query.endsWith("&page=2") && page2Attempts.getAndIncrement() == 0) {
+                return Mono.error(new WebClientRequestException(new ConnectException("connection reset"),
+                        HttpMethod.GET, request.url(), new HttpHeaders()));
+            }
+            return Mono.just(json(query.endsWith("&page=1") ? "[ { \"sha\": \"c1\" } ]"
+                    : query.endsWith("&page=2") ? "[ { \"sha\": \"c2\" } ]"
+                    : "[]"));
+        };
+
+        GithubClient githubClient = newClient(exchangeFunction);
+        List<Integer> deliveredPages = new CopyOnWriteArrayList<>();
+
+        githubClient.streamCommits(
+                "https://github.com/octo/repo", "token-123", 1, null, null, Set.of(),
+                GithubClient.PageCursor.FIRST,
+                (pageNumber, commits, nextCursor) -> deliveredPages.add(pageNumber));
+
+        // Page 1 was committed before the failure: it is neither fetched nor delivered again
+        assertThat(deliveredPages).containsExactly(1, 2);
+        assertThat(listings).containsExactly(
+                "per_page=1&page=1", "per_page=1&page=2", "per_page=1&page=2", "per_page=1&page=3");
+    }
+
+    private GithubClient newClient(ExchangeFunction exchangeFunction) {
+        return newClient(exchangeFunction, new SyncProperties());
+    }
+
+    private GithubClient newClient(ExchangeFunction exchangeFunction, SyncProperties properties) {
+        return new GithubClient(
+                WebClient.builder().exchangeFunction(exchangeFunction).build(),
+                new FallbackSignal(),
+                RateLimiterRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(2)
+                        .waitDuration(Duration.ofMillis(1))
+                        .retryExceptions(WebClientRequestException.class)
+                        .build()),
+                properties);
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.syncservice.client.external;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubRateLimitTrackerTest {
+
+    private final GithubRateLimitTracker tracker = new GithubRateLimitTracker(100, Duration.ofSeconds(60));
+
+    @Test
+    void noDelay_whenBudgetAboveLowWatermark() {
+        tracker.update("token", headers(4000, Instant.now().plusSeconds(600)));
+
+        assertThat(tracker.reserveNextRequest("token")).isZero();
+        assertThat(tracker.reserveNextRequest("other-token")).isZero();
+    }
+
+    @Test
+    void spreadsRemainingBudget_untilReset() {
+        tracker.update("token", headers(10, Instant.now().plusSeconds(100)));
+
+        Duration delay = tracker.reserveNextRequest("token");
+
+        assertThat(delay).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void exhaustedBudget_failsWhenResetTooFarAway() {
+        tracker.update("token", headers(0, Instant.now().plusSeconds(3600)));
+
+        assertThatThrownBy(() -> tracker.reserveNextRequest("token"))
+                .isInstanceOf(GithubClient.RateLimitExceededException.class);
+    }
+
+    @Test
+    void concurrentReservations_getDistinctSlots() throws Exception {
+        tracker.update("token", headers(10, Instant.now().plusSeconds(100)));
+
+        List<Duration> delays = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Duration>> reservations = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                reservations.add(executor.submit(() -> tracker.reserveNextRequest("token")));
+            }
+            for (Future<Duration> reservation : reservations) {
+                delays.add(reservation.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        delays.sort(Comparator.naturalOrder());
+        // ~10s, ~20s, ~31s, ~43s: each slot follows the previous one and spends one unit of budget
+        for (int i = 1; i < delays.size(); i++) {
+            assertThat(delays.get(i).minus(delays.get(i - 1))).isGreaterThan(Duration.ofSeconds(8));
+        }
+        assertThat(tracker.remaining("token")).isEqualTo(6);
+    }
+
+    @Test
+    void headerUpdate_keepsReservedSlots() {
+        tracker.update("token", headers(10, Instant.now().plusSeconds(100)));
+        Duration first = tracker.reserveNextRequest("token");
+
+        tracker.update("token", headers(10, Instant.now().plusSeconds(100)));
+
+        assertThat(tracker.reserveNextRequest("token")).isGreaterThan(first.plus(Duration.ofSeconds(8)));
+    }
+
+    private HttpHeaders headers(long remaining, Instant reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(GithubRateLimitTracker.REMAINING_HEADER, Long.toString(remaining));
+        headers.set(GithubRateLimitTracker.RESET_HEADER, Long.toString(reset.getEpochSecond()));
+        return headers;
+    }
+}
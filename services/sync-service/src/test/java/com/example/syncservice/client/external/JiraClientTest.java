@@ -1,20 +1,36 @@
 package com.example.syncservice.client.external;
 
 import com.example.syncservice.dto.JiraIssueDto;
+import com.example.syncservice.dto.JiraIssueFetchResult;
 import com.example.syncservice.service.FallbackSignal;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,7 +79,8 @@ class JiraClientTest {
 
         JiraClient jiraClient = new JiraClient(
                 WebClient.builder().exchangeFunction(exchangeFunction).build(),
-                new FallbackSignal());
+                new FallbackSignal(),
+                retryRegistry());
 
         List<JiraIssueDto> issues = jiraClient.fetchIssues("https://example.atlassian.net", "user@example.com", "token-123", 50);
 
@@ -75,4 +92,115 @@ class JiraClientTest {
         assertThat(issues).hasSize(1);
         assertThat(issues.get(0).getFields().getDescription()).contains("Line one").contains("Line two");
     }
-}
\ No newline at end of file
+
+    @Test
+    void fetchIssuesUpdatedSince_followsNextPageToken_andFiltersByWatermark() {
+        List<String> requestBodies = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            int call = calls.incrementAndGet();
+            String payload = call == 1
+                    ? """
+                    { "issues": [ { "id": "1", "key": "SAMT-1", "fields": { "summary": "One", "updated": "2026-03-09T10:05:00Z" } } ],
+                      "nextPageToken": "page-2", "isLast": false }
+                    """
+                    : """
+                    { "issues": [ { "id": "2", "key": "SAMT-2", "fields": { "summary": "Two", "updated": "2026-03-09T10:06:00Z" } } ],
+                      "isLast": true }
+                    """;
+            return captureBody(request, requestBodies)
+                    .then(Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(payload)
+                            .build()));
+        };
+
+        JiraClient jiraClient = new JiraClient(
+                WebClient.builder().exchangeFunction(exchangeFunction).build(),
+                new FallbackSignal(),
+                retryRegistry());
+
+        JiraIssueFetchResult result = jiraClient.fetchIssuesUpdatedSince(
+                "https://example.atlassian.net", "user@example.com", "token-123", 1,
+                LocalDateTime.of(2026, 3, 9, 10, 0));
+
+        assertThat(result.getIssues()).extracting(JiraIssueDto::getKey).containsExactly("SAMT-1", "SAMT-2");
+        assertThat(result.getPagesFetched()).isEqualTo(2);
+        assertThat(requestBodies.get(0)).contains("updated >= \\\"2026-03-09 10:00\\\" ORDER BY updated ASC");
+        assertThat(requestBodies.get(0)).doesNotContain("nextPageToken");
+        assertThat(requestBodies.get(1)).contains("\"nextPageToken\":\"page-2\"");
+    }
+
+    @Test
+    void streamIssuesUpdatedSince_transientFailure_retriesFromLastDeliveredPageToken() {
+        List<String> requestBodies = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            int call = calls.incrementAndGet();
+            if (call == 2) {
+                return Mono.error(new WebClientRequestException(new ConnectException("connection reset"),
+                        HttpMethod.POST, request.url(), new HttpHeaders()));
+            }
+            String payload = call == 1
+                    ? """
+                    { "issues": [ { "id": "1", "key": "SAMT-1", "fields": { "summary": "One", "updated": "2026-03-09T10:05:00Z" } } ],
+                      "nextPageToken": "page-2", "isLast": false }
+                    """
+                    : """
+                    { "issues": [ { "id": "2", "key": "SAMT-2", "fields": { "summary": "Two", "updated": "2026-03-09T10:06:00Z" } } ],
+                      "isLast": true }
+                    """;
+            return captureBody(request, requestBodies)
+                    .then(Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(payload)
+                            .build()));
+        };
+
+        JiraClient jiraClient = new JiraClient(
+                WebClient.builder().exchangeFunction(exchangeFunction).build(),
+                new FallbackSignal(),
+                retryRegistry());
+        List<String> delivered = new CopyOnWriteArrayList<>();
+
+        JiraIssueFetchResult result = jiraClient.streamIssuesUpdatedSince(
+                "https://example.atlassian.net", "user@example.com", "token-123", 1, null,
+                (pageNumber, issues, nextCursor) -> issues.forEach(issue -> delivered.add(pageNumber + ":" + issue.getKey())));
+
+        // SAMT-1 was committed before the failure: the retry continues with its nextPageToken
+        assertThat(delivered).containsExactly("1:SAMT-1", "2:SAMT-2");
+        assertThat(result.getPagesFetched()).isEqualTo(2);
+        assertThat(requestBodies).hasSize(2);
+        assertThat(requestBodies.get(1)).contains("\"nextPageToken\":\"page-2\"");
+    }
+
+    private static RetryRegistry retryRegistry() {
+        return RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(WebClientRequestException.class)
+                .build());
+    }
+
+    private Mono<Void> captureBody(ClientRequest request, List<String> sink) {
+        MockClientHttpRequest httpRequest = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert(httpRequest, new BodyInserter.Context() {
+                    @Override
+                    public List<HttpMessageWriter<?>> messageWriters() {
+                        return ExchangeStrategies.withDefaults().messageWriters();
+                    }
+
+                    @Override
+                    public Optional<ServerHttpRequest> serverRequest() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Map<String, Object> hints() {
+                        return Map.of();
+                    }
+                })
+                .then(Mono.defer(() -> httpRequest.getBodyAsString().doOnNext(sink::add)))
+                .then();
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.syncservice.client.grpc;
+
+import com.example.syncservice.dto.ProjectStatsRow;
+import com.example.syncservice.dto.SyncReadFilter;
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.repository.GithubCommitRepository;
+import com.example.syncservice.repository.JiraIssueRepository;
+import com.example.syncservice.repository.SyncProjectStatsRepository;
+import com.example.syncservice.repository.UnifiedActivityRepository;
+import com.example.syncservice.service.SyncDeltaService;
+import com.example.syncservice.service.SyncReadStreamService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncGrpcServiceTest {
+
+    private final JiraIssueRepository jiraIssueRepository = mock(JiraIssueRepository.class);
+    private final SyncReadStreamService syncReadStreamService = mock(SyncReadStreamService.class);
+    private final SyncDeltaService syncDeltaService = mock(SyncDeltaService.class);
+    private final SyncProjectStatsRepository syncProjectStatsRepository = mock(SyncProjectStatsRepository.class);
+    private final SyncGrpcService service = new SyncGrpcService(jiraIssueRepository,
+            mock(GithubCommitRepository.class), mock(UnifiedActivityRepository.class), syncReadStreamService,
+            syncDeltaService, syncProjectStatsRepository);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamIssues_sendsOneMessagePerChunk() {
+        UUID configId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<List<JiraIssue>> consumer = invocation.getArgument(2);
+            consumer.accept(issues(1, 2));
+            consumer.accept(issues(3, 3));
+            return 3L;
+        }).when(syncReadStreamService).forEachIssueChunk(eq(configId), eq(2), any());
+        ServerCallStreamObserver<IssueListResponse> observer = readyObserver();
+
+        service.streamIssuesByProjectConfig(ProjectConfigStreamRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).setChunkSize(2).build(), observer);
+
+        ArgumentCaptor<IssueListResponse> messages = ArgumentCaptor.forClass(IssueListResponse.class);
+        verify(observer, times(2)).onNext(messages.capture());
+        assertThat(messages.getAllValues()).extracting(IssueListResponse::getIssuesCount).containsExactly(2, 1);
+        verify(observer).onCompleted();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamIssues_stopsWithCancelled_whenClientIsGone() {
+        UUID configId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<List<JiraIssue>> consumer = invocation.getArgument(2);
+            consumer.accept(issues(1, 1));
+            return 1L;
+        }).when(syncReadStreamService).forEachIssueChunk(eq(configId), anyInt(), any());
+        ServerCallStreamObserver<IssueListResponse> observer = mock(ServerCallStreamObserver.class);
+        when(observer.isReady()).thenReturn(false);
+        when(observer.isCancelled()).thenReturn(true);
+
+        service.streamIssuesByProjectConfig(ProjectConfigStreamRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).build(), observer);
+
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(observer, never()).onNext(any());
+        verify(observer).onError(error.capture());
+        assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.CANCELLED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamIssues_withOptions_selectsMaskedColumnsAndPushesFilter() {
+        UUID configId = UUID.randomUUID();
+        ArgumentCaptor<SyncReadFilter> filter = ArgumentCaptor.forClass(SyncReadFilter.class);
+        ArgumentCaptor<List<String>> attributes = ArgumentCaptor.forClass(List.class);
+        doAnswer(invocation -> {
+            Consumer<List<Tuple>> consumer = invocation.getArgument(5);
+            consumer.accept(List.of(tuple(Map.of("id", 1L, "issueId", "10001", "issueKey", "SAMT-1", "status", "Done"))));
+            return 1L;
+        }).when(syncReadStreamService).forEachProjectedChunk(eq(JiraIssue.class), eq(configId), filter.capture(),
+                attributes.capture(), eq(2), any());
+        ServerCallStreamObserver<IssueListResponse> observer = readyObserver();
+
+        service.streamIssuesByProjectConfig(ProjectConfigStreamRequest.newBuilder()
+                .setProjectConfigId(configId.toString())
+                .setChunkSize(2)
+                .setOptions(ReadOptions.newBuilder()
+                        .addFields("status")
+                        .setAuthorEmail("Member@Example.com")
+                        .setFromDate("2026-03-01")
+                        .build())
+                .build(), observer);
+
+        assertThat(attributes.getValue()).containsExactly("issueId", "issueKey", "status");
+        assertThat(filter.getValue().authorEmail()).isEqualTo("Member@Example.com");
+        assertThat(filter.getValue().from()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(filter.getValue().to()).isNull();
+
+        ArgumentCaptor<IssueListResponse> message = ArgumentCaptor.forClass(IssueListResponse.class);
+        verify(observer).onNext(message.capture());
+        IssueResponse issue = message.getValue().getIssues(0);
+        assertThat(issue.getIssueKey()).isEqualTo("SAMT-1");
+        assertThat(issue.getStatus()).isEqualTo("Done");
+        assertThat(issue.getSummary()).isEmpty();
+        verify(observer).onCompleted();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamIssues_rejectsUnknownFieldOrBadDate_beforeReading() {
+        ServerCallStreamObserver<IssueListResponse> unknownField = readyObserver();
+        ServerCallStreamObserver<IssueListResponse> badDate = readyObserver();
+
+        service.streamIssuesByProjectConfig(ProjectConfigStreamRequest.newBuilder()
+                .setProjectConfigId(UUID.randomUUID().toString())
+                .setOptions(ReadOptions.newBuilder().addFields("storyPoints").build())
+                .build(), unknownField);
+        service.streamIssuesByProjectConfig(ProjectConfigStreamRequest.newBuilder()
+                .setProjectConfigId(UUID.randomUUID().toString())
+                .setOptions(ReadOptions.newBuilder().setFromDate("01/03/2026").build())
+                .build(), badDate);
+
+        for (ServerCallStreamObserver<IssueListResponse> observer : List.of(unknownField, badDate)) {
+            ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+            verify(observer).onError(error.capture());
+            assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        }
+        verify(syncReadStreamService, never()).forEachProjectedChunk(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issuesPage_returnsTokenOfLastRow_onlyWhenMoreRowsExist() {
+        UUID configId = UUID.randomUUID();
+        when(jiraIssueRepository.findActivePageAfter(configId, 0L, Limit.of(3))).thenReturn(issues(1, 3));
+        when(jiraIssueRepository.findActivePageAfter(configId, 2L, Limit.of(3))).thenReturn(issues(3, 3));
+        ServerCallStreamObserver<IssuePageResponse> observer = readyObserver();
+
+        service.getIssuesPageByProjectConfig(ProjectConfigPageRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).setPageSize(2).build(), observer);
+        service.getIssuesPageByProjectConfig(ProjectConfigPageRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).setPageSize(2).setPageToken("2").build(), observer);
+
+        ArgumentCaptor<IssuePageResponse> pages = ArgumentCaptor.forClass(IssuePageResponse.class);
+        verify(observer, times(2)).onNext(pages.capture());
+        assertThat(pages.getAllValues().get(0).getIssuesCount()).isEqualTo(2);
+        assertThat(pages.getAllValues().get(0).getNextPageToken()).isEqualTo("2");
+        assertThat(pages.getAllValues().get(1).getIssuesCount()).isEqualTo(1);
+        assertThat(pages.getAllValues().get(1).getNextPageToken()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issuesPage_rejectsMalformedToken() {
+        ServerCallStreamObserver<IssuePageResponse> observer = readyObserver();
+
+        service.getIssuesPageByProjectConfig(ProjectConfigPageRequest.newBuilder()
+                .setProjectConfigId(UUID.randomUUID().toString()).setPageToken("not-a-token").build(), observer);
+
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(observer).onError(error.capture());
+        assertThat(((StatusRuntimeException) error.getValue()).getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issueChanges_splitsUpsertsAndTombstones() {
+        UUID configId = UUID.randomUUID();
+        List<JiraIssue> changed = issues(1, 2);
+        changed.get(1).setDeletedAt(LocalDateTime.of(2026, 3, 1, 10, 0));
+        when(syncDeltaService.issueChangesSince(configId, "100:0", 0))
+                .thenReturn(new SyncDeltaService.Delta<>(changed, "120:0", false));
+        ServerCallStreamObserver<IssueChangesResponse> observer = readyObserver();
+
+        service.getIssueChangesSince(ChangesSinceRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).setSinceVersion("100:0").build(), observer);
+
+        ArgumentCaptor<IssueChangesResponse> response = ArgumentCaptor.forClass(IssueChangesResponse.class);
+        verify(observer).onNext(response.capture());
+        assertThat(response.getValue().getUpsertsList()).extracting(IssueResponse::getIssueKey).containsExactly("SAMT-1");
+        assertThat(response.getValue().getDeletesList()).extracting(IssueTombstone::getIssueKey).containsExactly("SAMT-2");
+        assertThat(response.getValue().getNextVersion()).isEqualTo("120:0");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issueChanges_rejectsMalformedVersion() {
+        UUID configId = UUID.randomUUID();
+        when(syncDeltaService.issueChangesSince(configId, "garbage", 0))
+                .thenThrow(new IllegalArgumentException("Malformed change version: garbage"));
+        ServerCallStreamObserver<IssueChangesResponse> observer = readyObserver();
+
+        service.getIssueChangesSince(ChangesSinceRequest.newBuilder()
+                .setProjectConfigId(configId.toString()).setSinceVersion("garbage").build(), observer);
+
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(observer).onError(error.capture());
+        assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void projectStats_returnsEveryRequestedConfig_withAuthorsNested() {
+        UUID syncedConfig = UUID.randomUUID();
+        UUID newConfig = UUID.randomUUID();
+        LocalDateTime refreshedAt = LocalDateTime.of(2026, 3, 2, 8, 0);
+        when(syncProjectStatsRepository.findByProjectConfigIds(any(), eq(true))).thenReturn(List.of(
+                new ProjectStatsRow(syncedConfig, ProjectStatsRow.WHOLE_CONFIG, 12, 5, 40, 6, 4, refreshedAt),
+                new ProjectStatsRow(syncedConfig, "alice@example.com", 7, 3, 25, 4, 3, refreshedAt)));
+        ServerCallStreamObserver<ProjectStatsResponse> observer = readyObserver();
+
+        service.getProjectStats(ProjectStatsRequest.newBuilder()
+                .addProjectConfigIds(syncedConfig.toString())
+                .addProjectConfigIds(newConfig.toString())
+                .setIncludeAuthors(true)
+                .build(), observer);
+
+        ArgumentCaptor<ProjectStatsResponse> response = ArgumentCaptor.forClass(ProjectStatsResponse.class);
+        verify(observer).onNext(response.capture());
+        ProjectStats synced = response.getValue().getStats(0);
+        assertThat(synced.getTaskCount()).isEqualTo(12);
+        assertThat(synced.getCommitCount()).isEqualTo(40);
+        assertThat(synced.getAuthorsList()).extracting(AuthorStats::getAuthorEmail).containsExactly("alice@example.com");
+        ProjectStats unsynced = response.getValue().getStats(1);
+        assertThat(unsynced.getProjectConfigId()).isEqualTo(newConfig.toString());
+        assertThat(unsynced.getTaskCount()).isZero();
+        assertThat(unsynced.getUpdatedAt()).isEmpty();
+    }
+
+    @Test
+    void chunkAndPageSizes_areDefaultedAndCapped() {
+        assertThat(SyncGrpcService.chunkSize(0)).isEqualTo(SyncGrpcService.DEFAULT_CHUNK_SIZE);
+        assertThat(SyncGrpcService.chunkSize(1_000_000)).isEqualTo(SyncGrpcService.MAX_CHUNK_SIZE);
+        assertThat(SyncGrpcService.pageSize(-1)).isEqualTo(SyncGrpcService.DEFAULT_PAGE_SIZE);
+        assertThat(SyncGrpcService.pageSize(1_000_000)).isEqualTo(SyncGrpcService.MAX_PAGE_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ServerCallStreamObserver<T> readyObserver() {
+        ServerCallStreamObserver<T> observer = mock(ServerCallStreamObserver.class);
+        when(observer.isReady()).thenReturn(true);
+        return observer;
+    }
+
+    private static Tuple tuple(Map<String, Object> values) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(tuple.get(anyString(), eq(Long.class))).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        return tuple;
+    }
+
+    private static List<JiraIssue> issues(long fromId, long toId) {
+        List<JiraIssue> issues = new ArrayList<>();
+        LongStream.rangeClosed(fromId, toId).forEach(id -> issues.add(JiraIssue.builder()
+                .id(id)
+                .issueId(String.valueOf(10_000 + id))
+                .issueKey("SAMT-" + id)
+                .summary("Issue " + id)
+                .build()));
+        return issues;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.syncservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadTaskExecutorTest {
+
+    private VirtualThreadTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        MDC.clear();
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void runsOnVirtualThread_withMdcOfSubmitter() throws InterruptedException {
+        executor = new VirtualThreadTaskExecutor(4, 10, "sync-", new AsyncConfig.MdcTaskDecorator(), 5);
+        AtomicReference<String> correlationId = new AtomicReference<>();
+        AtomicReference<Boolean> virtual = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        MDC.put("correlationId", "SYNC-1234");
+        executor.execute(() -> {
+            correlationId.set(MDC.get("correlationId"));
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(correlationId.get()).isEqualTo("SYNC-1234");
+        assertThat(virtual.get()).isTrue();
+    }
+
+    @Test
+    void capsRunningTasks_atMaxConcurrency() throws InterruptedException {
+        executor = new VirtualThreadTaskExecutor(3, 100, "sync-", null, 5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(30);
+
+        for (int i = 0; i < 30; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(3);
+        // The last permits are released after the task body counted down
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(executor.getActiveCount()).isZero());
+    }
+
+    @Test
+    void rejects_whenRunningAndWaitingSlotsAreFull() throws InterruptedException {
+        executor = new VirtualThreadTaskExecutor(1, 1, "sync-", null, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blocking);   // running
+        executor.execute(blocking);   // waiting
+
+        assertThatThrownBy(() -> executor.execute(blocking)).isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.getWaitingCount()).isEqualTo(1);
+        release.countDown();
+    }
+}
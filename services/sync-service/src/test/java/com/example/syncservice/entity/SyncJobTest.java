@@ -0,0 +1,37 @@
+package com.example.syncservice.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncJobTest {
+
+    private final LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(15);
+
+    @Test
+    void failedJobsWithCommittedPages_areResumable() {
+        assertThat(job(SyncJob.JobStatus.FAILED, 3, null).isResumable(staleBefore)).isTrue();
+        assertThat(job(SyncJob.JobStatus.PARTIAL_FAILURE, 3, null).isResumable(staleBefore)).isTrue();
+        assertThat(job(SyncJob.JobStatus.FAILED, 0, null).isResumable(staleBefore)).isFalse();
+        assertThat(job(SyncJob.JobStatus.COMPLETED, 3, null).isResumable(staleBefore)).isFalse();
+    }
+
+    @Test
+    void runningJob_isResumableOnlyOnceItStoppedCheckpointing() {
+        // Still checkpointing, possibly on another replica
+        assertThat(job(SyncJob.JobStatus.RUNNING, 3, LocalDateTime.now().minusMinutes(1)).isResumable(staleBefore)).isFalse();
+        assertThat(job(SyncJob.JobStatus.RUNNING, 3, LocalDateTime.now().minusHours(1)).isResumable(staleBefore)).isTrue();
+    }
+
+    private SyncJob job(SyncJob.JobStatus status, int pagesCommitted, LocalDateTime lastCheckpoint) {
+        SyncJob job = SyncJob.builder()
+                .status(status)
+                .pagesCommitted(pagesCommitted)
+                .startedAt(LocalDateTime.now().minusHours(2))
+                .build();
+        job.setUpdatedAt(lastCheckpoint);
+        return job;
+    }
+}
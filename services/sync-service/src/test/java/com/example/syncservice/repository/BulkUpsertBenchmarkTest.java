@@ -0,0 +1,215 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.dto.UpsertResult;
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.UnifiedActivity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK: multi-row INSERT ... VALUES vs COPY + merge
+ *
+ * Loads the same number of rows through both write paths on a real PostgreSQL container
+ * and prints rows/sec. Timing is reported, not asserted (CI machines vary);
+ * correctness of the COPY path (counts, idempotency, last-row-wins) is asserted.
+ */
+@DataJpaTest(properties = {"spring.main.allow-bean-definition-overriding=true"},
+             excludeAutoConfiguration = {FlywayAutoConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UnifiedActivityRepositoryImpl.class, GithubCommitRepositoryImpl.class})
+class BulkUpsertBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private UnifiedActivityRepositoryImpl unifiedActivityRepositoryImpl;
+
+    @Autowired
+    private GithubCommitRepositoryImpl githubCommitRepositoryImpl;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM unified_activities");
+        jdbcTemplate.execute("DELETE FROM github_commits");
+    }
+
+    /**
+     * TEST 1: unified_activities rows/sec, both paths
+     */
+    @Test
+    void benchmark_unifiedActivities_multiValuesVsCopy() {
+        List<UnifiedActivity> valuesRows = generateActivities(UUID.randomUUID(), ROWS);
+        List<UnifiedActivity> copyRows = generateActivities(UUID.randomUUID(), ROWS);
+
+        // Warm-up so JIT/connection setup does not skew the first measured path
+        unifiedActivityRepositoryImpl.upsertBatchMultiValues(generateActivities(UUID.randomUUID(), 500));
+        unifiedActivityRepositoryImpl.upsertBatchCopy(generateActivities(UUID.randomUUID(), 500));
+
+        int valuesAffected = measure("unified_activities VALUES", valuesRows, unifiedActivityRepositoryImpl::upsertBatchMultiValues);
+        int copyAffected = measure("unified_activities COPY  ", copyRows, unifiedActivityRepositoryImpl::upsertBatchCopy);
+
+        assertThat(valuesAffected).isEqualTo(ROWS);
+        assertThat(copyAffected).isEqualTo(ROWS);
+    }
+
+    /**
+     * TEST 2: github_commits rows/sec, both paths
+     */
+    @Test
+    void benchmark_githubCommits_multiValuesVsCopy() {
+        List<GithubCommit> valuesRows = generateCommits(UUID.randomUUID(), ROWS);
+        List<GithubCommit> copyRows = generateCommits(UUID.randomUUID(), ROWS);
+
+        githubCommitRepositoryImpl.upsertBatchMultiValues(generateCommits(UUID.randomUUID(), 500));
+        githubCommitRepositoryImpl.upsertBatchCopy(generateCommits(UUID.randomUUID(), 500));
+
+        int valuesAffected = measure("github_commits VALUES", valuesRows, githubCommitRepositoryImpl::upsertBatchMultiValues);
+        int copyAffected = measure("github_commits COPY  ", copyRows, githubCommitRepositoryImpl::upsertBatchCopy);
+
+        assertThat(valuesAffected).isEqualTo(ROWS);
+        assertThat(copyAffected).isEqualTo(ROWS);
+    }
+
+    /**
+     * TEST 3: COPY path is idempotent and keeps the LAST duplicate of a key
+     */
+    @Test
+    void copyPath_isIdempotent_andLastDuplicateWins() {
+        UUID projectConfigId = UUID.randomUUID();
+        List<GithubCommit> commits = generateCommits(projectConfigId, 1000);
+
+        GithubCommit duplicate = generateCommits(projectConfigId, 1).get(0);
+        duplicate.setMessage("edited \"quoted\", with comma\nand newline");
+        duplicate.setAuthorLogin(null);
+        commits.add(duplicate);
+
+        int first = githubCommitRepositoryImpl.upsertBatchCopy(commits);
+        int second = githubCommitRepositoryImpl.upsertBatchCopy(commits);
+
+        assertThat(first).isEqualTo(1000);
+        assertThat(second).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM github_commits WHERE project_config_id = ?", Long.class, projectConfigId))
+                .isEqualTo(1000L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT message FROM github_commits WHERE project_config_id = ? AND commit_sha = ?",
+                String.class, projectConfigId, duplicate.getCommitSha()))
+                .isEqualTo("edited \"quoted\", with comma\nand newline");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT author_login FROM github_commits WHERE project_config_id = ? AND commit_sha = ?",
+                String.class, projectConfigId, duplicate.getCommitSha()))
+                .isNull();
+    }
+
+    /**
+     * TEST 4: COPY path skips rows whose content hash is unchanged
+     */
+    @Test
+    void copyPath_skipsUnchangedContentHash() {
+        List<UnifiedActivity> activities = generateActivities(UUID.randomUUID(), 3000);
+        activities.forEach(activity -> activity.setContentHash("hash-" + activity.getExternalId()));
+
+        UpsertResult first = unifiedActivityRepositoryImpl.upsertBatchDetailed(activities);
+        activities.get(0).setTitle("Renamed");
+        activities.get(0).setContentHash("hash-renamed");
+        UpsertResult second = unifiedActivityRepositoryImpl.upsertBatchDetailed(activities);
+
+        assertThat(first.inserted()).isEqualTo(3000);
+        assertThat(second.updated()).isEqualTo(1);
+        assertThat(second.unchanged()).isEqualTo(2999);
+        assertThat(second.changedExternalIds()).containsExactly(activities.get(0).getExternalId());
+    }
+
+    private <T> int measure(String label, List<T> rows, ToIntFunction<List<T>> writer) {
+        long start = System.nanoTime();
+        int affected = writer.applyAsInt(rows);
+        long elapsedNanos = System.nanoTime() - start;
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("📊 %s: %d rows in %dms (%.0f rows/sec)%n",
+                label, rows.size(), elapsedNanos / 1_000_000, rows.size() / seconds);
+        return affected;
+    }
+
+    private List<UnifiedActivity> generateActivities(UUID projectConfigId, int count) {
+        List<UnifiedActivity> activities = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < count; i++) {
+            UnifiedActivity activity = new UnifiedActivity();
+            activity.setProjectConfigId(projectConfigId);
+            activity.setSource(UnifiedActivity.ActivitySource.GITHUB);
+            activity.setActivityType(UnifiedActivity.ActivityType.COMMIT);
+            activity.setExternalId("sha-" + i);
+            activity.setTitle("Commit " + i);
+            activity.setDescription("Description " + i + "\n\n+10 -2 lines");
+            activity.setAuthorEmail("user" + i + "@example.com");
+            activity.setAuthorName("User " + i);
+            activity.setCreatedAt(now.minusMinutes(i));
+            activity.setUpdatedAt(now);
+            activities.add(activity);
+        }
+
+        return activities;
+    }
+
+    private List<GithubCommit> generateCommits(UUID projectConfigId, int count) {
+        List<GithubCommit> commits = new ArrayList<>(count);
+        LocalDateTime committedDate = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        for (int i = 0; i < count; i++) {
+            commits.add(GithubCommit.builder()
+                    .projectConfigId(projectConfigId)
+                    .commitSha("sha-" + i)
+                    .message("Commit " + i)
+                    .authorName("User " + i)
+                    .authorEmail("user" + i + "@example.com")
+                    .authorLogin("user" + i)
+                    .committedDate(committedDate.plusMinutes(i))
+                    .additions(10)
+                    .deletions(2)
+                    .totalChanges(12)
+                    .filesChanged(1)
+                    .build());
+        }
+
+        return commits;
+    }
+}
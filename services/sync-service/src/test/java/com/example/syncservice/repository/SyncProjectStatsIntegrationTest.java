@@ -0,0 +1,224 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.dto.ProjectStatsRow;
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.entity.UnifiedActivity;
+import com.example.syncservice.metrics.SyncMetrics;
+import com.example.syncservice.service.SyncDataService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PROJECT STATS INTEGRATION TEST
+ *
+ * Verifies the incremental sync_project_stats counters against REAL PostgreSQL, through the
+ * SyncDataService persist paths: whole-config and per-author counters, re-sent and changed rows
+ * moving only their own difference, soft-deleted rows staying uncounted, and one kind of row leaving
+ * the other counters alone. The table itself comes from the V26 migration script.
+ */
+@DataJpaTest(properties = {"spring.main.allow-bean-definition-overriding=true"},
+             excludeAutoConfiguration = {FlywayAutoConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SyncDataService.class, SyncMetrics.class, SyncProjectStatsRepository.class,
+         JiraIssueRepositoryImpl.class, GithubCommitRepositoryImpl.class, UnifiedActivityRepositoryImpl.class})
+@Sql(scripts = "classpath:db/migration/V26__create_sync_project_stats.sql")
+class SyncProjectStatsIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private SyncDataService syncDataService;
+
+    @Autowired
+    private SyncProjectStatsRepository syncProjectStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    void persistJiraIssues_countsPerConfigAndPerAssignee() {
+        UUID configId = UUID.randomUUID();
+        syncDataService.persistJiraIssues(List.of(
+                issue(configId, "SAMT-1", "Done", "alice@example.com"),
+                issue(configId, "SAMT-2", "To Do", "Alice@Example.com"),
+                issue(configId, "SAMT-3", "Closed", "bob@example.com"),
+                issue(configId, "SAMT-4", "In Progress", null)));
+
+        Map<String, ProjectStatsRow> stats = statsByAuthor(configId);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).taskCount()).isEqualTo(4);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).completedTaskCount()).isEqualTo(2);
+        assertThat(stats.get("alice@example.com").taskCount()).isEqualTo(2);
+        assertThat(stats.get("alice@example.com").completedTaskCount()).isEqualTo(1);
+        assertThat(stats.get("bob@example.com").completedTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void persistJiraIssues_movesOnlyChangedRows_andKeepsOtherCounters() {
+        UUID configId = UUID.randomUUID();
+        syncDataService.persistJiraIssues(List.of(
+                issue(configId, "SAMT-1", "To Do", "bob@example.com"),
+                issue(configId, "SAMT-2", "Done", "bob@example.com")));
+        jdbcTemplate.update("UPDATE sync_project_stats SET commit_count = 7 WHERE project_config_id = ? AND author_email = ''",
+                configId);
+
+        // Same page again, SAMT-1 reassigned and done: SAMT-2 must not be counted twice
+        syncDataService.persistJiraIssues(List.of(
+                issue(configId, "SAMT-1", "Done", "alice@example.com"),
+                issue(configId, "SAMT-2", "Done", "bob@example.com")));
+
+        Map<String, ProjectStatsRow> stats = statsByAuthor(configId);
+        assertThat(stats.get("bob@example.com").taskCount()).isEqualTo(1);
+        assertThat(stats.get("alice@example.com").taskCount()).isEqualTo(1);
+        assertThat(stats.get("alice@example.com").completedTaskCount()).isEqualTo(1);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).taskCount()).isEqualTo(2);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).completedTaskCount()).isEqualTo(2);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).commitCount())
+                .as("task changes must not touch commit counters")
+                .isEqualTo(7);
+    }
+
+    @Test
+    void persistJiraIssues_ignoresSoftDeletedRows() {
+        UUID configId = UUID.randomUUID();
+        syncDataService.persistJiraIssues(List.of(issue(configId, "SAMT-1", "To Do", "bob@example.com")));
+        jdbcTemplate.update("UPDATE jira_issues SET deleted_at = NOW() WHERE project_config_id = ?", configId);
+        jdbcTemplate.update("UPDATE sync_project_stats SET task_count = 0 WHERE project_config_id = ?", configId);
+
+        syncDataService.persistJiraIssues(List.of(issue(configId, "SAMT-1", "Done", "bob@example.com")));
+
+        assertThat(statsByAuthor(configId).get(ProjectStatsRow.WHOLE_CONFIG).taskCount()).isZero();
+    }
+
+    @Test
+    void persistGithubCommits_countsEachCommitOnce() {
+        UUID configId = UUID.randomUUID();
+        List<GithubCommit> commits = List.of(commit(configId, "sha-1", "alice@example.com"), commit(configId, "sha-2", null));
+
+        syncDataService.persistGithubCommits(commits);
+        syncDataService.persistGithubCommits(List.of(commit(configId, "sha-1", "alice@example.com"), commit(configId, "sha-2", null)));
+
+        Map<String, ProjectStatsRow> stats = statsByAuthor(configId);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).commitCount()).isEqualTo(2);
+        assertThat(stats.get("alice@example.com").commitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void persistUnifiedActivities_countsPullRequestsByTheirLatestStatus() {
+        UUID configId = UUID.randomUUID();
+        syncDataService.persistUnifiedActivities(List.of(
+                pullRequest(configId, "PR-1", "OPEN", "alice@example.com"),
+                pullRequest(configId, "PR-2", "MERGED", "bob@example.com")));
+
+        // PR-1 merged, PR-2 unchanged (skipped by the upsert)
+        syncDataService.persistUnifiedActivities(List.of(
+                pullRequest(configId, "PR-1", "MERGED", "alice@example.com"),
+                pullRequest(configId, "PR-2", "MERGED", "bob@example.com")));
+
+        Map<String, ProjectStatsRow> stats = statsByAuthor(configId);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).prCount()).isEqualTo(2);
+        assertThat(stats.get(ProjectStatsRow.WHOLE_CONFIG).mergedPrCount()).isEqualTo(2);
+        assertThat(stats.get("alice@example.com").mergedPrCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findWithoutAuthors_returnsWholeConfigRowsOnly() {
+        UUID configId = UUID.randomUUID();
+        UUID otherConfigId = UUID.randomUUID();
+        syncDataService.persistJiraIssues(List.of(
+                issue(configId, "SAMT-1", "Done", "alice@example.com"),
+                issue(otherConfigId, "OTHER-1", "To Do", "alice@example.com")));
+
+        List<ProjectStatsRow> rows = syncProjectStatsRepository.findByProjectConfigIds(Set.of(configId, otherConfigId), false);
+
+        assertThat(rows).hasSize(2).allMatch(ProjectStatsRow::isWholeConfig);
+        assertThat(rows).extracting(ProjectStatsRow::taskCount).containsOnly(1L);
+    }
+
+    private Map<String, ProjectStatsRow> statsByAuthor(UUID configId) {
+        return syncProjectStatsRepository.findByProjectConfigIds(Set.of(configId), true).stream()
+                .collect(Collectors.toMap(ProjectStatsRow::authorEmail, Function.identity()));
+    }
+
+    private static JiraIssue issue(UUID configId, String issueKey, String status, String assigneeEmail) {
+        return JiraIssue.builder()
+                .projectConfigId(configId)
+                .issueKey(issueKey)
+                .issueId("id-" + issueKey)
+                .summary("Issue " + issueKey)
+                .issueType("Task")
+                .status(status)
+                .assigneeEmail(assigneeEmail)
+                .build();
+    }
+
+    private static GithubCommit commit(UUID configId, String sha, String authorEmail) {
+        return GithubCommit.builder()
+                .projectConfigId(configId)
+                .commitSha(sha)
+                .message("Commit " + sha)
+                .authorEmail(authorEmail)
+                .build();
+    }
+
+    private static UnifiedActivity pullRequest(UUID configId, String externalId, String status, String authorEmail) {
+        UnifiedActivity activity = new UnifiedActivity();
+        activity.setProjectConfigId(configId);
+        activity.setSource(UnifiedActivity.ActivitySource.GITHUB);
+        activity.setActivityType(UnifiedActivity.ActivityType.PULL_REQUEST);
+        activity.setExternalId(externalId);
+        activity.setTitle("Pull request " + externalId);
+        activity.setAuthorEmail(authorEmail);
+        activity.setStatus(status);
+        activity.setContentHash(status + "|" + authorEmail);
+        activity.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        activity.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return activity;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.syncservice.repository;
+
+import com.example.syncservice.entity.SyncJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MULTI-REPLICA SHARDING TEST
+ *
+ * Simulates several sync-service replicas (one lease owner per thread) against REAL PostgreSQL:
+ * SKIP LOCKED claims must split a run without overlap, expired leases must be reclaimable,
+ * and adding a replica must shorten the run.
+ *
+ * Not transactional: every repository call commits on its own, exactly as between replicas.
+ */
+@DataJpaTest(properties = {"spring.main.allow-bean-definition-overriding=true"},
+             excludeAutoConfiguration = {FlywayAutoConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SyncWorkItemRepositoryImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncWorkItemShardingIntegrationTest {
+
+    private static final SyncJob.JobType JOB_TYPE = SyncJob.JobType.JIRA_ISSUES;
+    private static final int LEASE_SECONDS = 60;
+    private static final LocalDateTime RUN_AT = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private SyncWorkItemRepository syncWorkItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM sync_work_items");
+    }
+
+    /**
+     * TEST 1: CONCURRENT CLAIMS ARE DISJOINT AND COMPLETE
+     *
+     * Scenario: 4 replicas claim batches of 7 from 100 configs at the same time until nothing is due
+     * Expected: every config claimed exactly once
+     */
+    @Test
+    void testConcurrentReplicas_ClaimDisjointBatches_CoveringWholeRun() throws Exception {
+        List<UUID> configIds = configIds(100);
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, configIds);
+
+        int replicas = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(replicas);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<UUID>>> results = new ArrayList<>();
+        for (int r = 0; r < replicas; r++) {
+            String owner = "replica-" + r;
+            results.add(pool.submit(() -> {
+                start.await();
+                List<UUID> mine = new ArrayList<>();
+                List<UUID> batch;
+                while (!(batch = syncWorkItemRepository.claimDue(JOB_TYPE, owner, 7, LEASE_SECONDS)).isEmpty()) {
+                    mine.addAll(batch);
+                    batch.forEach(id -> syncWorkItemRepository.complete(JOB_TYPE, id, owner));
+                }
+                return mine;
+            }));
+        }
+        start.countDown();
+
+        List<UUID> allClaimed = new ArrayList<>();
+        for (Future<List<UUID>> result : results) {
+            allClaimed.addAll(result.get(60, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        assertThat(allClaimed).hasSize(100);
+        assertThat(new HashSet<>(allClaimed)).containsExactlyInAnyOrderElementsOf(configIds);
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "late-replica", 100, LEASE_SECONDS)).isEmpty();
+    }
+
+    /**
+     * TEST 2: CRASHED REPLICA
+     *
+     * Scenario: replica A claims, then stops renewing (crash); its lease expires
+     * Expected: replica B reclaims the work; A's late completion is ignored
+     */
+    @Test
+    void testExpiredLease_IsReclaimedByAnotherReplica() throws InterruptedException {
+        List<UUID> configIds = configIds(3);
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, configIds);
+
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-a", 10, 1)).hasSize(3);
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-b", 10, LEASE_SECONDS))
+                .as("live leases are not claimable").isEmpty();
+
+        Thread.sleep(1500);
+
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-b", 10, LEASE_SECONDS))
+                .containsExactlyInAnyOrderElementsOf(configIds);
+        assertThat(syncWorkItemRepository.complete(JOB_TYPE, configIds.get(0), "replica-a")).isZero();
+        assertThat(syncWorkItemRepository.complete(JOB_TYPE, configIds.get(0), "replica-b")).isEqualTo(1);
+    }
+
+    /**
+     * TEST 3: HEARTBEAT AND RELEASE
+     *
+     * Expected: renewed leases survive their original TTL; released work is claimable at once
+     */
+    @Test
+    void testRenewedLeaseSurvives_ReleasedLeaseIsClaimableImmediately() throws InterruptedException {
+        List<UUID> configIds = configIds(2);
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, configIds);
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-a", 10, 1)).hasSize(2);
+
+        assertThat(syncWorkItemRepository.renewLeases("replica-a", LEASE_SECONDS)).isEqualTo(2);
+        Thread.sleep(1500);
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-b", 10, LEASE_SECONDS)).isEmpty();
+
+        assertThat(syncWorkItemRepository.release(JOB_TYPE, List.of(configIds.get(1)), "replica-a")).isEqualTo(1);
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-b", 10, LEASE_SECONDS))
+                .containsExactly(configIds.get(1));
+    }
+
+    /**
+     * TEST 4: NEXT RUN
+     *
+     * Scenario: a completed config is requested again by a later run
+     * Expected: not due again within its run, due again once a newer run is requested
+     */
+    @Test
+    void testCompletedWork_IsDueAgainOnlyForNewerRun() {
+        UUID configId = UUID.randomUUID();
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, List.of(configId));
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-a", 10, LEASE_SECONDS)).containsExactly(configId);
+        syncWorkItemRepository.complete(JOB_TYPE, configId, "replica-a");
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-a", 10, LEASE_SECONDS)).isEmpty();
+
+        // A replica seeding the same fire time late does not reopen the run; the next fire time does
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, List.of(configId));
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "late-replica", 10, LEASE_SECONDS)).isEmpty();
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT.plusMinutes(30), List.of(configId));
+
+        assertThat(syncWorkItemRepository.claimDue(JOB_TYPE, "replica-b", 10, LEASE_SECONDS)).containsExactly(configId);
+        assertThat(syncWorkItemRepository.claimDue(SyncJob.JobType.GITHUB_COMMITS, "replica-b", 10, LEASE_SECONDS))
+                .as("job types are leased independently").isEmpty();
+    }
+
+    /**
+     * TEST 5: THROUGHPUT SCALES WITH REPLICAS
+     *
+     * Scenario: 24 configs of ~50ms (simulated) work, drained by 1 replica, then by 2
+     * Expected: 2 replicas finish clearly faster (loose bound: DB round trips are not free)
+     */
+    @Test
+    void testTwoReplicas_DrainRunFasterThanOne() throws Exception {
+        List<UUID> configIds = configIds(24);
+
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, configIds);
+        long single = drainWith(1);
+
+        jdbcTemplate.update("DELETE FROM sync_work_items");
+        syncWorkItemRepository.requestRun(JOB_TYPE, RUN_AT, configIds);
+        long dual = drainWith(2);
+
+        assertThat(dual).isLessThan((long) (single * 0.8));
+    }
+
+    private long drainWith(int replicas) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(replicas);
+        Set<UUID> processed = ConcurrentHashMap.newKeySet();
+        long startNanos = System.nanoTime();
+        List<Future<?>> results = new ArrayList<>();
+        for (int r = 0; r < replicas; r++) {
+            String owner = "replica-" + r;
+            results.add(pool.submit(() -> {
+                List<UUID> batch;
+                while (!(batch = syncWorkItemRepository.claimDue(JOB_TYPE, owner, 2, LEASE_SECONDS)).isEmpty()) {
+                    for (UUID id : batch) {
+                        Thread.sleep(50);
+                        processed.add(id);
+                        syncWorkItemRepository.complete(JOB_TYPE, id, owner);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        assertThat(processed).hasSize(24);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static List<UUID> configIds(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.syncservice.repository;
 
+import com.example.syncservice.dto.UpsertResult;
 import com.example.syncservice.entity.UnifiedActivity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -241,6 +242,86 @@ class UnifiedActivityPerformanceTest {
         System.out.println("✅ NO HANGING LOCKS: All locks released after transaction");
     }
 
+    /**
+     * TEST 9: CONDITIONAL UPSERT - UNCHANGED CONTENT HASH IS SKIPPED
+     */
+    @Test
+    void testConditionalUpsert_SkipsUnchangedAndReportsChangedIds() {
+        List<UnifiedActivity> activities = generateActivities(UUID.randomUUID(), 100);
+        activities.forEach(activity -> activity.setContentHash("hash-" + activity.getExternalId()));
+
+        UpsertResult firstRun = unifiedActivityRepository.upsertBatchDetailed(activities);
+        UpsertResult secondRun = unifiedActivityRepository.upsertBatchDetailed(activities);
+
+        for (int i = 0; i < 10; i++) {
+            activities.get(i).setStatus("DONE");
+            activities.get(i).setContentHash("hash-v2-" + activities.get(i).getExternalId());
+        }
+        UpsertResult thirdRun = unifiedActivityRepository.upsertBatchDetailed(activities);
+
+        assertThat(firstRun.inserted()).isEqualTo(100);
+        assertThat(secondRun.written()).isZero();
+        assertThat(secondRun.unchanged()).isEqualTo(100);
+        assertThat(thirdRun.updated()).isEqualTo(10);
+        assertThat(thirdRun.unchanged()).isEqualTo(90);
+        assertThat(thirdRun.changedExternalIds())
+                .containsExactlyInAnyOrderElementsOf(activities.subList(0, 10).stream()
+                        .map(UnifiedActivity::getExternalId)
+                        .toList());
+
+        Long done = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM unified_activities WHERE status = 'DONE'", Long.class);
+        assertThat(done).isEqualTo(10L);
+
+        System.out.println("✅ CONDITIONAL UPSERT: 100 unchanged skipped, 10 changed rewritten");
+    }
+
+    /**
+     * TEST 10: CONDITIONAL UPSERT - TIMESTAMP-ONLY CHANGE REFRESHES updated_at
+     */
+    @Test
+    void testConditionalUpsert_RefreshesUpdatedAtWithoutCountingContentChange() {
+        List<UnifiedActivity> activities = generateActivities(UUID.randomUUID(), 20);
+        activities.forEach(activity -> activity.setContentHash("hash-" + activity.getExternalId()));
+        unifiedActivityRepository.upsertBatchDetailed(activities);
+        LocalDateTime bumped = activities.get(0).getUpdatedAt().plusHours(1).withNano(0);
+        activities.get(0).setUpdatedAt(bumped);
+
+        UpsertResult secondRun = unifiedActivityRepository.upsertBatchDetailed(activities);
+
+        assertThat(secondRun.written()).isZero();
+        assertThat(secondRun.unchanged()).isEqualTo(20);
+        assertThat(secondRun.changedExternalIds()).isEmpty();
+        LocalDateTime stored = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM unified_activities WHERE external_id = ?", LocalDateTime.class,
+                activities.get(0).getExternalId());
+        assertThat(stored).isEqualTo(bumped);
+    }
+
+    /**
+     * TEST 11: CONDITIONAL UPSERT - ROWS WITHOUT A SOURCE updated_at ARE NOT REWRITTEN
+     */
+    @Test
+    void testConditionalUpsert_NullUpdatedAtIsNotATimestampChange() {
+        List<UnifiedActivity> activities = generateActivities(UUID.randomUUID(), 5);
+        activities.forEach(activity -> {
+            activity.setContentHash("hash-" + activity.getExternalId());
+            activity.setUpdatedAt(null);
+        });
+        unifiedActivityRepository.upsertBatchDetailed(activities);
+        List<String> ctidsBefore = jdbcTemplate.queryForList(
+                "SELECT ctid::text FROM unified_activities ORDER BY external_id", String.class);
+
+        UpsertResult secondRun = unifiedActivityRepository.upsertBatchDetailed(activities);
+
+        assertThat(secondRun.written()).isZero();
+        assertThat(secondRun.unchanged()).isEqualTo(5);
+        // Same tuple versions: the upsert's WHERE skipped every row, so no trigger re-stamped change_xid
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT ctid::text FROM unified_activities ORDER BY external_id", String.class))
+                .isEqualTo(ctidsBefore);
+    }
+
     private List<UnifiedActivity> generateActivities(UUID projectConfigId, int count) {
         List<UnifiedActivity> activities = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
@@ -0,0 +1,35 @@
+package com.example.syncservice.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncSchedulerTest {
+
+    private static final String EVERY_30_MINUTES = "0 */30 * * * *";
+
+    @Test
+    void fireTime_isTheSameForReplicasFiringAcrossAMinuteBoundary() {
+        LocalDateTime onTime = LocalDateTime.of(2026, 3, 9, 10, 30, 0, 40_000_000);
+        LocalDateTime late = LocalDateTime.of(2026, 3, 9, 10, 31, 2);
+
+        assertThat(SyncScheduler.fireTime(EVERY_30_MINUTES, onTime)).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 30));
+        assertThat(SyncScheduler.fireTime(EVERY_30_MINUTES, late)).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 30));
+    }
+
+    @Test
+    void fireTime_ofAnExactFire_isItself() {
+        LocalDateTime fire = LocalDateTime.of(2026, 3, 9, 11, 0);
+
+        assertThat(SyncScheduler.fireTime(EVERY_30_MINUTES, fire)).isEqualTo(fire);
+    }
+
+    @Test
+    void fireTime_findsDailyFiresBeyondTheFirstLookback() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 9, 15, 45);
+
+        assertThat(SyncScheduler.fireTime("0 0 2 * * *", now)).isEqualTo(LocalDateTime.of(2026, 3, 9, 2, 0));
+    }
+}
@@ -2,11 +2,14 @@ package com.example.syncservice.service;
 
 import com.example.syncservice.dto.GithubCommitDto;
 import com.example.syncservice.dto.JiraIssueDto;
+import com.example.syncservice.entity.GithubCommit;
+import com.example.syncservice.entity.JiraIssue;
 import com.example.syncservice.entity.UnifiedActivity;
 import com.example.syncservice.metrics.SyncMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +43,55 @@ class DataMapperTest {
         assertThat(activity.getCreatedAt()).isNotNull();
     }
 
+    @Test
+    void githubCommitDtoToEntity_acceptsRestAndGraphqlShapes() {
+        GithubCommitDto.CommitDetails details = new GithubCommitDto.CommitDetails(
+                "Fix build", new GithubCommitDto.CommitAuthor("Octo Cat", "octo@example.com", "2026-03-09T10:00:00Z"));
+
+        GithubCommitDto rest = GithubCommitDto.builder()
+                .sha("rest1")
+                .commit(details)
+                .stats(new GithubCommitDto.Stats(4, 2, 6))
+                .files(List.of(
+                        new GithubCommitDto.FileChange("a.java", 3, 1, 4, "modified"),
+                        new GithubCommitDto.FileChange("b.java", 1, 1, 2, "modified")))
+                .build();
+        GithubCommitDto graphql = GithubCommitDto.builder()
+                .sha("gql1")
+                .commit(details)
+                .stats(new GithubCommitDto.Stats(4, 2, 6))
+                .changedFiles(2)
+                .build();
+
+        GithubCommit fromRest = dataMapper.githubCommitDtoToEntity(rest, UUID.randomUUID());
+        GithubCommit fromGraphql = dataMapper.githubCommitDtoToEntity(graphql, UUID.randomUUID());
+
+        assertThat(fromRest.getFilesChanged()).isEqualTo(2);
+        assertThat(fromGraphql.getFilesChanged()).isEqualTo(2);
+        assertThat(fromGraphql.getTotalChanges()).isEqualTo(fromRest.getTotalChanges());
+        assertThat(fromGraphql.getCommittedDate()).isEqualTo(fromRest.getCommittedDate());
+    }
+
+    @Test
+    void contentHash_isStable_andChangesWithContent() {
+        GithubCommitDto dto = GithubCommitDto.builder()
+                .sha("abc123")
+                .commit(new GithubCommitDto.CommitDetails(
+                        "Fix build",
+                        new GithubCommitDto.CommitAuthor("Octo Cat", "octo@example.com", "2026-03-09T10:00:00Z")))
+                .stats(new GithubCommitDto.Stats(1, 1, 2))
+                .build();
+
+        UnifiedActivity first = dataMapper.githubCommitToUnifiedActivity(dto, UUID.randomUUID());
+        UnifiedActivity second = dataMapper.githubCommitToUnifiedActivity(dto, UUID.randomUUID());
+        second.setAuthorName("Octo Dog");
+
+        assertThat(first.getContentHash()).hasSize(64);
+        assertThat(dataMapper.githubCommitToUnifiedActivity(dto, UUID.randomUUID()).getContentHash())
+                .isEqualTo(first.getContentHash());
+        assertThat(dataMapper.contentHash(second)).isNotEqualTo(first.getContentHash());
+    }
+
     @Test
     void jiraIssueToUnifiedActivity_fallsBackWhenSummaryMissing() {
         JiraIssueDto.Fields fields = new JiraIssueDto.Fields();
@@ -62,4 +114,41 @@ class DataMapperTest {
         assertThat(activity.getCreatedAt()).isNotNull();
         assertThat(activity.getUpdatedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void githubCommitDtoToEntity_leavesUnparseableCommitDateUnset() {
+        GithubCommitDto dto = GithubCommitDto.builder()
+                .sha("bad1")
+                .commit(new GithubCommitDto.CommitDetails(
+                        "Fix build", new GithubCommitDto.CommitAuthor("Octo Cat", "octo@example.com", "not-a-date")))
+                .build();
+
+        GithubCommit commit = dataMapper.githubCommitDtoToEntity(dto, UUID.randomUUID());
+        UnifiedActivity activity = dataMapper.githubCommitToUnifiedActivity(dto, UUID.randomUUID());
+
+        // now() here would move the sync watermark past commits not fetched yet
+        assertThat(commit.getCommittedDate()).isNull();
+        assertThat(activity.getCreatedAt()).isNull();
+        assertThat(activity.getContentHash()).isNotBlank();
+    }
+
+    @Test
+    void jiraIssueDtoToEntity_leavesUnparseableUpdatedUnset() {
+        JiraIssueDto.Fields fields = new JiraIssueDto.Fields();
+        fields.setSummary("Summary");
+        fields.setCreated("2026-03-09T10:00:00Z");
+        fields.setUpdated("yesterday");
+
+        JiraIssueDto dto = JiraIssueDto.builder()
+                .key("SAMT-124")
+                .id("10002")
+                .fields(fields)
+                .build();
+
+        JiraIssue issue = dataMapper.jiraIssueDtoToEntity(dto, UUID.randomUUID());
+
+        // The Jira watermark is the latest updatedAt; a fallback to now() would skip issues
+        assertThat(issue.getCreatedAt()).isNotNull();
+        assertThat(issue.getUpdatedAt()).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.entity.JiraIssue;
+import com.example.syncservice.repository.GithubCommitRepository;
+import com.example.syncservice.repository.JiraIssueRepository;
+import com.example.syncservice.repository.SyncDeltaRepository;
+import com.example.syncservice.repository.SyncDeltaRepository.ChangeTable;
+import com.example.syncservice.repository.UnifiedActivityRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncDeltaServiceTest {
+
+    private final SyncDeltaRepository syncDeltaRepository = mock(SyncDeltaRepository.class);
+    private final JiraIssueRepository jiraIssueRepository = mock(JiraIssueRepository.class);
+    private final SyncDeltaService service = new SyncDeltaService(syncDeltaRepository, jiraIssueRepository,
+            mock(GithubCommitRepository.class), mock(UnifiedActivityRepository.class));
+
+    private final UUID configId = UUID.randomUUID();
+
+    @Test
+    void caughtUp_advancesVersionToHorizon() {
+        when(syncDeltaRepository.currentHorizon()).thenReturn(900L);
+        when(syncDeltaRepository.findChangedIds(ChangeTable.JIRA_ISSUES, configId, 500L, 0L, 900L, 11))
+                .thenReturn(rows(new long[]{7, 610}, new long[]{3, 720}));
+        when(jiraIssueRepository.findAllById(anyList())).thenReturn(List.of(issue(3), issue(7)));
+
+        SyncDeltaService.Delta<JiraIssue> delta = service.issueChangesSince(configId, "500:0", 10);
+
+        assertThat(delta.rows()).extracting(JiraIssue::getId).containsExactly(7L, 3L);
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(delta.nextVersion()).isEqualTo("900:0");
+    }
+
+    @Test
+    void truncated_resumesAfterLastReturnedRow() {
+        when(syncDeltaRepository.currentHorizon()).thenReturn(900L);
+        when(syncDeltaRepository.findChangedIds(ChangeTable.JIRA_ISSUES, configId, 0L, 0L, 900L, 3))
+                .thenReturn(rows(new long[]{1, 600}, new long[]{2, 600}, new long[]{3, 600}));
+        when(jiraIssueRepository.findAllById(anyList())).thenReturn(List.of(issue(1), issue(2)));
+
+        SyncDeltaService.Delta<JiraIssue> delta = service.issueChangesSince(configId, "", 2);
+
+        assertThat(delta.rows()).hasSize(2);
+        assertThat(delta.hasMore()).isTrue();
+        assertThat(delta.nextVersion()).isEqualTo("600:2");
+    }
+
+    @Test
+    void horizonBehindVersion_keepsVersion() {
+        when(syncDeltaRepository.currentHorizon()).thenReturn(400L);
+        when(syncDeltaRepository.findChangedIds(ChangeTable.JIRA_ISSUES, configId, 500L, 9L, 400L,
+                SyncDeltaService.DEFAULT_LIMIT + 1)).thenReturn(List.of());
+
+        SyncDeltaService.Delta<JiraIssue> delta = service.issueChangesSince(configId, "500:9", 0);
+
+        assertThat(delta.rows()).isEmpty();
+        assertThat(delta.nextVersion()).isEqualTo("500:9");
+    }
+
+    @Test
+    void malformedVersion_isRejected() {
+        assertThatThrownBy(() -> service.issueChangesSince(configId, "abc", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.issueChangesSince(configId, "-1:0", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Object[]> rows(long[]... idAndVersion) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long[] row : idAndVersion) {
+            rows.add(new Object[]{row[0], row[1]});
+        }
+        return rows;
+    }
+
+    private static JiraIssue issue(long id) {
+        return JiraIssue.builder().id(id).issueKey("SAMT-" + id).build();
+    }
+}
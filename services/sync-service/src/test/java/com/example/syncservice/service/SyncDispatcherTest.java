@@ -0,0 +1,285 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.client.grpc.ProjectConfigGrpcClient;
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.dto.ProjectConfigDto;
+import com.example.syncservice.dto.SyncResultDto;
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.exception.ConfigNotFoundException;
+import com.example.syncservice.metrics.SyncMetrics;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncDispatcherTest {
+
+    private static final LocalDateTime RUN_AT = LocalDateTime.of(2026, 3, 9, 10, 30);
+
+    private final ProjectConfigGrpcClient projectConfigGrpcClient = mock(ProjectConfigGrpcClient.class);
+    private final SyncOrchestrator syncOrchestrator = mock(SyncOrchestrator.class);
+    private final SyncDataService syncDataService = mock(SyncDataService.class);
+    private final SyncWorkLeaseService syncWorkLeaseService = mock(SyncWorkLeaseService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SyncProperties syncProperties = new SyncProperties();
+
+    private SyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new SyncDispatcher(projectConfigGrpcClient, syncOrchestrator, syncDataService,
+                new SyncMetrics(meterRegistry), syncProperties, syncWorkLeaseService);
+    }
+
+    @Test
+    void dispatch_startsNeverSyncedThenStalestFirst() {
+        UUID fresh = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID neverSynced = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        givenJiraConfigs(Map.of(fresh, "https://a.atlassian.net", stale, "https://b.atlassian.net",
+                neverSynced, "https://c.atlassian.net"), List.of(fresh, stale, neverSynced));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES)))
+                .thenReturn(Map.of(fresh, completedAt(now.minusMinutes(5), 0), stale, completedAt(now.minusHours(3), 0)));
+        when(syncOrchestrator.syncJiraIssuesAsync(any(ProjectConfigDto.class))).thenReturn(CompletableFuture.completedFuture(new SyncResultDto()));
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(10));
+
+        InOrder order = inOrder(syncOrchestrator);
+        order.verify(syncOrchestrator).syncJiraIssuesAsync(configOf(neverSynced));
+        order.verify(syncOrchestrator).syncJiraIssuesAsync(configOf(stale));
+        order.verify(syncOrchestrator).syncJiraIssuesAsync(configOf(fresh));
+        assertThat(summary.started()).isEqualTo(3);
+        assertThat(summary.deferred()).isZero();
+        // The config loaded for the host key is handed to the orchestrator, not fetched again
+        verify(projectConfigGrpcClient, times(1)).getDecryptedConfig(stale);
+    }
+
+    @Test
+    void dispatch_respectsPerHostLimit_andStartsTheWaitingConfigOnRelease() throws Exception {
+        syncProperties.getScheduler().setPerHostMaxInFlight(1);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID otherHost = UUID.randomUUID();
+
+        givenJiraConfigs(Map.of(first, "https://same.atlassian.net", second, "https://same.atlassian.net",
+                otherHost, "https://other.atlassian.net"), List.of(first, second, otherHost));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+        // Syncs run until the test completes them: the second config of the busy host must wait, the other host must not
+        List<UUID> started = new CopyOnWriteArrayList<>();
+        Map<UUID, CompletableFuture<SyncResultDto>> running = new ConcurrentHashMap<>();
+        CountDownLatch firstTwoStarted = new CountDownLatch(2);
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(syncOrchestrator.syncJiraIssuesAsync(any(ProjectConfigDto.class))).thenAnswer(invocation -> {
+            UUID configId = invocation.<ProjectConfigDto>getArgument(0).getConfigId();
+            CompletableFuture<SyncResultDto> future = new CompletableFuture<>();
+            running.put(configId, future);
+            started.add(configId);
+            firstTwoStarted.countDown();
+            allStarted.countDown();
+            return future;
+        });
+
+        CompletableFuture<SyncDispatcher.DispatchSummary> run = CompletableFuture.supplyAsync(
+                () -> dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(30)));
+
+        assertThat(firstTwoStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(started).contains(otherHost).hasSize(2);
+        assertThat(meterRegistry.get("sync_host_in_flight").tag("host", "jira:same.atlassian.net").gauge().value())
+                .isEqualTo(1.0);
+
+        UUID waiting = started.contains(first) ? second : first;
+        running.get(started.contains(first) ? first : second).complete(new SyncResultDto());
+        assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(started.get(2)).isEqualTo(waiting);
+        running.values().forEach(future -> future.complete(new SyncResultDto()));
+
+        SyncDispatcher.DispatchSummary summary = run.get(10, TimeUnit.SECONDS);
+        assertThat(summary.started()).isEqualTo(3);
+        assertThat(summary.deferred()).isZero();
+    }
+
+    @Test
+    void dispatch_defersEverythingStillQueuedAtTheDeadline() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        givenJiraConfigs(Map.of(first, "https://a.atlassian.net", second, "https://b.atlassian.net"), List.of(first, second));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ZERO);
+
+        verify(syncOrchestrator, never()).syncJiraIssuesAsync(any(ProjectConfigDto.class));
+        assertThat(summary.started()).isZero();
+        assertThat(summary.deferred()).isEqualTo(2);
+        assertThat(meterRegistry.get("sync_tasks_deferred_total").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void dispatch_retriesRejectedSubmission_insteadOfDroppingIt() {
+        UUID configId = UUID.randomUUID();
+        givenJiraConfigs(Map.of(configId, "https://a.atlassian.net"), List.of(configId));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+        when(syncOrchestrator.syncJiraIssuesAsync(configOf(configId)))
+                .thenThrow(new TaskRejectedException("queue full"))
+                .thenReturn(CompletableFuture.completedFuture(new SyncResultDto()));
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(10));
+
+        verify(syncOrchestrator, times(2)).syncJiraIssuesAsync(configOf(configId));
+        assertThat(summary.started()).isEqualTo(1);
+        assertThat(summary.deferred()).isZero();
+        assertThat(meterRegistry.get("sync_tasks_rejected_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatch_github_skipsConfigsWithoutGithub_andKeysByTokenHash() {
+        UUID withGithub = UUID.randomUUID();
+        UUID withoutGithub = UUID.randomUUID();
+        when(projectConfigGrpcClient.listVerifiedConfigIds()).thenReturn(List.of(withGithub, withoutGithub));
+        when(projectConfigGrpcClient.getDecryptedConfig(withGithub)).thenReturn(ProjectConfigDto.builder()
+                .configId(withGithub).githubRepoUrl("https://github.com/o/r").githubToken("ghp_secret").build());
+        when(projectConfigGrpcClient.getDecryptedConfig(withoutGithub)).thenReturn(ProjectConfigDto.builder()
+                .configId(withoutGithub).jiraHostUrl("https://a.atlassian.net").build());
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.GITHUB_COMMITS))).thenReturn(Map.of());
+        when(syncOrchestrator.syncGithubCommitsAsync(configOf(withGithub))).thenReturn(CompletableFuture.completedFuture(new SyncResultDto()));
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.GITHUB_COMMITS, RUN_AT, Duration.ofSeconds(10));
+
+        verify(syncOrchestrator, never()).syncGithubCommitsAsync(configOf(withoutGithub));
+        assertThat(summary.started()).isEqualTo(1);
+        assertThat(summary.skipped()).isEqualTo(1);
+        assertThat(meterRegistry.find("sync_host_in_flight").gauges())
+                .allSatisfy(gauge -> assertThat(gauge.getId().getTag("host")).doesNotContain("ghp_secret"));
+    }
+
+    @Test
+    void dispatch_sharded_runsOnlyClaimedConfigs_andCompletesTheirLeases() {
+        UUID claimed = UUID.randomUUID();
+        UUID ownedByOtherReplica = UUID.randomUUID();
+        givenJiraConfigs(Map.of(claimed, "https://a.atlassian.net"), List.of(claimed, ownedByOtherReplica));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+        when(syncWorkLeaseService.isEnabled()).thenReturn(true);
+        when(syncWorkLeaseService.claim(eq(SyncJob.JobType.JIRA_ISSUES), anyInt()))
+                .thenReturn(List.of(claimed))
+                .thenReturn(List.of());
+        when(syncOrchestrator.syncJiraIssuesAsync(configOf(claimed))).thenReturn(CompletableFuture.completedFuture(new SyncResultDto()));
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(10));
+
+        verify(syncWorkLeaseService).seed(SyncJob.JobType.JIRA_ISSUES, RUN_AT, List.of(claimed, ownedByOtherReplica));
+        verify(syncOrchestrator, never()).syncJiraIssuesAsync(configOf(ownedByOtherReplica));
+        verify(syncWorkLeaseService).complete(SyncJob.JobType.JIRA_ISSUES, claimed);
+        assertThat(summary.candidates()).isEqualTo(1);
+        assertThat(summary.started()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_sharded_completesMissingConfigs_butReleasesConfigsThatFailedToLoad() {
+        UUID deleted = UUID.randomUUID();
+        UUID timedOut = UUID.randomUUID();
+        when(projectConfigGrpcClient.listVerifiedConfigIds()).thenReturn(List.of(deleted, timedOut));
+        when(projectConfigGrpcClient.getDecryptedConfig(deleted)).thenThrow(new ConfigNotFoundException(deleted));
+        when(projectConfigGrpcClient.getDecryptedConfig(timedOut))
+                .thenThrow(new StatusRuntimeException(Status.DEADLINE_EXCEEDED));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+        when(syncWorkLeaseService.isEnabled()).thenReturn(true);
+        when(syncWorkLeaseService.claim(eq(SyncJob.JobType.JIRA_ISSUES), anyInt()))
+                .thenReturn(List.of(deleted, timedOut))
+                .thenReturn(List.of());
+
+        SyncDispatcher.DispatchSummary summary = dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(10));
+
+        verify(syncWorkLeaseService).complete(SyncJob.JobType.JIRA_ISSUES, deleted);
+        verify(syncWorkLeaseService, never()).complete(SyncJob.JobType.JIRA_ISSUES, timedOut);
+        verify(syncWorkLeaseService).release(SyncJob.JobType.JIRA_ISSUES, List.of(timedOut));
+        assertThat(summary.skipped()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatch_sharded_releasesClaimsNotStartedWhenTheRunEnds() throws Exception {
+        syncProperties.getScheduler().setPerHostMaxInFlight(1);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        givenJiraConfigs(Map.of(first, "https://same.atlassian.net", second, "https://same.atlassian.net"),
+                List.of(first, second));
+        when(syncDataService.findLastSuccessfulSyncs(anyCollection(), eq(SyncJob.JobType.JIRA_ISSUES))).thenReturn(Map.of());
+        when(syncWorkLeaseService.isEnabled()).thenReturn(true);
+        when(syncWorkLeaseService.claim(eq(SyncJob.JobType.JIRA_ISSUES), anyInt())).thenReturn(List.of(first, second));
+        CountDownLatch oneStarted = new CountDownLatch(1);
+        when(syncOrchestrator.syncJiraIssuesAsync(any(ProjectConfigDto.class))).thenAnswer(invocation -> {
+            oneStarted.countDown();
+            return new CompletableFuture<>();
+        });
+
+        // The second claim waits for the busy host; interrupting the dispatch thread ends the run there
+        CompletableFuture<SyncDispatcher.DispatchSummary> run = new CompletableFuture<>();
+        Thread dispatchThread = new Thread(() -> run.complete(dispatcher.dispatch(SyncJob.JobType.JIRA_ISSUES, RUN_AT, Duration.ofSeconds(30))));
+        dispatchThread.start();
+        assertThat(oneStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatchThread.interrupt();
+        SyncDispatcher.DispatchSummary summary = run.get(10, TimeUnit.SECONDS);
+
+        assertThat(summary.started()).isEqualTo(1);
+        assertThat(summary.deferred()).isEqualTo(1);
+        verify(syncWorkLeaseService).release(eq(SyncJob.JobType.JIRA_ISSUES), argThat(ids -> ids.size() == 1));
+    }
+
+    @Test
+    void priority_recentChangesOutrankIdleConfigOfSameAge() {
+        LocalDateTime now = LocalDateTime.now();
+
+        double idle = SyncDispatcher.priority(completedAt(now.minusMinutes(30), 0), now, 1.0);
+        double busy = SyncDispatcher.priority(completedAt(now.minusMinutes(30), 500), now, 1.0);
+        double staleIdle = SyncDispatcher.priority(completedAt(now.minusHours(12), 0), now, 1.0);
+
+        assertThat(busy).isGreaterThan(idle);
+        assertThat(staleIdle).isGreaterThan(busy);
+        assertThat(SyncDispatcher.priority(null, now, 1.0)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    private static ProjectConfigDto configOf(UUID configId) {
+        return argThat(config -> config != null && configId.equals(config.getConfigId()));
+    }
+
+    private void givenJiraConfigs(Map<UUID, String> hostsByConfig, List<UUID> listed) {
+        when(projectConfigGrpcClient.listVerifiedConfigIds()).thenReturn(listed);
+        hostsByConfig.forEach((configId, host) -> when(projectConfigGrpcClient.getDecryptedConfig(configId))
+                .thenReturn(ProjectConfigDto.builder().configId(configId).jiraHostUrl(host).build()));
+    }
+
+    private SyncJob completedAt(LocalDateTime completedAt, int recordsSaved) {
+        SyncJob job = new SyncJob();
+        job.setStatus(SyncJob.JobStatus.COMPLETED);
+        job.setCompletedAt(completedAt);
+        job.setRecordsSaved(recordsSaved);
+        return job;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.client.external.GithubClient;
+import com.example.syncservice.client.external.JiraClient;
+import com.example.syncservice.client.external.PageHandler;
+import com.example.syncservice.client.grpc.ProjectConfigGrpcClient;
+import com.example.syncservice.config.SyncProperties;
+import com.example.syncservice.dto.JiraIssueDto;
+import com.example.syncservice.dto.JiraIssueFetchResult;
+import com.example.syncservice.dto.ProjectConfigDto;
+import com.example.syncservice.dto.UpsertResult;
+import com.example.syncservice.entity.SyncJob;
+import com.example.syncservice.entity.SyncWatermark;
+import com.example.syncservice.metrics.SyncMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncOrchestratorTest {
+
+    private static final UUID CONFIG_ID = UUID.randomUUID();
+    private static final int PAGE_SIZE = 100;
+
+    @Mock
+    private ProjectConfigGrpcClient projectConfigGrpcClient;
+
+    @Mock
+    private JiraClient jiraClient;
+
+    @Mock
+    private GithubClient githubClient;
+
+    @Mock
+    private SyncDataService syncDataService;
+
+    private final SyncProperties syncProperties = new SyncProperties();
+    private final List<Integer> writtenBatches = new ArrayList<>();
+    private final List<Integer> checkpointPages = new ArrayList<>();
+    private SyncOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        SyncMetrics syncMetrics = new SyncMetrics(new SimpleMeterRegistry());
+        orchestrator = new SyncOrchestrator(projectConfigGrpcClient, jiraClient, githubClient, syncDataService,
+                new DataMapper(syncMetrics), syncMetrics, new FallbackSignal(), syncProperties);
+        syncProperties.getPersistence().setCopyThreshold(250);
+
+        when(syncDataService.createSyncJob(eq(CONFIG_ID), eq(SyncJob.JobType.JIRA_ISSUES), anyString()))
+                .thenReturn(SyncJob.builder().id(7L).projectConfigId(CONFIG_ID).jobType(SyncJob.JobType.JIRA_ISSUES).build());
+        lenient().when(projectConfigGrpcClient.getDecryptedConfig(CONFIG_ID)).thenReturn(config());
+        lenient().when(syncDataService.persistJiraSyncPage(eq(7L), anyInt(), any(), any(), anyList(), anyList()))
+                .thenAnswer(invocation -> {
+                    List<?> activities = invocation.getArgument(4);
+                    writtenBatches.add(activities.size());
+                    checkpointPages.add(invocation.getArgument(1));
+                    return new UpsertResult(activities.size(), 0, 0, List.of());
+                });
+        // Five full pages, then a partial one
+        when(jiraClient.streamIssuesUpdatedSince(anyString(), anyString(), anyString(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> {
+                    PageHandler<JiraIssueDto> handler = invocation.getArgument(5);
+                    for (int page = 1; page <= 6; page++) {
+                        handler.onPage(page, issues(page, page < 6 ? PAGE_SIZE : 30), "token-" + page);
+                    }
+                    return JiraIssueFetchResult.builder().pagesFetched(6).build();
+                });
+    }
+
+    @Test
+    void fullSync_buffersPagesUpToTheCopyThreshold() throws Exception {
+        var result = orchestrator.syncJiraIssuesAsync(CONFIG_ID, true).get();
+
+        // 300 rows reach the 250-row COPY threshold after page 3; the rest is written at the end
+        assertThat(writtenBatches).containsExactly(300, 230);
+        assertThat(checkpointPages).containsExactly(3, 6);
+        assertThat(result.getRecordsFetched()).isEqualTo(530);
+        verify(syncDataService).completeSyncJob(7L, 530, 530);
+    }
+
+    @Test
+    void incrementalSync_commitsEveryPage() throws Exception {
+        when(syncDataService.findWatermark(CONFIG_ID, SyncJob.JobType.JIRA_ISSUES)).thenReturn(Optional.of(
+                SyncWatermark.builder().watermarkAt(LocalDateTime.of(2026, 3, 1, 0, 0)).build()));
+        when(syncDataService.findResumableJob(eq(CONFIG_ID), eq(SyncJob.JobType.JIRA_ISSUES), eq(7L), any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        orchestrator.syncJiraIssuesAsync(CONFIG_ID, false).get();
+
+        assertThat(writtenBatches).containsExactly(100, 100, 100, 100, 100, 30);
+        assertThat(checkpointPages).containsExactly(1, 2, 3, 4, 5, 6);
+        verify(syncDataService).persistJiraSyncPage(eq(7L), eq(6), eq("token-6"), any(), anyList(), anyList());
+        verify(syncDataService).advanceWatermark(eq(CONFIG_ID), eq(SyncJob.JobType.JIRA_ISSUES), any(), isNull(), isNull(), eq(false));
+    }
+
+    @Test
+    void dispatchedSync_usesThePrefetchedConfig() throws Exception {
+        when(syncDataService.findWatermark(CONFIG_ID, SyncJob.JobType.JIRA_ISSUES)).thenReturn(Optional.empty());
+
+        orchestrator.syncJiraIssuesAsync(config()).get();
+
+        verify(projectConfigGrpcClient, never()).getDecryptedConfig(any());
+        verify(syncDataService).completeSyncJob(7L, 530, 530);
+    }
+
+    private static ProjectConfigDto config() {
+        return ProjectConfigDto.builder()
+                .configId(CONFIG_ID)
+                .jiraHostUrl("https://example.atlassian.net")
+                .jiraEmail("user@example.com")
+                .jiraApiToken("token")
+                .build();
+    }
+
+    private static List<JiraIssueDto> issues(int page, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    JiraIssueDto.Fields fields = new JiraIssueDto.Fields();
+                    fields.setSummary("Issue " + page + "-" + i);
+                    fields.setCreated("2026-03-09T10:00:00Z");
+                    fields.setUpdated("2026-03-09T10:0" + (page % 10) + ":00Z");
+                    return JiraIssueDto.builder()
+                            .key("SAMT-" + page + "-" + i)
+                            .id(page + "0" + i)
+                            .fields(fields)
+                            .build();
+                })
+                .toList();
+    }
+}